@@ -0,0 +1,129 @@
+package org.moodminds.valuable;
+
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.Arbiter;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.II_Result;
+import org.openjdk.jcstress.infra.results.I_Result;
+import org.openjdk.jcstress.infra.results.ZZI_Result;
+
+import static org.openjdk.jcstress.annotations.Expect.ACCEPTABLE;
+import static org.openjdk.jcstress.annotations.Expect.FORBIDDEN;
+import static org.moodminds.valuable.Adaptive.adaptive;
+import static org.moodminds.valuable.Volatile.vol;
+
+/**
+ * The jcstress tests of the {@link Adaptive} holders racing the owner's accesses with a foreign thread's ones
+ * across the inflation. The owner is the actor creating the holder, publishing it racily to the other actor
+ * either before or after inflating it, so the other actor may also observe it not inflated yet.
+ */
+public class AdaptiveStress {
+
+    /**
+     * The foreign {@link Adaptive.Int#incr()} either fails before the inflation or is atomic with the owner's
+     * increments after it, never losing an update.
+     */
+    @JCStressTest
+    @Outcome(id = {"0, 2", "-1, 2"}, expect = ACCEPTABLE, desc = "Not seen, or rejected before the inflation")
+    @Outcome(id = "1, 3", expect = ACCEPTABLE, desc = "Incremented atomically after the inflation")
+    @Outcome(id = "1, 2", expect = FORBIDDEN, desc = "An increment lost")
+    @State
+    public static class Incr {
+
+        final Volatile<Adaptive.Int> shared = vol();
+
+        Adaptive.Int holder;
+
+        @Actor
+        public void owner() {
+            Adaptive.Int holder = adaptive(0);
+            shared.put(holder);
+            holder.incr(); holder.inflate(); holder.incr();
+            this.holder = holder;
+        }
+
+        @Actor
+        public void foreign(II_Result r) {
+            Adaptive.Int holder = shared.get();
+            if (holder != null)
+                try { holder.incr(); r.r1 = 1; } catch (IllegalStateException e) { r.r1 = -1; }
+        }
+
+        @Arbiter
+        public void arbiter(II_Result r) {
+            r.r2 = holder.get();
+        }
+    }
+
+    /**
+     * The foreign {@link Adaptive.Int#let(int, int)} racing the owner's one after the inflation,
+     * exactly one of them succeeding.
+     */
+    @JCStressTest
+    @Outcome(id = "true, false, 1", expect = ACCEPTABLE, desc = "Owner won")
+    @Outcome(id = "false, true, 2", expect = ACCEPTABLE, desc = "Foreign thread won")
+    @Outcome(id = "true, false, -1", expect = ACCEPTABLE, desc = "Not seen, or rejected before the inflation")
+    @Outcome(expect = FORBIDDEN, desc = "Both or neither succeeded")
+    @State
+    public static class Let {
+
+        final Volatile<Adaptive.Int> shared = vol();
+
+        Adaptive.Int holder;
+
+        int foreign;
+
+        @Actor
+        public void owner(ZZI_Result r) {
+            Adaptive.Int holder = adaptive(0);
+            shared.put(holder);
+            holder.inflate();
+            r.r1 = holder.let(0, 1);
+            this.holder = holder;
+        }
+
+        @Actor
+        public void foreign(ZZI_Result r) {
+            Adaptive.Int holder = shared.get();
+            if (holder == null)
+                foreign = -1;
+            else try { r.r2 = holder.let(0, 2); } catch (IllegalStateException e) { foreign = -1; }
+        }
+
+        @Arbiter
+        public void arbiter(ZZI_Result r) {
+            r.r3 = foreign == -1 ? -1 : holder.get();
+        }
+    }
+
+    /**
+     * The {@link Adaptive.Int#inflate()} publishes the owner's plain writes preceding it to a foreign thread
+     * seeing the holder inflated, even if the holder itself was published before.
+     */
+    @JCStressTest
+    @Outcome(id = "-1", expect = ACCEPTABLE, desc = "Not seen, or rejected before the inflation")
+    @Outcome(id = "5", expect = ACCEPTABLE, desc = "Seen inflated with the owner's write")
+    @Outcome(expect = FORBIDDEN, desc = "Seen inflated without the owner's write")
+    @State
+    public static class Inflate {
+
+        final Volatile<Adaptive.Int> shared = vol();
+
+        @Actor
+        public void owner() {
+            Adaptive.Int holder = adaptive(0);
+            shared.put(holder);
+            holder.put(5); holder.inflate();
+        }
+
+        @Actor
+        public void foreign(I_Result r) {
+            Adaptive.Int holder = shared.get();
+            r.r1 = -1;
+            if (holder != null)
+                try { r.r1 = holder.get(); } catch (IllegalStateException ignored) { }
+        }
+    }
+}
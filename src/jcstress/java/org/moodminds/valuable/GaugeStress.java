@@ -0,0 +1,204 @@
+package org.moodminds.valuable;
+
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.Arbiter;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.JJJ_Result;
+import org.openjdk.jcstress.infra.results.JJ_Result;
+import org.openjdk.jcstress.infra.results.ZZJ_Result;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.openjdk.jcstress.annotations.Expect.ACCEPTABLE;
+import static org.openjdk.jcstress.annotations.Expect.FORBIDDEN;
+import static org.moodminds.valuable.Gauge.gauge;
+
+/**
+ * The jcstress tests of the {@link Gauge} and {@link Gauge.PerThread} holders' visibility and atomicity guarantees.
+ */
+public class GaugeStress {
+
+    /**
+     * The release {@link Gauge#put(long)} publishes the plain writes preceding it to the acquire {@link Gauge#get()}.
+     */
+    @JCStressTest
+    @Outcome(id = {"0, 0", "0, 1", "1, 1"}, expect = ACCEPTABLE, desc = "Published or not yet")
+    @Outcome(id = "1, 0", expect = FORBIDDEN, desc = "Value seen before the data")
+    @State
+    public static class PutVisibility {
+
+        final Gauge gauge = gauge(0L);
+
+        long data;
+
+        @Actor
+        public void writer() {
+            data = 1L; gauge.put(1L);
+        }
+
+        @Actor
+        public void reader(JJ_Result r) {
+            r.r1 = gauge.get(); r.r2 = data;
+        }
+    }
+
+    /**
+     * The {@link Gauge#incr()} is atomic.
+     */
+    @JCStressTest
+    @Outcome(id = {"1, 2, 2", "2, 1, 2"}, expect = ACCEPTABLE, desc = "Incremented in either order")
+    @Outcome(expect = FORBIDDEN, desc = "An increment lost")
+    @State
+    public static class Incr {
+
+        final Gauge gauge = gauge(0L);
+
+        @Actor
+        public void actor1(JJJ_Result r) {
+            r.r1 = gauge.incr();
+        }
+
+        @Actor
+        public void actor2(JJJ_Result r) {
+            r.r2 = gauge.incr();
+        }
+
+        @Arbiter
+        public void arbiter(JJJ_Result r) {
+            r.r3 = gauge.get();
+        }
+    }
+
+    /**
+     * The {@link Gauge#set(long)} is atomic.
+     */
+    @JCStressTest
+    @Outcome(id = {"0, 1, 2", "2, 0, 1"}, expect = ACCEPTABLE, desc = "Exchanged in either order")
+    @Outcome(expect = FORBIDDEN, desc = "An exchange lost")
+    @State
+    public static class Set {
+
+        final Gauge gauge = gauge(0L);
+
+        @Actor
+        public void actor1(JJJ_Result r) {
+            r.r1 = gauge.set(1L);
+        }
+
+        @Actor
+        public void actor2(JJJ_Result r) {
+            r.r2 = gauge.set(2L);
+        }
+
+        @Arbiter
+        public void arbiter(JJJ_Result r) {
+            r.r3 = gauge.get();
+        }
+    }
+
+    /**
+     * The {@link Gauge#let(long, long)} is atomic.
+     */
+    @JCStressTest
+    @Outcome(id = {"true, false, 1", "false, true, 2"}, expect = ACCEPTABLE, desc = "Exactly one succeeded")
+    @Outcome(expect = FORBIDDEN, desc = "Both or neither succeeded")
+    @State
+    public static class Let {
+
+        final Gauge gauge = gauge(0L);
+
+        @Actor
+        public void actor1(ZZJ_Result r) {
+            r.r1 = gauge.let(0L, 1L);
+        }
+
+        @Actor
+        public void actor2(ZZJ_Result r) {
+            r.r2 = gauge.let(0L, 2L);
+        }
+
+        @Arbiter
+        public void arbiter(ZZJ_Result r) {
+            r.r3 = gauge.get();
+        }
+    }
+
+    /**
+     * The {@link Gauge.PerThread#get()} never folds a cell torn by a concurrent {@link Gauge.PerThread#put(long)},
+     * i.e. the stamp of a write paired with the value of the one before, nor goes back to the earlier writes.
+     */
+    @JCStressTest
+    @Outcome(id = {"-1, -1", "-1, 1", "-1, 2", "1, 1", "1, 2", "2, 2"}, expect = ACCEPTABLE,
+            desc = "Written values seen in order")
+    @Outcome(expect = FORBIDDEN, desc = "Torn read of the cell, or went back to an earlier write")
+    @State
+    public static class PerThreadTornRead {
+
+        final Gauge.PerThread gauge = gauge(-1L, 0L, NANOSECONDS);
+
+        @Actor
+        public void writer() {
+            gauge.put(1L); gauge.put(2L);
+        }
+
+        @Actor
+        public void reader(JJ_Result r) {
+            r.r1 = gauge.get(); r.r2 = gauge.get();
+        }
+    }
+
+    /**
+     * The {@link Gauge.PerThread#incr()} is atomic, folding the cells.
+     */
+    @JCStressTest
+    @Outcome(id = {"1, 2, 2", "2, 1, 2"}, expect = ACCEPTABLE, desc = "Incremented in either order")
+    @Outcome(expect = FORBIDDEN, desc = "An increment lost")
+    @State
+    public static class PerThreadIncr {
+
+        final Gauge.PerThread gauge = gauge(0L, 0L, NANOSECONDS);
+
+        @Actor
+        public void actor1(JJJ_Result r) {
+            r.r1 = gauge.incr();
+        }
+
+        @Actor
+        public void actor2(JJJ_Result r) {
+            r.r2 = gauge.incr();
+        }
+
+        @Arbiter
+        public void arbiter(JJJ_Result r) {
+            r.r3 = gauge.get();
+        }
+    }
+
+    /**
+     * The {@link Gauge.PerThread#let(long, long)} is atomic, folding the cells.
+     */
+    @JCStressTest
+    @Outcome(id = {"true, false, 1", "false, true, 2"}, expect = ACCEPTABLE, desc = "Exactly one succeeded")
+    @Outcome(expect = FORBIDDEN, desc = "Both or neither succeeded")
+    @State
+    public static class PerThreadLet {
+
+        final Gauge.PerThread gauge = gauge(0L, 0L, NANOSECONDS);
+
+        @Actor
+        public void actor1(ZZJ_Result r) {
+            r.r1 = gauge.let(0L, 1L);
+        }
+
+        @Actor
+        public void actor2(ZZJ_Result r) {
+            r.r2 = gauge.let(0L, 2L);
+        }
+
+        @Arbiter
+        public void arbiter(ZZJ_Result r) {
+            r.r3 = gauge.get();
+        }
+    }
+}
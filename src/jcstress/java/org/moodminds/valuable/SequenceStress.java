@@ -0,0 +1,70 @@
+package org.moodminds.valuable;
+
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.Arbiter;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.JJJ_Result;
+import org.openjdk.jcstress.infra.results.JJ_Result;
+
+import static org.openjdk.jcstress.annotations.Expect.ACCEPTABLE;
+import static org.openjdk.jcstress.annotations.Expect.FORBIDDEN;
+import static org.moodminds.valuable.Sequence.sequence;
+
+/**
+ * The jcstress tests of the {@link Sequence} visibility and atomicity guarantees.
+ */
+public class SequenceStress {
+
+    /**
+     * The release {@link Sequence#put(long)} publishes the plain writes preceding it.
+     */
+    @JCStressTest
+    @Outcome(id = {"-1, 0", "-1, 1", "0, 1"}, expect = ACCEPTABLE, desc = "Published or not yet")
+    @Outcome(id = "0, 0", expect = FORBIDDEN, desc = "Sequence seen before the data")
+    @State
+    public static class PutVisibility {
+
+        final Sequence sequence = sequence(-1L);
+
+        long data;
+
+        @Actor
+        public void writer() {
+            data = 1L; sequence.put(0L);
+        }
+
+        @Actor
+        public void reader(JJ_Result r) {
+            r.r1 = sequence.get(); r.r2 = data;
+        }
+    }
+
+    /**
+     * The {@link Sequence#add(long)} is atomic.
+     */
+    @JCStressTest
+    @Outcome(id = {"1, 3, 3", "3, 2, 3"}, expect = ACCEPTABLE, desc = "Added in either order")
+    @Outcome(expect = FORBIDDEN, desc = "An addition lost")
+    @State
+    public static class Add {
+
+        final Sequence sequence = sequence(0L);
+
+        @Actor
+        public void actor1(JJJ_Result r) {
+            r.r1 = sequence.add(1L);
+        }
+
+        @Actor
+        public void actor2(JJJ_Result r) {
+            r.r2 = sequence.add(2L);
+        }
+
+        @Arbiter
+        public void arbiter(JJJ_Result r) {
+            r.r3 = sequence.get();
+        }
+    }
+}
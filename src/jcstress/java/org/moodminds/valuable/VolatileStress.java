@@ -0,0 +1,232 @@
+package org.moodminds.valuable;
+
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.Arbiter;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.BBB_Result;
+import org.openjdk.jcstress.infra.results.III_Result;
+import org.openjdk.jcstress.infra.results.II_Result;
+import org.openjdk.jcstress.infra.results.JJJ_Result;
+import org.openjdk.jcstress.infra.results.SSS_Result;
+import org.openjdk.jcstress.infra.results.ZZI_Result;
+
+import static org.openjdk.jcstress.annotations.Expect.ACCEPTABLE;
+import static org.openjdk.jcstress.annotations.Expect.FORBIDDEN;
+import static org.moodminds.valuable.Volatile.vol;
+
+/**
+ * The jcstress tests of the {@link Volatile} holders' visibility and atomicity guarantees.
+ */
+public class VolatileStress {
+
+    /**
+     * The {@link Volatile.Int#put(int)} publishes the plain writes preceding it.
+     */
+    @JCStressTest
+    @Outcome(id = {"0, 0", "0, 1", "1, 1"}, expect = ACCEPTABLE, desc = "Published or not yet")
+    @Outcome(id = "1, 0", expect = FORBIDDEN, desc = "Flag seen before the data")
+    @State
+    public static class PutVisibility {
+
+        final Volatile.Int flag = vol(0);
+
+        int data;
+
+        @Actor
+        public void writer() {
+            data = 1; flag.put(1);
+        }
+
+        @Actor
+        public void reader(II_Result r) {
+            r.r1 = flag.get(); r.r2 = data;
+        }
+    }
+
+    /**
+     * The {@link Volatile#put(Object)} publishes the plain writes preceding it.
+     */
+    @JCStressTest
+    @Outcome(id = {"0, 0", "0, 1", "1, 1"}, expect = ACCEPTABLE, desc = "Published or not yet")
+    @Outcome(id = "1, 0", expect = FORBIDDEN, desc = "Reference seen before the data")
+    @State
+    public static class PutReferenceVisibility {
+
+        final Volatile<int[]> holder = vol();
+
+        @Actor
+        public void writer() {
+            int[] value = new int[1]; value[0] = 1; holder.put(value);
+        }
+
+        @Actor
+        public void reader(II_Result r) {
+            int[] value = holder.get();
+            if (value != null) { r.r1 = 1; r.r2 = value[0]; }
+        }
+    }
+
+    /**
+     * The {@link Volatile.Int#set(int)} is atomic.
+     */
+    @JCStressTest
+    @Outcome(id = {"0, 1, 2", "2, 0, 1"}, expect = ACCEPTABLE, desc = "Exchanged in either order")
+    @Outcome(expect = FORBIDDEN, desc = "An exchange lost")
+    @State
+    public static class Set {
+
+        final Volatile.Int holder = vol(0);
+
+        @Actor
+        public void actor1(III_Result r) {
+            r.r1 = holder.set(1);
+        }
+
+        @Actor
+        public void actor2(III_Result r) {
+            r.r2 = holder.set(2);
+        }
+
+        @Arbiter
+        public void arbiter(III_Result r) {
+            r.r3 = holder.get();
+        }
+    }
+
+    /**
+     * The {@link Volatile.Int#let(int, int)} is atomic.
+     */
+    @JCStressTest
+    @Outcome(id = {"true, false, 1", "false, true, 2"}, expect = ACCEPTABLE, desc = "Exactly one succeeded")
+    @Outcome(expect = FORBIDDEN, desc = "Both or none succeeded")
+    @State
+    public static class Let {
+
+        final Volatile.Int holder = vol(0);
+
+        @Actor
+        public void actor1(ZZI_Result r) {
+            r.r1 = holder.let(0, 1);
+        }
+
+        @Actor
+        public void actor2(ZZI_Result r) {
+            r.r2 = holder.let(0, 2);
+        }
+
+        @Arbiter
+        public void arbiter(ZZI_Result r) {
+            r.r3 = holder.get();
+        }
+    }
+
+    /**
+     * The {@link Volatile.Int#incr()} is atomic.
+     */
+    @JCStressTest
+    @Outcome(id = {"1, 2, 2", "2, 1, 2"}, expect = ACCEPTABLE, desc = "Both applied")
+    @Outcome(expect = FORBIDDEN, desc = "An increment lost")
+    @State
+    public static class Incr {
+
+        final Volatile.Int holder = vol(0);
+
+        @Actor
+        public void actor1(III_Result r) {
+            r.r1 = holder.incr();
+        }
+
+        @Actor
+        public void actor2(III_Result r) {
+            r.r2 = holder.incr();
+        }
+
+        @Arbiter
+        public void arbiter(III_Result r) {
+            r.r3 = holder.get();
+        }
+    }
+
+    /**
+     * The {@link Volatile.Long#decr()} is atomic.
+     */
+    @JCStressTest
+    @Outcome(id = {"-1, -2, -2", "-2, -1, -2"}, expect = ACCEPTABLE, desc = "Both applied")
+    @Outcome(expect = FORBIDDEN, desc = "A decrement lost")
+    @State
+    public static class Decr {
+
+        final Volatile.Long holder = vol(0L);
+
+        @Actor
+        public void actor1(JJJ_Result r) {
+            r.r1 = holder.decr();
+        }
+
+        @Actor
+        public void actor2(JJJ_Result r) {
+            r.r2 = holder.decr();
+        }
+
+        @Arbiter
+        public void arbiter(JJJ_Result r) {
+            r.r3 = holder.get();
+        }
+    }
+
+    /**
+     * The {@link Volatile.Byte#incr()} is atomic and wraps around the {@code byte} range.
+     */
+    @JCStressTest
+    @Outcome(id = {"-128, -127, -127", "-127, -128, -127"}, expect = ACCEPTABLE, desc = "Both applied, wrapped")
+    @Outcome(expect = FORBIDDEN, desc = "An increment lost or not wrapped")
+    @State
+    public static class ByteWrap {
+
+        final Volatile.Byte holder = vol(java.lang.Byte.MAX_VALUE);
+
+        @Actor
+        public void actor1(BBB_Result r) {
+            r.r1 = holder.incr();
+        }
+
+        @Actor
+        public void actor2(BBB_Result r) {
+            r.r2 = holder.incr();
+        }
+
+        @Arbiter
+        public void arbiter(BBB_Result r) {
+            r.r3 = holder.get();
+        }
+    }
+
+    /**
+     * The {@link Volatile.Short#decr()} is atomic and wraps around the {@code short} range.
+     */
+    @JCStressTest
+    @Outcome(id = {"32767, 32766, 32766", "32766, 32767, 32766"}, expect = ACCEPTABLE, desc = "Both applied, wrapped")
+    @Outcome(expect = FORBIDDEN, desc = "A decrement lost or not wrapped")
+    @State
+    public static class ShortWrap {
+
+        final Volatile.Short holder = vol(java.lang.Short.MIN_VALUE);
+
+        @Actor
+        public void actor1(SSS_Result r) {
+            r.r1 = holder.decr();
+        }
+
+        @Actor
+        public void actor2(SSS_Result r) {
+            r.r2 = holder.decr();
+        }
+
+        @Arbiter
+        public void arbiter(SSS_Result r) {
+            r.r3 = holder.get();
+        }
+    }
+}
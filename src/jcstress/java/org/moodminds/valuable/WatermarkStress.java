@@ -0,0 +1,74 @@
+package org.moodminds.valuable;
+
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.Arbiter;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.JJ_Result;
+import org.openjdk.jcstress.infra.results.J_Result;
+
+import static org.openjdk.jcstress.annotations.Expect.ACCEPTABLE;
+import static org.openjdk.jcstress.annotations.Expect.FORBIDDEN;
+import static org.moodminds.valuable.Watermark.max;
+
+/**
+ * The jcstress tests of the {@link Watermark} recording and resetting guarantees.
+ */
+public class WatermarkStress {
+
+    /**
+     * The concurrent {@link Watermark#record(long)}s keep the dominating value, whatever stripes they hit.
+     */
+    @JCStressTest
+    @Outcome(id = "5", expect = ACCEPTABLE, desc = "Maximum kept")
+    @Outcome(expect = FORBIDDEN, desc = "Maximum lost")
+    @State
+    public static class Record {
+
+        final Watermark watermark = max(0L);
+
+        @Actor
+        public void actor1() {
+            watermark.record(3L);
+        }
+
+        @Actor
+        public void actor2() {
+            watermark.record(5L);
+        }
+
+        @Arbiter
+        public void arbiter(J_Result r) {
+            r.r1 = watermark.get();
+        }
+    }
+
+    /**
+     * The {@link Watermark#getAndReset()} accounts a concurrently recorded value in exactly one interval.
+     */
+    @JCStressTest
+    @Outcome(id = {"5, 0", "0, 5"}, expect = ACCEPTABLE, desc = "Accounted in either interval")
+    @Outcome(id = "0, 0", expect = FORBIDDEN, desc = "Recorded value lost")
+    @Outcome(id = "5, 5", expect = FORBIDDEN, desc = "Recorded value accounted twice")
+    @State
+    public static class RecordReset {
+
+        final Watermark watermark = max(0L);
+
+        @Actor
+        public void recorder() {
+            watermark.record(5L);
+        }
+
+        @Actor
+        public void sampler(JJ_Result r) {
+            r.r1 = watermark.getAndReset();
+        }
+
+        @Arbiter
+        public void arbiter(JJ_Result r) {
+            r.r2 = watermark.getAndReset();
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package org.moodminds.valuable;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.CompilerControl;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.function.IntConsumer;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * The cost and the allocation rate of capturing a counter into a lambda per loop iteration, by an {@link Arena}
+ * holder and by a {@link Variable#var(int)} one. The lambda is passed to a method not inlined, so that
+ * the escape analysis cannot scalar-replace the holder. The allocation rate is reported by the GC profiler:
+ * {@code -Djmh.args="-f 1 -prof gc ArenaBenchmark"}, see {@code gc.alloc.rate.norm}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ArenaBenchmark {
+
+    @Param({"16"})
+    public int size;
+
+    private int[] items;
+
+    @Setup
+    public void setup() {
+        items = new int[size];
+        for (int i = 0; i < size; i++)
+            items[i] = i;
+    }
+
+    @Benchmark
+    public void arena(Blackhole blackhole) {
+        for (int i = 0; i < size; i++)
+            try (Arena arena = Arena.open()) {
+                Variable.Int count = arena.var(0);
+                forEach(items, e -> count.num += e);
+                blackhole.consume(count.num);
+            }
+    }
+
+    @Benchmark
+    public void var(Blackhole blackhole) {
+        for (int i = 0; i < size; i++) {
+            Variable.Int count = Variable.var(0);
+            forEach(items, e -> count.num += e);
+            blackhole.consume(count.num);
+        }
+    }
+
+    @CompilerControl(CompilerControl.Mode.DONT_INLINE)
+    private static void forEach(int[] items, IntConsumer action) {
+        for (int item : items)
+            action.accept(item);
+    }
+}
@@ -0,0 +1,56 @@
+package org.moodminds.valuable;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static org.moodminds.valuable.Volatile.vol;
+
+/**
+ * The throughput and the fairness of a contended {@link Volatile.Long#update} loop by the {@link Backoff}
+ * strategy. The fairness shows as the tail of the sampled latency: a thread losing its compare-and-set
+ * attempts over and over again to the others waits for much longer than the average.
+ * The thread count is overridden by {@code -t}, e.g. {@code -Djmh.args="-f 1 -t 16 BackoffBenchmark"}.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class BackoffBenchmark {
+
+    @Param({"NONE", "SPIN", "YIELD", "DEFAULT", "exponential(64)", "exponential(1024)"})
+    public String strategy;
+
+    private final Volatile.Long counter = vol(0L);
+
+    private Backoff backoff;
+
+    @Setup
+    public void setup() {
+        switch (strategy) {
+            case "NONE": backoff = Backoff.NONE; break;
+            case "SPIN": backoff = Backoff.SPIN; break;
+            case "YIELD": backoff = Backoff.YIELD; break;
+            case "DEFAULT": backoff = Backoff.DEFAULT; break;
+            default: backoff = Backoff.exponential(Integer.parseInt(strategy.replaceAll("\\D", "")));
+        }
+    }
+
+    @Benchmark
+    public long update() {
+        return counter.update(num -> num * 31L + 1L, backoff);
+    }
+}
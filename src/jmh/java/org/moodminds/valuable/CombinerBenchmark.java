@@ -0,0 +1,99 @@
+package org.moodminds.valuable;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.UnaryOperator;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static org.moodminds.valuable.Combiner.combiner;
+import static org.moodminds.valuable.Volatile.vol;
+
+/**
+ * The throughput of the contended updates of an immutable value by a flat-combining {@link Combiner}
+ * and by the compare-and-set loop of {@link Volatile#update}, both of a cheap pair increment and of an expensive
+ * copy-on-write insert into a map of the {@link Maps#size} entries, where the retried compare-and-set loop wastes
+ * whole copies. The thread count is overridden by {@code -t}, swept from 1 to 64 threads e.g. by:
+ * <pre>{@code
+ * for t in 1 2 4 8 16 32 64; do mvn -P jmh verify -Djmh.args="-f 1 -t $t CombinerBenchmark"; done
+ * }</pre>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class CombinerBenchmark {
+
+    private static final UnaryOperator<long[]> INCREMENT = pair -> new long[] {pair[0] + 1L, pair[1] + pair[0]};
+
+    private final Volatile<long[]> holder = vol(new long[2]);
+
+    private final Combiner<long[]> combiner = combiner(vol(new long[2]));
+
+    @Benchmark
+    public long[] volatileUpdate() {
+        return holder.update(INCREMENT);
+    }
+
+    @Benchmark
+    public long[] combinerUpdate() {
+        return combiner.update(INCREMENT);
+    }
+
+    @Benchmark
+    public Map<Integer, Long> volatileCopyOnWrite(Maps maps) {
+        return maps.holder.update(maps.insert());
+    }
+
+    @Benchmark
+    public Map<Integer, Long> combinerCopyOnWrite(Maps maps) {
+        return maps.combiner.update(maps.insert());
+    }
+
+
+    /**
+     * The copy-on-write maps of the given number of entries.
+     */
+    @State(Scope.Benchmark)
+    public static class Maps {
+
+        @Param({"16", "256", "4096"})
+        int size;
+
+        Volatile<Map<Integer, Long>> holder;
+
+        Combiner<Map<Integer, Long>> combiner;
+
+        @Setup
+        public void setup() {
+            Map<Integer, Long> map = new HashMap<>();
+            for (int key = 0; key < size; key++)
+                map.put(key, 0L);
+            holder = vol(map); combiner = combiner(vol(map));
+        }
+
+        UnaryOperator<Map<Integer, Long>> insert() {
+            Integer key = ThreadLocalRandom.current().nextInt(size);
+            return map -> {
+                Map<Integer, Long> copy = new HashMap<>(map);
+                copy.merge(key, 1L, Long::sum); return copy;
+            };
+        }
+    }
+}
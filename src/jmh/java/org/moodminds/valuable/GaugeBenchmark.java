@@ -0,0 +1,65 @@
+package org.moodminds.valuable;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.moodminds.valuable.Gauge.gauge;
+import static org.moodminds.valuable.Volatile.vol;
+
+/**
+ * The throughput of the concurrent writes of a {@link Volatile.Long}, a release-ordered {@link Gauge}
+ * and a write-combining {@link Gauge.PerThread} one. The thread count is overridden by {@code -t},
+ * e.g. {@code -Djmh.args="-f 1 -t 8 GaugeBenchmark"}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class GaugeBenchmark {
+
+    private final Volatile.Long vol = vol(0L);
+
+    private final Gauge gauge = gauge(0L);
+
+    private final Gauge.PerThread perThread = gauge(0L, 1L, MILLISECONDS);
+
+
+    @Benchmark
+    public void volatilePut(Writer writer) {
+        vol.put(writer.num++);
+    }
+
+    @Benchmark
+    public void gaugePut(Writer writer) {
+        gauge.put(writer.num++);
+    }
+
+    @Benchmark
+    public void perThreadPut(Writer writer) {
+        perThread.put(writer.num++);
+    }
+
+    @Benchmark
+    public long perThreadGet() {
+        return perThread.get();
+    }
+
+    @State(Scope.Thread)
+    public static class Writer {
+
+        long num;
+    }
+}
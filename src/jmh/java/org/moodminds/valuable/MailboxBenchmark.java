@@ -0,0 +1,95 @@
+package org.moodminds.valuable;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Control;
+
+import java.util.concurrent.Exchanger;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.TimeoutException;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.moodminds.valuable.Mailbox.mailbox;
+
+/**
+ * The throughput of handing a message off from one producer to one consumer by a {@link Mailbox},
+ * a {@link SynchronousQueue} and an {@link Exchanger}. The waiting is timed and bounded by the iteration end,
+ * so that a side left alone when the other one stops does not hang the benchmark.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Group)
+public class MailboxBenchmark {
+
+    private static final Object MESSAGE = new Object();
+
+    private final Mailbox<Object> mailbox = mailbox();
+
+    private final SynchronousQueue<Object> queue = new SynchronousQueue<>();
+
+    private final Exchanger<Object> exchanger = new Exchanger<>();
+
+    @Benchmark
+    @Group("mailbox")
+    @GroupThreads(1)
+    public boolean mailboxPut(Control control) throws InterruptedException {
+        while (!control.stopMeasurement)
+            if (mailbox.offer(MESSAGE, 1, MILLISECONDS))
+                return true;
+        return false;
+    }
+
+    @Benchmark
+    @Group("mailbox")
+    @GroupThreads(1)
+    public Object mailboxTake(Control control) throws InterruptedException {
+        for (Object message; !control.stopMeasurement; )
+            if ((message = mailbox.poll(1, MILLISECONDS)) != null)
+                return message;
+        return null;
+    }
+
+    @Benchmark
+    @Group("synchronousQueue")
+    @GroupThreads(1)
+    public boolean synchronousQueuePut(Control control) throws InterruptedException {
+        while (!control.stopMeasurement)
+            if (queue.offer(MESSAGE, 1, MILLISECONDS))
+                return true;
+        return false;
+    }
+
+    @Benchmark
+    @Group("synchronousQueue")
+    @GroupThreads(1)
+    public Object synchronousQueueTake(Control control) throws InterruptedException {
+        for (Object message; !control.stopMeasurement; )
+            if ((message = queue.poll(1, MILLISECONDS)) != null)
+                return message;
+        return null;
+    }
+
+    @Benchmark
+    @Group("exchanger")
+    @GroupThreads(2)
+    public Object exchanger(Control control) throws InterruptedException {
+        while (!control.stopMeasurement)
+            try {
+                return exchanger.exchange(MESSAGE, 1, MILLISECONDS);
+            } catch (TimeoutException ignored) {}
+        return null;
+    }
+}
@@ -0,0 +1,61 @@
+package org.moodminds.valuable;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.Semaphore;
+
+import static java.util.concurrent.TimeUnit.DAYS;
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.moodminds.valuable.RateLimiter.limiter;
+
+/**
+ * The throughput of the concurrent {@link RateLimiter} acquisitions, every one of them succeeding by a single
+ * compare-and-set, or failing on an exhausted bucket without any write, against a {@link Semaphore#tryAcquire()}
+ * and {@link Semaphore#release()} pair as a baseline of a contended counter. The thread count is overridden
+ * by {@code -t}, swept e.g. by:
+ * <pre>{@code
+ * for t in 1 2 4 8 16 32 64; do mvn -P jmh verify -Djmh.args="-f 1 -t $t RateLimiterBenchmark"; done
+ * }</pre>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class RateLimiterBenchmark {
+
+    private final RateLimiter unlimited = limiter(1L << 40, 1, 1, NANOSECONDS);
+
+    private final RateLimiter exhausted = limiter(1, 1, 1, DAYS);
+
+    private final Semaphore semaphore = new Semaphore(Integer.MAX_VALUE);
+
+    @Benchmark
+    public boolean acquire() {
+        return unlimited.tryAcquire();
+    }
+
+    @Benchmark
+    public boolean reject() {
+        return exhausted.tryAcquire();
+    }
+
+    @Benchmark
+    public boolean semaphore() {
+        boolean acquired = semaphore.tryAcquire();
+        semaphore.release();
+        return acquired;
+    }
+}
@@ -0,0 +1,114 @@
+package org.moodminds.valuable;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Control;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.function.Consumer;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static org.moodminds.valuable.Ring.ring;
+
+/**
+ * The throughput and the latency of passing events from one producer to one consumer by a {@link Ring}
+ * and by an {@link ArrayBlockingQueue} of the same capacity. The producer operation publishes a single event,
+ * the consumer one drains all the available ones, so the event rate is reported by the {@code events} counter,
+ * and the sampled latency of the producer operation shows the waiting for a free slot. Both sides yield
+ * while the ring or queue is full, respectively empty, and stop waiting at the iteration end.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Group)
+public class RingBenchmark {
+
+    private static final int CAPACITY = 1 << 10;
+
+    private final Ring<long[]> ring = ring(CAPACITY, () -> new long[1], Backoff.YIELD);
+
+    private final Ring.Reader<long[]> reader = ring.reader();
+
+    private final ArrayBlockingQueue<Long> queue = new ArrayBlockingQueue<>(CAPACITY);
+
+    private long produced, consumed;
+
+    private final Consumer<long[]> handler = event -> consumed += event[0];
+
+    @Benchmark
+    @Group("ring")
+    @GroupThreads(1)
+    public boolean ringPublish(Control control) {
+        for (long sequence; !control.stopMeasurement; Thread.yield())
+            if ((sequence = ring.tryNext(1)) >= 0L) {
+                ring.get(sequence)[0] = produced++;
+                ring.publish(sequence);
+                return true;
+            }
+        return false;
+    }
+
+    @Benchmark
+    @Group("ring")
+    @GroupThreads(1)
+    public int ringPoll(Control control, Events events) {
+        for (int count; !control.stopMeasurement; Thread.yield())
+            if ((count = reader.poll(handler)) > 0) {
+                events.events += count;
+                return count;
+            }
+        return 0;
+    }
+
+    @Benchmark
+    @Group("queue")
+    @GroupThreads(1)
+    public boolean queueOffer(Control control) {
+        for (Long event = produced++; !control.stopMeasurement; Thread.yield())
+            if (queue.offer(event))
+                return true;
+        return false;
+    }
+
+    @Benchmark
+    @Group("queue")
+    @GroupThreads(1)
+    public int queuePoll(Control control, Events events) {
+        for (Long event; !control.stopMeasurement; Thread.yield())
+            if ((event = queue.poll()) != null) {
+                int count = 1;
+                consumed += event;
+                for (; (event = queue.poll()) != null; count++)
+                    consumed += event;
+                events.events += count;
+                return count;
+            }
+        return 0;
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Events {
+
+        public long events;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            events = 0L;
+        }
+    }
+}
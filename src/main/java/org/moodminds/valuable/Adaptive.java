@@ -0,0 +1,474 @@
+package org.moodminds.valuable;
+
+import java.io.Serializable;
+import java.lang.invoke.VarHandle;
+
+import static java.lang.invoke.MethodHandles.lookup;
+
+/**
+ * Mutable adaptive value {@link Valuable}, intended for the values which may, but rarely do, escape
+ * the thread creating them, e.g. the ones built up in a hot loop and shared only on some of its outcomes.
+ * <p>
+ * Until inflated, the holder is confined to its owner thread: its value is read and written by the plain
+ * accesses, at the cost of a {@link Variable}, and any access by another thread fails fast with
+ * an {@link IllegalStateException}, the same as the one of a {@link CheckedVariable}. The owner inflates it
+ * by {@link #inflate()} before sharing it, publishing its preceding accesses, after which the holder acts
+ * as a {@link Volatile} for good: its update methods are atomic among all the threads.
+ * <p>
+ * The inflation is explicit, since the owner's plain read-modify-writes cannot be made atomic with the ones
+ * of the other threads without either a fence on every owner access or the other threads waiting for the owner
+ * to acknowledge a revocation, which deadlocks when the owner is blocked waiting for them. The owner thus
+ * decides on sharing as late as at the hand-off itself, rather than when choosing the holder.
+ * A deserialized holder is always inflated.
+ */
+public class Adaptive<V> implements Valuable<V>, Serializable {
+
+    private static final long serialVersionUID = -2853097351740392214L;
+
+    private static final VarHandle VAL, OWNER;
+
+    static {
+        try {
+            VAL = lookup().findVarHandle(Adaptive.class, "val", Object.class);
+            OWNER = lookup().findVarHandle(Adaptive.class, "owner", Thread.class);
+        } catch (ReflectiveOperationException e) { throw new ExceptionInInitializerError(e); }
+    }
+
+    /**
+     * The value-holding field.
+     */
+    private V val;
+
+    /**
+     * The owner thread, or {@code null} once inflated.
+     */
+    private transient Thread owner = Thread.currentThread();
+
+    /**
+     * Construct the object.
+     */
+    private Adaptive() {}
+
+    /**
+     * Construct the object with the given initial value.
+     *
+     * @param val the given initial value
+     */
+    private Adaptive(V val) {
+        this.val = val;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get() {
+        return confined() ? val : (V) VAL.getVolatile(this);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param val {@inheritDoc}
+     */
+    @Override
+    public void put(V val) {
+        if (confined()) this.val = val; else VAL.setVolatile(this, val);
+    }
+
+    /**
+     * Atomically, once inflated, get the previous value and set the new value.
+     *
+     * @param val {@inheritDoc}
+     * @return {@inheritDoc}
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public V set(V val) {
+        if (!confined())
+            return (V) VAL.getAndSet(this, val);
+        V previous = this.val; this.val = val; return previous;
+    }
+
+    /**
+     * Atomically, once inflated, set the given value
+     * if the current value {@code == state}.
+     *
+     * @param state {@inheritDoc}
+     * @param val {@inheritDoc}
+     * @return {@inheritDoc}
+     */
+    @Override
+    public boolean let(V state, V val) {
+        if (!confined())
+            return VAL.compareAndSet(this, state, val);
+        if (this.val != state)
+            return false;
+        this.val = val; return true;
+    }
+
+    /**
+     * Inflate the holder, if not inflated yet, publishing the owner's accesses preceding this to the threads
+     * accessing it afterwards.
+     *
+     * @throws IllegalStateException if the holder is not inflated yet and the current thread is not the owner
+     */
+    public void inflate() {
+        if (confined())
+            OWNER.setVolatile(this, null);
+    }
+
+    /**
+     * Return whether the holder is inflated.
+     *
+     * @return whether the holder is inflated
+     */
+    public boolean inflated() {
+        return OWNER.getAcquire(this) == null;
+    }
+
+    /**
+     * Return whether the current thread is the owner of the holder not inflated yet.
+     *
+     * @return whether the holder is confined to the current thread
+     * @throws IllegalStateException if the holder is not inflated yet and the current thread is not the owner
+     */
+    private boolean confined() {
+        Object owner = OWNER.getAcquire(this);
+        if (owner == Thread.currentThread())
+            return true;
+        if (owner != null)
+            throw new IllegalStateException("Holder accessed by a thread other than its owner " + owner
+                    + " before inflation");
+        return false;
+    }
+
+    /**
+     * An int value holder.
+     */
+    public static class Int implements Valuable.Int, Serializable {
+
+        private static final long serialVersionUID = 7417690281548710523L;
+
+        private static final VarHandle NUM, OWNER;
+
+        static {
+            try {
+                NUM = lookup().findVarHandle(Int.class, "num", int.class);
+                OWNER = lookup().findVarHandle(Int.class, "owner", Thread.class);
+            } catch (ReflectiveOperationException e) { throw new ExceptionInInitializerError(e); }
+        }
+
+        /**
+         * The value-holding field.
+         */
+        private int num;
+
+        /**
+         * The owner thread, or {@code null} once inflated.
+         */
+        private transient Thread owner = Thread.currentThread();
+
+        /**
+         * Construct the object with the given initial value.
+         *
+         * @param num the given initial value
+         */
+        private Int(int num) {
+            this.num = num;
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @return {@inheritDoc}
+         */
+        @Override
+        public int get() {
+            return confined() ? num : (int) NUM.getVolatile(this);
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param num {@inheritDoc}
+         */
+        @Override
+        public void put(int num) {
+            if (confined()) this.num = num; else NUM.setVolatile(this, num);
+        }
+
+        /**
+         * Atomically, once inflated, get the previous value and set the new value.
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public int set(int num) {
+            if (!confined())
+                return (int) NUM.getAndSet(this, num);
+            int previous = this.num; this.num = num; return previous;
+        }
+
+        /**
+         * Atomically, once inflated, set the given value
+         * if the current value {@code == state}.
+         *
+         * @param state {@inheritDoc}
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public boolean let(int state, int num) {
+            if (!confined())
+                return NUM.compareAndSet(this, state, num);
+            if (this.num != state)
+                return false;
+            this.num = num; return true;
+        }
+
+        /**
+         * Atomically, once inflated, increment value and return.
+         *
+         * @return {@inheritDoc}
+         */
+        @Override
+        public int incr() {
+            return confined() ? ++num : (int) NUM.getAndAdd(this, 1) + 1;
+        }
+
+        /**
+         * Atomically, once inflated, decrement value and return.
+         *
+         * @return {@inheritDoc}
+         */
+        @Override
+        public int decr() {
+            return confined() ? --num : (int) NUM.getAndAdd(this, -1) - 1;
+        }
+
+        /**
+         * Inflate the holder, if not inflated yet, publishing the owner's accesses preceding this to the threads
+         * accessing it afterwards.
+         *
+         * @throws IllegalStateException if the holder is not inflated yet and the current thread is not the owner
+         */
+        public void inflate() {
+            if (confined())
+                OWNER.setVolatile(this, null);
+        }
+
+        /**
+         * Return whether the holder is inflated.
+         *
+         * @return whether the holder is inflated
+         */
+        public boolean inflated() {
+            return OWNER.getAcquire(this) == null;
+        }
+
+        /**
+         * Return whether the current thread is the owner of the holder not inflated yet.
+         *
+         * @return whether the holder is confined to the current thread
+         * @throws IllegalStateException if the holder is not inflated yet and the current thread is not the owner
+         */
+        private boolean confined() {
+            Object owner = OWNER.getAcquire(this);
+            if (owner == Thread.currentThread())
+                return true;
+            if (owner != null)
+                throw new IllegalStateException("Holder accessed by a thread other than its owner " + owner
+                        + " before inflation");
+            return false;
+        }
+    }
+
+    /**
+     * A long value holder.
+     */
+    public static class Long implements Valuable.Long, Serializable {
+
+        private static final long serialVersionUID = -1190625740387314859L;
+
+        private static final VarHandle NUM, OWNER;
+
+        static {
+            try {
+                NUM = lookup().findVarHandle(Long.class, "num", long.class);
+                OWNER = lookup().findVarHandle(Long.class, "owner", Thread.class);
+            } catch (ReflectiveOperationException e) { throw new ExceptionInInitializerError(e); }
+        }
+
+        /**
+         * The value-holding field.
+         */
+        private long num;
+
+        /**
+         * The owner thread, or {@code null} once inflated.
+         */
+        private transient Thread owner = Thread.currentThread();
+
+        /**
+         * Construct the object with the given initial value.
+         *
+         * @param num the given initial value
+         */
+        private Long(long num) {
+            this.num = num;
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @return {@inheritDoc}
+         */
+        @Override
+        public long get() {
+            return confined() ? num : (long) NUM.getVolatile(this);
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param num {@inheritDoc}
+         */
+        @Override
+        public void put(long num) {
+            if (confined()) this.num = num; else NUM.setVolatile(this, num);
+        }
+
+        /**
+         * Atomically, once inflated, get the previous value and set the new value.
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public long set(long num) {
+            if (!confined())
+                return (long) NUM.getAndSet(this, num);
+            long previous = this.num; this.num = num; return previous;
+        }
+
+        /**
+         * Atomically, once inflated, set the given value
+         * if the current value {@code == state}.
+         *
+         * @param state {@inheritDoc}
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public boolean let(long state, long num) {
+            if (!confined())
+                return NUM.compareAndSet(this, state, num);
+            if (this.num != state)
+                return false;
+            this.num = num; return true;
+        }
+
+        /**
+         * Atomically, once inflated, increment value and return.
+         *
+         * @return {@inheritDoc}
+         */
+        @Override
+        public long incr() {
+            return confined() ? ++num : (long) NUM.getAndAdd(this, 1L) + 1L;
+        }
+
+        /**
+         * Atomically, once inflated, decrement value and return.
+         *
+         * @return {@inheritDoc}
+         */
+        @Override
+        public long decr() {
+            return confined() ? --num : (long) NUM.getAndAdd(this, -1L) - 1L;
+        }
+
+        /**
+         * Inflate the holder, if not inflated yet, publishing the owner's accesses preceding this to the threads
+         * accessing it afterwards.
+         *
+         * @throws IllegalStateException if the holder is not inflated yet and the current thread is not the owner
+         */
+        public void inflate() {
+            if (confined())
+                OWNER.setVolatile(this, null);
+        }
+
+        /**
+         * Return whether the holder is inflated.
+         *
+         * @return whether the holder is inflated
+         */
+        public boolean inflated() {
+            return OWNER.getAcquire(this) == null;
+        }
+
+        /**
+         * Return whether the current thread is the owner of the holder not inflated yet.
+         *
+         * @return whether the holder is confined to the current thread
+         * @throws IllegalStateException if the holder is not inflated yet and the current thread is not the owner
+         */
+        private boolean confined() {
+            Object owner = OWNER.getAcquire(this);
+            if (owner == Thread.currentThread())
+                return true;
+            if (owner != null)
+                throw new IllegalStateException("Holder accessed by a thread other than its owner " + owner
+                        + " before inflation");
+            return false;
+        }
+    }
+
+
+    /**
+     * Return the adaptive holder of {@code null} owned by the current thread.
+     *
+     * @param <V> the type of the value
+     * @return the adaptive holder of {@code null}
+     */
+    public static <V> Adaptive<V> adaptive() {
+        return new Adaptive<>();
+    }
+
+    /**
+     * Return the adaptive holder of the given value owned by the current thread.
+     *
+     * @param value the given value
+     * @param <V> the type of the value
+     * @return the adaptive holder of the given value
+     */
+    public static <V> Adaptive<V> adaptive(V value) {
+        return new Adaptive<>(value);
+    }
+
+    /**
+     * Return the adaptive holder of the given int value owned by the current thread.
+     *
+     * @param value the given value
+     * @return the adaptive holder of the given value
+     */
+    public static Int adaptive(int value) {
+        return new Int(value);
+    }
+
+    /**
+     * Return the adaptive holder of the given long value owned by the current thread.
+     *
+     * @param value the given value
+     * @return the adaptive holder of the given value
+     */
+    public static Long adaptive(long value) {
+        return new Long(value);
+    }
+}
@@ -0,0 +1,272 @@
+package org.moodminds.valuable;
+
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+/**
+ * Thread-confined scoped pool of {@link Variable} holders, intended to capture values into lambdas
+ * in hot loops without allocating a new holder on each iteration:
+ * <pre>{@code
+ * for (Item item : items)
+ *     try (Arena arena = Arena.open()) {
+ *         Variable.Int count = arena.var(0);
+ *         item.forEach(e -> count.num++);
+ *     }
+ * }</pre>
+ * Each holder handed out is reset to the given initial value, and is reclaimed for reuse once the scope
+ * it was obtained in is closed, so it must not be accessed after that. Scopes may be nested and must be
+ * closed in the reverse order of opening by the thread which opened them, and the holders handed out
+ * only to it.
+ * <p>
+ * A reused holder saves its allocation rather than time: opening and closing a scope costs a thread-local
+ * lookup and the pool bookkeeping, more than the allocation of a short-lived holder. So an arena pays off
+ * where the allocation rate matters rather than the latency, e.g. to keep down the garbage collection pressure.
+ */
+public final class Arena implements AutoCloseable {
+
+    private static final ThreadLocal<Arena> ARENA = ThreadLocal.withInitial(Arena::new);
+
+    private static final int POOLS = 9;
+
+    /**
+     * The thread this arena is confined to.
+     */
+    private final Thread owner = Thread.currentThread();
+
+    /**
+     * The pools of the holders by type.
+     */
+    private final Pool<Variable<Object>> refs = new Pool<>(Variable::var);
+    private final Pool<Variable.Boolean> flgs = new Pool<>(() -> Variable.var(false));
+    private final Pool<Variable.Char> chrs = new Pool<>(() -> Variable.var('\0'));
+    private final Pool<Variable.Byte> bytes = new Pool<>(() -> Variable.var((byte) 0));
+    private final Pool<Variable.Short> shorts = new Pool<>(() -> Variable.var((short) 0));
+    private final Pool<Variable.Int> ints = new Pool<>(() -> Variable.var(0));
+    private final Pool<Variable.Long> longs = new Pool<>(() -> Variable.var(0L));
+    private final Pool<Variable.Float> floats = new Pool<>(() -> Variable.var(0.0f));
+    private final Pool<Variable.Double> doubles = new Pool<>(() -> Variable.var(0.0d));
+
+    /**
+     * The pool tops saved on each scope opening, {@link #POOLS} per scope.
+     */
+    private int[] marks = new int[POOLS * 4];
+
+    /**
+     * The number of currently open scopes.
+     */
+    private int depth;
+
+    /**
+     * Construct the object.
+     */
+    private Arena() {}
+
+    /**
+     * Return the empty object reference value holder of this scope.
+     *
+     * @param <V> the type of the value
+     * @return the empty object reference value holder of this scope
+     * @throws IllegalStateException if called by a thread other than the opening one or if no scope is open
+     */
+    public <V> Variable<V> var() {
+        return var(null);
+    }
+
+    /**
+     * Return the object reference value holder of this scope by the given value.
+     *
+     * @param value the given initial value
+     * @param <V> the type of the value
+     * @return the object reference value holder of this scope by the given value
+     * @throws IllegalStateException if called by a thread other than the opening one or if no scope is open
+     */
+    @SuppressWarnings("unchecked")
+    public <V> Variable<V> var(V value) {
+        Variable<Object> var = refs.next(); var.val = value; return (Variable<V>) var;
+    }
+
+    /**
+     * Return the boolean value holder of this scope by the given value.
+     *
+     * @param value the given initial value
+     * @return the boolean value holder of this scope by the given value
+     * @throws IllegalStateException if called by a thread other than the opening one or if no scope is open
+     */
+    public Variable.Boolean var(boolean value) {
+        Variable.Boolean var = flgs.next(); var.flg = value; return var;
+    }
+
+    /**
+     * Return the char value holder of this scope by the given value.
+     *
+     * @param value the given initial value
+     * @return the char value holder of this scope by the given value
+     * @throws IllegalStateException if called by a thread other than the opening one or if no scope is open
+     */
+    public Variable.Char var(char value) {
+        Variable.Char var = chrs.next(); var.chr = value; return var;
+    }
+
+    /**
+     * Return the byte value holder of this scope by the given value.
+     *
+     * @param value the given initial value
+     * @return the byte value holder of this scope by the given value
+     * @throws IllegalStateException if called by a thread other than the opening one or if no scope is open
+     */
+    public Variable.Byte var(byte value) {
+        Variable.Byte var = bytes.next(); var.num = value; return var;
+    }
+
+    /**
+     * Return the short value holder of this scope by the given value.
+     *
+     * @param value the given initial value
+     * @return the short value holder of this scope by the given value
+     * @throws IllegalStateException if called by a thread other than the opening one or if no scope is open
+     */
+    public Variable.Short var(short value) {
+        Variable.Short var = shorts.next(); var.num = value; return var;
+    }
+
+    /**
+     * Return the int value holder of this scope by the given value.
+     *
+     * @param value the given initial value
+     * @return the int value holder of this scope by the given value
+     * @throws IllegalStateException if called by a thread other than the opening one or if no scope is open
+     */
+    public Variable.Int var(int value) {
+        Variable.Int var = ints.next(); var.num = value; return var;
+    }
+
+    /**
+     * Return the long value holder of this scope by the given value.
+     *
+     * @param value the given initial value
+     * @return the long value holder of this scope by the given value
+     * @throws IllegalStateException if called by a thread other than the opening one or if no scope is open
+     */
+    public Variable.Long var(long value) {
+        Variable.Long var = longs.next(); var.num = value; return var;
+    }
+
+    /**
+     * Return the float value holder of this scope by the given value.
+     *
+     * @param value the given initial value
+     * @return the float value holder of this scope by the given value
+     * @throws IllegalStateException if called by a thread other than the opening one or if no scope is open
+     */
+    public Variable.Float var(float value) {
+        Variable.Float var = floats.next(); var.num = value; return var;
+    }
+
+    /**
+     * Return the double value holder of this scope by the given value.
+     *
+     * @param value the given initial value
+     * @return the double value holder of this scope by the given value
+     * @throws IllegalStateException if called by a thread other than the opening one or if no scope is open
+     */
+    public Variable.Double var(double value) {
+        Variable.Double var = doubles.next(); var.num = value; return var;
+    }
+
+    /**
+     * Close the innermost open scope, reclaiming all the holders handed out within it.
+     *
+     * @throws IllegalStateException if called by a thread other than the opening one or if no scope is open
+     */
+    @Override
+    public void close() {
+        if (owner != Thread.currentThread())
+            throw new IllegalStateException("Arena closed by a thread other than its owner " + owner);
+        if (depth == 0)
+            throw new IllegalStateException("Arena has no open scope to close");
+        int mark = --depth * POOLS;
+        for (int i = refs.top - 1, bottom = marks[mark]; i >= bottom; i--)
+            ((Variable<?>) refs.items[i]).val = null;
+        refs.top = marks[mark]; flgs.top = marks[mark + 1]; chrs.top = marks[mark + 2];
+        bytes.top = marks[mark + 3]; shorts.top = marks[mark + 4]; ints.top = marks[mark + 5];
+        longs.top = marks[mark + 6]; floats.top = marks[mark + 7]; doubles.top = marks[mark + 8];
+    }
+
+    /**
+     * Open a new scope, saving the current pool tops.
+     *
+     * @return this arena
+     */
+    private Arena mark() {
+        int mark = depth++ * POOLS;
+        if (mark == marks.length)
+            marks = Arrays.copyOf(marks, marks.length * 2);
+        marks[mark] = refs.top; marks[mark + 1] = flgs.top; marks[mark + 2] = chrs.top;
+        marks[mark + 3] = bytes.top; marks[mark + 4] = shorts.top; marks[mark + 5] = ints.top;
+        marks[mark + 6] = longs.top; marks[mark + 7] = floats.top; marks[mark + 8] = doubles.top;
+        return this;
+    }
+
+
+    /**
+     * Open a new scope of the current thread's arena.
+     *
+     * @return the current thread's arena
+     */
+    public static Arena open() {
+        return ARENA.get().mark();
+    }
+
+
+    /**
+     * A growable stack of the reusable holders of a type.
+     *
+     * @param <H> the type of the holders
+     */
+    private final class Pool<H> {
+
+        /**
+         * The holders factory.
+         */
+        private final Supplier<H> factory;
+
+        /**
+         * The pooled holders, those below {@link #top} are handed out.
+         */
+        private Object[] items = new Object[16];
+
+        /**
+         * The index of the next holder to hand out.
+         */
+        private int top;
+
+        /**
+         * Construct the object with the given holders factory.
+         *
+         * @param factory the given holders factory
+         */
+        private Pool(Supplier<H> factory) {
+            this.factory = factory;
+        }
+
+        /**
+         * Return the next holder, creating it if the pool is exhausted.
+         *
+         * @return the next holder
+         * @throws IllegalStateException if called by a thread other than the owner or if no scope is open
+         */
+        @SuppressWarnings("unchecked")
+        private H next() {
+            if (owner != Thread.currentThread())
+                throw new IllegalStateException("Arena used by a thread other than its owner " + owner);
+            if (depth == 0)
+                throw new IllegalStateException("Arena has no open scope to hand out holders from");
+            if (top == items.length)
+                items = Arrays.copyOf(items, items.length * 2);
+            Object item = items[top];
+            if (item == null)
+                items[top] = item = factory.get();
+            top++; return (H) item;
+        }
+    }
+}
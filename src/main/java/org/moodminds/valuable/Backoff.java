@@ -0,0 +1,76 @@
+package org.moodminds.valuable;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Strategy of pausing between the attempts of a retry loop, e.g. a compare-and-set one, intended
+ * to relieve the contended cache lines, the SMT siblings and the power usage under contention.
+ * <p>
+ * The {@code max} and {@code min} loops of the holders do not pause: a competing write failing their
+ * compare-and-set more often than not makes them return on the next read without writing, so they retry
+ * only while losing to the smaller, respectively greater, values, and a pause would only delay their exit.
+ */
+@FunctionalInterface
+public interface Backoff {
+
+    /**
+     * No pause: retry at full speed.
+     */
+    Backoff NONE = attempt -> {};
+
+    /**
+     * A single {@link Thread#onSpinWait()} hint per attempt.
+     */
+    Backoff SPIN = attempt -> Thread.onSpinWait();
+
+    /**
+     * A single {@link Thread#yield()} per attempt.
+     */
+    Backoff YIELD = attempt -> Thread.yield();
+
+    /**
+     * The default strategy: randomized exponential spinning up to 64 spin hints, about the time a competing
+     * compare-and-set loop takes to complete, yielding afterwards; or yielding at once on a uniprocessor,
+     * where the competitor failing the attempt is preempted, so that the spinning only delays it.
+     */
+    Backoff DEFAULT = Runtime.getRuntime().availableProcessors() > 1 ? exponential(1 << 6) : YIELD;
+
+    /**
+     * Pause before the given retry attempt.
+     *
+     * @param attempt the given number of the failed attempts so far, starting from {@code 1}
+     */
+    void pause(int attempt);
+
+
+    /**
+     * Return the strategy spinning for a random number of {@link Thread#onSpinWait()} hints, bounded
+     * by the number doubling with each attempt up to the given maximum, and yielding afterwards.
+     *
+     * @param maxSpins the given maximum bound of the spin hints, a power of two
+     * @return the randomized exponential strategy
+     * @throws IllegalArgumentException if the maximum bound is not a positive power of two
+     */
+    static Backoff exponential(int maxSpins) {
+        if (maxSpins <= 0 || Integer.bitCount(maxSpins) != 1)
+            throw new IllegalArgumentException("Maximum spins " + maxSpins + " is not a positive power of two");
+        int maxShift = Integer.numberOfTrailingZeros(maxSpins);
+        return attempt -> {
+            if (attempt > maxShift)
+                Thread.yield();
+            else for (int spins = ThreadLocalRandom.current().nextInt(1 << attempt) + 1; spins > 0; spins--)
+                Thread.onSpinWait();
+        };
+    }
+
+    /**
+     * Return the strategy parking the thread for the given period per attempt.
+     *
+     * @param nanos the given period in nanoseconds
+     * @return the parking strategy
+     */
+    static Backoff park(long nanos) {
+        return attempt -> LockSupport.parkNanos(nanos);
+    }
+}
@@ -0,0 +1,1580 @@
+package org.moodminds.valuable;
+
+import static java.lang.System.Logger.Level.WARNING;
+import static org.moodminds.valuable.Volatile.vol;
+
+/**
+ * Checked {@link Variable}, reporting the first access to it by a thread other than the creating one,
+ * returned by the {@link Variable} factory methods if the {@code org.moodminds.valuable.checked} system property
+ * is {@code true}, intended to find the holders leaking across threads in testing.
+ * <p>
+ * The report is logged at the {@link System.Logger.Level#WARNING} level of the {@code System.Logger}
+ * named after this class, with the stack traces of both the offending access and the holder creation.
+ * Any access by another thread is reported, even the one properly published to it, while the direct accesses
+ * to the value-holding fields are not checked. A serialized holder is deserialized as an unchecked one.
+ */
+class CheckedVariable<V> extends Variable<V> {
+
+    private static final long serialVersionUID = 5403997188484030375L;
+
+    /**
+     * The confinement checker.
+     */
+    private final transient Confinement confinement = new Confinement();
+
+    /**
+     * Construct the object.
+     */
+    CheckedVariable() {}
+
+    /**
+     * Construct the object with the given initial value.
+     *
+     * @param val the given initial value
+     */
+    CheckedVariable(V val) {
+        super(val);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public V get() {
+        confinement.check();
+        return super.get();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param val {@inheritDoc}
+     */
+    @Override
+    public void put(V val) {
+        confinement.check();
+        super.put(val);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param val {@inheritDoc}
+     * @return {@inheritDoc}
+     */
+    @Override
+    public V set(V val) {
+        confinement.check();
+        return super.set(val);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param state {@inheritDoc}
+     * @param val {@inheritDoc}
+     * @return {@inheritDoc}
+     */
+    @Override
+    public boolean let(V state, V val) {
+        confinement.check();
+        return super.let(state, val);
+    }
+
+    /**
+     * Replace the object being serialized with an unchecked one.
+     *
+     * @return the unchecked copy of the object
+     */
+    private Object writeReplace() {
+        return new Variable<>(val);
+    }
+
+
+    /**
+     * A checked boolean value holder.
+     */
+    static class Boolean extends Variable.Boolean {
+
+        private static final long serialVersionUID = 1822684985933706640L;
+
+        /**
+         * The confinement checker.
+         */
+        private final transient Confinement confinement = new Confinement();
+
+        /**
+         * Construct the object with the given initial value.
+         *
+         * @param flg the given initial value
+         */
+        Boolean(boolean flg) {
+            super(flg);
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @return {@inheritDoc}
+         */
+        @Override
+        public boolean get() {
+            confinement.check();
+            return super.get();
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param flg {@inheritDoc}
+         */
+        @Override
+        public void put(boolean flg) {
+            confinement.check();
+            super.put(flg);
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param flg {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public boolean set(boolean flg) {
+            confinement.check();
+            return super.set(flg);
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param state {@inheritDoc}
+         * @param flg {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public boolean let(boolean state, boolean flg) {
+            confinement.check();
+            return super.let(state, flg);
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param flg {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public boolean or(boolean flg) {
+            confinement.check();
+            return super.or(flg);
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param flg {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public boolean getAndOr(boolean flg) {
+            confinement.check();
+            return super.getAndOr(flg);
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param flg {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public boolean and(boolean flg) {
+            confinement.check();
+            return super.and(flg);
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param flg {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public boolean getAndAnd(boolean flg) {
+            confinement.check();
+            return super.getAndAnd(flg);
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param flg {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public boolean xor(boolean flg) {
+            confinement.check();
+            return super.xor(flg);
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param flg {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public boolean getAndXor(boolean flg) {
+            confinement.check();
+            return super.getAndXor(flg);
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @return {@inheritDoc}
+         */
+        @Override
+        public boolean toggle() {
+            confinement.check();
+            return super.toggle();
+        }
+
+        /**
+         * Replace the object being serialized with an unchecked one.
+         *
+         * @return the unchecked copy of the object
+         */
+        private Object writeReplace() {
+            return new Variable.Boolean(flg);
+        }
+    }
+
+
+    /**
+     * A checked char value holder.
+     */
+    static class Char extends Variable.Char {
+
+        private static final long serialVersionUID = 1413393457441999074L;
+
+        /**
+         * The confinement checker.
+         */
+        private final transient Confinement confinement = new Confinement();
+
+        /**
+         * Construct the object with the given initial value.
+         *
+         * @param chr the given initial value
+         */
+        Char(char chr) {
+            super(chr);
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @return {@inheritDoc}
+         */
+        @Override
+        public char get() {
+            confinement.check();
+            return super.get();
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param chr {@inheritDoc}
+         */
+        @Override
+        public void put(char chr) {
+            confinement.check();
+            super.put(chr);
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param chr {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public char set(char chr) {
+            confinement.check();
+            return super.set(chr);
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param state {@inheritDoc}
+         * @param chr {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public boolean let(char state, char chr) {
+            confinement.check();
+            return super.let(state, chr);
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param chr {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public char or(char chr) {
+            confinement.check();
+            return super.or(chr);
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param chr {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public char getAndOr(char chr) {
+            confinement.check();
+            return super.getAndOr(chr);
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param chr {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public char and(char chr) {
+            confinement.check();
+            return super.and(chr);
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param chr {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public char getAndAnd(char chr) {
+            confinement.check();
+            return super.getAndAnd(chr);
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param chr {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public char xor(char chr) {
+            confinement.check();
+            return super.xor(chr);
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param chr {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public char getAndXor(char chr) {
+            confinement.check();
+            return super.getAndXor(chr);
+        }
+
+        /**
+         * Replace the object being serialized with an unchecked one.
+         *
+         * @return the unchecked copy of the object
+         */
+        private Object writeReplace() {
+            return new Variable.Char(chr);
+        }
+    }
+
+
+    /**
+     * A checked byte value holder.
+     */
+    static class Byte extends Variable.Byte {
+
+        private static final long serialVersionUID = -1216228145940482296L;
+
+        /**
+         * The confinement checker.
+         */
+        private final transient Confinement confinement = new Confinement();
+
+        /**
+         * Construct the object with the given initial value.
+         *
+         * @param num the given initial value
+         */
+        Byte(byte num) {
+            super(num);
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @return {@inheritDoc}
+         */
+        @Override
+        public byte get() {
+            confinement.check();
+            return super.get();
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param num {@inheritDoc}
+         */
+        @Override
+        public void put(byte num) {
+            confinement.check();
+            super.put(num);
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public byte set(byte num) {
+            confinement.check();
+            return super.set(num);
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param state {@inheritDoc}
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public boolean let(byte state, byte num) {
+            confinement.check();
+            return super.let(state, num);
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @return {@inheritDoc}
+         */
+        @Override
+        public byte incr() {
+            confinement.check();
+            return super.incr();
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @return {@inheritDoc}
+         */
+        @Override
+        public byte decr() {
+            confinement.check();
+            return super.decr();
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public byte max(byte num) {
+            confinement.check();
+            return super.max(num);
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public byte getAndMax(byte num) {
+            confinement.check();
+            return super.getAndMax(num);
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public byte min(byte num) {
+            confinement.check();
+            return super.min(num);
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public byte getAndMin(byte num) {
+            confinement.check();
+            return super.getAndMin(num);
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public byte or(byte num) {
+            confinement.check();
+            return super.or(num);
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public byte getAndOr(byte num) {
+            confinement.check();
+            return super.getAndOr(num);
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public byte and(byte num) {
+            confinement.check();
+            return super.and(num);
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public byte getAndAnd(byte num) {
+            confinement.check();
+            return super.getAndAnd(num);
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public byte xor(byte num) {
+            confinement.check();
+            return super.xor(num);
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public byte getAndXor(byte num) {
+            confinement.check();
+            return super.getAndXor(num);
+        }
+
+        /**
+         * Replace the object being serialized with an unchecked one.
+         *
+         * @return the unchecked copy of the object
+         */
+        private Object writeReplace() {
+            return new Variable.Byte(num);
+        }
+    }
+
+
+    /**
+     * A checked short value holder.
+     */
+    static class Short extends Variable.Short {
+
+        private static final long serialVersionUID = 5907016243754847300L;
+
+        /**
+         * The confinement checker.
+         */
+        private final transient Confinement confinement = new Confinement();
+
+        /**
+         * Construct the object with the given initial value.
+         *
+         * @param num the given initial value
+         */
+        Short(short num) {
+            super(num);
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @return {@inheritDoc}
+         */
+        @Override
+        public short get() {
+            confinement.check();
+            return super.get();
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param num {@inheritDoc}
+         */
+        @Override
+        public void put(short num) {
+            confinement.check();
+            super.put(num);
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public short set(short num) {
+            confinement.check();
+            return super.set(num);
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param state {@inheritDoc}
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public boolean let(short state, short num) {
+            confinement.check();
+            return super.let(state, num);
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @return {@inheritDoc}
+         */
+        @Override
+        public short incr() {
+            confinement.check();
+            return super.incr();
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @return {@inheritDoc}
+         */
+        @Override
+        public short decr() {
+            confinement.check();
+            return super.decr();
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public short max(short num) {
+            confinement.check();
+            return super.max(num);
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public short getAndMax(short num) {
+            confinement.check();
+            return super.getAndMax(num);
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public short min(short num) {
+            confinement.check();
+            return super.min(num);
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public short getAndMin(short num) {
+            confinement.check();
+            return super.getAndMin(num);
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public short or(short num) {
+            confinement.check();
+            return super.or(num);
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public short getAndOr(short num) {
+            confinement.check();
+            return super.getAndOr(num);
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public short and(short num) {
+            confinement.check();
+            return super.and(num);
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public short getAndAnd(short num) {
+            confinement.check();
+            return super.getAndAnd(num);
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public short xor(short num) {
+            confinement.check();
+            return super.xor(num);
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public short getAndXor(short num) {
+            confinement.check();
+            return super.getAndXor(num);
+        }
+
+        /**
+         * Replace the object being serialized with an unchecked one.
+         *
+         * @return the unchecked copy of the object
+         */
+        private Object writeReplace() {
+            return new Variable.Short(num);
+        }
+    }
+
+
+    /**
+     * A checked int value holder.
+     */
+    static class Int extends Variable.Int {
+
+        private static final long serialVersionUID = -6392388700504309856L;
+
+        /**
+         * The confinement checker.
+         */
+        private final transient Confinement confinement = new Confinement();
+
+        /**
+         * Construct the object with the given initial value.
+         *
+         * @param num the given initial value
+         */
+        Int(int num) {
+            super(num);
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @return {@inheritDoc}
+         */
+        @Override
+        public int get() {
+            confinement.check();
+            return super.get();
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param num {@inheritDoc}
+         */
+        @Override
+        public void put(int num) {
+            confinement.check();
+            super.put(num);
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public int set(int num) {
+            confinement.check();
+            return super.set(num);
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param state {@inheritDoc}
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public boolean let(int state, int num) {
+            confinement.check();
+            return super.let(state, num);
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @return {@inheritDoc}
+         */
+        @Override
+        public int incr() {
+            confinement.check();
+            return super.incr();
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @return {@inheritDoc}
+         */
+        @Override
+        public int decr() {
+            confinement.check();
+            return super.decr();
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public int max(int num) {
+            confinement.check();
+            return super.max(num);
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public int getAndMax(int num) {
+            confinement.check();
+            return super.getAndMax(num);
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public int min(int num) {
+            confinement.check();
+            return super.min(num);
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public int getAndMin(int num) {
+            confinement.check();
+            return super.getAndMin(num);
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public int or(int num) {
+            confinement.check();
+            return super.or(num);
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public int getAndOr(int num) {
+            confinement.check();
+            return super.getAndOr(num);
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public int and(int num) {
+            confinement.check();
+            return super.and(num);
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public int getAndAnd(int num) {
+            confinement.check();
+            return super.getAndAnd(num);
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public int xor(int num) {
+            confinement.check();
+            return super.xor(num);
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public int getAndXor(int num) {
+            confinement.check();
+            return super.getAndXor(num);
+        }
+
+        /**
+         * Replace the object being serialized with an unchecked one.
+         *
+         * @return the unchecked copy of the object
+         */
+        private Object writeReplace() {
+            return new Variable.Int(num);
+        }
+    }
+
+
+    /**
+     * A checked long value holder.
+     */
+    static class Long extends Variable.Long {
+
+        private static final long serialVersionUID = -2270329581719450701L;
+
+        /**
+         * The confinement checker.
+         */
+        private final transient Confinement confinement = new Confinement();
+
+        /**
+         * Construct the object with the given initial value.
+         *
+         * @param num the given initial value
+         */
+        Long(long num) {
+            super(num);
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @return {@inheritDoc}
+         */
+        @Override
+        public long get() {
+            confinement.check();
+            return super.get();
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param num {@inheritDoc}
+         */
+        @Override
+        public void put(long num) {
+            confinement.check();
+            super.put(num);
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public long set(long num) {
+            confinement.check();
+            return super.set(num);
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param state {@inheritDoc}
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public boolean let(long state, long num) {
+            confinement.check();
+            return super.let(state, num);
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @return {@inheritDoc}
+         */
+        @Override
+        public long incr() {
+            confinement.check();
+            return super.incr();
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @return {@inheritDoc}
+         */
+        @Override
+        public long decr() {
+            confinement.check();
+            return super.decr();
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public long max(long num) {
+            confinement.check();
+            return super.max(num);
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public long getAndMax(long num) {
+            confinement.check();
+            return super.getAndMax(num);
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public long min(long num) {
+            confinement.check();
+            return super.min(num);
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public long getAndMin(long num) {
+            confinement.check();
+            return super.getAndMin(num);
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public long or(long num) {
+            confinement.check();
+            return super.or(num);
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public long getAndOr(long num) {
+            confinement.check();
+            return super.getAndOr(num);
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public long and(long num) {
+            confinement.check();
+            return super.and(num);
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public long getAndAnd(long num) {
+            confinement.check();
+            return super.getAndAnd(num);
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public long xor(long num) {
+            confinement.check();
+            return super.xor(num);
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public long getAndXor(long num) {
+            confinement.check();
+            return super.getAndXor(num);
+        }
+
+        /**
+         * Replace the object being serialized with an unchecked one.
+         *
+         * @return the unchecked copy of the object
+         */
+        private Object writeReplace() {
+            return new Variable.Long(num);
+        }
+    }
+
+
+    /**
+     * A checked float value holder.
+     */
+    static class Float extends Variable.Float {
+
+        private static final long serialVersionUID = 1462233964164284686L;
+
+        /**
+         * The confinement checker.
+         */
+        private final transient Confinement confinement = new Confinement();
+
+        /**
+         * Construct the object with the given initial value.
+         *
+         * @param num the given initial value
+         */
+        Float(float num) {
+            super(num);
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @return {@inheritDoc}
+         */
+        @Override
+        public float get() {
+            confinement.check();
+            return super.get();
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param num {@inheritDoc}
+         */
+        @Override
+        public void put(float num) {
+            confinement.check();
+            super.put(num);
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public float set(float num) {
+            confinement.check();
+            return super.set(num);
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param state {@inheritDoc}
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public boolean let(float state, float num) {
+            confinement.check();
+            return super.let(state, num);
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public float max(float num) {
+            confinement.check();
+            return super.max(num);
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public float getAndMax(float num) {
+            confinement.check();
+            return super.getAndMax(num);
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public float min(float num) {
+            confinement.check();
+            return super.min(num);
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public float getAndMin(float num) {
+            confinement.check();
+            return super.getAndMin(num);
+        }
+
+        /**
+         * Replace the object being serialized with an unchecked one.
+         *
+         * @return the unchecked copy of the object
+         */
+        private Object writeReplace() {
+            return new Variable.Float(num);
+        }
+    }
+
+
+    /**
+     * A checked double value holder.
+     */
+    static class Double extends Variable.Double {
+
+        private static final long serialVersionUID = 8151682911671044509L;
+
+        /**
+         * The confinement checker.
+         */
+        private final transient Confinement confinement = new Confinement();
+
+        /**
+         * Construct the object with the given initial value.
+         *
+         * @param num the given initial value
+         */
+        Double(double num) {
+            super(num);
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @return {@inheritDoc}
+         */
+        @Override
+        public double get() {
+            confinement.check();
+            return super.get();
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param num {@inheritDoc}
+         */
+        @Override
+        public void put(double num) {
+            confinement.check();
+            super.put(num);
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public double set(double num) {
+            confinement.check();
+            return super.set(num);
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param state {@inheritDoc}
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public boolean let(double state, double num) {
+            confinement.check();
+            return super.let(state, num);
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public double max(double num) {
+            confinement.check();
+            return super.max(num);
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public double getAndMax(double num) {
+            confinement.check();
+            return super.getAndMax(num);
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public double min(double num) {
+            confinement.check();
+            return super.min(num);
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public double getAndMin(double num) {
+            confinement.check();
+            return super.getAndMin(num);
+        }
+
+        /**
+         * Replace the object being serialized with an unchecked one.
+         *
+         * @return the unchecked copy of the object
+         */
+        private Object writeReplace() {
+            return new Variable.Double(num);
+        }
+    }
+
+
+    /**
+     * The checker of a holder being accessed by its creating thread only.
+     */
+    private static final class Confinement {
+
+        private static final System.Logger LOGGER = System.getLogger(CheckedVariable.class.getName());
+
+        /**
+         * The creating thread.
+         */
+        private final Thread owner = Thread.currentThread();
+
+        /**
+         * The creation stack trace.
+         */
+        private final Throwable creation = new Throwable("Created by thread \"" + owner.getName() + "\"");
+
+        /**
+         * The flag of the cross-thread access reported.
+         */
+        private final Volatile.Boolean reported = vol(false);
+
+        /**
+         * Report the access by the current thread if it is not the creating one and none is reported yet.
+         */
+        void check() {
+            Thread thread = Thread.currentThread();
+            if (thread != owner && !reported.get() && reported.let(false, true))
+                LOGGER.log(WARNING, "Variable created by thread \"" + owner.getName()
+                        + "\" is accessed by thread \"" + thread.getName() + "\"",
+                        new IllegalStateException("Accessed by thread \"" + thread.getName() + "\"", creation));
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package org.moodminds.valuable;
+
+import java.util.function.BinaryOperator;
+import java.util.function.UnaryOperator;
+
+/**
+ * Flat-combining updater of a {@link Volatile} object reference holder, intended for the highly contended
+ * holders updated by non-trivial functions, e.g. inserting into an immutable map:
+ * <pre>{@code
+ * Volatile<PersistentMap<K, V>> holder = vol(PersistentMap.empty());
+ * Combiner<PersistentMap<K, V>> combiner = Combiner.combiner(holder);
+ *
+ * combiner.update(map -> map.plus(key, value));
+ * }</pre>
+ * Rather than each thread computing its own result and retrying on a failed compare-and-set, the threads
+ * publish their update functions, and one of them applies all the published ones in a batch, chaining them
+ * in their publication order, and installs the single final result. The holder may still be read, as well
+ * as written directly, concurrently with the combiner; a batch is recomputed if the holder is changed meanwhile.
+ * <p>
+ * The functions must be side-effect-free, since a batch may be recomputed. A function throwing an exception
+ * has it rethrown to its caller, leaving the value unchanged for the functions next in the batch.
+ * <p>
+ * Publishing a function costs an allocation and a couple of compare-and-sets more than a single attempt
+ * of {@link Volatile#update}, so an uncontended combiner is several times slower than the plain loop; it pays
+ * off only when the retries of the loop, each recomputing the function, outweigh that.
+ *
+ * @param <V> the type of the value
+ */
+public final class Combiner<V> {
+
+    /**
+     * The updated holder.
+     */
+    private final Volatile<V> holder;
+
+    /**
+     * The updates combining engine.
+     */
+    private final Combining<V> combining;
+
+    /**
+     * Construct the object with the given updated holder and strategy of pausing while waiting.
+     *
+     * @param holder the given updated holder
+     * @param backoff the given strategy of pausing while waiting for the update completion
+     */
+    @SuppressWarnings("unchecked")
+    private Combiner(Volatile<V> holder, Backoff backoff) {
+        this.holder = holder;
+        this.combining = new Combining<V>(backoff) {
+            @Override
+            void apply(Node<V> batch) {
+                for (V current = holder.get(); ; current = holder.get()) {
+                    V value = current;
+                    for (Node<V> node = batch; node != null; node = node.next) {
+                        node.failure = null; node.apply(value);
+                        if (node.failure == null)
+                            value = (V) node.result;
+                    }
+                    if (value == current || holder.let(current, value))
+                        return;
+                }
+            }
+        };
+    }
+
+    /**
+     * Return the current value.
+     *
+     * @return the current value
+     */
+    public V get() {
+        return holder.get();
+    }
+
+    /**
+     * Atomically update the value by the given function and return the resulting value.
+     *
+     * @param function the given side-effect-free update function
+     * @return the resulting value
+     * @throws RuntimeException the exception thrown by the function
+     * @throws Error the error thrown by the function
+     */
+    @SuppressWarnings("unchecked")
+    public V update(UnaryOperator<V> function) {
+        return (V) combining.submit(function);
+    }
+
+    /**
+     * Atomically update the value by applying the given function to it and the given argument,
+     * and return the resulting value.
+     *
+     * @param x the given argument
+     * @param function the given side-effect-free accumulating function
+     * @return the resulting value
+     * @throws RuntimeException the exception thrown by the function
+     * @throws Error the error thrown by the function
+     */
+    public V accumulate(V x, BinaryOperator<V> function) {
+        return update(value -> function.apply(value, x));
+    }
+
+
+    /**
+     * Return the flat-combining updater of the given holder.
+     *
+     * @param holder the given holder
+     * @param <V> the type of the value
+     * @return the flat-combining updater of the given holder
+     */
+    public static <V> Combiner<V> combiner(Volatile<V> holder) {
+        return combiner(holder, Backoff.DEFAULT);
+    }
+
+    /**
+     * Return the flat-combining updater of the given holder, pausing by the given strategy while waiting
+     * for the updates to be applied by another thread.
+     *
+     * @param holder the given holder
+     * @param backoff the given pausing strategy
+     * @param <V> the type of the value
+     * @return the flat-combining updater of the given holder
+     */
+    public static <V> Combiner<V> combiner(Volatile<V> holder, Backoff backoff) {
+        return new Combiner<>(holder, backoff);
+    }
+}
@@ -0,0 +1,153 @@
+package org.moodminds.valuable;
+
+import java.util.function.Function;
+
+import static org.moodminds.valuable.Volatile.vol;
+
+/**
+ * Flat-combining engine: the threads publish their operations to a shared stack, and whichever of them
+ * acquires the combiner lock applies all the published ones in a single batch on behalf of the others,
+ * while those wait for their operations to be completed.
+ *
+ * @param <S> the type of the combined state operated on
+ */
+abstract class Combining<S> {
+
+    /**
+     * The maximum number of batches applied by a combiner in a row.
+     */
+    private static final int ROUNDS = 1 << 3;
+
+    /**
+     * The stack of the published operations.
+     */
+    private final Volatile<Node<S>> pending = vol();
+
+    /**
+     * The combiner lock.
+     */
+    private final Volatile.Boolean lock = vol(false);
+
+    /**
+     * The strategy of pausing while waiting for the operation completion.
+     */
+    private final Backoff backoff;
+
+    /**
+     * Construct the object with the given strategy of pausing while waiting for the operation completion.
+     *
+     * @param backoff the given pausing strategy
+     */
+    Combining(Backoff backoff) {
+        this.backoff = backoff;
+    }
+
+    /**
+     * Publish the given operation and return its result once it is applied.
+     *
+     * @param operation the given operation
+     * @return the result of the operation
+     * @throws RuntimeException the exception thrown by the operation
+     * @throws Error the error thrown by the operation
+     */
+    final Object submit(Function<? super S, ?> operation) {
+        Node<S> node = new Node<>(operation);
+        do node.next = pending.get();
+        while (!pending.let(node.next, node));
+        for (int attempt = 0; !node.done; )
+            if (!lock.get() && lock.let(false, true))
+                try { combine(); } finally { lock.put(false); }
+            else backoff.pause(++attempt);
+        if (node.failure instanceof RuntimeException) throw (RuntimeException) node.failure;
+        if (node.failure instanceof Error) throw (Error) node.failure;
+        return node.result;
+    }
+
+    /**
+     * Apply the published operations in batches, holding the combiner lock.
+     */
+    private void combine() {
+        for (int rounds = ROUNDS; rounds > 0; rounds--) {
+            Node<S> batch = null;
+            for (Node<S> node = pending.set(null), next; node != null; node = next) {
+                next = node.next; node.next = batch; batch = node;
+            }
+            if (batch == null)
+                return;
+            try {
+                apply(batch);
+            } catch (RuntimeException | Error e) {
+                for (Node<S> node = batch; node != null; node = node.next) {
+                    node.result = null; node.failure = e;
+                }
+            }
+            for (Node<S> node = batch, next; node != null; node = next) {
+                next = node.next; node.done = true;
+            }
+        }
+    }
+
+    /**
+     * Apply the given batch of operations in their publication order, setting their results or failures.
+     * If this throws, every operation of the batch fails with the thrown exception.
+     *
+     * @param batch the given batch of operations, linked by {@link Node#next}
+     */
+    abstract void apply(Node<S> batch);
+
+
+    /**
+     * A published operation stack node.
+     *
+     * @param <S> the type of the combined state operated on
+     */
+    static final class Node<S> {
+
+        /**
+         * The operation.
+         */
+        final Function<? super S, ?> operation;
+
+        /**
+         * The next node.
+         */
+        Node<S> next;
+
+        /**
+         * The result of the operation.
+         */
+        Object result;
+
+        /**
+         * The failure of the operation.
+         */
+        Throwable failure;
+
+        /**
+         * The flag of the operation completion, publishing its result or failure.
+         */
+        volatile boolean done;
+
+        /**
+         * Construct the object with the given operation.
+         *
+         * @param operation the given operation
+         */
+        Node(Function<? super S, ?> operation) {
+            this.operation = operation;
+        }
+
+        /**
+         * Apply the operation to the given state, capturing its result or failure.
+         *
+         * @param state the given state
+         */
+        void apply(S state) {
+            try {
+                result = operation.apply(state);
+            } catch (RuntimeException | Error e) {
+                failure = e;
+            }
+        }
+    }
+}
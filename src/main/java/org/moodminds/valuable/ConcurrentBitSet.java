@@ -0,0 +1,183 @@
+package org.moodminds.valuable;
+
+import java.lang.invoke.VarHandle;
+import java.util.Objects;
+
+import static java.lang.invoke.MethodHandles.arrayElementVarHandle;
+
+/**
+ * Fixed-size concurrent bit set packed into a {@code long[]} of words accessed atomically,
+ * costing a single bit per flag rather than a {@link Volatile.Boolean} object.
+ * <p>
+ * Single bit updates are lock-free and skip the write if the bit is already in the requested state.
+ * Bulk scans are safe to run while the writers are active, reading each word atomically, thus reflecting
+ * the updates made concurrently with them word by word.
+ */
+public final class ConcurrentBitSet {
+
+    private static final VarHandle WORDS = arrayElementVarHandle(long[].class);
+
+    /**
+     * The bit words.
+     */
+    private final long[] words;
+
+    /**
+     * The number of bits.
+     */
+    private final int size;
+
+    /**
+     * Construct the object with the given number of bits.
+     *
+     * @param size the given number of bits
+     */
+    private ConcurrentBitSet(int size) {
+        this.words = new long[(int) ((size + 63L) >>> 6)];
+        this.size = size;
+    }
+
+    /**
+     * Return the number of bits.
+     *
+     * @return the number of bits
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Return the state of the bit of the given index.
+     *
+     * @param bit the given bit index
+     * @return {@code true} if the bit is set, or {@code false} otherwise
+     * @throws IndexOutOfBoundsException if the index is out of bounds
+     */
+    public boolean get(int bit) {
+        return (word(Objects.checkIndex(bit, size) >>> 6) & 1L << bit) != 0;
+    }
+
+    /**
+     * Atomically set the bit of the given index.
+     *
+     * @param bit the given bit index
+     * @throws IndexOutOfBoundsException if the index is out of bounds
+     */
+    public void set(int bit) {
+        testAndSet(bit);
+    }
+
+    /**
+     * Atomically clear the bit of the given index.
+     *
+     * @param bit the given bit index
+     * @throws IndexOutOfBoundsException if the index is out of bounds
+     */
+    public void clear(int bit) {
+        testAndClear(bit);
+    }
+
+    /**
+     * Atomically set the bit of the given index and return its previous state.
+     *
+     * @param bit the given bit index
+     * @return {@code true} if the bit was set before, or {@code false} otherwise
+     * @throws IndexOutOfBoundsException if the index is out of bounds
+     */
+    public boolean testAndSet(int bit) {
+        int index = Objects.checkIndex(bit, size) >>> 6; long mask = 1L << bit;
+        return (word(index) & mask) != 0 || ((long) WORDS.getAndBitwiseOr(words, index, mask) & mask) != 0;
+    }
+
+    /**
+     * Atomically clear the bit of the given index and return its previous state.
+     *
+     * @param bit the given bit index
+     * @return {@code true} if the bit was set before, or {@code false} otherwise
+     * @throws IndexOutOfBoundsException if the index is out of bounds
+     */
+    public boolean testAndClear(int bit) {
+        int index = Objects.checkIndex(bit, size) >>> 6; long mask = 1L << bit;
+        return (word(index) & mask) != 0 && ((long) WORDS.getAndBitwiseAnd(words, index, ~mask) & mask) != 0;
+    }
+
+    /**
+     * Return the number of the set bits.
+     *
+     * @return the number of the set bits
+     */
+    public int cardinality() {
+        int cardinality = 0;
+        for (int i = 0; i < words.length; i++)
+            cardinality += Long.bitCount(word(i));
+        return cardinality;
+    }
+
+    /**
+     * Return the index of the first set bit starting from the given index inclusive.
+     *
+     * @param from the given index to start from
+     * @return the index of the first set bit, or {@code -1} if there is none
+     * @throws IndexOutOfBoundsException if the index is negative
+     */
+    public int nextSetBit(int from) {
+        if (from < 0)
+            throw new IndexOutOfBoundsException("Negative index " + from);
+        if (from >= size)
+            return -1;
+        int index = from >>> 6;
+        for (long word = word(index) & -1L << from; ; word = word(index)) {
+            if (word != 0)
+                return (index << 6) + Long.numberOfTrailingZeros(word);
+            if (++index == words.length)
+                return -1;
+        }
+    }
+
+    /**
+     * Return the index of the first clear bit starting from the given index inclusive.
+     *
+     * @param from the given index to start from
+     * @return the index of the first clear bit, or {@code -1} if there is none
+     * @throws IndexOutOfBoundsException if the index is negative
+     */
+    public int nextClearBit(int from) {
+        if (from < 0)
+            throw new IndexOutOfBoundsException("Negative index " + from);
+        if (from >= size)
+            return -1;
+        int index = from >>> 6;
+        for (long word = ~word(index) & -1L << from; ; word = ~word(index)) {
+            if (word != 0) {
+                int bit = (index << 6) + Long.numberOfTrailingZeros(word);
+                return bit < size ? bit : -1;
+            }
+            if (++index == words.length)
+                return -1;
+        }
+    }
+
+    /**
+     * Return the word of the given index.
+     *
+     * @param index the given word index
+     * @return the word of the given index
+     */
+    private long word(int index) {
+        return (long) WORDS.getVolatile(words, index);
+    }
+
+
+    /**
+     * Return the concurrent bit set of the given number of bits, all initially clear.
+     *
+     * @param size the given number of bits
+     * @return the concurrent bit set of the given number of bits
+     * @throws IllegalArgumentException if the number of bits is negative
+     */
+    public static ConcurrentBitSet bits(int size) {
+        if (size < 0)
+            throw new IllegalArgumentException("Negative size " + size);
+        return new ConcurrentBitSet(size);
+    }
+}
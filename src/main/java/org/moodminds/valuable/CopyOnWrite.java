@@ -0,0 +1,179 @@
+package org.moodminds.valuable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+import static org.moodminds.valuable.Volatile.vol;
+
+/**
+ * Copy-on-write holder of a read-mostly collection, publishing its immutable snapshots through a {@link Volatile}:
+ * <pre>{@code
+ * CopyOnWrite<Map<String, Route>> routes = CopyOnWrite.map();
+ *
+ * routes.write(map -> map.put(name, route));   // writers
+ * Route route = routes.get().get(name);        // readers
+ * }</pre>
+ * Reading is a single volatile read of the current snapshot. The concurrent writers are combined: one of them
+ * copies the snapshot once, applies all the mutations published meanwhile to the copy in their publication
+ * order and publishes the new snapshot, so a burst of writes costs a single copy rather than one per write.
+ * <p>
+ * A mutation throwing an exception has it rethrown to its writer, the changes it has made to the copy
+ * before throwing are kept. If copying or freezing the collection throws, the whole batch is dropped
+ * and the exception is rethrown to each of its writers.
+ *
+ * @param <C> the type of the collection
+ */
+public final class CopyOnWrite<C> {
+
+    /**
+     * The current immutable snapshot.
+     */
+    private final Volatile<C> snapshot;
+
+    /**
+     * The mutations combining engine.
+     */
+    private final Combining<C> combining;
+
+    /**
+     * Construct the object with the given initial collection, copying and freezing functions.
+     *
+     * @param initial the given initial collection
+     * @param copy the given function of the mutable copy of a snapshot
+     * @param freeze the given function of the immutable snapshot of a mutable copy
+     */
+    private CopyOnWrite(C initial, UnaryOperator<C> copy, UnaryOperator<C> freeze) {
+        this.snapshot = vol(freeze.apply(copy.apply(initial)));
+        this.combining = new Combining<C>(Backoff.DEFAULT) {
+            @Override
+            void apply(Node<C> batch) {
+                C collection = copy.apply(snapshot.get());
+                for (Node<C> node = batch; node != null; node = node.next)
+                    node.apply(collection);
+                snapshot.put(freeze.apply(collection));
+            }
+        };
+    }
+
+    /**
+     * Return the current immutable snapshot.
+     *
+     * @return the current immutable snapshot
+     */
+    public C get() {
+        return snapshot.get();
+    }
+
+    /**
+     * Apply the given mutation to the collection and return once its result is published.
+     *
+     * @param mutation the given mutation of the mutable copy of the collection
+     * @throws RuntimeException the exception thrown by the mutation
+     * @throws Error the error thrown by the mutation
+     */
+    public void write(Consumer<? super C> mutation) {
+        combining.submit(collection -> { mutation.accept(collection); return null; });
+    }
+
+    /**
+     * Apply the given mutation to the collection and return its result once published.
+     *
+     * @param mutation the given mutation of the mutable copy of the collection
+     * @param <R> the type of the result
+     * @return the result of the mutation
+     * @throws RuntimeException the exception thrown by the mutation
+     * @throws Error the error thrown by the mutation
+     */
+    @SuppressWarnings("unchecked")
+    public <R> R compute(Function<? super C, ? extends R> mutation) {
+        return (R) combining.submit(mutation);
+    }
+
+
+    /**
+     * Return the copy-on-write holder of a collection by the given initial one, copying and freezing functions.
+     *
+     * @param initial the given initial collection
+     * @param copy the given function of the mutable copy of a snapshot
+     * @param freeze the given function of the immutable snapshot of a mutable copy
+     * @param <C> the type of the collection
+     * @return the copy-on-write holder of a collection
+     */
+    public static <C> CopyOnWrite<C> copyOnWrite(C initial, UnaryOperator<C> copy, UnaryOperator<C> freeze) {
+        return new CopyOnWrite<>(initial, copy, freeze);
+    }
+
+    /**
+     * Return the copy-on-write holder of an initially empty {@link Map}.
+     *
+     * @param <K> the type of the keys
+     * @param <V> the type of the values
+     * @return the copy-on-write holder of a {@link Map}
+     */
+    public static <K, V> CopyOnWrite<Map<K, V>> map() {
+        return map(Collections.emptyMap());
+    }
+
+    /**
+     * Return the copy-on-write holder of a {@link Map} by the given initial one.
+     *
+     * @param initial the given initial map
+     * @param <K> the type of the keys
+     * @param <V> the type of the values
+     * @return the copy-on-write holder of a {@link Map}
+     */
+    public static <K, V> CopyOnWrite<Map<K, V>> map(Map<K, V> initial) {
+        return new CopyOnWrite<>(initial, HashMap::new, Collections::unmodifiableMap);
+    }
+
+    /**
+     * Return the copy-on-write holder of an initially empty {@link List}.
+     *
+     * @param <E> the type of the elements
+     * @return the copy-on-write holder of a {@link List}
+     */
+    public static <E> CopyOnWrite<List<E>> list() {
+        return list(Collections.emptyList());
+    }
+
+    /**
+     * Return the copy-on-write holder of a {@link List} by the given initial elements.
+     *
+     * @param initial the given initial elements
+     * @param <E> the type of the elements
+     * @return the copy-on-write holder of a {@link List}
+     */
+    public static <E> CopyOnWrite<List<E>> list(Collection<? extends E> initial) {
+        return new CopyOnWrite<>(new ArrayList<>(initial), ArrayList::new, Collections::unmodifiableList);
+    }
+
+    /**
+     * Return the copy-on-write holder of an initially empty {@link Set}.
+     *
+     * @param <E> the type of the elements
+     * @return the copy-on-write holder of a {@link Set}
+     */
+    public static <E> CopyOnWrite<Set<E>> set() {
+        return set(Collections.emptySet());
+    }
+
+    /**
+     * Return the copy-on-write holder of a {@link Set} by the given initial elements.
+     *
+     * @param initial the given initial elements
+     * @param <E> the type of the elements
+     * @return the copy-on-write holder of a {@link Set}
+     */
+    public static <E> CopyOnWrite<Set<E>> set(Collection<? extends E> initial) {
+        return new CopyOnWrite<>(new HashSet<>(initial), HashSet::new, Collections::unmodifiableSet);
+    }
+}
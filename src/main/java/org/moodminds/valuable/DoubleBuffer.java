@@ -0,0 +1,168 @@
+package org.moodminds.valuable;
+
+import static org.moodminds.valuable.Volatile.vol;
+
+/**
+ * Double-buffered hand-off of two reused buffer instances between a single producer and a single consumer,
+ * e.g. of the telemetry batches:
+ * <pre>{@code
+ * DoubleBuffer<Batch> batches = DoubleBuffer.doubleBuffer(new Batch(), new Batch());
+ *
+ * batches.back().add(event);          // producer fills the back buffer,
+ * if (batches.publish())              // swaps it to the front if the consumer released the previous one,
+ *     batches.back().clear();         // and clears the released one to fill next
+ *
+ * Batch batch = batches.take();       // consumer takes the front buffer,
+ * send(batch);
+ * batches.release();                  // and releases it for reuse
+ * }</pre>
+ * The producer owns the back buffer, the consumer owns the front one from taking till releasing it.
+ * The hand-off states are held in a single {@link Volatile.Int}, publishing the buffer contents written
+ * before each transition, so nothing is allocated in the steady state. The consumer misuse, i.e. taking
+ * a buffer twice or releasing one not taken, is detected, as well as the concurrent producers or consumers
+ * caught racing.
+ *
+ * @param <V> the type of the buffers
+ */
+public final class DoubleBuffer<V> {
+
+    /**
+     * The state bit of the index of the front buffer.
+     */
+    private static final int FRONT = 1;
+
+    /**
+     * The state bit of the front buffer published and not taken yet.
+     */
+    private static final int READY = 2;
+
+    /**
+     * The state bit of the front buffer taken and not released yet.
+     */
+    private static final int TAKEN = 4;
+
+    /**
+     * The pausing strategy of {@link #take()}: parking for 100 microseconds per attempt, as a consumer
+     * of the batches typically waits for one much longer than a spinning or yielding loop should run.
+     */
+    private static final Backoff PARK = Backoff.park(100_000L);
+
+    /**
+     * The buffers, indexed by the {@link #FRONT} bit.
+     */
+    private final Object[] buffers;
+
+    /**
+     * The hand-off state.
+     */
+    private final Volatile.Int state = vol(0);
+
+    /**
+     * Construct the object with the given initial front and back buffers.
+     *
+     * @param front the given initial front buffer
+     * @param back the given initial back buffer
+     */
+    private DoubleBuffer(V front, V back) {
+        this.buffers = new Object[] {front, back};
+    }
+
+    /**
+     * Return the back buffer, owned by the producer.
+     *
+     * @return the back buffer
+     */
+    @SuppressWarnings("unchecked")
+    public V back() {
+        return (V) buffers[(state.get() & FRONT) ^ 1];
+    }
+
+    /**
+     * Swap the back buffer to the front and publish it to the consumer, if the previous front one
+     * is released by the consumer.
+     *
+     * @return {@code true} if published, or {@code false} if the previous front buffer is not released yet
+     * @throws IllegalStateException if a concurrent producer is detected
+     */
+    public boolean publish() {
+        int state = this.state.get();
+        if ((state & (READY | TAKEN)) != 0)
+            return false;
+        if (!this.state.let(state, (state ^ FRONT) | READY))
+            throw new IllegalStateException("Concurrent publish");
+        return true;
+    }
+
+    /**
+     * Take the published front buffer if any, owning it until released.
+     *
+     * @return the front buffer, or {@code null} if none is published
+     * @throws IllegalStateException if the front buffer is already taken, or a concurrent consumer is detected
+     */
+    @SuppressWarnings("unchecked")
+    public V poll() {
+        int state = this.state.get();
+        if ((state & TAKEN) != 0)
+            throw new IllegalStateException("Front buffer already taken");
+        if ((state & READY) == 0)
+            return null;
+        if (!this.state.let(state, (state & FRONT) | TAKEN))
+            throw new IllegalStateException("Concurrent take");
+        return (V) buffers[state & FRONT];
+    }
+
+    /**
+     * Take the front buffer, waiting for one to be published, parking for 100 microseconds between the attempts.
+     *
+     * @return the front buffer
+     * @throws IllegalStateException if the front buffer is already taken, or a concurrent consumer is detected
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public V take() throws InterruptedException {
+        return take(PARK);
+    }
+
+    /**
+     * Take the front buffer, waiting for one to be published, pausing by the given strategy.
+     *
+     * @param backoff the given pausing strategy
+     * @return the front buffer
+     * @throws IllegalStateException if the front buffer is already taken, or a concurrent consumer is detected
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public V take(Backoff backoff) throws InterruptedException {
+        for (int attempt = 0; ; backoff.pause(++attempt)) {
+            V buffer = poll();
+            if (buffer != null)
+                return buffer;
+            if (Thread.interrupted())
+                throw new InterruptedException();
+        }
+    }
+
+    /**
+     * Release the taken front buffer back to the producer for reuse.
+     *
+     * @throws IllegalStateException if the front buffer is not taken, or a concurrent consumer is detected
+     */
+    public void release() {
+        int state = this.state.get();
+        if ((state & TAKEN) == 0)
+            throw new IllegalStateException("Front buffer not taken");
+        if (!this.state.let(state, state & FRONT))
+            throw new IllegalStateException("Concurrent release");
+    }
+
+
+    /**
+     * Return the double-buffered hand-off of the given buffers, the first one being the initial back buffer.
+     *
+     * @param back the given initial back buffer
+     * @param front the given initial front buffer, not published
+     * @param <V> the type of the buffers
+     * @return the double-buffered hand-off
+     */
+    public static <V> DoubleBuffer<V> doubleBuffer(V back, V front) {
+        return new DoubleBuffer<>(front, back);
+    }
+}
@@ -0,0 +1,107 @@
+package org.moodminds.valuable;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+
+/**
+ * Local HTTP endpoint serving the metrics of a {@link Registry} in the Prometheus text exposition format
+ * at the {@code /metrics} path of the loopback address, on the JDK built-in {@link HttpServer}:
+ * <pre>{@code
+ * try (Exporter exporter = Exporter.exporter(registry, 9404)) {
+ *     ...
+ * }
+ * }</pre>
+ * The scrapes are served one at a time by the single server thread, reusing the same output buffer.
+ */
+public final class Exporter implements AutoCloseable {
+
+    /**
+     * The content type of the Prometheus text exposition format.
+     */
+    private static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    /**
+     * The exported registry.
+     */
+    private final Registry registry;
+
+    /**
+     * The server.
+     */
+    private final HttpServer server;
+
+    /**
+     * The output buffer, confined to the server thread.
+     */
+    private final Registry.Buffer buffer = new Registry.Buffer();
+
+    /**
+     * Construct the object with the given exported registry and port, and start the server.
+     *
+     * @param registry the given exported registry
+     * @param port the given port, or {@code 0} for an ephemeral one
+     * @throws IOException if the server cannot be bound
+     */
+    private Exporter(Registry registry, int port) throws IOException {
+        this.registry = registry;
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        this.server.createContext("/metrics", this::handle);
+        this.server.start();
+    }
+
+    /**
+     * Return the port the server is bound to.
+     *
+     * @return the port the server is bound to
+     */
+    public int port() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Stop the server, closing the open connections immediately.
+     */
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    /**
+     * Serve the given scrape exchange.
+     *
+     * @param exchange the given exchange
+     * @throws IOException if an I/O error occurs
+     */
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                exchange.getResponseHeaders().set("Allow", "GET");
+                exchange.sendResponseHeaders(405, -1); return;
+            }
+            buffer.clear(); registry.scrape(buffer);
+            exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+            exchange.sendResponseHeaders(200, buffer.size() == 0 ? -1 : buffer.size());
+            try (OutputStream out = exchange.getResponseBody()) { buffer.writeTo(out); }
+        } finally {
+            exchange.close();
+        }
+    }
+
+
+    /**
+     * Return the started exporter of the given registry on the given port of the loopback address.
+     *
+     * @param registry the given registry
+     * @param port the given port, or {@code 0} for an ephemeral one
+     * @return the started exporter
+     * @throws IOException if the server cannot be bound
+     */
+    public static Exporter exporter(Registry registry, int port) throws IOException {
+        return new Exporter(registry, port);
+    }
+}
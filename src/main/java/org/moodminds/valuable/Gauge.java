@@ -0,0 +1,432 @@
+package org.moodminds.valuable;
+
+import java.io.Serializable;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import static java.lang.invoke.MethodHandles.lookup;
+import static org.moodminds.valuable.Volatile.vol;
+
+/**
+ * Relaxed long gauge {@link Valuable}, intended for the high-frequency values set by many threads
+ * and sampled rarely, e.g. by a metrics exporter.
+ * <p>
+ * Unlike {@link Volatile.Long#put(long)}, {@link #put(long)} is a release store, which does not wait
+ * for the store buffer to drain, thus costs no full fence: a written value becomes visible to the readers
+ * shortly after, in the order of writing, but a subsequent read by the writer itself is not ordered after it.
+ * Reads are acquire loads. The update methods remain atomic, same as in {@link Volatile.Long}.
+ * <p>
+ * The release store still makes the writers contend for the single cache line of the value. The {@link PerThread}
+ * gauge, returned by {@link #gauge(long, long, TimeUnit)}, removes that contention by write combining.
+ */
+public class Gauge implements Valuable.Long, Serializable {
+
+    private static final long serialVersionUID = -6046470458405788473L;
+
+    private static final VarHandle NUM;
+
+    static {
+        try { NUM = lookup().findVarHandle(Gauge.class, "num", long.class); }
+        catch (ReflectiveOperationException e) { throw new ExceptionInInitializerError(e); }
+    }
+
+    /**
+     * The value-holding field.
+     */
+    private long num;
+
+    /**
+     * Construct the object with the given initial value.
+     *
+     * @param num the given initial value
+     */
+    private Gauge(long num) {
+        NUM.setRelease(this, num);
+    }
+
+    /**
+     * Return the value by an acquire load.
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public long get() {
+        return (long) NUM.getAcquire(this);
+    }
+
+    /**
+     * Set the given value by a release store.
+     *
+     * @param num {@inheritDoc}
+     */
+    @Override
+    public void put(long num) {
+        NUM.setRelease(this, num);
+    }
+
+    /**
+     * Atomically get the previous value and set the new value.
+     *
+     * @param num {@inheritDoc}
+     * @return {@inheritDoc}
+     */
+    @Override
+    public long set(long num) {
+        return (long) NUM.getAndSet(this, num);
+    }
+
+    /**
+     * Atomically set the given value if the current value {@code == state}.
+     *
+     * @param state {@inheritDoc}
+     * @param num {@inheritDoc}
+     * @return {@inheritDoc}
+     */
+    @Override
+    public boolean let(long state, long num) {
+        return NUM.compareAndSet(this, state, num);
+    }
+
+    /**
+     * Atomically increment value and return.
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public long incr() {
+        return (long) NUM.getAndAdd(this, 1L) + 1L;
+    }
+
+    /**
+     * Atomically decrement value and return.
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public long decr() {
+        return (long) NUM.getAndAdd(this, -1L) - 1L;
+    }
+
+
+    /**
+     * Write-combining long gauge {@link Valuable}, for the values set by many threads at once.
+     * <p>
+     * Every thread writes its values to a cell of its own, stamped by {@link System#nanoTime()}, by the plain-ordered
+     * stores of a sequence lock: neither a fence, nor a cache line shared by the writers. The value of the gauge is
+     * the one of the latest stamp, folded from the cells on read. A read is served by the last fold as long as it is
+     * not older than the configured staleness, so a sampling reader costs a scan of the cells once per staleness
+     * period at most; a zero staleness folds on every read. Either way, a read may miss the writes of the last
+     * staleness period, including the reading thread's own ones.
+     * <p>
+     * The update methods are atomic: they fold the cells and replace the folded value by a stamp later than all
+     * the folded ones, thus are much costlier than a {@link #put(long)}. Concurrent writes of the same stamp,
+     * unlikely at the nanosecond resolution, are ordered arbitrarily.
+     * A serialized gauge is deserialized as a {@link Gauge} of its current value.
+     */
+    public static final class PerThread implements Valuable.Long, Serializable {
+
+        private static final long serialVersionUID = 2930151374468823604L;
+
+        /**
+         * The configured staleness of the reads, in nanoseconds.
+         */
+        private final long staleness;
+
+        /**
+         * The value set by the update methods, stamped later than all the cell values it is folded from.
+         */
+        private final transient Volatile<Stamped> base;
+
+        /**
+         * The value of the last fold, stamped by the time of folding.
+         */
+        private final transient Volatile<Stamped> sample = vol();
+
+        /**
+         * The cells of the registered writer threads.
+         */
+        private final transient Volatile<Cell[]> cells = vol(new Cell[0]);
+
+        /**
+         * The cell of the current writer thread.
+         */
+        private final transient ThreadLocal<Cell> cell = ThreadLocal.withInitial(this::register);
+
+        /**
+         * Construct the object with the given initial value and staleness of the reads.
+         *
+         * @param num the given initial value
+         * @param staleness the given staleness of the reads, in nanoseconds
+         */
+        private PerThread(long num, long staleness) {
+            this.base = vol(new Stamped(num, System.nanoTime())); this.staleness = staleness;
+        }
+
+        /**
+         * Return the value of the latest stamp, folded not earlier than the configured staleness ago.
+         *
+         * @return {@inheritDoc}
+         */
+        @Override
+        public long get() {
+            long now = System.nanoTime();
+            Stamped sample = this.sample.get();
+            if (sample != null && now - sample.stamp < staleness)
+                return sample.num;
+            long num = fold(base.get()).num;
+            this.sample.put(new Stamped(num, now));
+            return num;
+        }
+
+        /**
+         * Set the given value to the cell of the current thread by the plain-ordered stores.
+         *
+         * @param num {@inheritDoc}
+         */
+        @Override
+        public void put(long num) {
+            cell.get().put(num, System.nanoTime());
+        }
+
+        /**
+         * Atomically get the previous value and set the new value.
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public long set(long num) {
+            for (Stamped base = this.base.get(), current; ; base = this.base.get())
+                if (replace(base, current = fold(base), num))
+                    return current.num;
+        }
+
+        /**
+         * Atomically set the given value if the current value {@code == state}.
+         *
+         * @param state {@inheritDoc}
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public boolean let(long state, long num) {
+            for (Stamped base = this.base.get(), current; ; base = this.base.get()) {
+                if ((current = fold(base)).num != state)
+                    return false;
+                if (replace(base, current, num))
+                    return true;
+            }
+        }
+
+        /**
+         * Atomically increment value and return.
+         *
+         * @return {@inheritDoc}
+         */
+        @Override
+        public long incr() {
+            for (Stamped base = this.base.get(), current; ; base = this.base.get())
+                if (replace(base, current = fold(base), current.num + 1L))
+                    return current.num + 1L;
+        }
+
+        /**
+         * Atomically decrement value and return.
+         *
+         * @return {@inheritDoc}
+         */
+        @Override
+        public long decr() {
+            for (Stamped base = this.base.get(), current; ; base = this.base.get())
+                if (replace(base, current = fold(base), current.num - 1L))
+                    return current.num - 1L;
+        }
+
+        /**
+         * Return the value of the latest stamp among the given base value and the cell ones.
+         *
+         * @param base the given base value
+         * @return the value of the latest stamp
+         */
+        private Stamped fold(Stamped base) {
+            Stamped latest = base;
+            for (Cell cell : cells.get())
+                latest = cell.fold(latest);
+            return latest;
+        }
+
+        /**
+         * Replace the given base value by the given one, stamped later than the given folded value,
+         * if the base value is still the given one, dropping the last fold.
+         *
+         * @param base the given base value
+         * @param folded the given folded value
+         * @param num the given value
+         * @return {@code true} if replaced, or {@code false} otherwise
+         */
+        private boolean replace(Stamped base, Stamped folded, long num) {
+            if (!this.base.let(base, new Stamped(num, Math.max(System.nanoTime(), folded.stamp + 1L))))
+                return false;
+            sample.put(null); return true;
+        }
+
+        /**
+         * Register the cell of the current thread, dropping the cells of the terminated threads
+         * superseded by the base value.
+         *
+         * @return the cell of the current thread
+         */
+        private Cell register() {
+            Cell cell = new Cell(Thread.currentThread());
+            for (Cell[] current = cells.get(), next; ; current = cells.get()) {
+                long stamp = base.get().stamp; int size = 0;
+                next = new Cell[current.length + 1];
+                for (Cell registered : current)
+                    if (registered.owner.isAlive() || registered.fold(null).stamp > stamp)
+                        next[size++] = registered;
+                next[size++] = cell;
+                if (cells.let(current, Arrays.copyOf(next, size)))
+                    return cell;
+            }
+        }
+
+        /**
+         * Return the plain gauge of the current value to serialize instead of this.
+         *
+         * @return the plain gauge of the current value
+         */
+        private Object writeReplace() {
+            return new Gauge(get());
+        }
+    }
+
+    /**
+     * A value stamped by a {@link System#nanoTime()} reading.
+     */
+    private static final class Stamped {
+
+        /**
+         * The value.
+         */
+        final long num;
+
+        /**
+         * The stamp of the value.
+         */
+        final long stamp;
+
+        /**
+         * Construct the object with the given value and stamp.
+         *
+         * @param num the given value
+         * @param stamp the given stamp
+         */
+        Stamped(long num, long stamp) {
+            this.num = num; this.stamp = stamp;
+        }
+    }
+
+    /**
+     * The cell of the values written by a thread, guarded by a sequence lock: odd while being written.
+     */
+    private static final class Cell {
+
+        private static final VarHandle SEQ, NUM, STAMP;
+
+        static {
+            try {
+                SEQ = lookup().findVarHandle(Cell.class, "seq", int.class);
+                NUM = lookup().findVarHandle(Cell.class, "num", long.class);
+                STAMP = lookup().findVarHandle(Cell.class, "stamp", long.class);
+            } catch (ReflectiveOperationException e) { throw new ExceptionInInitializerError(e); }
+        }
+
+        /**
+         * The owner thread, the only one writing the cell.
+         */
+        final Thread owner;
+
+        /**
+         * The sequence of the writes, odd while being written.
+         */
+        private int seq;
+
+        /**
+         * The last value written.
+         */
+        private long num;
+
+        /**
+         * The stamp of the last value written, or {@link java.lang.Long#MIN_VALUE} if none.
+         */
+        private long stamp = java.lang.Long.MIN_VALUE;
+
+        /**
+         * Construct the object with the given owner thread.
+         *
+         * @param owner the given owner thread
+         */
+        Cell(Thread owner) {
+            this.owner = owner;
+        }
+
+        /**
+         * Write the given value and stamp, by the owner thread.
+         *
+         * @param num the given value
+         * @param stamp the given stamp
+         */
+        void put(long num, long stamp) {
+            int seq = this.seq;
+            SEQ.setOpaque(this, seq + 1);
+            VarHandle.storeStoreFence();
+            NUM.setOpaque(this, num); STAMP.setOpaque(this, stamp);
+            SEQ.setRelease(this, seq + 2);
+        }
+
+        /**
+         * Return the value of this cell if stamped later than the given one, or the given one otherwise.
+         *
+         * @param latest the given latest value so far, or {@code null} to return the value of this cell
+         * @return the value of the later stamp
+         */
+        Stamped fold(Stamped latest) {
+            for (;;) {
+                int seq = (int) SEQ.getAcquire(this);
+                long num = (long) NUM.getOpaque(this), stamp = (long) STAMP.getOpaque(this);
+                VarHandle.loadLoadFence();
+                if ((seq & 1) == 0 && seq == (int) SEQ.getOpaque(this))
+                    return latest != null && latest.stamp >= stamp ? latest : new Stamped(num, stamp);
+                Thread.yield();
+            }
+        }
+    }
+
+
+    /**
+     * Return the relaxed gauge by the given initial value.
+     *
+     * @param value the given initial value
+     * @return the relaxed gauge by the given initial value
+     */
+    public static Gauge gauge(long value) {
+        return new Gauge(value);
+    }
+
+    /**
+     * Return the write-combining gauge by the given initial value, serving the reads by the last fold
+     * of the per-thread cells not older than the given staleness.
+     *
+     * @param value the given initial value
+     * @param staleness the given staleness of the reads, or {@code 0} to fold on every read
+     * @param unit the given unit of the staleness
+     * @return the write-combining gauge by the given initial value
+     * @throws IllegalArgumentException if the staleness is negative
+     */
+    public static PerThread gauge(long value, long staleness, TimeUnit unit) {
+        if (staleness < 0)
+            throw new IllegalArgumentException("Staleness " + staleness + " is negative");
+        return new PerThread(value, unit.toNanos(staleness));
+    }
+}
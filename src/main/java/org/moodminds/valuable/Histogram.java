@@ -0,0 +1,279 @@
+package org.moodminds.valuable;
+
+import java.io.Serializable;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+
+import static java.lang.invoke.MethodHandles.arrayElementVarHandle;
+
+/**
+ * Concurrent histogram of non-negative long values (latencies, sizes etc.) with log-linear bucketing:
+ * each power-of-two range of values is split into {@code 2^precision} equal sub-buckets, so a value
+ * is reported with the relative error of at most {@code 2^-precision}.
+ * <p>
+ * Values are recorded wait-free by a single atomic increment of a counter in a contiguous array, without
+ * allocation. Percentiles and other statistics are queried from the {@link Snapshot}s taken.
+ */
+public final class Histogram {
+
+    private static final VarHandle COUNTS = arrayElementVarHandle(long[].class);
+
+    /**
+     * The number of bits of the sub-bucket index.
+     */
+    private final int precision;
+
+    /**
+     * The bucket counters.
+     */
+    private final long[] counts;
+
+    /**
+     * Construct the object with the given precision.
+     *
+     * @param precision the given precision
+     */
+    private Histogram(int precision) {
+        this.precision = precision;
+        this.counts = new long[length(precision)];
+    }
+
+    /**
+     * Record the given value.
+     *
+     * @param value the given value
+     * @throws IllegalArgumentException if the value is negative
+     */
+    public void record(long value) {
+        record(value, 1L);
+    }
+
+    /**
+     * Record the given value the given number of times.
+     *
+     * @param value the given value
+     * @param count the given number of times
+     * @throws IllegalArgumentException if the value is negative
+     */
+    public void record(long value, long count) {
+        if (value < 0)
+            throw new IllegalArgumentException("Negative value " + value);
+        COUNTS.getAndAdd(counts, index(value, precision), count);
+    }
+
+    /**
+     * Return the snapshot of the current counts.
+     *
+     * @return the snapshot of the current counts
+     */
+    public Snapshot snapshot() {
+        long[] counts = new long[this.counts.length];
+        for (int i = 0; i < counts.length; i++)
+            counts[i] = (long) COUNTS.getVolatile(this.counts, i);
+        return new Snapshot(precision, counts);
+    }
+
+    /**
+     * Reset the counts to zero and return the snapshot of their previous values, intended for the interval
+     * sampling. Each recorded value is accounted in exactly one interval.
+     *
+     * @return the snapshot of the previous counts
+     */
+    public Snapshot getAndReset() {
+        long[] counts = new long[this.counts.length];
+        for (int i = 0; i < counts.length; i++)
+            counts[i] = (long) COUNTS.getAndSet(this.counts, i, 0L);
+        return new Snapshot(precision, counts);
+    }
+
+
+    /**
+     * Immutable point-in-time state of a {@link Histogram}.
+     */
+    public static final class Snapshot implements Serializable {
+
+        private static final long serialVersionUID = -5013462716624520138L;
+
+        /**
+         * The number of bits of the sub-bucket index.
+         */
+        private final int precision;
+
+        /**
+         * The bucket counts.
+         */
+        private final long[] counts;
+
+        /**
+         * The total count.
+         */
+        private final long count;
+
+        /**
+         * Construct the object with the given precision and bucket counts.
+         *
+         * @param precision the given precision
+         * @param counts the given bucket counts
+         */
+        private Snapshot(int precision, long[] counts) {
+            long count = 0;
+            for (long c : counts)
+                count += c;
+            this.precision = precision;
+            this.counts = counts;
+            this.count = count;
+        }
+
+        /**
+         * Return the total number of the recorded values.
+         *
+         * @return the total number of the recorded values
+         */
+        public long count() {
+            return count;
+        }
+
+        /**
+         * Return the value at the given percentile, that is the highest value equivalent to the one
+         * not less than the given percentage of all the recorded values, or {@code 0} if there are none.
+         *
+         * @param percentile the given percentile, from {@code 0.0} to {@code 100.0}
+         * @return the value at the given percentile
+         * @throws IllegalArgumentException if the percentile is out of range
+         */
+        public long percentile(double percentile) {
+            if (!(percentile >= 0.0 && percentile <= 100.0))
+                throw new IllegalArgumentException("Percentile " + percentile + " is out of [0.0, 100.0]");
+            long rank = Math.max(1L, (long) Math.ceil(percentile / 100.0 * count)), total = 0;
+            for (int i = 0; i < counts.length; i++)
+                if ((total += counts[i]) >= rank)
+                    return highest(i, precision);
+            return 0L;
+        }
+
+        /**
+         * Return the lowest value equivalent to the minimum recorded one, or {@code 0} if there are none.
+         *
+         * @return the lowest value equivalent to the minimum recorded one
+         */
+        public long min() {
+            for (int i = 0; i < counts.length; i++)
+                if (counts[i] != 0)
+                    return lowest(i, precision);
+            return 0L;
+        }
+
+        /**
+         * Return the highest value equivalent to the maximum recorded one, or {@code 0} if there are none.
+         *
+         * @return the highest value equivalent to the maximum recorded one
+         */
+        public long max() {
+            for (int i = counts.length - 1; i >= 0; i--)
+                if (counts[i] != 0)
+                    return highest(i, precision);
+            return 0L;
+        }
+
+        /**
+         * Return the mean of the recorded values approximated by their bucket midpoints,
+         * or {@code 0.0} if there are none.
+         *
+         * @return the mean of the recorded values
+         */
+        public double mean() {
+            if (count == 0)
+                return 0.0;
+            double sum = 0.0;
+            for (int i = 0; i < counts.length; i++)
+                if (counts[i] != 0)
+                    sum += counts[i] * (lowest(i, precision) / 2.0 + highest(i, precision) / 2.0);
+            return sum / count;
+        }
+
+        /**
+         * Return the snapshot combining the counts of this and the given snapshots.
+         *
+         * @param snapshot the given snapshot
+         * @return the snapshot combining the counts of this and the given snapshots
+         * @throws IllegalArgumentException if the snapshots are of different precisions
+         */
+        public Snapshot merge(Snapshot snapshot) {
+            if (snapshot.precision != precision)
+                throw new IllegalArgumentException("Precision " + snapshot.precision + " differs from " + precision);
+            long[] counts = Arrays.copyOf(this.counts, this.counts.length);
+            for (int i = 0; i < counts.length; i++)
+                counts[i] += snapshot.counts[i];
+            return new Snapshot(precision, counts);
+        }
+    }
+
+
+    /**
+     * Return the concurrent histogram of the relative error of at most {@code 2^-5} (about 3%).
+     *
+     * @return the concurrent histogram
+     */
+    public static Histogram histogram() {
+        return histogram(5);
+    }
+
+    /**
+     * Return the concurrent histogram of the relative error of at most {@code 2^-precision}.
+     *
+     * @param precision the given number of bits of the sub-bucket index, from {@code 1} to {@code 16}
+     * @return the concurrent histogram of the given precision
+     * @throws IllegalArgumentException if the precision is out of range
+     */
+    public static Histogram histogram(int precision) {
+        if (precision < 1 || precision > 16)
+            throw new IllegalArgumentException("Precision " + precision + " is out of [1, 16]");
+        return new Histogram(precision);
+    }
+
+    /**
+     * Return the number of buckets by the given precision.
+     *
+     * @param precision the given precision
+     * @return the number of buckets
+     */
+    private static int length(int precision) {
+        return (64 - precision) << precision;
+    }
+
+    /**
+     * Return the bucket index of the given value by the given precision.
+     *
+     * @param value the given non-negative value
+     * @param precision the given precision
+     * @return the bucket index of the given value
+     */
+    private static int index(long value, int precision) {
+        int shift = Math.max(0, 63 - Long.numberOfLeadingZeros(value) - precision);
+        return (shift << precision) + (int) (value >>> shift);
+    }
+
+    /**
+     * Return the lowest value of the given bucket index by the given precision.
+     *
+     * @param index the given bucket index
+     * @param precision the given precision
+     * @return the lowest value of the given bucket index
+     */
+    private static long lowest(int index, int precision) {
+        int shift = Math.max(0, (index >>> precision) - 1);
+        return (long) (index - (shift << precision)) << shift;
+    }
+
+    /**
+     * Return the highest value of the given bucket index by the given precision.
+     *
+     * @param index the given bucket index
+     * @param precision the given precision
+     * @return the highest value of the given bucket index
+     */
+    private static long highest(int index, int precision) {
+        int shift = Math.max(0, (index >>> precision) - 1);
+        return lowest(index, precision) + ((1L << shift) - 1);
+    }
+}
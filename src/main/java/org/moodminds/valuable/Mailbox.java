@@ -0,0 +1,296 @@
+package org.moodminds.valuable;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import static java.util.Objects.requireNonNull;
+import static org.moodminds.valuable.Volatile.vol;
+
+/**
+ * Single-slot mailbox passing one message at a time from the producer threads to the consumer ones:
+ * <pre>{@code
+ * Mailbox<Request> mailbox = Mailbox.mailbox();
+ *
+ * mailbox.put(request);                // producer, waiting for the slot to be emptied
+ * Request request = mailbox.take();    // consumer, waiting for the slot to be filled
+ * }</pre>
+ * The non-waiting {@link #offer(Object)} and {@link #poll()} are lock-free: a compare-and-set into the empty slot
+ * and an exchange of the filled one. The waiting methods spin for a short while and then park, registering
+ * as waiters first, and the peers unpark the waiters only if there are any, so an uncontended exchange costs
+ * no unparking. The waiters timed out, interrupted or served without being unparked are unlinked as they exit,
+ * so the waiter stacks stay bounded by the number of the waiting threads. Neither monitors nor locks are used,
+ * so the waiting does not pin a virtual thread.
+ *
+ * @param <V> the type of the messages
+ */
+public final class Mailbox<V> {
+
+    /**
+     * The number of spins before parking, none on a uniprocessor, where spinning only delays the peer.
+     */
+    private static final int SPINS = Runtime.getRuntime().availableProcessors() > 1 ? 1 << 7 : 0;
+
+    /**
+     * The slot, {@code null} if empty.
+     */
+    private final Volatile<V> slot = vol();
+
+    /**
+     * The stack of the parked consumers.
+     */
+    private final Volatile<Waiter> takers = vol();
+
+    /**
+     * The stack of the parked producers.
+     */
+    private final Volatile<Waiter> putters = vol();
+
+    /**
+     * Construct the object.
+     */
+    private Mailbox() {}
+
+    /**
+     * Put the given message into the slot if empty.
+     *
+     * @param message the given message
+     * @return {@code true} if put, or {@code false} if the slot is filled
+     * @throws NullPointerException if the message is {@code null}
+     */
+    public boolean offer(V message) {
+        if (!slot.let(null, requireNonNull(message)))
+            return false;
+        signal(takers); return true;
+    }
+
+    /**
+     * Put the given message into the slot, waiting for it to be emptied up to the given timeout.
+     *
+     * @param message the given message
+     * @param timeout the given timeout
+     * @param unit the given unit of the timeout
+     * @return {@code true} if put, or {@code false} if the timeout elapsed
+     * @throws NullPointerException if the message is {@code null}
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public boolean offer(V message, long timeout, TimeUnit unit) throws InterruptedException {
+        return offer(message, true, unit.toNanos(timeout));
+    }
+
+    /**
+     * Put the given message into the slot, waiting for it to be emptied.
+     *
+     * @param message the given message
+     * @throws NullPointerException if the message is {@code null}
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public void put(V message) throws InterruptedException {
+        offer(message, false, 0L);
+    }
+
+    /**
+     * Take the message from the slot if filled.
+     *
+     * @return the message, or {@code null} if the slot is empty
+     */
+    public V poll() {
+        if (slot.get() == null)
+            return null;
+        V message = slot.set(null);
+        if (message != null)
+            signal(putters);
+        return message;
+    }
+
+    /**
+     * Take the message from the slot, waiting for it to be filled up to the given timeout.
+     *
+     * @param timeout the given timeout
+     * @param unit the given unit of the timeout
+     * @return the message, or {@code null} if the timeout elapsed
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public V poll(long timeout, TimeUnit unit) throws InterruptedException {
+        return poll(true, unit.toNanos(timeout));
+    }
+
+    /**
+     * Take the message from the slot, waiting for it to be filled.
+     *
+     * @return the message
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public V take() throws InterruptedException {
+        return poll(false, 0L);
+    }
+
+    /**
+     * Put the given message into the slot, waiting for it to be emptied, up to the given timeout if timed.
+     *
+     * @param message the given message
+     * @param timed whether the waiting is timed
+     * @param nanos the given timeout in nanoseconds
+     * @return {@code true} if put, or {@code false} if the timeout elapsed
+     * @throws InterruptedException if interrupted while waiting
+     */
+    private boolean offer(V message, boolean timed, long nanos) throws InterruptedException {
+        long deadline = timed ? System.nanoTime() + nanos : 0L;
+        for (int spins = SPINS; ; spins--) {
+            if (offer(message))
+                return true;
+            if (Thread.interrupted())
+                throw new InterruptedException();
+            if (spins > 0)
+                Thread.onSpinWait();
+            else {
+                Waiter waiter = null;
+                try {
+                    for (; ; ) {
+                        if (timed && (nanos = deadline - System.nanoTime()) <= 0L)
+                            return false;
+                        if (waiter == null || waiter.signalled)
+                            waiter = push(putters);
+                        if (offer(message))
+                            return true;
+                        if (timed) LockSupport.parkNanos(this, nanos); else LockSupport.park(this);
+                        if (Thread.interrupted())
+                            throw new InterruptedException();
+                    }
+                } finally {
+                    cancel(putters, waiter);
+                }
+            }
+        }
+    }
+
+    /**
+     * Take the message from the slot, waiting for it to be filled, up to the given timeout if timed.
+     *
+     * @param timed whether the waiting is timed
+     * @param nanos the given timeout in nanoseconds
+     * @return the message, or {@code null} if the timeout elapsed
+     * @throws InterruptedException if interrupted while waiting
+     */
+    private V poll(boolean timed, long nanos) throws InterruptedException {
+        long deadline = timed ? System.nanoTime() + nanos : 0L;
+        for (int spins = SPINS; ; spins--) {
+            V message = poll();
+            if (message != null)
+                return message;
+            if (Thread.interrupted())
+                throw new InterruptedException();
+            if (spins > 0)
+                Thread.onSpinWait();
+            else {
+                Waiter waiter = null;
+                try {
+                    for (; ; ) {
+                        if (timed && (nanos = deadline - System.nanoTime()) <= 0L)
+                            return null;
+                        if (waiter == null || waiter.signalled)
+                            waiter = push(takers);
+                        if ((message = poll()) != null)
+                            return message;
+                        if (timed) LockSupport.parkNanos(this, nanos); else LockSupport.park(this);
+                        if (Thread.interrupted())
+                            throw new InterruptedException();
+                    }
+                } finally {
+                    cancel(takers, waiter);
+                }
+            }
+        }
+    }
+
+    /**
+     * Push the current thread as a waiter onto the given stack.
+     *
+     * @param waiters the given stack
+     * @return the pushed waiter
+     */
+    private static Waiter push(Volatile<Waiter> waiters) {
+        Waiter waiter = new Waiter(Thread.currentThread());
+        do waiter.next = waiters.get();
+        while (!waiters.let(waiter.next, waiter));
+        return waiter;
+    }
+
+    /**
+     * Cancel the given waiter of the exiting current thread, if any and not signalled yet,
+     * and unlink the cancelled waiters from the given stack.
+     *
+     * @param waiters the given stack
+     * @param waiter the given waiter, or {@code null} if none
+     */
+    private static void cancel(Volatile<Waiter> waiters, Waiter waiter) {
+        if (waiter == null || waiter.signalled)
+            return;
+        waiter.cancelled = true;
+        Waiter head = waiters.get();
+        while (head != null && head.cancelled)
+            head = waiters.let(head, head.next) ? head.next : waiters.get();
+        for (Waiter pred = head, next; pred != null; )
+            if ((next = pred.next) != null && next.cancelled) pred.next = next.next;
+            else pred = next;
+    }
+
+    /**
+     * Unpark all the waiters of the given stack not cancelled, if any.
+     *
+     * @param waiters the given stack
+     */
+    private static void signal(Volatile<Waiter> waiters) {
+        if (waiters.get() != null)
+            for (Waiter waiter = waiters.set(null); waiter != null; waiter = waiter.next)
+                if (!waiter.cancelled) {
+                    waiter.signalled = true; LockSupport.unpark(waiter.thread);
+                }
+    }
+
+
+    /**
+     * A parked waiter stack node.
+     */
+    private static final class Waiter {
+
+        /**
+         * The parked thread.
+         */
+        private final Thread thread;
+
+        /**
+         * The next node, bypassing the cancelled ones as they are unlinked.
+         */
+        private volatile Waiter next;
+
+        /**
+         * The flag of the waiter popped off the stack and unparked.
+         */
+        private volatile boolean signalled;
+
+        /**
+         * The flag of the waiter whose thread exited without being signalled, to be unlinked.
+         */
+        private volatile boolean cancelled;
+
+        /**
+         * Construct the object with the given parked thread.
+         *
+         * @param thread the given parked thread
+         */
+        private Waiter(Thread thread) {
+            this.thread = thread;
+        }
+    }
+
+
+    /**
+     * Return the new empty mailbox.
+     *
+     * @param <V> the type of the messages
+     * @return the new empty mailbox
+     */
+    public static <V> Mailbox<V> mailbox() {
+        return new Mailbox<>();
+    }
+}
@@ -0,0 +1,205 @@
+package org.moodminds.valuable;
+
+import java.util.concurrent.locks.LockSupport;
+
+import static org.moodminds.valuable.Volatile.vol;
+
+/**
+ * One-shot gate running an action exactly once, intended for the one-time startup and shutdown work:
+ * <pre>{@code
+ * private final Once shutdown = Once.once();
+ *
+ * public void close() {
+ *     shutdown.run(this::release);
+ * }
+ * }</pre>
+ * The first caller runs the action, the concurrent callers either return immediately or wait for its
+ * completion, spinning for a short while and then parking. Any throwable thrown by the action, even a sneakily
+ * thrown checked exception, is captured and rethrown as is to every caller.
+ * Once the action is completed, passing the gate costs a single volatile read.
+ */
+public final class Once {
+
+    private static final int NEW = 0, RUNNING = 1, DONE = 2, FAILED = 3;
+
+    /**
+     * The number of spins before parking.
+     */
+    private static final int SPINS = 1 << 7;
+
+    /**
+     * The gate state.
+     */
+    private final Volatile.Int state = vol(NEW);
+
+    /**
+     * The stack of the parked waiters.
+     */
+    private final Volatile<Waiter> waiters = vol();
+
+    /**
+     * The failure thrown by the action, published by the {@link #state} write.
+     */
+    private Throwable failure;
+
+    /**
+     * Construct the object.
+     */
+    private Once() {}
+
+    /**
+     * Run the given action if this is the first call, otherwise wait for the completion of the action
+     * run by the first caller.
+     *
+     * @param action the given action
+     * @throws RuntimeException the exception thrown by the action
+     * @throws Error the error thrown by the action
+     */
+    public void run(Runnable action) {
+        int state = this.state.get();
+        if (state == DONE)
+            return;
+        if (state != NEW || !this.state.let(NEW, RUNNING)) {
+            if (await(false))
+                Thread.currentThread().interrupt();
+        } else execute(action);
+        rethrow();
+    }
+
+    /**
+     * Run the given action if this is the first call, otherwise return immediately.
+     *
+     * @param action the given action
+     * @return {@code true} if the action was run by this call, or {@code false} otherwise
+     * @throws RuntimeException the exception thrown by the action run by this call
+     * @throws Error the error thrown by the action run by this call
+     */
+    public boolean tryRun(Runnable action) {
+        if (state.get() != NEW || !state.let(NEW, RUNNING))
+            return false;
+        execute(action); rethrow(); return true;
+    }
+
+    /**
+     * Wait for the completion of the action.
+     *
+     * @throws InterruptedException if interrupted while waiting
+     * @throws RuntimeException the exception thrown by the action
+     * @throws Error the error thrown by the action
+     */
+    public void await() throws InterruptedException {
+        if (await(true))
+            throw new InterruptedException();
+        rethrow();
+    }
+
+    /**
+     * Return whether the action is completed, normally or not.
+     *
+     * @return {@code true} if the action is completed, or {@code false} otherwise
+     */
+    public boolean isDone() {
+        return state.get() >= DONE;
+    }
+
+    /**
+     * Run the given action, capture its failure, complete the gate and release the waiters.
+     *
+     * @param action the given action
+     */
+    private void execute(Runnable action) {
+        int state = FAILED;
+        try {
+            action.run(); state = DONE;
+        } catch (Throwable e) {
+            failure = e;
+        } finally {
+            this.state.put(state);
+            for (Waiter waiter = waiters.set(null); waiter != null; waiter = waiter.next)
+                LockSupport.unpark(waiter.thread);
+        }
+    }
+
+    /**
+     * Wait for the completion of the action, spinning and then parking.
+     *
+     * @param interruptible the given flag of returning on interruption
+     * @return {@code true} if interrupted while waiting, or {@code false} otherwise
+     */
+    private boolean await(boolean interruptible) {
+        for (int spins = SPINS; spins > 0; spins--) {
+            if (state.get() >= DONE)
+                return false;
+            Thread.onSpinWait();
+        }
+        Waiter waiter = new Waiter(Thread.currentThread());
+        do waiter.next = waiters.get();
+        while (!waiters.let(waiter.next, waiter));
+        boolean interrupted = false;
+        while (state.get() < DONE) {
+            LockSupport.park(this);
+            if (Thread.interrupted()) {
+                interrupted = true;
+                if (interruptible)
+                    break;
+            }
+        }
+        return interrupted;
+    }
+
+    /**
+     * Rethrow the failure of the action, if any.
+     */
+    private void rethrow() {
+        if (state.get() == FAILED)
+            Once.<RuntimeException>sneaky(failure);
+    }
+
+    /**
+     * Throw the given throwable as is, even if checked, its type erased to the given unchecked one.
+     *
+     * @param failure the given throwable
+     * @param <T> the unchecked type
+     * @throws T the given throwable
+     */
+    @SuppressWarnings("unchecked")
+    private static <T extends Throwable> void sneaky(Throwable failure) throws T {
+        throw (T) failure;
+    }
+
+
+    /**
+     * A parked waiter stack node.
+     */
+    private static final class Waiter {
+
+        /**
+         * The parked thread.
+         */
+        private final Thread thread;
+
+        /**
+         * The next node.
+         */
+        private Waiter next;
+
+        /**
+         * Construct the object with the given parked thread.
+         *
+         * @param thread the given parked thread
+         */
+        private Waiter(Thread thread) {
+            this.thread = thread;
+        }
+    }
+
+
+    /**
+     * Return the new one-shot gate.
+     *
+     * @return the new one-shot gate
+     */
+    public static Once once() {
+        return new Once();
+    }
+}
@@ -0,0 +1,351 @@
+package org.moodminds.valuable;
+
+import java.io.Serializable;
+import java.util.function.LongUnaryOperator;
+
+import static org.moodminds.valuable.Volatile.vol;
+
+/**
+ * Several fields packed into a single {@link Volatile.Long} word, updated together atomically by a single
+ * compare-and-set without allocating a holder of an immutable tuple:
+ * <pre>{@code
+ * static final Packed.Field STATE = Packed.field(0, 4), COUNT = Packed.field(4, 28);
+ *
+ * Packed packed = Packed.packed(0L);
+ * packed.update(word -> COUNT.with(STATE.with(word, RUNNING), COUNT.of(word) + 1));
+ * }</pre>
+ * The common case of two 32-bit int fields is accessible directly by {@link #high()} and {@link #low()}.
+ * The update loops pause between the contended attempts by the {@link Backoff#DEFAULT} strategy,
+ * unless given another one.
+ */
+public final class Packed implements Serializable {
+
+    private static final long serialVersionUID = 3409120965138853517L;
+
+    /**
+     * The high 32 bits field.
+     */
+    public static final Field HIGH = signedField(32, 32);
+
+    /**
+     * The low 32 bits field.
+     */
+    public static final Field LOW = signedField(0, 32);
+
+    /**
+     * The combined word holder.
+     */
+    private final Volatile.Long word;
+
+    /**
+     * Construct the object with the given initial combined word.
+     *
+     * @param word the given initial combined word
+     */
+    private Packed(long word) {
+        this.word = vol(word);
+    }
+
+    /**
+     * Return the combined word.
+     *
+     * @return the combined word
+     */
+    public long get() {
+        return word.get();
+    }
+
+    /**
+     * Set the given combined word.
+     *
+     * @param word the given combined word
+     */
+    public void put(long word) {
+        this.word.put(word);
+    }
+
+    /**
+     * Atomically set the given combined word if the current one {@code == state}.
+     *
+     * @param state the given expected current combined word
+     * @param word the given combined word
+     * @return {@code true} if successfully set to the new combined word, or {@code false} otherwise
+     */
+    public boolean let(long state, long word) {
+        return this.word.let(state, word);
+    }
+
+    /**
+     * Atomically update the combined word by the given side-effect-free function and return the resulting one,
+     * pausing between the contended attempts by the {@link Backoff#DEFAULT} strategy.
+     *
+     * @param function the given update function, possibly applied several times on contention
+     * @return the resulting combined word
+     */
+    public long update(LongUnaryOperator function) {
+        return update(function, Backoff.DEFAULT);
+    }
+
+    /**
+     * Atomically update the combined word by the given side-effect-free function and return the resulting one,
+     * pausing between the contended attempts by the given strategy.
+     *
+     * @param function the given update function, possibly applied several times on contention
+     * @param backoff the given pausing strategy
+     * @return the resulting combined word
+     */
+    public long update(LongUnaryOperator function, Backoff backoff) {
+        for (int attempt = 0; ; backoff.pause(++attempt)) {
+            long current = word.get(), updated = function.applyAsLong(current);
+            if (current == updated || word.let(current, updated))
+                return updated;
+        }
+    }
+
+    /**
+     * Return the value of the given field.
+     *
+     * @param field the given field
+     * @return the value of the given field
+     */
+    public long get(Field field) {
+        return field.of(word.get());
+    }
+
+    /**
+     * Atomically set the given field to the given value, keeping the other fields, and return the previous value.
+     *
+     * @param field the given field
+     * @param value the given value
+     * @return the previous value of the field
+     */
+    public long set(Field field, long value) {
+        for (int attempt = 0; ; Backoff.DEFAULT.pause(++attempt)) {
+            long current = word.get();
+            if (word.let(current, field.with(current, value)))
+                return field.of(current);
+        }
+    }
+
+    /**
+     * Atomically set the given field to the given value if its current value {@code == state},
+     * keeping the other fields.
+     *
+     * @param field the given field
+     * @param state the given expected current value of the field
+     * @param value the given value
+     * @return {@code true} if successfully set to the new value, or {@code false} otherwise
+     */
+    public boolean let(Field field, long state, long value) {
+        for (int attempt = 0; ; Backoff.DEFAULT.pause(++attempt)) {
+            long current = word.get();
+            if (field.of(current) != state)
+                return false;
+            if (word.let(current, field.with(current, value)))
+                return true;
+        }
+    }
+
+    /**
+     * Atomically add the given delta to the given field, wrapping around within its width
+     * and keeping the other fields, and return the resulting value.
+     *
+     * @param field the given field
+     * @param delta the given delta
+     * @return the resulting value of the field
+     */
+    public long add(Field field, long delta) {
+        for (int attempt = 0; ; Backoff.DEFAULT.pause(++attempt)) {
+            long current = word.get(), updated = field.with(current, field.of(current) + delta);
+            if (word.let(current, updated))
+                return field.of(updated);
+        }
+    }
+
+    /**
+     * Return the high 32 bits int field.
+     *
+     * @return the high 32 bits int field
+     */
+    public int high() {
+        return high(word.get());
+    }
+
+    /**
+     * Return the low 32 bits int field.
+     *
+     * @return the low 32 bits int field
+     */
+    public int low() {
+        return low(word.get());
+    }
+
+    /**
+     * Atomically set both the given int fields if the current ones {@code == highState} and {@code == lowState}.
+     *
+     * @param highState the given expected current high field
+     * @param lowState the given expected current low field
+     * @param high the given high field
+     * @param low the given low field
+     * @return {@code true} if successfully set to the new fields, or {@code false} otherwise
+     */
+    public boolean let(int highState, int lowState, int high, int low) {
+        return word.let(pack(highState, lowState), pack(high, low));
+    }
+
+
+    /**
+     * A bit field of a combined word.
+     */
+    public static final class Field implements Serializable {
+
+        private static final long serialVersionUID = -1877930925413062478L;
+
+        /**
+         * The position of the lowest bit.
+         */
+        private final int shift;
+
+        /**
+         * The number of bits.
+         */
+        private final int width;
+
+        /**
+         * The flag of the two's complement signed values.
+         */
+        private final boolean signed;
+
+        /**
+         * The mask of the field bits in place.
+         */
+        private final long mask;
+
+        /**
+         * Construct the object with the given position, width and signedness.
+         *
+         * @param shift the given position of the lowest bit
+         * @param width the given number of bits
+         * @param signed the given flag of the two's complement signed values
+         */
+        private Field(int shift, int width, boolean signed) {
+            this.shift = shift;
+            this.width = width;
+            this.signed = signed;
+            this.mask = (width == 64 ? -1L : (1L << width) - 1) << shift;
+        }
+
+        /**
+         * Return the value of this field in the given combined word.
+         *
+         * @param word the given combined word
+         * @return the value of this field
+         */
+        public long of(long word) {
+            return signed ? word << (64 - shift - width) >> (64 - width) : (word & mask) >>> shift;
+        }
+
+        /**
+         * Return the given combined word with this field replaced by the given value truncated to its width.
+         *
+         * @param word the given combined word
+         * @param value the given value
+         * @return the combined word with this field replaced
+         */
+        public long with(long word, long value) {
+            return word & ~mask | value << shift & mask;
+        }
+    }
+
+
+    /**
+     * Return the packed holder by the given initial combined word.
+     *
+     * @param word the given initial combined word
+     * @return the packed holder by the given initial combined word
+     */
+    public static Packed packed(long word) {
+        return new Packed(word);
+    }
+
+    /**
+     * Return the packed holder of two int fields by the given initial values.
+     *
+     * @param high the given initial high field
+     * @param low the given initial low field
+     * @return the packed holder of two int fields
+     */
+    public static Packed packed(int high, int low) {
+        return new Packed(pack(high, low));
+    }
+
+    /**
+     * Return the unsigned field of the given position and width.
+     *
+     * @param shift the given position of the lowest bit
+     * @param width the given number of bits
+     * @return the unsigned field
+     * @throws IllegalArgumentException if the field does not fit a long word
+     */
+    public static Field field(int shift, int width) {
+        return field(shift, width, false);
+    }
+
+    /**
+     * Return the two's complement signed field of the given position and width.
+     *
+     * @param shift the given position of the lowest bit
+     * @param width the given number of bits
+     * @return the signed field
+     * @throws IllegalArgumentException if the field does not fit a long word
+     */
+    public static Field signedField(int shift, int width) {
+        return field(shift, width, true);
+    }
+
+    /**
+     * Return the combined word of the given two int fields.
+     *
+     * @param high the given high field
+     * @param low the given low field
+     * @return the combined word
+     */
+    public static long pack(int high, int low) {
+        return (long) high << 32 | low & 0xFFFFFFFFL;
+    }
+
+    /**
+     * Return the high int field of the given combined word.
+     *
+     * @param word the given combined word
+     * @return the high int field
+     */
+    public static int high(long word) {
+        return (int) (word >>> 32);
+    }
+
+    /**
+     * Return the low int field of the given combined word.
+     *
+     * @param word the given combined word
+     * @return the low int field
+     */
+    public static int low(long word) {
+        return (int) word;
+    }
+
+    /**
+     * Return the field of the given position, width and signedness.
+     *
+     * @param shift the given position of the lowest bit
+     * @param width the given number of bits
+     * @param signed the given flag of the two's complement signed values
+     * @return the field
+     * @throws IllegalArgumentException if the field does not fit a long word
+     */
+    private static Field field(int shift, int width, boolean signed) {
+        if (shift < 0 || width < 1 || shift + width > 64)
+            throw new IllegalArgumentException("Field of shift " + shift + " and width " + width + " is out of 64 bits");
+        return new Field(shift, width, signed);
+    }
+}
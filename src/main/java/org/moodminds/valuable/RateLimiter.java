@@ -0,0 +1,150 @@
+package org.moodminds.valuable;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import static org.moodminds.valuable.Volatile.vol;
+
+/**
+ * Lock-free token bucket rate limiter.
+ * <p>
+ * The whole bucket state is a single {@link Volatile.Long} holding the time the bucket would have been
+ * empty at: the number of the available tokens is the time passed since then divided by the token refill
+ * period, capped by the bucket capacity. The refill is therefore computed lazily, and acquiring the tokens
+ * is a single compare-and-set moving that time forward.
+ * <p>
+ * The refill period of a single token is a whole number of nanoseconds, rounded up, so that the actual rate
+ * never exceeds the configured one: e.g. 3 tokens per 10 nanoseconds are refilled at 1 per 4 nanoseconds.
+ * The shortfall is below one part in the token period in nanoseconds, negligible unless it is a few ones.
+ */
+public final class RateLimiter {
+
+    /**
+     * The time the bucket would have been empty at.
+     */
+    private final Volatile.Long empty;
+
+    /**
+     * The nanosecond clock.
+     */
+    private final LongSupplier clock;
+
+    /**
+     * The refill period of a single token in nanoseconds.
+     */
+    private final long period;
+
+    /**
+     * The bucket capacity in tokens.
+     */
+    private final long capacity;
+
+    /**
+     * The bucket capacity in nanoseconds.
+     */
+    private final long span;
+
+    /**
+     * Construct the object with the given capacity, token refill period and nanosecond clock.
+     *
+     * @param capacity the given capacity in tokens
+     * @param period the given token refill period in nanoseconds
+     * @param clock the given nanosecond clock
+     */
+    private RateLimiter(long capacity, long period, LongSupplier clock) {
+        this.clock = clock;
+        this.period = period;
+        this.capacity = capacity;
+        this.span = Math.multiplyExact(capacity, period);
+        this.empty = vol(clock.getAsLong() - span);
+    }
+
+    /**
+     * Try to acquire a single token.
+     *
+     * @return {@code true} if the token is acquired, or {@code false} otherwise
+     */
+    public boolean tryAcquire() {
+        return tryAcquire(1);
+    }
+
+    /**
+     * Try to acquire the given number of tokens all at once.
+     *
+     * @param tokens the given number of tokens
+     * @return {@code true} if the tokens are acquired, or {@code false} otherwise
+     * @throws IllegalArgumentException if the number of tokens is negative
+     */
+    public boolean tryAcquire(long tokens) {
+        if (tokens < 0)
+            throw new IllegalArgumentException("Negative number of tokens " + tokens);
+        if (tokens > capacity)
+            return false;
+        long cost = tokens * period;
+        for (long empty = this.empty.get(); ; empty = this.empty.get()) {
+            long now = clock.getAsLong(), base = now - empty > span ? now - span : empty;
+            if (base + cost - now > 0)
+                return false;
+            if (this.empty.let(empty, base + cost))
+                return true;
+        }
+    }
+
+    /**
+     * Return the number of currently available tokens.
+     *
+     * @return the number of currently available tokens
+     */
+    public long available() {
+        long elapsed = clock.getAsLong() - empty.get();
+        return elapsed <= 0 ? 0 : Math.min(capacity, elapsed / period);
+    }
+
+
+    /**
+     * Return the rate limiter refilling the given number of tokens per second, of the capacity of one second
+     * worth of tokens and initially full.
+     *
+     * @param rate the given number of tokens per second
+     * @return the rate limiter refilling the given number of tokens per second
+     */
+    public static RateLimiter limiter(long rate) {
+        return limiter(rate, rate, 1, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Return the initially full rate limiter of the given capacity refilling the given number of tokens
+     * per the given period.
+     *
+     * @param capacity the given capacity in tokens
+     * @param tokens the given number of tokens refilled per the period
+     * @param period the given period
+     * @param unit the given period unit
+     * @return the rate limiter
+     */
+    public static RateLimiter limiter(long capacity, long tokens, long period, TimeUnit unit) {
+        return limiter(capacity, tokens, period, unit, System::nanoTime);
+    }
+
+    /**
+     * Return the initially full rate limiter of the given capacity refilling the given number of tokens
+     * per the given period, measuring the time by the given nanosecond clock.
+     *
+     * @param capacity the given capacity in tokens
+     * @param tokens the given number of tokens refilled per the period
+     * @param period the given period
+     * @param unit the given period unit
+     * @param clock the given nanosecond clock
+     * @return the rate limiter
+     * @throws IllegalArgumentException if the capacity, number of tokens or period is not positive,
+     *                                  or a single token refills faster than in a nanosecond
+     */
+    public static RateLimiter limiter(long capacity, long tokens, long period, TimeUnit unit, LongSupplier clock) {
+        if (capacity <= 0 || tokens <= 0 || period <= 0)
+            throw new IllegalArgumentException("Non-positive capacity, tokens or period");
+        long nanos = unit.toNanos(period);
+        if (nanos < tokens)
+            throw new IllegalArgumentException("Token refill period is less than a nanosecond");
+        return new RateLimiter(capacity, -Math.floorDiv(-nanos, tokens), clock);
+    }
+}
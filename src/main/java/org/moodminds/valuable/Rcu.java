@@ -0,0 +1,316 @@
+package org.moodminds.valuable;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import static org.moodminds.valuable.Volatile.vol;
+
+/**
+ * Read-copy-update holder of a read-mostly shared value, handing the replaced values to a reclamation callback
+ * once no reader may access them anymore, e.g. to return their buffers to a pool:
+ * <pre>{@code
+ * Rcu<Table> table = Rcu.rcu(Table.load(), pool::recycle);
+ *
+ * long hits = table.read(t -> t.lookup(key));   // readers
+ * table.put(Table.rebuild(source));              // writers
+ * }</pre>
+ * A reader enters a read section recording the current global epoch in its per-thread record, reads the value,
+ * and leaves it clearing the record: a couple of volatile accesses to a thread-confined record, no contended
+ * writes. A writer publishes the new value and advances the epoch, stamping the replaced value with it;
+ * the value is reclaimed once every reader in a read section has entered it at the stamped epoch or later,
+ * since such a reader cannot have seen the value replaced before.
+ * <p>
+ * The eligible values are reclaimed opportunistically on every write, and on the calls of {@link #reclaim()},
+ * while {@link #synchronize()} waits for the read sections in progress to be left and reclaims all
+ * the values replaced before. The read sections may be nested, but must not outlive the value read in them.
+ *
+ * @param <V> the type of the value
+ */
+public final class Rcu<V> {
+
+    /**
+     * The epoch of a reader not in a read section.
+     */
+    private static final long IDLE = java.lang.Long.MAX_VALUE;
+
+    /**
+     * The current value.
+     */
+    private final Volatile<V> value;
+
+    /**
+     * The global epoch.
+     */
+    private final Volatile.Long epoch = vol(0L);
+
+    /**
+     * The reclamation callback.
+     */
+    private final Consumer<? super V> reclaimer;
+
+    /**
+     * The records of the registered reader threads.
+     */
+    private final Volatile<Reader[]> readers = vol(new Reader[0]);
+
+    /**
+     * The record of the current reader thread.
+     */
+    private final ThreadLocal<Reader> reader = ThreadLocal.withInitial(this::register);
+
+    /**
+     * The stack of the replaced values pending reclamation.
+     */
+    private final Volatile<Retired<V>> retired = vol();
+
+    /**
+     * Construct the object with the given initial value and reclamation callback.
+     *
+     * @param value the given initial value
+     * @param reclaimer the given reclamation callback
+     */
+    private Rcu(V value, Consumer<? super V> reclaimer) {
+        this.value = vol(value); this.reclaimer = reclaimer;
+    }
+
+    /**
+     * Enter a read section of the current thread and return the current value, valid until the section is left.
+     *
+     * @return the current value
+     */
+    public V enter() {
+        Reader reader = this.reader.get();
+        if (reader.depth++ == 0)
+            reader.epoch = epoch.get();
+        return value.get();
+    }
+
+    /**
+     * Leave the read section of the current thread.
+     *
+     * @throws IllegalStateException if the current thread is not in a read section
+     */
+    public void exit() {
+        Reader reader = this.reader.get();
+        if (reader.depth == 0)
+            throw new IllegalStateException("Not in a read section");
+        if (--reader.depth == 0)
+            reader.epoch = IDLE;
+    }
+
+    /**
+     * Apply the given function to the current value in a read section and return its result.
+     *
+     * @param function the given function, not retaining the value
+     * @param <R> the type of the result
+     * @return the result of the function
+     */
+    public <R> R read(Function<? super V, ? extends R> function) {
+        try { return function.apply(enter()); } finally { exit(); }
+    }
+
+    /**
+     * Return the current value outside a read section, valid only until it is reclaimed.
+     *
+     * @return the current value
+     */
+    public V get() {
+        return value.get();
+    }
+
+    /**
+     * Publish the given value, retiring the previous one.
+     *
+     * @param value the given value
+     */
+    public void put(V value) {
+        retire(this.value.set(value));
+    }
+
+    /**
+     * Publish the given value if the current value {@code == state}, retiring it.
+     *
+     * @param state the given expected current value
+     * @param value the given value
+     * @return {@code true} if published, or {@code false} otherwise
+     */
+    public boolean let(V state, V value) {
+        if (!this.value.let(state, value))
+            return false;
+        retire(state); return true;
+    }
+
+    /**
+     * Hand the retired values no reader may access anymore to the reclamation callback.
+     *
+     * @throws RuntimeException the exception thrown by the callback, the values failed to be reclaimed dropped
+     * @throws Error the error thrown by the callback, the values failed to be reclaimed dropped
+     */
+    public void reclaim() {
+        Retired<V> taken = retired.set(null);
+        if (taken != null)
+            reclaim(taken, oldest());
+    }
+
+    /**
+     * Wait for the read sections entered before this call to be left, and hand all the values retired
+     * before this call to the reclamation callback.
+     *
+     * @throws IllegalStateException if the current thread is in a read section
+     * @throws RuntimeException the exception thrown by the callback, the values failed to be reclaimed dropped
+     * @throws Error the error thrown by the callback, the values failed to be reclaimed dropped
+     */
+    public void synchronize() {
+        if (reader.get().depth > 0)
+            throw new IllegalStateException("Synchronizing in a read section");
+        long epoch = this.epoch.incr();
+        for (int attempt = 0; oldest() < epoch; )
+            Backoff.DEFAULT.pause(++attempt);
+        reclaim(retired.set(null), epoch);
+    }
+
+    /**
+     * Retire the given replaced value, stamping it with the advanced epoch, and reclaim the eligible ones.
+     *
+     * @param value the given replaced value
+     */
+    private void retire(V value) {
+        if (value != null) {
+            Retired<V> node = new Retired<>(value, epoch.incr());
+            do node.next = retired.get();
+            while (!retired.let(node.next, node));
+        }
+        if (retired.get() != null)
+            reclaim();
+    }
+
+    /**
+     * Hand the given taken retired values stamped with the given epoch or earlier to the reclamation callback,
+     * pushing the others back. The epoch must be computed after the values are taken, so that every reader
+     * which could have seen a taken value is accounted in it.
+     *
+     * @param taken the given taken retired values
+     * @param epoch the given epoch
+     */
+    private void reclaim(Retired<V> taken, long epoch) {
+        Retired<V> pending = null, reclaimed = null;
+        for (Retired<V> node = taken, next; node != null; node = next) {
+            next = node.next;
+            if (node.epoch <= epoch) { node.next = reclaimed; reclaimed = node; }
+            else { node.next = pending; pending = node; }
+        }
+        while (pending != null) {
+            Retired<V> next = pending.next;
+            do pending.next = retired.get();
+            while (!retired.let(pending.next, pending));
+            pending = next;
+        }
+        for (; reclaimed != null; reclaimed = reclaimed.next)
+            reclaimer.accept(reclaimed.value);
+    }
+
+    /**
+     * Return the oldest epoch of the readers in a read section, or {@link #IDLE} if none,
+     * unregistering the records of the terminated threads.
+     *
+     * @return the oldest epoch of the readers in a read section
+     */
+    private long oldest() {
+        long oldest = IDLE; boolean terminated = false;
+        for (Reader reader : readers.get()) {
+            oldest = Math.min(oldest, reader.epoch);
+            terminated |= !reader.thread.isAlive();
+        }
+        if (terminated)
+            readers.update(current -> {
+                int count = 0; Reader[] alive = new Reader[current.length];
+                for (Reader reader : current)
+                    if (reader.thread.isAlive()) alive[count++] = reader;
+                return Arrays.copyOf(alive, count);
+            });
+        return oldest;
+    }
+
+    /**
+     * Register the record of the current reader thread.
+     *
+     * @return the record of the current reader thread
+     */
+    private Reader register() {
+        Reader reader = new Reader();
+        readers.update(current -> {
+            Reader[] updated = Arrays.copyOf(current, current.length + 1);
+            updated[current.length] = reader; return updated;
+        });
+        return reader;
+    }
+
+
+    /**
+     * A reader thread record.
+     */
+    private static final class Reader {
+
+        /**
+         * The reader thread.
+         */
+        final Thread thread = Thread.currentThread();
+
+        /**
+         * The epoch the current read section is entered at, or {@link #IDLE} if none.
+         */
+        volatile long epoch = IDLE;
+
+        /**
+         * The nesting depth of the current read section, confined to the reader thread.
+         */
+        int depth;
+    }
+
+    /**
+     * A retired value stack node.
+     *
+     * @param <V> the type of the value
+     */
+    private static final class Retired<V> {
+
+        /**
+         * The retired value.
+         */
+        final V value;
+
+        /**
+         * The epoch the value is retired at.
+         */
+        final long epoch;
+
+        /**
+         * The next node.
+         */
+        Retired<V> next;
+
+        /**
+         * Construct the object with the given retired value and epoch.
+         *
+         * @param value the given retired value
+         * @param epoch the given epoch
+         */
+        Retired(V value, long epoch) {
+            this.value = value; this.epoch = epoch;
+        }
+    }
+
+
+    /**
+     * Return the read-copy-update holder of the given initial value and reclamation callback.
+     *
+     * @param value the given initial value
+     * @param reclaimer the given callback of the values no reader may access anymore
+     * @param <V> the type of the value
+     * @return the read-copy-update holder
+     */
+    public static <V> Rcu<V> rcu(V value, Consumer<? super V> reclaimer) {
+        return new Rcu<>(value, reclaimer);
+    }
+}
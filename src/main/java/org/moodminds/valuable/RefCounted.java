@@ -0,0 +1,195 @@
+package org.moodminds.valuable;
+
+import java.lang.ref.Cleaner;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+
+import static java.lang.System.Logger.Level.WARNING;
+import static org.moodminds.valuable.Volatile.vol;
+
+/**
+ * Reference-counted holder of a resource, e.g. a pooled direct buffer or a native handle, deallocating it
+ * exactly once on the release of its last reference:
+ * <pre>{@code
+ * RefCounted<ByteBuffer> buffer = RefCounted.refCounted(pool.acquire(), pool::release);
+ *
+ * buffer.retain();
+ * executor.execute(() -> {
+ *     try { write(buffer.get()); } finally { buffer.release(); }
+ * });
+ * buffer.release();
+ * }</pre>
+ * The holder is created holding a single reference. Releasing is an atomic decrement, the one reaching zero
+ * runs the deallocation callback. Once released to zero the holder is never resurrected: retaining it
+ * then fails, as does releasing it more times than retained.
+ * <p>
+ * If the {@code org.moodminds.valuable.leakSampling} system property is a positive number {@code N}, every
+ * {@code N}-th holder on average is tracked, and the one becoming unreachable before released to zero
+ * is reported at the {@link System.Logger.Level#WARNING} level of the {@code System.Logger} named after
+ * this class, with the stack trace of its creation. The resource of a leaked holder is not deallocated.
+ *
+ * @param <V> the type of the resource
+ */
+public final class RefCounted<V> {
+
+    /**
+     * The leak detection sampling interval, or {@code 0} if disabled.
+     */
+    private static final int LEAK_SAMPLING = Integer.getInteger("org.moodminds.valuable.leakSampling", 0);
+
+    /**
+     * The cleaner of the tracked holders, or {@code null} if the leak detection is disabled.
+     */
+    private static final Cleaner CLEANER = LEAK_SAMPLING > 0 ? Cleaner.create() : null;
+
+    /**
+     * The resource.
+     */
+    private final V value;
+
+    /**
+     * The deallocation callback.
+     */
+    private final Consumer<? super V> deallocator;
+
+    /**
+     * The reference count.
+     */
+    private final Volatile.Int refs = vol(1);
+
+    /**
+     * The leak tracking registration, or {@code null} if not tracked.
+     */
+    private final Cleaner.Cleanable leak;
+
+    /**
+     * Construct the object with the given resource and deallocation callback.
+     *
+     * @param value the given resource
+     * @param deallocator the given deallocation callback
+     */
+    private RefCounted(V value, Consumer<? super V> deallocator) {
+        this.value = value; this.deallocator = deallocator;
+        this.leak = CLEANER != null && ThreadLocalRandom.current().nextInt(LEAK_SAMPLING) == 0
+                ? CLEANER.register(this, new Leak(refs, value)) : null;
+    }
+
+    /**
+     * Return the resource.
+     *
+     * @return the resource
+     * @throws IllegalStateException if the holder is released
+     */
+    public V get() {
+        if (refs.get() <= 0)
+            throw new IllegalStateException("Reference released");
+        return value;
+    }
+
+    /**
+     * Return the current reference count.
+     *
+     * @return the current reference count
+     */
+    public int count() {
+        return refs.get();
+    }
+
+    /**
+     * Retain one more reference and return this holder.
+     *
+     * @return this holder
+     * @throws IllegalStateException if the holder is released or the count would overflow
+     */
+    public RefCounted<V> retain() {
+        if (!tryRetain())
+            throw new IllegalStateException(refs.get() <= 0 ? "Reference released" : "Reference count overflow");
+        return this;
+    }
+
+    /**
+     * Retain one more reference if the holder is not released.
+     *
+     * @return {@code true} if retained, or {@code false} if the holder is released or the count would overflow
+     */
+    public boolean tryRetain() {
+        for (int count = refs.get(); count > 0 && count < Integer.MAX_VALUE; count = refs.get())
+            if (refs.let(count, count + 1))
+                return true;
+        return false;
+    }
+
+    /**
+     * Release a reference, deallocating the resource if it is the last one.
+     *
+     * @return {@code true} if the resource is deallocated by this call, or {@code false} otherwise
+     * @throws IllegalStateException if the holder is already released
+     * @throws RuntimeException the exception thrown by the deallocation callback
+     * @throws Error the error thrown by the deallocation callback
+     */
+    public boolean release() {
+        int count = refs.decr();
+        if (count > 0)
+            return false;
+        if (count < 0) {
+            refs.incr(); throw new IllegalStateException("Reference released");
+        }
+        if (leak != null)
+            leak.clean();
+        deallocator.accept(value);
+        return true;
+    }
+
+
+    /**
+     * The leak report action of a tracked holder, run once it is released or unreachable.
+     */
+    private static final class Leak implements Runnable {
+
+        private static final System.Logger LOGGER = System.getLogger(RefCounted.class.getName());
+
+        /**
+         * The reference count of the holder.
+         */
+        private final Volatile.Int refs;
+
+        /**
+         * The creation stack trace.
+         */
+        private final Throwable creation;
+
+        /**
+         * Construct the object with the given reference count and resource of the holder.
+         *
+         * @param refs the given reference count
+         * @param value the given resource
+         */
+        Leak(Volatile.Int refs, Object value) {
+            this.refs = refs;
+            this.creation = new Throwable("Created holding " + (value != null ? value.getClass().getName() : null));
+        }
+
+        /**
+         * Report the leak if the holder is not released.
+         */
+        @Override
+        public void run() {
+            int count = refs.get();
+            if (count > 0)
+                LOGGER.log(WARNING, "RefCounted leaked unreleased holding " + count + " reference(s)", creation);
+        }
+    }
+
+
+    /**
+     * Return the reference-counted holder of the given resource, holding a single reference.
+     *
+     * @param value the given resource
+     * @param deallocator the given callback deallocating the resource once released
+     * @param <V> the type of the resource
+     * @return the reference-counted holder of the given resource
+     */
+    public static <V> RefCounted<V> refCounted(V value, Consumer<? super V> deallocator) {
+        return new RefCounted<>(value, deallocator);
+    }
+}
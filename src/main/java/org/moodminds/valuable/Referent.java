@@ -0,0 +1,264 @@
+package org.moodminds.valuable;
+
+import java.lang.invoke.VarHandle;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.lang.ref.WeakReference;
+import java.util.function.Supplier;
+
+import static java.lang.invoke.MethodHandles.lookup;
+
+/**
+ * Volatile object reference {@link Valuable} keeping its value softly or weakly reachable only, so that
+ * the garbage collector is free to clear it under memory pressure. Intended for caching the large objects
+ * derived from other ones, which may be recomputed by the optional loader once cleared.
+ * <p>
+ * The atomicity of {@link #set(Object)} and {@link #let(Object, Object)} holds on the referent: the value
+ * is replaced atomically together with its reference wrapper. The cleared wrappers are dropped as they are
+ * polled from the reference queue on subsequent writes and on the reads finding a value cleared, so they
+ * accumulate neither in idle nor in read-mostly holders.
+ */
+public final class Referent<V> implements Valuable<V> {
+
+    private static final VarHandle REF;
+
+    static {
+        try { REF = lookup().findVarHandle(Referent.class, "ref", Reference.class); }
+        catch (ReflectiveOperationException e) { throw new ExceptionInInitializerError(e); }
+    }
+
+    /**
+     * The queue of the cleared reference wrappers of all the holders.
+     */
+    private static final ReferenceQueue<Object> QUEUE = new ReferenceQueue<>();
+
+    /**
+     * The reference wrapper of the value, or {@code null} if the value is {@code null}.
+     */
+    private volatile Reference<V> ref;
+
+    /**
+     * The flag of the soft rather than weak reachability.
+     */
+    private final boolean soft;
+
+    /**
+     * The loader of the cleared value, or {@code null} if none.
+     */
+    private final Supplier<? extends V> loader;
+
+    /**
+     * Construct the object with the given reachability, loader and initial value.
+     *
+     * @param soft the given flag of the soft rather than weak reachability
+     * @param loader the given loader of the cleared value, or {@code null} if none
+     * @param val the given initial value
+     */
+    private Referent(boolean soft, Supplier<? extends V> loader, V val) {
+        this.soft = soft;
+        this.loader = loader;
+        this.ref = ref(val);
+    }
+
+    /**
+     * Return the value, reloading it by the loader, if any, when empty or cleared.
+     *
+     * @return the value, or {@code null} if empty or cleared and there is no loader
+     */
+    @Override
+    public V get() {
+        for (Reference<V> ref = this.ref; ; ref = this.ref) {
+            V val = ref == null ? null : ref.get();
+            if (val != null)
+                return val;
+            if (ref != null) {
+                expunge();
+                if (this.ref != ref)
+                    continue;
+            }
+            if (loader == null)
+                return null;
+            if (REF.compareAndSet(this, ref, ref(val = loader.get())))
+                return val;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param val {@inheritDoc}
+     */
+    @Override
+    public void put(V val) {
+        expunge(); this.ref = ref(val);
+    }
+
+    /**
+     * Atomically get the previous value, or {@code null} if cleared, and set the new value.
+     *
+     * @param val {@inheritDoc}
+     * @return {@inheritDoc}
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public V set(V val) {
+        expunge();
+        Reference<V> previous = (Reference<V>) REF.getAndSet(this, ref(val));
+        return previous == null ? null : previous.get();
+    }
+
+    /**
+     * Atomically set the given value if the current value, {@code null} if cleared, {@code == state}.
+     *
+     * @param state {@inheritDoc}
+     * @param val {@inheritDoc}
+     * @return {@inheritDoc}
+     */
+    @Override
+    public boolean let(V state, V val) {
+        expunge();
+        for (Reference<V> ref = this.ref, wrapper = null; ; ref = this.ref) {
+            if ((ref == null ? null : ref.get()) != state)
+                return false;
+            if (REF.compareAndSet(this, ref, wrapper != null ? wrapper : (wrapper = ref(val))))
+                return true;
+        }
+    }
+
+    /**
+     * Return the reference wrapper of the given value.
+     *
+     * @param val the given value
+     * @return the reference wrapper of the given value, or {@code null} if the value is {@code null}
+     */
+    private Reference<V> ref(V val) {
+        return val == null ? null : soft ? new Soft<>(val, this) : new Weak<>(val, this);
+    }
+
+
+    /**
+     * Drop the cleared reference wrappers from their holders.
+     */
+    private static void expunge() {
+        for (Reference<?> ref; (ref = QUEUE.poll()) != null; )
+            if (ref instanceof Soft) REF.compareAndSet(((Soft<?>) ref).holder, ref, (Reference<?>) null);
+            else REF.compareAndSet(((Weak<?>) ref).holder, ref, (Reference<?>) null);
+    }
+
+
+    /**
+     * A soft reference wrapper of a value.
+     *
+     * @param <V> the type of the value
+     */
+    private static final class Soft<V> extends SoftReference<V> {
+
+        /**
+         * The holder of this wrapper.
+         */
+        private final Referent<V> holder;
+
+        /**
+         * Construct the object with the given value and holder.
+         *
+         * @param val the given value
+         * @param holder the given holder
+         */
+        private Soft(V val, Referent<V> holder) {
+            super(val, QUEUE);
+            this.holder = holder;
+        }
+    }
+
+    /**
+     * A weak reference wrapper of a value.
+     *
+     * @param <V> the type of the value
+     */
+    private static final class Weak<V> extends WeakReference<V> {
+
+        /**
+         * The holder of this wrapper.
+         */
+        private final Referent<V> holder;
+
+        /**
+         * Construct the object with the given value and holder.
+         *
+         * @param val the given value
+         * @param holder the given holder
+         */
+        private Weak(V val, Referent<V> holder) {
+            super(val, QUEUE);
+            this.holder = holder;
+        }
+    }
+
+
+    /**
+     * Return the empty softly referencing value holder.
+     *
+     * @param <V> the type of the value
+     * @return the empty softly referencing value holder
+     */
+    public static <V> Referent<V> soft() {
+        return new Referent<>(true, null, null);
+    }
+
+    /**
+     * Return the softly referencing value holder by the given value.
+     *
+     * @param value the given initial value
+     * @param <V> the type of the value
+     * @return the softly referencing value holder by the given value
+     */
+    public static <V> Referent<V> soft(V value) {
+        return new Referent<>(true, null, value);
+    }
+
+    /**
+     * Return the initially empty softly referencing value holder, loading the value
+     * by the given loader when empty or cleared.
+     *
+     * @param loader the given loader
+     * @param <V> the type of the value
+     * @return the softly referencing value holder loading the value by the given loader
+     */
+    public static <V> Referent<V> softLoaded(Supplier<? extends V> loader) {
+        return new Referent<>(true, loader, null);
+    }
+
+    /**
+     * Return the empty weakly referencing value holder.
+     *
+     * @param <V> the type of the value
+     * @return the empty weakly referencing value holder
+     */
+    public static <V> Referent<V> weak() {
+        return new Referent<>(false, null, null);
+    }
+
+    /**
+     * Return the weakly referencing value holder by the given value.
+     *
+     * @param value the given initial value
+     * @param <V> the type of the value
+     * @return the weakly referencing value holder by the given value
+     */
+    public static <V> Referent<V> weak(V value) {
+        return new Referent<>(false, null, value);
+    }
+
+    /**
+     * Return the initially empty weakly referencing value holder, loading the value
+     * by the given loader when empty or cleared.
+     *
+     * @param loader the given loader
+     * @param <V> the type of the value
+     * @return the weakly referencing value holder loading the value by the given loader
+     */
+    public static <V> Referent<V> weakLoaded(Supplier<? extends V> loader) {
+        return new Referent<>(false, loader, null);
+    }
+}
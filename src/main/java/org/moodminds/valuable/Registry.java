@@ -0,0 +1,436 @@
+package org.moodminds.valuable;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.function.DoubleSupplier;
+import java.util.function.LongSupplier;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.moodminds.valuable.Volatile.vol;
+
+/**
+ * Registry of the named numeric {@link Valuable} holders, scraped in the Prometheus text exposition format,
+ * e.g. by an {@link Exporter}:
+ * <pre>{@code
+ * Registry registry = Registry.registry();
+ *
+ * Volatile.Long requests = registry.counter("http_requests_total", vol(0L), "method", "GET");
+ * Gauge connections = registry.gauge("http_connections", Gauge.gauge(0L));
+ * }</pre>
+ * The registered metrics are kept in an immutable array replaced on registration, so a scrape reads
+ * a consistent set of them lock-free, and reads each holder by its plain {@code get()}, never blocking
+ * its writers. The names and labels of the metrics are encoded once on registration, so a scrape allocates
+ * nothing per metric but the growth of its output buffer and the text of the non-integral floating-point values.
+ * <p>
+ * The metrics of the same name form a family, sharing the type and differing by their labels.
+ * The floating-point values are written by their shortest representation parsed back to the same value.
+ */
+public final class Registry {
+
+    /**
+     * The counter metric type.
+     */
+    private static final String COUNTER = "counter";
+
+    /**
+     * The gauge metric type.
+     */
+    private static final String GAUGE = "gauge";
+
+    /**
+     * The registered metrics, the ones of a family adjacent.
+     */
+    private final Volatile<Metric[]> metrics = vol(new Metric[0]);
+
+    /**
+     * Construct the object.
+     */
+    private Registry() {}
+
+    /**
+     * Register the given counter holder by the given name and label name-value pairs and return it.
+     *
+     * @param name the given metric name
+     * @param holder the given holder
+     * @param labels the given label name-value pairs
+     * @param <H> the type of the holder
+     * @return the given holder
+     * @throws IllegalArgumentException if the name or labels are invalid, the metric is already registered,
+     *                                  or a family of the name is registered of another type
+     */
+    public <H extends Valuable.Long> H counter(String name, H holder, String... labels) {
+        register(new Metric(COUNTER, name, labels, holder, holder::get, null)); return holder;
+    }
+
+    /**
+     * Register the given int counter holder by the given name and label name-value pairs and return it.
+     *
+     * @param name the given metric name
+     * @param holder the given holder
+     * @param labels the given label name-value pairs
+     * @param <H> the type of the holder
+     * @return the given holder
+     * @throws IllegalArgumentException if the name or labels are invalid, the metric is already registered,
+     *                                  or a family of the name is registered of another type
+     */
+    public <H extends Valuable.Int> H counter(String name, H holder, String... labels) {
+        register(new Metric(COUNTER, name, labels, holder, holder::get, null)); return holder;
+    }
+
+    /**
+     * Register the given gauge holder by the given name and label name-value pairs and return it.
+     *
+     * @param name the given metric name
+     * @param holder the given holder
+     * @param labels the given label name-value pairs
+     * @param <H> the type of the holder
+     * @return the given holder
+     * @throws IllegalArgumentException if the name or labels are invalid, the metric is already registered,
+     *                                  or a family of the name is registered of another type
+     */
+    public <H extends Valuable.Long> H gauge(String name, H holder, String... labels) {
+        register(new Metric(GAUGE, name, labels, holder, holder::get, null)); return holder;
+    }
+
+    /**
+     * Register the given int gauge holder by the given name and label name-value pairs and return it.
+     *
+     * @param name the given metric name
+     * @param holder the given holder
+     * @param labels the given label name-value pairs
+     * @param <H> the type of the holder
+     * @return the given holder
+     * @throws IllegalArgumentException if the name or labels are invalid, the metric is already registered,
+     *                                  or a family of the name is registered of another type
+     */
+    public <H extends Valuable.Int> H gauge(String name, H holder, String... labels) {
+        register(new Metric(GAUGE, name, labels, holder, holder::get, null)); return holder;
+    }
+
+    /**
+     * Register the given double gauge holder by the given name and label name-value pairs and return it.
+     *
+     * @param name the given metric name
+     * @param holder the given holder
+     * @param labels the given label name-value pairs
+     * @param <H> the type of the holder
+     * @return the given holder
+     * @throws IllegalArgumentException if the name or labels are invalid, the metric is already registered,
+     *                                  or a family of the name is registered of another type
+     */
+    public <H extends Valuable.Double> H gauge(String name, H holder, String... labels) {
+        register(new Metric(GAUGE, name, labels, holder, null, holder::get)); return holder;
+    }
+
+    /**
+     * Unregister all the metrics of the given holder.
+     *
+     * @param holder the given holder
+     * @return whether any metric is unregistered
+     */
+    public boolean unregister(Object holder) {
+        for (Metric[] current = metrics.get(); ; current = metrics.get()) {
+            int count = 0; Metric[] updated = new Metric[current.length];
+            for (Metric metric : current)
+                if (metric.holder != holder) updated[count++] = metric;
+            if (count == current.length)
+                return false;
+            if (metrics.let(current, Arrays.copyOf(updated, count)))
+                return true;
+        }
+    }
+
+    /**
+     * Write the current values of the registered metrics to the given stream in the Prometheus text format.
+     *
+     * @param out the given stream
+     * @throws IOException if an I/O error occurs
+     */
+    public void scrape(OutputStream out) throws IOException {
+        Buffer buffer = new Buffer(); scrape(buffer); buffer.writeTo(out);
+    }
+
+    /**
+     * Write the current values of the registered metrics to the given cleared buffer.
+     *
+     * @param buffer the given buffer
+     */
+    void scrape(Buffer buffer) {
+        Family family = null;
+        for (Metric metric : metrics.get()) {
+            if (metric.family != family && (family == null || !metric.family.name.equals(family.name)))
+                buffer.put((family = metric.family).header);
+            buffer.put(metric.prefix);
+            if (metric.doubles != null)
+                buffer.put(metric.doubles.getAsDouble());
+            else buffer.put(metric.longs.getAsLong());
+            buffer.put((byte) '\n');
+        }
+    }
+
+    /**
+     * Register the given metric, adjacent to the ones of its family.
+     *
+     * @param metric the given metric
+     */
+    private void register(Metric metric) {
+        Family[] family = new Family[1];
+        metrics.update(current -> {
+            int index = current.length; family[0] = metric.family;
+            for (int i = 0; i < current.length; i++)
+                if (current[i].family.name.equals(metric.family.name)) {
+                    if (!current[i].family.type.equals(metric.family.type))
+                        throw new IllegalArgumentException("Metric family '" + metric.family.name
+                                + "' is registered as " + current[i].family.type);
+                    if (Arrays.equals(current[i].prefix, metric.prefix))
+                        throw new IllegalArgumentException("Metric " + new String(metric.prefix, UTF_8).trim()
+                                + " is already registered");
+                    family[0] = current[i].family; index = i + 1;
+                }
+            Metric[] updated = new Metric[current.length + 1];
+            System.arraycopy(current, 0, updated, 0, index);
+            System.arraycopy(current, index, updated, index + 1, current.length - index);
+            updated[index] = metric; return updated;
+        });
+        metric.family = family[0];
+    }
+
+
+    /**
+     * A family of the metrics of the same name.
+     */
+    private static final class Family {
+
+        /**
+         * The name.
+         */
+        final String name;
+
+        /**
+         * The type.
+         */
+        final String type;
+
+        /**
+         * The encoded type comment line.
+         */
+        final byte[] header;
+
+        /**
+         * Construct the object with the given name and type.
+         *
+         * @param name the given name
+         * @param type the given type
+         */
+        Family(String name, String type) {
+            this.name = name; this.type = type;
+            this.header = ("# TYPE " + name + " " + type + "\n").getBytes(UTF_8);
+        }
+    }
+
+    /**
+     * A registered metric.
+     */
+    private static final class Metric {
+
+        /**
+         * The family, shared with the previously registered metrics of the same name once registered.
+         */
+        Family family;
+
+        /**
+         * The encoded name and labels, followed by a space.
+         */
+        final byte[] prefix;
+
+        /**
+         * The registered holder.
+         */
+        final Object holder;
+
+        /**
+         * The integral value supplier, or {@code null} if floating-point.
+         */
+        final LongSupplier longs;
+
+        /**
+         * The floating-point value supplier, or {@code null} if integral.
+         */
+        final DoubleSupplier doubles;
+
+        /**
+         * Construct the object with the given type, name, label name-value pairs, holder and value supplier.
+         *
+         * @param type the given type
+         * @param name the given name
+         * @param labels the given label name-value pairs
+         * @param holder the given holder
+         * @param longs the given integral value supplier
+         * @param doubles the given floating-point value supplier
+         * @throws IllegalArgumentException if the name or labels are invalid
+         */
+        Metric(String type, String name, String[] labels, Object holder, LongSupplier longs, DoubleSupplier doubles) {
+            if (!valid(name, true))
+                throw new IllegalArgumentException("Invalid metric name '" + name + "'");
+            if (labels.length % 2 != 0)
+                throw new IllegalArgumentException("Labels are not name-value pairs");
+            StringBuilder prefix = new StringBuilder(name);
+            for (int i = 0; i < labels.length; i += 2) {
+                if (!valid(labels[i], false) || labels[i].startsWith("__"))
+                    throw new IllegalArgumentException("Invalid label name '" + labels[i] + "'");
+                prefix.append(i == 0 ? '{' : ',').append(labels[i]).append("=\"");
+                for (int c = 0; c < labels[i + 1].length(); c++) {
+                    char chr = labels[i + 1].charAt(c);
+                    if (chr == '\\' || chr == '"') prefix.append('\\').append(chr);
+                    else if (chr == '\n') prefix.append("\\n");
+                    else prefix.append(chr);
+                }
+                prefix.append('"');
+            }
+            this.prefix = prefix.append(labels.length > 0 ? "} " : " ").toString().getBytes(UTF_8);
+            this.family = new Family(name, type);
+            this.holder = holder; this.longs = longs; this.doubles = doubles;
+        }
+
+        /**
+         * Check whether the given metric or label name is valid.
+         *
+         * @param name the given name
+         * @param metric whether a metric name, allowing colons
+         * @return whether the given name is valid
+         */
+        private static boolean valid(String name, boolean metric) {
+            if (name.isEmpty())
+                return false;
+            for (int i = 0; i < name.length(); i++) {
+                char chr = name.charAt(i);
+                if (!(chr >= 'a' && chr <= 'z' || chr >= 'A' && chr <= 'Z' || chr == '_'
+                        || metric && chr == ':' || i > 0 && chr >= '0' && chr <= '9'))
+                    return false;
+            }
+            return true;
+        }
+    }
+
+    /**
+     * A growable output buffer, writing the numbers digit by digit.
+     */
+    static final class Buffer {
+
+        /**
+         * The bound of the floating-point values written as integral.
+         */
+        private static final double INTEGRAL = 1e15;
+
+        private static final byte[] NAN = "NaN".getBytes(UTF_8),
+                PLUS_INF = "+Inf".getBytes(UTF_8), MINUS_INF = "-Inf".getBytes(UTF_8);
+
+        /**
+         * The buffered bytes.
+         */
+        private byte[] bytes = new byte[1 << 12];
+
+        /**
+         * The number of the buffered bytes.
+         */
+        private int size;
+
+        /**
+         * Clear the buffer.
+         */
+        void clear() {
+            size = 0;
+        }
+
+        /**
+         * Return the number of the buffered bytes.
+         *
+         * @return the number of the buffered bytes
+         */
+        int size() {
+            return size;
+        }
+
+        /**
+         * Write the buffered bytes to the given stream.
+         *
+         * @param out the given stream
+         * @throws IOException if an I/O error occurs
+         */
+        void writeTo(OutputStream out) throws IOException {
+            out.write(bytes, 0, size);
+        }
+
+        /**
+         * Append the given byte.
+         *
+         * @param b the given byte
+         */
+        void put(byte b) {
+            ensure(1); bytes[size++] = b;
+        }
+
+        /**
+         * Append the given bytes.
+         *
+         * @param b the given bytes
+         */
+        void put(byte[] b) {
+            ensure(b.length); System.arraycopy(b, 0, bytes, size, b.length); size += b.length;
+        }
+
+        /**
+         * Append the decimal digits of the given value.
+         *
+         * @param value the given value
+         */
+        void put(long value) {
+            ensure(20);
+            if (value < 0) bytes[size++] = '-';
+            else value = -value;
+            int length = 1;
+            for (long rest = value / 10; rest != 0; rest /= 10) length++;
+            for (int i = size + length - 1; i >= size; i--, value /= 10)
+                bytes[i] = (byte) ('0' - value % 10);
+            size += length;
+        }
+
+        /**
+         * Append the decimal representation of the given value, integral if exactly so and below
+         * {@link #INTEGRAL}, the shortest one parsed back to the same value otherwise.
+         *
+         * @param value the given value
+         */
+        void put(double value) {
+            if (value != value) { put(NAN); return; }
+            if (value == java.lang.Double.POSITIVE_INFINITY) { put(PLUS_INF); return; }
+            if (value == java.lang.Double.NEGATIVE_INFINITY) { put(MINUS_INF); return; }
+            if (value == (long) value && Math.abs(value) < INTEGRAL) { put((long) value); return; }
+            String text = java.lang.Double.toString(value);
+            ensure(text.length());
+            for (int i = 0; i < text.length(); i++)
+                bytes[size++] = (byte) text.charAt(i);
+        }
+
+        /**
+         * Ensure the capacity for the given number of more bytes.
+         *
+         * @param more the given number of more bytes
+         */
+        private void ensure(int more) {
+            if (size + more > bytes.length)
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length << 1, size + more));
+        }
+    }
+
+
+    /**
+     * Return a new empty registry.
+     *
+     * @return a new empty registry
+     */
+    public static Registry registry() {
+        return new Registry();
+    }
+}
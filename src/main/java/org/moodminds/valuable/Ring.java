@@ -0,0 +1,333 @@
+package org.moodminds.valuable;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import static org.moodminds.valuable.Sequence.sequence;
+import static org.moodminds.valuable.Volatile.vol;
+
+/**
+ * Bounded multi-producer ring of the pre-allocated mutable event slots, broadcasting each published event
+ * to every {@link Reader}, coordinated by the padded {@link Sequence}s:
+ * <pre>{@code
+ * Ring<Event> ring = Ring.ring(1 << 10, Event::new, Backoff.YIELD);
+ * Ring.Reader<Event> reader = ring.reader();
+ *
+ * long sequence = ring.next();              // producers claim a slot,
+ * ring.get(sequence).set(payload);          // fill the pre-allocated event,
+ * ring.publish(sequence);                   // and publish it
+ *
+ * reader.take(event -> handle(event));      // readers handle the published events in batches
+ * }</pre>
+ * The producers claim the slots by an atomic addition to the cursor sequence, waiting while the ring is full,
+ * i.e. the slowest reader is a whole ring behind, and publish them by marking each slot available with the round
+ * of its sequence, so the slots claimed concurrently may be published in any order. A reader handles all the
+ * contiguously published events in a batch and then advances its gating sequence, releasing their slots.
+ * Nothing is allocated per event.
+ * <p>
+ * The waiting, both for the free slots and the published events, pauses by the given {@link Backoff} strategy,
+ * e.g. {@link Backoff#SPIN} for busy-spinning, {@link Backoff#YIELD} or {@link Backoff#park(long)}.
+ * The readers are meant to be created before the publishing starts, the ones created later start
+ * after the last claimed sequence.
+ *
+ * @param <E> the type of the events
+ */
+public final class Ring<E> {
+
+    private static final VarHandle AVAILABLE = MethodHandles.arrayElementVarHandle(int[].class);
+
+    /**
+     * The pre-allocated event slots.
+     */
+    private final Object[] entries;
+
+    /**
+     * The slot index mask.
+     */
+    private final int mask;
+
+    /**
+     * The shift of a sequence to its round.
+     */
+    private final int shift;
+
+    /**
+     * The rounds of the published slots.
+     */
+    private final int[] available;
+
+    /**
+     * The sequence of the last claimed slot.
+     */
+    private final Sequence cursor = sequence(-1L);
+
+    /**
+     * The cached minimum of the gating sequences.
+     */
+    private final Sequence gating = sequence(-1L);
+
+    /**
+     * The gating sequences of the readers.
+     */
+    private final Volatile<Sequence[]> gates = vol(new Sequence[0]);
+
+    /**
+     * The waiting strategy.
+     */
+    private final Backoff backoff;
+
+    /**
+     * Construct the object with the given capacity, event factory and waiting strategy.
+     *
+     * @param capacity the given capacity, a power of two
+     * @param factory the given event factory
+     * @param backoff the given waiting strategy
+     */
+    private Ring(int capacity, Supplier<? extends E> factory, Backoff backoff) {
+        this.entries = new Object[capacity];
+        for (int i = 0; i < capacity; i++)
+            entries[i] = factory.get();
+        this.mask = capacity - 1; this.shift = Integer.numberOfTrailingZeros(capacity);
+        this.available = new int[capacity];
+        Arrays.fill(available, -1);
+        this.backoff = backoff;
+    }
+
+    /**
+     * Return the capacity.
+     *
+     * @return the capacity
+     */
+    public int capacity() {
+        return entries.length;
+    }
+
+    /**
+     * Return the event slot of the given sequence.
+     *
+     * @param sequence the given sequence
+     * @return the event slot of the given sequence
+     */
+    @SuppressWarnings("unchecked")
+    public E get(long sequence) {
+        return (E) entries[(int) sequence & mask];
+    }
+
+    /**
+     * Claim the next slot, waiting while the ring is full.
+     *
+     * @return the sequence of the claimed slot
+     */
+    public long next() {
+        return next(1);
+    }
+
+    /**
+     * Claim the given number of the next slots, waiting while the ring is full.
+     *
+     * @param n the given number of slots
+     * @return the sequence of the last claimed slot
+     * @throws IllegalArgumentException if the number is not positive or exceeds the capacity
+     */
+    public long next(int n) {
+        if (n < 1 || n > entries.length)
+            throw new IllegalArgumentException("Claimed " + n + " slots of " + entries.length);
+        long next = cursor.add(n), wrap = next - entries.length;
+        if (wrap > gating.get())
+            for (int attempt = 0; ; backoff.pause(++attempt)) {
+                long minimum = minimum(next);
+                if (wrap <= minimum) {
+                    gating.put(minimum); break;
+                }
+            }
+        return next;
+    }
+
+    /**
+     * Claim the given number of the next slots if free.
+     *
+     * @param n the given number of slots
+     * @return the sequence of the last claimed slot, or {@code -1} if the ring lacks the free slots
+     * @throws IllegalArgumentException if the number is not positive or exceeds the capacity
+     */
+    public long tryNext(int n) {
+        if (n < 1 || n > entries.length)
+            throw new IllegalArgumentException("Claimed " + n + " slots of " + entries.length);
+        for (long current = cursor.get(); ; current = cursor.get()) {
+            long next = current + n, wrap = next - entries.length;
+            if (wrap > gating.get()) {
+                long minimum = minimum(current);
+                if (wrap > minimum)
+                    return -1L;
+                gating.put(minimum);
+            }
+            if (cursor.let(current, next))
+                return next;
+        }
+    }
+
+    /**
+     * Publish the slot of the given claimed sequence.
+     *
+     * @param sequence the given claimed sequence
+     */
+    public void publish(long sequence) {
+        AVAILABLE.setRelease(available, (int) sequence & mask, (int) (sequence >>> shift));
+    }
+
+    /**
+     * Publish the slots of the given range of the claimed sequences.
+     *
+     * @param low the given first claimed sequence, inclusive
+     * @param high the given last claimed sequence, inclusive
+     */
+    public void publish(long low, long high) {
+        for (long sequence = low; sequence <= high; sequence++)
+            publish(sequence);
+    }
+
+    /**
+     * Return a new reader of the events published after the last claimed sequence.
+     *
+     * @return a new reader
+     */
+    public Reader<E> reader() {
+        Reader<E> reader = new Reader<>(this, sequence(cursor.get()));
+        gates.update(current -> {
+            Sequence[] updated = Arrays.copyOf(current, current.length + 1);
+            updated[current.length] = reader.sequence; return updated;
+        });
+        reader.sequence.put(cursor.get()); // re-read once gating, so the producers cannot have lapped it meanwhile
+        return reader;
+    }
+
+    /**
+     * Return the minimum of the gating sequences and the given default.
+     *
+     * @param minimum the given default
+     * @return the minimum of the gating sequences and the given default
+     */
+    private long minimum(long minimum) {
+        for (Sequence gate : gates.get())
+            minimum = Math.min(minimum, gate.get());
+        return minimum;
+    }
+
+    /**
+     * Return the last contiguously published sequence of the given range, or the one before it if none.
+     *
+     * @param low the given first sequence, inclusive
+     * @param high the given last sequence, inclusive
+     * @return the last contiguously published sequence
+     */
+    private long published(long low, long high) {
+        for (long sequence = low; sequence <= high; sequence++)
+            if ((int) AVAILABLE.getAcquire(available, (int) sequence & mask) != (int) (sequence >>> shift))
+                return sequence - 1;
+        return high;
+    }
+
+
+    /**
+     * A reader of the published events, each reader handling every event.
+     *
+     * @param <E> the type of the events
+     */
+    public static final class Reader<E> implements AutoCloseable {
+
+        /**
+         * The read ring.
+         */
+        private final Ring<E> ring;
+
+        /**
+         * The gating sequence of the last handled event.
+         */
+        private final Sequence sequence;
+
+        /**
+         * Construct the object with the given read ring and gating sequence.
+         *
+         * @param ring the given read ring
+         * @param sequence the given gating sequence
+         */
+        private Reader(Ring<E> ring, Sequence sequence) {
+            this.ring = ring; this.sequence = sequence;
+        }
+
+        /**
+         * Return the sequence of the last handled event.
+         *
+         * @return the sequence of the last handled event
+         */
+        public long sequence() {
+            return sequence.get();
+        }
+
+        /**
+         * Handle the published events not handled yet, if any, by the given handler.
+         *
+         * @param handler the given handler, not retaining the events
+         * @return the number of the handled events
+         */
+        public int poll(Consumer<? super E> handler) {
+            long next = sequence.get() + 1, high = ring.cursor.get();
+            if (high < next || (high = ring.published(next, high)) < next)
+                return 0;
+            for (long current = next; current <= high; current++)
+                handler.accept(ring.get(current));
+            sequence.put(high);
+            return (int) (high - next + 1);
+        }
+
+        /**
+         * Handle the published events not handled yet by the given handler, waiting for at least one.
+         *
+         * @param handler the given handler, not retaining the events
+         * @return the number of the handled events
+         * @throws InterruptedException if interrupted while waiting
+         */
+        public int take(Consumer<? super E> handler) throws InterruptedException {
+            for (int attempt = 0; ; ring.backoff.pause(++attempt)) {
+                int count = poll(handler);
+                if (count > 0)
+                    return count;
+                if (Thread.interrupted())
+                    throw new InterruptedException();
+            }
+        }
+
+        /**
+         * Unregister the reader, no longer gating the producers.
+         */
+        @Override
+        public void close() {
+            ring.gates.update(current -> {
+                int count = 0; Sequence[] updated = new Sequence[current.length];
+                for (Sequence gate : current)
+                    if (gate != sequence) updated[count++] = gate;
+                return Arrays.copyOf(updated, count);
+            });
+        }
+    }
+
+
+    /**
+     * Return the ring of the given capacity, event factory and waiting strategy.
+     *
+     * @param capacity the given capacity, a power of two
+     * @param factory the given factory of the pre-allocated events
+     * @param backoff the given waiting strategy
+     * @param <E> the type of the events
+     * @return the ring of the given capacity
+     * @throws IllegalArgumentException if the capacity is not a positive power of two
+     */
+    public static <E> Ring<E> ring(int capacity, Supplier<? extends E> factory, Backoff backoff) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1)
+            throw new IllegalArgumentException("Capacity " + capacity + " is not a positive power of two");
+        return new Ring<>(capacity, factory, backoff);
+    }
+}
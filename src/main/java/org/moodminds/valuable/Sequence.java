@@ -0,0 +1,145 @@
+package org.moodminds.valuable;
+
+import java.lang.invoke.VarHandle;
+
+import static java.lang.invoke.MethodHandles.lookup;
+
+/**
+ * Cache-line padded long sequence {@link Valuable}, intended for the counters written by one thread and read
+ * by others at a high rate, e.g. the cursor and gating sequences of a {@link Ring}, so that the neighboring
+ * objects written by other threads do not share the cache line with it.
+ * <p>
+ * Like {@link Gauge#put(long)}, {@link #put(long)} is a release store. Reads are volatile loads,
+ * and the update methods are atomic, same as in {@link Volatile.Long}.
+ */
+public final class Sequence extends SequenceValue implements Valuable.Long {
+
+    /**
+     * The trailing padding.
+     */
+    @SuppressWarnings("unused")
+    private long p11, p12, p13, p14, p15, p16, p17;
+
+    /**
+     * Construct the object with the given initial value.
+     *
+     * @param num the given initial value
+     */
+    private Sequence(long num) {
+        NUM.setRelease(this, num);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public long get() {
+        return num;
+    }
+
+    /**
+     * Set the given value by a release store.
+     *
+     * @param num {@inheritDoc}
+     */
+    @Override
+    public void put(long num) {
+        NUM.setRelease(this, num);
+    }
+
+    /**
+     * Atomically get the previous value and set the new value.
+     *
+     * @param num {@inheritDoc}
+     * @return {@inheritDoc}
+     */
+    @Override
+    public long set(long num) {
+        return (long) NUM.getAndSet(this, num);
+    }
+
+    /**
+     * Atomically set the given value if the current value {@code == state}.
+     *
+     * @param state {@inheritDoc}
+     * @param num {@inheritDoc}
+     * @return {@inheritDoc}
+     */
+    @Override
+    public boolean let(long state, long num) {
+        return NUM.compareAndSet(this, state, num);
+    }
+
+    /**
+     * Atomically increment value and return.
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public long incr() {
+        return (long) NUM.getAndAdd(this, 1L) + 1L;
+    }
+
+    /**
+     * Atomically decrement value and return.
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public long decr() {
+        return (long) NUM.getAndAdd(this, -1L) - 1L;
+    }
+
+    /**
+     * Atomically add the given value and return the resulting value.
+     *
+     * @param num the given added value
+     * @return the resulting value
+     */
+    public long add(long num) {
+        return (long) NUM.getAndAdd(this, num) + num;
+    }
+
+
+    /**
+     * Return the padded sequence by the given initial value.
+     *
+     * @param value the given initial value
+     * @return the padded sequence by the given initial value
+     */
+    public static Sequence sequence(long value) {
+        return new Sequence(value);
+    }
+}
+
+/**
+ * The leading padding of a {@link Sequence}, laid out before the subclass fields.
+ */
+abstract class SequencePadding {
+
+    /**
+     * The leading padding.
+     */
+    @SuppressWarnings("unused")
+    private long p01, p02, p03, p04, p05, p06, p07;
+}
+
+/**
+ * The value of a {@link Sequence}, laid out between the leading and the trailing padding.
+ */
+abstract class SequenceValue extends SequencePadding {
+
+    static final VarHandle NUM;
+
+    static {
+        try { NUM = lookup().findVarHandle(SequenceValue.class, "num", long.class); }
+        catch (ReflectiveOperationException e) { throw new ExceptionInInitializerError(e); }
+    }
+
+    /**
+     * The value-holding field.
+     */
+    volatile long num;
+}
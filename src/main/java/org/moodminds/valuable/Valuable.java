@@ -1,5 +1,7 @@
 package org.moodminds.valuable;
 
+import java.util.Objects;
+
 /**
  * Mutable value accessor generally intended for usage in anonymous instances and lambdas.
  */
@@ -72,6 +74,95 @@ public interface Valuable<V> {
          * @return {@code true} if successfully set to the new value, or {@code false} otherwise
          */
         boolean let(boolean state, boolean flg);
+
+        /**
+         * Set the value to the bitwise OR of the current and the given values possibly atomically
+         * for thread-safe and return the resulting value.
+         *
+         * @param flg the given value
+         * @return the resulting value
+         */
+        default boolean or(boolean flg) {
+            for (boolean current = get(); ; current = get())
+                if (let(current, current | flg))
+                    return current | flg;
+        }
+
+        /**
+         * Set the value to the bitwise OR of the current and the given values possibly atomically
+         * for thread-safe and return the previous value.
+         *
+         * @param flg the given value
+         * @return the previous value
+         */
+        default boolean getAndOr(boolean flg) {
+            for (boolean current = get(); ; current = get())
+                if (let(current, current | flg))
+                    return current;
+        }
+
+        /**
+         * Set the value to the bitwise AND of the current and the given values possibly atomically
+         * for thread-safe and return the resulting value.
+         *
+         * @param flg the given value
+         * @return the resulting value
+         */
+        default boolean and(boolean flg) {
+            for (boolean current = get(); ; current = get())
+                if (let(current, current & flg))
+                    return current & flg;
+        }
+
+        /**
+         * Set the value to the bitwise AND of the current and the given values possibly atomically
+         * for thread-safe and return the previous value.
+         *
+         * @param flg the given value
+         * @return the previous value
+         */
+        default boolean getAndAnd(boolean flg) {
+            for (boolean current = get(); ; current = get())
+                if (let(current, current & flg))
+                    return current;
+        }
+
+        /**
+         * Set the value to the bitwise XOR of the current and the given values possibly atomically
+         * for thread-safe and return the resulting value.
+         *
+         * @param flg the given value
+         * @return the resulting value
+         */
+        default boolean xor(boolean flg) {
+            for (boolean current = get(); ; current = get())
+                if (let(current, current ^ flg))
+                    return current ^ flg;
+        }
+
+        /**
+         * Set the value to the bitwise XOR of the current and the given values possibly atomically
+         * for thread-safe and return the previous value.
+         *
+         * @param flg the given value
+         * @return the previous value
+         */
+        default boolean getAndXor(boolean flg) {
+            for (boolean current = get(); ; current = get())
+                if (let(current, current ^ flg))
+                    return current;
+        }
+
+        /**
+         * Invert the value possibly atomically for thread-safe and return the resulting value.
+         *
+         * @return the resulting value
+         */
+        default boolean toggle() {
+            for (boolean current = get(); ; current = get())
+                if (let(current, !current))
+                    return !current;
+        }
     }
 
     /**
@@ -109,6 +200,84 @@ public interface Valuable<V> {
          * @return {@code true} if successfully set to the new value, or {@code false} otherwise
          */
         boolean let(char state, char chr);
+
+        /**
+         * Set the value to the bitwise OR of the current and the given values possibly atomically
+         * for thread-safe and return the resulting value.
+         *
+         * @param chr the given value
+         * @return the resulting value
+         */
+        default char or(char chr) {
+            for (char current = get(); ; current = get())
+                if (let(current, (char) (current | chr)))
+                    return (char) (current | chr);
+        }
+
+        /**
+         * Set the value to the bitwise OR of the current and the given values possibly atomically
+         * for thread-safe and return the previous value.
+         *
+         * @param chr the given value
+         * @return the previous value
+         */
+        default char getAndOr(char chr) {
+            for (char current = get(); ; current = get())
+                if (let(current, (char) (current | chr)))
+                    return current;
+        }
+
+        /**
+         * Set the value to the bitwise AND of the current and the given values possibly atomically
+         * for thread-safe and return the resulting value.
+         *
+         * @param chr the given value
+         * @return the resulting value
+         */
+        default char and(char chr) {
+            for (char current = get(); ; current = get())
+                if (let(current, (char) (current & chr)))
+                    return (char) (current & chr);
+        }
+
+        /**
+         * Set the value to the bitwise AND of the current and the given values possibly atomically
+         * for thread-safe and return the previous value.
+         *
+         * @param chr the given value
+         * @return the previous value
+         */
+        default char getAndAnd(char chr) {
+            for (char current = get(); ; current = get())
+                if (let(current, (char) (current & chr)))
+                    return current;
+        }
+
+        /**
+         * Set the value to the bitwise XOR of the current and the given values possibly atomically
+         * for thread-safe and return the resulting value.
+         *
+         * @param chr the given value
+         * @return the resulting value
+         */
+        default char xor(char chr) {
+            for (char current = get(); ; current = get())
+                if (let(current, (char) (current ^ chr)))
+                    return (char) (current ^ chr);
+        }
+
+        /**
+         * Set the value to the bitwise XOR of the current and the given values possibly atomically
+         * for thread-safe and return the previous value.
+         *
+         * @param chr the given value
+         * @return the previous value
+         */
+        default char getAndXor(char chr) {
+            for (char current = get(); ; current = get())
+                if (let(current, (char) (current ^ chr)))
+                    return current;
+        }
     }
 
     /**
@@ -160,6 +329,142 @@ public interface Valuable<V> {
          * @return decremented value
          */
         byte decr();
+
+        /**
+         * Set the value to the maximum of the current and the given values possibly atomically for thread-safe
+         * and return the resulting value. Nothing is written if the current value is already not less.
+         *
+         * @param num the given value
+         * @return the resulting value
+         */
+        default byte max(byte num) {
+            for (byte current = get(); ; current = get()) {
+                if (current >= num)
+                    return current;
+                if (let(current, num))
+                    return num;
+            }
+        }
+
+        /**
+         * Set the value to the maximum of the current and the given values possibly atomically for thread-safe
+         * and return the previous value. Nothing is written if the current value is already not less.
+         *
+         * @param num the given value
+         * @return the previous value
+         */
+        default byte getAndMax(byte num) {
+            for (byte current = get(); ; current = get())
+                if (current >= num || let(current, num))
+                    return current;
+        }
+
+        /**
+         * Set the value to the minimum of the current and the given values possibly atomically for thread-safe
+         * and return the resulting value. Nothing is written if the current value is already not greater.
+         *
+         * @param num the given value
+         * @return the resulting value
+         */
+        default byte min(byte num) {
+            for (byte current = get(); ; current = get()) {
+                if (current <= num)
+                    return current;
+                if (let(current, num))
+                    return num;
+            }
+        }
+
+        /**
+         * Set the value to the minimum of the current and the given values possibly atomically for thread-safe
+         * and return the previous value. Nothing is written if the current value is already not greater.
+         *
+         * @param num the given value
+         * @return the previous value
+         */
+        default byte getAndMin(byte num) {
+            for (byte current = get(); ; current = get())
+                if (current <= num || let(current, num))
+                    return current;
+        }
+
+        /**
+         * Set the value to the bitwise OR of the current and the given values possibly atomically
+         * for thread-safe and return the resulting value.
+         *
+         * @param num the given value
+         * @return the resulting value
+         */
+        default byte or(byte num) {
+            for (byte current = get(); ; current = get())
+                if (let(current, (byte) (current | num)))
+                    return (byte) (current | num);
+        }
+
+        /**
+         * Set the value to the bitwise OR of the current and the given values possibly atomically
+         * for thread-safe and return the previous value.
+         *
+         * @param num the given value
+         * @return the previous value
+         */
+        default byte getAndOr(byte num) {
+            for (byte current = get(); ; current = get())
+                if (let(current, (byte) (current | num)))
+                    return current;
+        }
+
+        /**
+         * Set the value to the bitwise AND of the current and the given values possibly atomically
+         * for thread-safe and return the resulting value.
+         *
+         * @param num the given value
+         * @return the resulting value
+         */
+        default byte and(byte num) {
+            for (byte current = get(); ; current = get())
+                if (let(current, (byte) (current & num)))
+                    return (byte) (current & num);
+        }
+
+        /**
+         * Set the value to the bitwise AND of the current and the given values possibly atomically
+         * for thread-safe and return the previous value.
+         *
+         * @param num the given value
+         * @return the previous value
+         */
+        default byte getAndAnd(byte num) {
+            for (byte current = get(); ; current = get())
+                if (let(current, (byte) (current & num)))
+                    return current;
+        }
+
+        /**
+         * Set the value to the bitwise XOR of the current and the given values possibly atomically
+         * for thread-safe and return the resulting value.
+         *
+         * @param num the given value
+         * @return the resulting value
+         */
+        default byte xor(byte num) {
+            for (byte current = get(); ; current = get())
+                if (let(current, (byte) (current ^ num)))
+                    return (byte) (current ^ num);
+        }
+
+        /**
+         * Set the value to the bitwise XOR of the current and the given values possibly atomically
+         * for thread-safe and return the previous value.
+         *
+         * @param num the given value
+         * @return the previous value
+         */
+        default byte getAndXor(byte num) {
+            for (byte current = get(); ; current = get())
+                if (let(current, (byte) (current ^ num)))
+                    return current;
+        }
     }
 
     /**
@@ -211,6 +516,142 @@ public interface Valuable<V> {
          * @return decremented value
          */
         short decr();
+
+        /**
+         * Set the value to the maximum of the current and the given values possibly atomically for thread-safe
+         * and return the resulting value. Nothing is written if the current value is already not less.
+         *
+         * @param num the given value
+         * @return the resulting value
+         */
+        default short max(short num) {
+            for (short current = get(); ; current = get()) {
+                if (current >= num)
+                    return current;
+                if (let(current, num))
+                    return num;
+            }
+        }
+
+        /**
+         * Set the value to the maximum of the current and the given values possibly atomically for thread-safe
+         * and return the previous value. Nothing is written if the current value is already not less.
+         *
+         * @param num the given value
+         * @return the previous value
+         */
+        default short getAndMax(short num) {
+            for (short current = get(); ; current = get())
+                if (current >= num || let(current, num))
+                    return current;
+        }
+
+        /**
+         * Set the value to the minimum of the current and the given values possibly atomically for thread-safe
+         * and return the resulting value. Nothing is written if the current value is already not greater.
+         *
+         * @param num the given value
+         * @return the resulting value
+         */
+        default short min(short num) {
+            for (short current = get(); ; current = get()) {
+                if (current <= num)
+                    return current;
+                if (let(current, num))
+                    return num;
+            }
+        }
+
+        /**
+         * Set the value to the minimum of the current and the given values possibly atomically for thread-safe
+         * and return the previous value. Nothing is written if the current value is already not greater.
+         *
+         * @param num the given value
+         * @return the previous value
+         */
+        default short getAndMin(short num) {
+            for (short current = get(); ; current = get())
+                if (current <= num || let(current, num))
+                    return current;
+        }
+
+        /**
+         * Set the value to the bitwise OR of the current and the given values possibly atomically
+         * for thread-safe and return the resulting value.
+         *
+         * @param num the given value
+         * @return the resulting value
+         */
+        default short or(short num) {
+            for (short current = get(); ; current = get())
+                if (let(current, (short) (current | num)))
+                    return (short) (current | num);
+        }
+
+        /**
+         * Set the value to the bitwise OR of the current and the given values possibly atomically
+         * for thread-safe and return the previous value.
+         *
+         * @param num the given value
+         * @return the previous value
+         */
+        default short getAndOr(short num) {
+            for (short current = get(); ; current = get())
+                if (let(current, (short) (current | num)))
+                    return current;
+        }
+
+        /**
+         * Set the value to the bitwise AND of the current and the given values possibly atomically
+         * for thread-safe and return the resulting value.
+         *
+         * @param num the given value
+         * @return the resulting value
+         */
+        default short and(short num) {
+            for (short current = get(); ; current = get())
+                if (let(current, (short) (current & num)))
+                    return (short) (current & num);
+        }
+
+        /**
+         * Set the value to the bitwise AND of the current and the given values possibly atomically
+         * for thread-safe and return the previous value.
+         *
+         * @param num the given value
+         * @return the previous value
+         */
+        default short getAndAnd(short num) {
+            for (short current = get(); ; current = get())
+                if (let(current, (short) (current & num)))
+                    return current;
+        }
+
+        /**
+         * Set the value to the bitwise XOR of the current and the given values possibly atomically
+         * for thread-safe and return the resulting value.
+         *
+         * @param num the given value
+         * @return the resulting value
+         */
+        default short xor(short num) {
+            for (short current = get(); ; current = get())
+                if (let(current, (short) (current ^ num)))
+                    return (short) (current ^ num);
+        }
+
+        /**
+         * Set the value to the bitwise XOR of the current and the given values possibly atomically
+         * for thread-safe and return the previous value.
+         *
+         * @param num the given value
+         * @return the previous value
+         */
+        default short getAndXor(short num) {
+            for (short current = get(); ; current = get())
+                if (let(current, (short) (current ^ num)))
+                    return current;
+        }
     }
 
     /**
@@ -262,6 +703,175 @@ public interface Valuable<V> {
          * @return decremented value
          */
         int decr();
+
+        /**
+         * Set the value to the maximum of the current and the given values possibly atomically for thread-safe
+         * and return the resulting value. Nothing is written if the current value is already not less.
+         *
+         * @param num the given value
+         * @return the resulting value
+         */
+        default int max(int num) {
+            for (int current = get(); ; current = get()) {
+                if (current >= num)
+                    return current;
+                if (let(current, num))
+                    return num;
+            }
+        }
+
+        /**
+         * Set the value to the maximum of the current and the given values possibly atomically for thread-safe
+         * and return the previous value. Nothing is written if the current value is already not less.
+         *
+         * @param num the given value
+         * @return the previous value
+         */
+        default int getAndMax(int num) {
+            for (int current = get(); ; current = get())
+                if (current >= num || let(current, num))
+                    return current;
+        }
+
+        /**
+         * Set the value to the minimum of the current and the given values possibly atomically for thread-safe
+         * and return the resulting value. Nothing is written if the current value is already not greater.
+         *
+         * @param num the given value
+         * @return the resulting value
+         */
+        default int min(int num) {
+            for (int current = get(); ; current = get()) {
+                if (current <= num)
+                    return current;
+                if (let(current, num))
+                    return num;
+            }
+        }
+
+        /**
+         * Set the value to the minimum of the current and the given values possibly atomically for thread-safe
+         * and return the previous value. Nothing is written if the current value is already not greater.
+         *
+         * @param num the given value
+         * @return the previous value
+         */
+        default int getAndMin(int num) {
+            for (int current = get(); ; current = get())
+                if (current <= num || let(current, num))
+                    return current;
+        }
+
+        /**
+         * Set the value to the bitwise OR of the current and the given values possibly atomically
+         * for thread-safe and return the resulting value.
+         *
+         * @param num the given value
+         * @return the resulting value
+         */
+        default int or(int num) {
+            for (int current = get(); ; current = get())
+                if (let(current, current | num))
+                    return current | num;
+        }
+
+        /**
+         * Set the value to the bitwise OR of the current and the given values possibly atomically
+         * for thread-safe and return the previous value.
+         *
+         * @param num the given value
+         * @return the previous value
+         */
+        default int getAndOr(int num) {
+            for (int current = get(); ; current = get())
+                if (let(current, current | num))
+                    return current;
+        }
+
+        /**
+         * Set the value to the bitwise AND of the current and the given values possibly atomically
+         * for thread-safe and return the resulting value.
+         *
+         * @param num the given value
+         * @return the resulting value
+         */
+        default int and(int num) {
+            for (int current = get(); ; current = get())
+                if (let(current, current & num))
+                    return current & num;
+        }
+
+        /**
+         * Set the value to the bitwise AND of the current and the given values possibly atomically
+         * for thread-safe and return the previous value.
+         *
+         * @param num the given value
+         * @return the previous value
+         */
+        default int getAndAnd(int num) {
+            for (int current = get(); ; current = get())
+                if (let(current, current & num))
+                    return current;
+        }
+
+        /**
+         * Set the value to the bitwise XOR of the current and the given values possibly atomically
+         * for thread-safe and return the resulting value.
+         *
+         * @param num the given value
+         * @return the resulting value
+         */
+        default int xor(int num) {
+            for (int current = get(); ; current = get())
+                if (let(current, current ^ num))
+                    return current ^ num;
+        }
+
+        /**
+         * Set the value to the bitwise XOR of the current and the given values possibly atomically
+         * for thread-safe and return the previous value.
+         *
+         * @param num the given value
+         * @return the previous value
+         */
+        default int getAndXor(int num) {
+            for (int current = get(); ; current = get())
+                if (let(current, current ^ num))
+                    return current;
+        }
+
+        /**
+         * Set the bit of the given index possibly atomically for thread-safe and return its previous state.
+         *
+         * @param bit the given bit index
+         * @return {@code true} if the bit was set before, or {@code false} otherwise
+         * @throws IndexOutOfBoundsException if the index is not within 0 and 31
+         */
+        default boolean setBit(int bit) {
+            return (getAndOr(1 << Objects.checkIndex(bit, Integer.SIZE)) & 1 << bit) != 0;
+        }
+
+        /**
+         * Clear the bit of the given index possibly atomically for thread-safe and return its previous state.
+         *
+         * @param bit the given bit index
+         * @return {@code true} if the bit was set before, or {@code false} otherwise
+         * @throws IndexOutOfBoundsException if the index is not within 0 and 31
+         */
+        default boolean clearBit(int bit) {
+            return (getAndAnd(~(1 << Objects.checkIndex(bit, Integer.SIZE))) & 1 << bit) != 0;
+        }
+
+        /**
+         * Return the state of the bit of the given index.
+         *
+         * @param bit the given bit index
+         * @return {@code true} if the bit is set, or {@code false} otherwise
+         * @throws IndexOutOfBoundsException if the index is not within 0 and 31
+         */
+        default boolean testBit(int bit) {
+            return (get() & 1 << Objects.checkIndex(bit, Integer.SIZE)) != 0;
+        }
     }
 
     /**
@@ -313,6 +923,175 @@ public interface Valuable<V> {
          * @return decremented value
          */
         long decr();
+
+        /**
+         * Set the value to the maximum of the current and the given values possibly atomically for thread-safe
+         * and return the resulting value. Nothing is written if the current value is already not less.
+         *
+         * @param num the given value
+         * @return the resulting value
+         */
+        default long max(long num) {
+            for (long current = get(); ; current = get()) {
+                if (current >= num)
+                    return current;
+                if (let(current, num))
+                    return num;
+            }
+        }
+
+        /**
+         * Set the value to the maximum of the current and the given values possibly atomically for thread-safe
+         * and return the previous value. Nothing is written if the current value is already not less.
+         *
+         * @param num the given value
+         * @return the previous value
+         */
+        default long getAndMax(long num) {
+            for (long current = get(); ; current = get())
+                if (current >= num || let(current, num))
+                    return current;
+        }
+
+        /**
+         * Set the value to the minimum of the current and the given values possibly atomically for thread-safe
+         * and return the resulting value. Nothing is written if the current value is already not greater.
+         *
+         * @param num the given value
+         * @return the resulting value
+         */
+        default long min(long num) {
+            for (long current = get(); ; current = get()) {
+                if (current <= num)
+                    return current;
+                if (let(current, num))
+                    return num;
+            }
+        }
+
+        /**
+         * Set the value to the minimum of the current and the given values possibly atomically for thread-safe
+         * and return the previous value. Nothing is written if the current value is already not greater.
+         *
+         * @param num the given value
+         * @return the previous value
+         */
+        default long getAndMin(long num) {
+            for (long current = get(); ; current = get())
+                if (current <= num || let(current, num))
+                    return current;
+        }
+
+        /**
+         * Set the value to the bitwise OR of the current and the given values possibly atomically
+         * for thread-safe and return the resulting value.
+         *
+         * @param num the given value
+         * @return the resulting value
+         */
+        default long or(long num) {
+            for (long current = get(); ; current = get())
+                if (let(current, current | num))
+                    return current | num;
+        }
+
+        /**
+         * Set the value to the bitwise OR of the current and the given values possibly atomically
+         * for thread-safe and return the previous value.
+         *
+         * @param num the given value
+         * @return the previous value
+         */
+        default long getAndOr(long num) {
+            for (long current = get(); ; current = get())
+                if (let(current, current | num))
+                    return current;
+        }
+
+        /**
+         * Set the value to the bitwise AND of the current and the given values possibly atomically
+         * for thread-safe and return the resulting value.
+         *
+         * @param num the given value
+         * @return the resulting value
+         */
+        default long and(long num) {
+            for (long current = get(); ; current = get())
+                if (let(current, current & num))
+                    return current & num;
+        }
+
+        /**
+         * Set the value to the bitwise AND of the current and the given values possibly atomically
+         * for thread-safe and return the previous value.
+         *
+         * @param num the given value
+         * @return the previous value
+         */
+        default long getAndAnd(long num) {
+            for (long current = get(); ; current = get())
+                if (let(current, current & num))
+                    return current;
+        }
+
+        /**
+         * Set the value to the bitwise XOR of the current and the given values possibly atomically
+         * for thread-safe and return the resulting value.
+         *
+         * @param num the given value
+         * @return the resulting value
+         */
+        default long xor(long num) {
+            for (long current = get(); ; current = get())
+                if (let(current, current ^ num))
+                    return current ^ num;
+        }
+
+        /**
+         * Set the value to the bitwise XOR of the current and the given values possibly atomically
+         * for thread-safe and return the previous value.
+         *
+         * @param num the given value
+         * @return the previous value
+         */
+        default long getAndXor(long num) {
+            for (long current = get(); ; current = get())
+                if (let(current, current ^ num))
+                    return current;
+        }
+
+        /**
+         * Set the bit of the given index possibly atomically for thread-safe and return its previous state.
+         *
+         * @param bit the given bit index
+         * @return {@code true} if the bit was set before, or {@code false} otherwise
+         * @throws IndexOutOfBoundsException if the index is not within 0 and 63
+         */
+        default boolean setBit(int bit) {
+            return (getAndOr(1L << Objects.checkIndex(bit, java.lang.Long.SIZE)) & 1L << bit) != 0;
+        }
+
+        /**
+         * Clear the bit of the given index possibly atomically for thread-safe and return its previous state.
+         *
+         * @param bit the given bit index
+         * @return {@code true} if the bit was set before, or {@code false} otherwise
+         * @throws IndexOutOfBoundsException if the index is not within 0 and 63
+         */
+        default boolean clearBit(int bit) {
+            return (getAndAnd(~(1L << Objects.checkIndex(bit, java.lang.Long.SIZE))) & 1L << bit) != 0;
+        }
+
+        /**
+         * Return the state of the bit of the given index.
+         *
+         * @param bit the given bit index
+         * @return {@code true} if the bit is set, or {@code false} otherwise
+         * @throws IndexOutOfBoundsException if the index is not within 0 and 63
+         */
+        default boolean testBit(int bit) {
+            return (get() & 1L << Objects.checkIndex(bit, java.lang.Long.SIZE)) != 0;
+        }
     }
 
     /**
@@ -350,6 +1129,66 @@ public interface Valuable<V> {
          * @return {@code true} if successfully set to the new value, or {@code false} otherwise
          */
         boolean let(float state, float num);
+
+        /**
+         * Set the value to the maximum of the current and the given values possibly atomically for thread-safe
+         * and return the resulting value. Nothing is written if the current value is already not less.
+         *
+         * @param num the given value
+         * @return the resulting value
+         */
+        default float max(float num) {
+            for (float current = get(); ; current = get()) {
+                float max = Math.max(current, num);
+                if (java.lang.Float.compare(max, current) == 0 || let(current, max))
+                    return max;
+            }
+        }
+
+        /**
+         * Set the value to the maximum of the current and the given values possibly atomically for thread-safe
+         * and return the previous value. Nothing is written if the current value is already not less.
+         *
+         * @param num the given value
+         * @return the previous value
+         */
+        default float getAndMax(float num) {
+            for (float current = get(); ; current = get()) {
+                float max = Math.max(current, num);
+                if (java.lang.Float.compare(max, current) == 0 || let(current, max))
+                    return current;
+            }
+        }
+
+        /**
+         * Set the value to the minimum of the current and the given values possibly atomically for thread-safe
+         * and return the resulting value. Nothing is written if the current value is already not greater.
+         *
+         * @param num the given value
+         * @return the resulting value
+         */
+        default float min(float num) {
+            for (float current = get(); ; current = get()) {
+                float min = Math.min(current, num);
+                if (java.lang.Float.compare(min, current) == 0 || let(current, min))
+                    return min;
+            }
+        }
+
+        /**
+         * Set the value to the minimum of the current and the given values possibly atomically for thread-safe
+         * and return the previous value. Nothing is written if the current value is already not greater.
+         *
+         * @param num the given value
+         * @return the previous value
+         */
+        default float getAndMin(float num) {
+            for (float current = get(); ; current = get()) {
+                float min = Math.min(current, num);
+                if (java.lang.Float.compare(min, current) == 0 || let(current, min))
+                    return current;
+            }
+        }
     }
 
     /**
@@ -387,5 +1226,65 @@ public interface Valuable<V> {
          * @return {@code true} if successfully set to the new value, or {@code false} otherwise
          */
         boolean let(double state, double num);
+
+        /**
+         * Set the value to the maximum of the current and the given values possibly atomically for thread-safe
+         * and return the resulting value. Nothing is written if the current value is already not less.
+         *
+         * @param num the given value
+         * @return the resulting value
+         */
+        default double max(double num) {
+            for (double current = get(); ; current = get()) {
+                double max = Math.max(current, num);
+                if (java.lang.Double.compare(max, current) == 0 || let(current, max))
+                    return max;
+            }
+        }
+
+        /**
+         * Set the value to the maximum of the current and the given values possibly atomically for thread-safe
+         * and return the previous value. Nothing is written if the current value is already not less.
+         *
+         * @param num the given value
+         * @return the previous value
+         */
+        default double getAndMax(double num) {
+            for (double current = get(); ; current = get()) {
+                double max = Math.max(current, num);
+                if (java.lang.Double.compare(max, current) == 0 || let(current, max))
+                    return current;
+            }
+        }
+
+        /**
+         * Set the value to the minimum of the current and the given values possibly atomically for thread-safe
+         * and return the resulting value. Nothing is written if the current value is already not greater.
+         *
+         * @param num the given value
+         * @return the resulting value
+         */
+        default double min(double num) {
+            for (double current = get(); ; current = get()) {
+                double min = Math.min(current, num);
+                if (java.lang.Double.compare(min, current) == 0 || let(current, min))
+                    return min;
+            }
+        }
+
+        /**
+         * Set the value to the minimum of the current and the given values possibly atomically for thread-safe
+         * and return the previous value. Nothing is written if the current value is already not greater.
+         *
+         * @param num the given value
+         * @return the previous value
+         */
+        default double getAndMin(double num) {
+            for (double current = get(); ; current = get()) {
+                double min = Math.min(current, num);
+                if (java.lang.Double.compare(min, current) == 0 || let(current, min))
+                    return current;
+            }
+        }
     }
 }
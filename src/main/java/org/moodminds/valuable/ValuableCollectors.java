@@ -0,0 +1,260 @@
+package org.moodminds.valuable;
+
+import java.util.Comparator;
+import java.util.function.BiFunction;
+import java.util.function.BinaryOperator;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.IntBinaryOperator;
+import java.util.function.LongBinaryOperator;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collector;
+
+import static java.util.stream.Collector.Characteristics.IDENTITY_FINISH;
+import static java.util.stream.Collector.Characteristics.UNORDERED;
+import static org.moodminds.valuable.Variable.var;
+
+/**
+ * {@link Collector} implementations reducing stream elements into {@link Valuable} holders.
+ * <p>
+ * Each split of a (possibly parallel) stream accumulates into its own confined {@link Variable}
+ * container, the containers are combined at the end, so no shared state is contended while accumulating.
+ */
+public final class ValuableCollectors {
+
+    /**
+     * Construct the object.
+     */
+    private ValuableCollectors() {}
+
+    /**
+     * Return the {@link Collector} counting the input elements.
+     *
+     * @param <T> the type of the input elements
+     * @return the {@link Collector} counting the input elements
+     */
+    public static <T> Collector<T, ?, Valuable.Long> counting() {
+        return Collector.<T, Variable.Long, Valuable.Long>of(() -> var(0L),
+                (h, t) -> h.num++,
+                (h1, h2) -> { h1.num += h2.num; return h1; },
+                h -> h, UNORDERED, IDENTITY_FINISH);
+    }
+
+    /**
+     * Return the {@link Collector} summing the int values produced by the given mapper.
+     *
+     * @param mapper the given mapper
+     * @param <T> the type of the input elements
+     * @return the {@link Collector} summing the int values produced by the given mapper
+     */
+    public static <T> Collector<T, ?, Valuable.Int> summingInt(ToIntFunction<? super T> mapper) {
+        return foldingInt(0, mapper, Integer::sum);
+    }
+
+    /**
+     * Return the {@link Collector} summing the long values produced by the given mapper.
+     *
+     * @param mapper the given mapper
+     * @param <T> the type of the input elements
+     * @return the {@link Collector} summing the long values produced by the given mapper
+     */
+    public static <T> Collector<T, ?, Valuable.Long> summingLong(ToLongFunction<? super T> mapper) {
+        return foldingLong(0L, mapper, java.lang.Long::sum);
+    }
+
+    /**
+     * Return the {@link Collector} summing the double values produced by the given mapper.
+     *
+     * @param mapper the given mapper
+     * @param <T> the type of the input elements
+     * @return the {@link Collector} summing the double values produced by the given mapper
+     */
+    public static <T> Collector<T, ?, Valuable.Double> summingDouble(ToDoubleFunction<? super T> mapper) {
+        return foldingDouble(0.0D, mapper, java.lang.Double::sum);
+    }
+
+    /**
+     * Return the {@link Collector} finding the minimum of the int values produced by the given mapper,
+     * resulting in {@link Integer#MAX_VALUE} if there are no elements.
+     *
+     * @param mapper the given mapper
+     * @param <T> the type of the input elements
+     * @return the {@link Collector} finding the minimum of the int values produced by the given mapper
+     */
+    public static <T> Collector<T, ?, Valuable.Int> minimizingInt(ToIntFunction<? super T> mapper) {
+        return foldingInt(Integer.MAX_VALUE, mapper, Math::min);
+    }
+
+    /**
+     * Return the {@link Collector} finding the minimum of the long values produced by the given mapper,
+     * resulting in {@link java.lang.Long#MAX_VALUE} if there are no elements.
+     *
+     * @param mapper the given mapper
+     * @param <T> the type of the input elements
+     * @return the {@link Collector} finding the minimum of the long values produced by the given mapper
+     */
+    public static <T> Collector<T, ?, Valuable.Long> minimizingLong(ToLongFunction<? super T> mapper) {
+        return foldingLong(java.lang.Long.MAX_VALUE, mapper, Math::min);
+    }
+
+    /**
+     * Return the {@link Collector} finding the minimum of the double values produced by the given mapper,
+     * resulting in {@link java.lang.Double#POSITIVE_INFINITY} if there are no elements.
+     *
+     * @param mapper the given mapper
+     * @param <T> the type of the input elements
+     * @return the {@link Collector} finding the minimum of the double values produced by the given mapper
+     */
+    public static <T> Collector<T, ?, Valuable.Double> minimizingDouble(ToDoubleFunction<? super T> mapper) {
+        return foldingDouble(java.lang.Double.POSITIVE_INFINITY, mapper, Math::min);
+    }
+
+    /**
+     * Return the {@link Collector} finding the maximum of the int values produced by the given mapper,
+     * resulting in {@link Integer#MIN_VALUE} if there are no elements.
+     *
+     * @param mapper the given mapper
+     * @param <T> the type of the input elements
+     * @return the {@link Collector} finding the maximum of the int values produced by the given mapper
+     */
+    public static <T> Collector<T, ?, Valuable.Int> maximizingInt(ToIntFunction<? super T> mapper) {
+        return foldingInt(Integer.MIN_VALUE, mapper, Math::max);
+    }
+
+    /**
+     * Return the {@link Collector} finding the maximum of the long values produced by the given mapper,
+     * resulting in {@link java.lang.Long#MIN_VALUE} if there are no elements.
+     *
+     * @param mapper the given mapper
+     * @param <T> the type of the input elements
+     * @return the {@link Collector} finding the maximum of the long values produced by the given mapper
+     */
+    public static <T> Collector<T, ?, Valuable.Long> maximizingLong(ToLongFunction<? super T> mapper) {
+        return foldingLong(java.lang.Long.MIN_VALUE, mapper, Math::max);
+    }
+
+    /**
+     * Return the {@link Collector} finding the maximum of the double values produced by the given mapper,
+     * resulting in {@link java.lang.Double#NEGATIVE_INFINITY} if there are no elements.
+     *
+     * @param mapper the given mapper
+     * @param <T> the type of the input elements
+     * @return the {@link Collector} finding the maximum of the double values produced by the given mapper
+     */
+    public static <T> Collector<T, ?, Valuable.Double> maximizingDouble(ToDoubleFunction<? super T> mapper) {
+        return foldingDouble(java.lang.Double.NEGATIVE_INFINITY, mapper, Math::max);
+    }
+
+    /**
+     * Return the {@link Collector} finding the minimal element by the given comparator,
+     * resulting in {@code null} if there are no elements.
+     *
+     * @param comparator the given comparator
+     * @param <T> the type of the input elements
+     * @return the {@link Collector} finding the minimal element by the given comparator
+     */
+    public static <T> Collector<T, ?, Valuable<T>> minimizing(Comparator<? super T> comparator) {
+        return choosing((t1, t2) -> comparator.compare(t1, t2) <= 0 ? t1 : t2);
+    }
+
+    /**
+     * Return the {@link Collector} finding the maximal element by the given comparator,
+     * resulting in {@code null} if there are no elements.
+     *
+     * @param comparator the given comparator
+     * @param <T> the type of the input elements
+     * @return the {@link Collector} finding the maximal element by the given comparator
+     */
+    public static <T> Collector<T, ?, Valuable<T>> maximizing(Comparator<? super T> comparator) {
+        return choosing((t1, t2) -> comparator.compare(t1, t2) >= 0 ? t1 : t2);
+    }
+
+    /**
+     * Return the {@link Collector} folding the int values produced by the given mapper
+     * with the given associative operator starting from the given identity.
+     *
+     * @param identity the given identity of the operator
+     * @param mapper the given mapper
+     * @param op the given associative operator
+     * @param <T> the type of the input elements
+     * @return the {@link Collector} folding the int values produced by the given mapper
+     */
+    public static <T> Collector<T, ?, Valuable.Int> foldingInt(int identity, ToIntFunction<? super T> mapper,
+                                                               IntBinaryOperator op) {
+        return Collector.<T, Variable.Int, Valuable.Int>of(() -> var(identity),
+                (h, t) -> h.num = op.applyAsInt(h.num, mapper.applyAsInt(t)),
+                (h1, h2) -> { h1.num = op.applyAsInt(h1.num, h2.num); return h1; },
+                h -> h, IDENTITY_FINISH);
+    }
+
+    /**
+     * Return the {@link Collector} folding the long values produced by the given mapper
+     * with the given associative operator starting from the given identity.
+     *
+     * @param identity the given identity of the operator
+     * @param mapper the given mapper
+     * @param op the given associative operator
+     * @param <T> the type of the input elements
+     * @return the {@link Collector} folding the long values produced by the given mapper
+     */
+    public static <T> Collector<T, ?, Valuable.Long> foldingLong(long identity, ToLongFunction<? super T> mapper,
+                                                                 LongBinaryOperator op) {
+        return Collector.<T, Variable.Long, Valuable.Long>of(() -> var(identity),
+                (h, t) -> h.num = op.applyAsLong(h.num, mapper.applyAsLong(t)),
+                (h1, h2) -> { h1.num = op.applyAsLong(h1.num, h2.num); return h1; },
+                h -> h, IDENTITY_FINISH);
+    }
+
+    /**
+     * Return the {@link Collector} folding the double values produced by the given mapper
+     * with the given associative operator starting from the given identity.
+     *
+     * @param identity the given identity of the operator
+     * @param mapper the given mapper
+     * @param op the given associative operator
+     * @param <T> the type of the input elements
+     * @return the {@link Collector} folding the double values produced by the given mapper
+     */
+    public static <T> Collector<T, ?, Valuable.Double> foldingDouble(double identity, ToDoubleFunction<? super T> mapper,
+                                                                     DoubleBinaryOperator op) {
+        return Collector.<T, Variable.Double, Valuable.Double>of(() -> var(identity),
+                (h, t) -> h.num = op.applyAsDouble(h.num, mapper.applyAsDouble(t)),
+                (h1, h2) -> { h1.num = op.applyAsDouble(h1.num, h2.num); return h1; },
+                h -> h, IDENTITY_FINISH);
+    }
+
+    /**
+     * Return the {@link Collector} folding the input elements in encounter order with the given accumulator
+     * starting from the given identity, and combining the partial results with the given combiner.
+     *
+     * @param identity the given identity of the fold
+     * @param accumulator the given accumulator
+     * @param combiner the given combiner of the partial results
+     * @param <T> the type of the input elements
+     * @param <V> the type of the result
+     * @return the {@link Collector} folding the input elements
+     */
+    public static <T, V> Collector<T, ?, Valuable<V>> folding(V identity, BiFunction<V, ? super T, V> accumulator,
+                                                              BinaryOperator<V> combiner) {
+        return Collector.<T, Variable<V>, Valuable<V>>of(() -> var(identity),
+                (h, t) -> h.val = accumulator.apply(h.val, t),
+                (h1, h2) -> { h1.val = combiner.apply(h1.val, h2.val); return h1; },
+                h -> h, IDENTITY_FINISH);
+    }
+
+    /**
+     * Return the {@link Collector} choosing one of each two non-{@code null} input elements by the given operator.
+     *
+     * @param chooser the given choosing operator
+     * @param <T> the type of the input elements
+     * @return the {@link Collector} choosing one of each two input elements
+     */
+    private static <T> Collector<T, ?, Valuable<T>> choosing(BinaryOperator<T> chooser) {
+        return Collector.<T, Variable<T>, Valuable<T>>of(Variable::var,
+                (h, t) -> h.val = h.val == null ? t : chooser.apply(h.val, t),
+                (h1, h2) -> { h1.val = h1.val == null ? h2.val
+                        : h2.val == null ? h1.val : chooser.apply(h1.val, h2.val); return h1; },
+                h -> h, UNORDERED, IDENTITY_FINISH);
+    }
+}
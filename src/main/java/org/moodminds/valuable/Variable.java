@@ -5,10 +5,20 @@ import java.util.Objects;
 
 /**
  * Mutable value {@link Valuable}.
+ * <p>
+ * If the {@code org.moodminds.valuable.checked} system property is {@code true}, the factory methods return
+ * the holders reporting the first access by a thread other than the creating one to the {@code System.Logger}
+ * named {@code org.moodminds.valuable.CheckedVariable}, with the stack traces of the access and the creation.
  */
 public class Variable<V> implements Valuable<V>, Serializable {
 
     private static final long serialVersionUID = -4998039340505017253L;
+
+    /**
+     * The flag of the checked holders returned by the factory methods.
+     */
+    private static final boolean CHECKED = java.lang.Boolean.getBoolean("org.moodminds.valuable.checked");
+
     /**
      * The value-holding field.
      */
@@ -17,14 +27,14 @@ public class Variable<V> implements Valuable<V>, Serializable {
     /**
      * Construct the object.
      */
-    private Variable() {}
+    Variable() {}
 
     /**
      * Construct the object with the given initial value.
      *
      * @param val the given initial value
      */
-    private Variable(V val) {
+    Variable(V val) {
         this.val = val;
     }
 
@@ -89,7 +99,7 @@ public class Variable<V> implements Valuable<V>, Serializable {
          *
          * @param flg the given initial value
          */
-        private Boolean(boolean flg) {
+        Boolean(boolean flg) {
             this.flg = flg;
         }
 
@@ -137,6 +147,82 @@ public class Variable<V> implements Valuable<V>, Serializable {
                 return false;
             this.flg = flg; return true;
         }
+
+        /**
+         * Set the value to the bitwise OR of the current and the given values and return the resulting value.
+         *
+         * @param flg {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public boolean or(boolean flg) {
+            return this.flg |= flg;
+        }
+
+        /**
+         * Set the value to the bitwise OR of the current and the given values and return the previous value.
+         *
+         * @param flg {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public boolean getAndOr(boolean flg) {
+            boolean previous = this.flg; this.flg |= flg; return previous;
+        }
+
+        /**
+         * Set the value to the bitwise AND of the current and the given values and return the resulting value.
+         *
+         * @param flg {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public boolean and(boolean flg) {
+            return this.flg &= flg;
+        }
+
+        /**
+         * Set the value to the bitwise AND of the current and the given values and return the previous value.
+         *
+         * @param flg {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public boolean getAndAnd(boolean flg) {
+            boolean previous = this.flg; this.flg &= flg; return previous;
+        }
+
+        /**
+         * Set the value to the bitwise XOR of the current and the given values and return the resulting value.
+         *
+         * @param flg {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public boolean xor(boolean flg) {
+            return this.flg ^= flg;
+        }
+
+        /**
+         * Set the value to the bitwise XOR of the current and the given values and return the previous value.
+         *
+         * @param flg {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public boolean getAndXor(boolean flg) {
+            boolean previous = this.flg; this.flg ^= flg; return previous;
+        }
+
+        /**
+         * Invert the value and return the resulting value.
+         *
+         * @return {@inheritDoc}
+         */
+        @Override
+        public boolean toggle() {
+            return this.flg = !this.flg;
+        }
     }
 
     /**
@@ -155,7 +241,7 @@ public class Variable<V> implements Valuable<V>, Serializable {
          *
          * @param chr the given initial value
          */
-        private Char(char chr) {
+        Char(char chr) {
             this.chr = chr;
         }
 
@@ -203,6 +289,72 @@ public class Variable<V> implements Valuable<V>, Serializable {
                 return false;
             this.chr = chr; return true;
         }
+
+        /**
+         * Set the value to the bitwise OR of the current and the given values and return the resulting value.
+         *
+         * @param chr {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public char or(char chr) {
+            return this.chr |= chr;
+        }
+
+        /**
+         * Set the value to the bitwise OR of the current and the given values and return the previous value.
+         *
+         * @param chr {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public char getAndOr(char chr) {
+            char previous = this.chr; this.chr |= chr; return previous;
+        }
+
+        /**
+         * Set the value to the bitwise AND of the current and the given values and return the resulting value.
+         *
+         * @param chr {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public char and(char chr) {
+            return this.chr &= chr;
+        }
+
+        /**
+         * Set the value to the bitwise AND of the current and the given values and return the previous value.
+         *
+         * @param chr {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public char getAndAnd(char chr) {
+            char previous = this.chr; this.chr &= chr; return previous;
+        }
+
+        /**
+         * Set the value to the bitwise XOR of the current and the given values and return the resulting value.
+         *
+         * @param chr {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public char xor(char chr) {
+            return this.chr ^= chr;
+        }
+
+        /**
+         * Set the value to the bitwise XOR of the current and the given values and return the previous value.
+         *
+         * @param chr {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public char getAndXor(char chr) {
+            char previous = this.chr; this.chr ^= chr; return previous;
+        }
     }
 
     /**
@@ -221,7 +373,7 @@ public class Variable<V> implements Valuable<V>, Serializable {
          *
          * @param num the given initial value
          */
-        private Byte(byte num) {
+        Byte(byte num) {
             this.num = num;
         }
 
@@ -289,6 +441,116 @@ public class Variable<V> implements Valuable<V>, Serializable {
         public byte decr() {
             return --num;
         }
+
+        /**
+         * Set the value to the maximum of the current and the given values and return the resulting value.
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public byte max(byte num) {
+            return this.num = (byte) Math.max(this.num, num);
+        }
+
+        /**
+         * Set the value to the maximum of the current and the given values and return the previous value.
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public byte getAndMax(byte num) {
+            byte previous = this.num; this.num = (byte) Math.max(previous, num); return previous;
+        }
+
+        /**
+         * Set the value to the minimum of the current and the given values and return the resulting value.
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public byte min(byte num) {
+            return this.num = (byte) Math.min(this.num, num);
+        }
+
+        /**
+         * Set the value to the minimum of the current and the given values and return the previous value.
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public byte getAndMin(byte num) {
+            byte previous = this.num; this.num = (byte) Math.min(previous, num); return previous;
+        }
+
+        /**
+         * Set the value to the bitwise OR of the current and the given values and return the resulting value.
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public byte or(byte num) {
+            return this.num |= num;
+        }
+
+        /**
+         * Set the value to the bitwise OR of the current and the given values and return the previous value.
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public byte getAndOr(byte num) {
+            byte previous = this.num; this.num |= num; return previous;
+        }
+
+        /**
+         * Set the value to the bitwise AND of the current and the given values and return the resulting value.
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public byte and(byte num) {
+            return this.num &= num;
+        }
+
+        /**
+         * Set the value to the bitwise AND of the current and the given values and return the previous value.
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public byte getAndAnd(byte num) {
+            byte previous = this.num; this.num &= num; return previous;
+        }
+
+        /**
+         * Set the value to the bitwise XOR of the current and the given values and return the resulting value.
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public byte xor(byte num) {
+            return this.num ^= num;
+        }
+
+        /**
+         * Set the value to the bitwise XOR of the current and the given values and return the previous value.
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public byte getAndXor(byte num) {
+            byte previous = this.num; this.num ^= num; return previous;
+        }
     }
 
     /**
@@ -307,7 +569,7 @@ public class Variable<V> implements Valuable<V>, Serializable {
          *
          * @param num the given initial value
          */
-        private Short(short num) {
+        Short(short num) {
             this.num = num;
         }
 
@@ -375,6 +637,116 @@ public class Variable<V> implements Valuable<V>, Serializable {
         public short decr() {
             return --num;
         }
+
+        /**
+         * Set the value to the maximum of the current and the given values and return the resulting value.
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public short max(short num) {
+            return this.num = (short) Math.max(this.num, num);
+        }
+
+        /**
+         * Set the value to the maximum of the current and the given values and return the previous value.
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public short getAndMax(short num) {
+            short previous = this.num; this.num = (short) Math.max(previous, num); return previous;
+        }
+
+        /**
+         * Set the value to the minimum of the current and the given values and return the resulting value.
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public short min(short num) {
+            return this.num = (short) Math.min(this.num, num);
+        }
+
+        /**
+         * Set the value to the minimum of the current and the given values and return the previous value.
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public short getAndMin(short num) {
+            short previous = this.num; this.num = (short) Math.min(previous, num); return previous;
+        }
+
+        /**
+         * Set the value to the bitwise OR of the current and the given values and return the resulting value.
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public short or(short num) {
+            return this.num |= num;
+        }
+
+        /**
+         * Set the value to the bitwise OR of the current and the given values and return the previous value.
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public short getAndOr(short num) {
+            short previous = this.num; this.num |= num; return previous;
+        }
+
+        /**
+         * Set the value to the bitwise AND of the current and the given values and return the resulting value.
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public short and(short num) {
+            return this.num &= num;
+        }
+
+        /**
+         * Set the value to the bitwise AND of the current and the given values and return the previous value.
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public short getAndAnd(short num) {
+            short previous = this.num; this.num &= num; return previous;
+        }
+
+        /**
+         * Set the value to the bitwise XOR of the current and the given values and return the resulting value.
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public short xor(short num) {
+            return this.num ^= num;
+        }
+
+        /**
+         * Set the value to the bitwise XOR of the current and the given values and return the previous value.
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public short getAndXor(short num) {
+            short previous = this.num; this.num ^= num; return previous;
+        }
     }
 
     /**
@@ -393,7 +765,7 @@ public class Variable<V> implements Valuable<V>, Serializable {
          *
          * @param num the given initial value
          */
-        private Int(int num) {
+        Int(int num) {
             this.num = num;
         }
 
@@ -461,6 +833,116 @@ public class Variable<V> implements Valuable<V>, Serializable {
         public int decr() {
             return --num;
         }
+
+        /**
+         * Set the value to the maximum of the current and the given values and return the resulting value.
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public int max(int num) {
+            return this.num = Math.max(this.num, num);
+        }
+
+        /**
+         * Set the value to the maximum of the current and the given values and return the previous value.
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public int getAndMax(int num) {
+            int previous = this.num; this.num = Math.max(previous, num); return previous;
+        }
+
+        /**
+         * Set the value to the minimum of the current and the given values and return the resulting value.
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public int min(int num) {
+            return this.num = Math.min(this.num, num);
+        }
+
+        /**
+         * Set the value to the minimum of the current and the given values and return the previous value.
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public int getAndMin(int num) {
+            int previous = this.num; this.num = Math.min(previous, num); return previous;
+        }
+
+        /**
+         * Set the value to the bitwise OR of the current and the given values and return the resulting value.
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public int or(int num) {
+            return this.num |= num;
+        }
+
+        /**
+         * Set the value to the bitwise OR of the current and the given values and return the previous value.
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public int getAndOr(int num) {
+            int previous = this.num; this.num |= num; return previous;
+        }
+
+        /**
+         * Set the value to the bitwise AND of the current and the given values and return the resulting value.
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public int and(int num) {
+            return this.num &= num;
+        }
+
+        /**
+         * Set the value to the bitwise AND of the current and the given values and return the previous value.
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public int getAndAnd(int num) {
+            int previous = this.num; this.num &= num; return previous;
+        }
+
+        /**
+         * Set the value to the bitwise XOR of the current and the given values and return the resulting value.
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public int xor(int num) {
+            return this.num ^= num;
+        }
+
+        /**
+         * Set the value to the bitwise XOR of the current and the given values and return the previous value.
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public int getAndXor(int num) {
+            int previous = this.num; this.num ^= num; return previous;
+        }
     }
 
     /**
@@ -479,7 +961,7 @@ public class Variable<V> implements Valuable<V>, Serializable {
          *
          * @param num the given initial value
          */
-        private Long(long num) {
+        Long(long num) {
             this.num = num;
         }
 
@@ -547,6 +1029,116 @@ public class Variable<V> implements Valuable<V>, Serializable {
         public long decr() {
             return --num;
         }
+
+        /**
+         * Set the value to the maximum of the current and the given values and return the resulting value.
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public long max(long num) {
+            return this.num = Math.max(this.num, num);
+        }
+
+        /**
+         * Set the value to the maximum of the current and the given values and return the previous value.
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public long getAndMax(long num) {
+            long previous = this.num; this.num = Math.max(previous, num); return previous;
+        }
+
+        /**
+         * Set the value to the minimum of the current and the given values and return the resulting value.
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public long min(long num) {
+            return this.num = Math.min(this.num, num);
+        }
+
+        /**
+         * Set the value to the minimum of the current and the given values and return the previous value.
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public long getAndMin(long num) {
+            long previous = this.num; this.num = Math.min(previous, num); return previous;
+        }
+
+        /**
+         * Set the value to the bitwise OR of the current and the given values and return the resulting value.
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public long or(long num) {
+            return this.num |= num;
+        }
+
+        /**
+         * Set the value to the bitwise OR of the current and the given values and return the previous value.
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public long getAndOr(long num) {
+            long previous = this.num; this.num |= num; return previous;
+        }
+
+        /**
+         * Set the value to the bitwise AND of the current and the given values and return the resulting value.
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public long and(long num) {
+            return this.num &= num;
+        }
+
+        /**
+         * Set the value to the bitwise AND of the current and the given values and return the previous value.
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public long getAndAnd(long num) {
+            long previous = this.num; this.num &= num; return previous;
+        }
+
+        /**
+         * Set the value to the bitwise XOR of the current and the given values and return the resulting value.
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public long xor(long num) {
+            return this.num ^= num;
+        }
+
+        /**
+         * Set the value to the bitwise XOR of the current and the given values and return the previous value.
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public long getAndXor(long num) {
+            long previous = this.num; this.num ^= num; return previous;
+        }
     }
 
     /**
@@ -565,7 +1157,7 @@ public class Variable<V> implements Valuable<V>, Serializable {
          *
          * @param num the given initial value
          */
-        private Float(float num) {
+        Float(float num) {
             this.num = num;
         }
 
@@ -613,6 +1205,50 @@ public class Variable<V> implements Valuable<V>, Serializable {
                 return false;
             this.num = num; return true;
         }
+
+        /**
+         * Set the value to the maximum of the current and the given values and return the resulting value.
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public float max(float num) {
+            return this.num = Math.max(this.num, num);
+        }
+
+        /**
+         * Set the value to the maximum of the current and the given values and return the previous value.
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public float getAndMax(float num) {
+            float previous = this.num; this.num = Math.max(previous, num); return previous;
+        }
+
+        /**
+         * Set the value to the minimum of the current and the given values and return the resulting value.
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public float min(float num) {
+            return this.num = Math.min(this.num, num);
+        }
+
+        /**
+         * Set the value to the minimum of the current and the given values and return the previous value.
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public float getAndMin(float num) {
+            float previous = this.num; this.num = Math.min(previous, num); return previous;
+        }
     }
 
     /**
@@ -631,7 +1267,7 @@ public class Variable<V> implements Valuable<V>, Serializable {
          *
          * @param num the given initial value
          */
-        private Double(double num) {
+        Double(double num) {
             this.num = num;
         }
 
@@ -679,6 +1315,50 @@ public class Variable<V> implements Valuable<V>, Serializable {
                 return false;
             this.num = num; return true;
         }
+
+        /**
+         * Set the value to the maximum of the current and the given values and return the resulting value.
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public double max(double num) {
+            return this.num = Math.max(this.num, num);
+        }
+
+        /**
+         * Set the value to the maximum of the current and the given values and return the previous value.
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public double getAndMax(double num) {
+            double previous = this.num; this.num = Math.max(previous, num); return previous;
+        }
+
+        /**
+         * Set the value to the minimum of the current and the given values and return the resulting value.
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public double min(double num) {
+            return this.num = Math.min(this.num, num);
+        }
+
+        /**
+         * Set the value to the minimum of the current and the given values and return the previous value.
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public double getAndMin(double num) {
+            double previous = this.num; this.num = Math.min(previous, num); return previous;
+        }
     }
 
 
@@ -689,7 +1369,7 @@ public class Variable<V> implements Valuable<V>, Serializable {
      * @return the empty object reference value holder
      */
     public static <V> Variable<V> var() {
-        return new Variable<>();
+        return CHECKED ? new CheckedVariable<>() : new Variable<>();
     }
 
     /**
@@ -700,7 +1380,7 @@ public class Variable<V> implements Valuable<V>, Serializable {
      * @return the object reference value holder by the given value
      */
     public static <V> Variable<V> var(V value) {
-        return new Variable<>(value);
+        return CHECKED ? new CheckedVariable<>(value) : new Variable<>(value);
     }
 
     /**
@@ -710,7 +1390,7 @@ public class Variable<V> implements Valuable<V>, Serializable {
      * @return the boolean value holder by the given value
      */
     public static Boolean var(boolean value) {
-        return new Boolean(value);
+        return CHECKED ? new CheckedVariable.Boolean(value) : new Boolean(value);
     }
 
     /**
@@ -720,7 +1400,7 @@ public class Variable<V> implements Valuable<V>, Serializable {
      * @return the char value holder by the given value
      */
     public static Char var(char value) {
-        return new Char(value);
+        return CHECKED ? new CheckedVariable.Char(value) : new Char(value);
     }
 
     /**
@@ -730,7 +1410,7 @@ public class Variable<V> implements Valuable<V>, Serializable {
      * @return the byte value holder by the given value
      */
     public static Byte var(byte value) {
-        return new Byte(value);
+        return CHECKED ? new CheckedVariable.Byte(value) : new Byte(value);
     }
 
     /**
@@ -740,7 +1420,7 @@ public class Variable<V> implements Valuable<V>, Serializable {
      * @return the short value holder by the given value
      */
     public static Short var(short value) {
-        return new Short(value);
+        return CHECKED ? new CheckedVariable.Short(value) : new Short(value);
     }
 
     /**
@@ -750,7 +1430,7 @@ public class Variable<V> implements Valuable<V>, Serializable {
      * @return the int value holder by the given value
      */
     public static Int var(int value) {
-        return new Int(value);
+        return CHECKED ? new CheckedVariable.Int(value) : new Int(value);
     }
 
     /**
@@ -760,7 +1440,7 @@ public class Variable<V> implements Valuable<V>, Serializable {
      * @return the long value holder by the given value
      */
     public static Long var(long value) {
-        return new Long(value);
+        return CHECKED ? new CheckedVariable.Long(value) : new Long(value);
     }
 
     /**
@@ -770,7 +1450,7 @@ public class Variable<V> implements Valuable<V>, Serializable {
      * @return the float value holder by the given value
      */
     public static Float var(float value) {
-        return new Float(value);
+        return CHECKED ? new CheckedVariable.Float(value) : new Float(value);
     }
 
     /**
@@ -780,6 +1460,6 @@ public class Variable<V> implements Valuable<V>, Serializable {
      * @return the double value holder by the given value
      */
     public static Double var(double value) {
-        return new Double(value);
+        return CHECKED ? new CheckedVariable.Double(value) : new Double(value);
     }
 }
@@ -0,0 +1,3608 @@
+package org.moodminds.valuable;
+
+import java.lang.invoke.VarHandle;
+import java.util.List;
+import java.util.Objects;
+
+import static java.lang.invoke.MethodHandles.arrayElementVarHandle;
+
+/**
+ * {@link Valuable} views over the variables living elsewhere: object fields, array elements and
+ * {@link java.nio.ByteBuffer} slots, accessed through their {@link VarHandle}s. A view gives the same API
+ * as a {@link Variable} or {@link Volatile} holder without moving the value into a separate holder object:
+ * <pre>{@code
+ * static final VarHandle COUNT = MethodHandles.lookup().findVarHandle(Stats.class, "count", int.class);
+ * static final VarHandle SLOT = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.nativeOrder());
+ *
+ * Valuable.Int count = View.vol(COUNT, stats, View.INT);
+ * Valuable.Long slot = View.vol(SLOT, buffer, 16, View.LONG);
+ * Valuable.Double element = View.var(doubles, 3);
+ * }</pre>
+ * The {@code var} views follow the plain {@link Variable} semantics, the {@code vol} views the atomic
+ * {@link Volatile} ones, subject to the access modes supported by the handle, e.g. a buffer slot
+ * supports the atomic access only if aligned. The requested {@link Type} of a view is checked against
+ * the variable type of the handle, so a mismatch fails on creating the view rather than on using it.
+ * <p>
+ * Each variable type has a final view class per kind of the coordinates, a field or an array element
+ * or buffer slot, and per semantics, plain or volatile, so every access takes a single path through
+ * the handle, chosen once on creating the view, and every call site sees only the classes it uses.
+ */
+public final class View {
+
+    private static final VarHandle OBJECTS = arrayElementVarHandle(Object[].class);
+    private static final VarHandle BOOLEANS = arrayElementVarHandle(boolean[].class);
+    private static final VarHandle CHARS = arrayElementVarHandle(char[].class);
+    private static final VarHandle BYTES = arrayElementVarHandle(byte[].class);
+    private static final VarHandle SHORTS = arrayElementVarHandle(short[].class);
+    private static final VarHandle INTS = arrayElementVarHandle(int[].class);
+    private static final VarHandle LONGS = arrayElementVarHandle(long[].class);
+    private static final VarHandle FLOATS = arrayElementVarHandle(float[].class);
+    private static final VarHandle DOUBLES = arrayElementVarHandle(double[].class);
+
+    /**
+     * The index marking a field view.
+     */
+    private static final int FIELD = -1;
+
+    /**
+     * The type of the object reference variable views.
+     */
+    private static final Type<Valuable<Object>> REFERENCE = new Type<>(Object.class, Of::view);
+
+    /**
+     * The type of the boolean variable views.
+     */
+    public static final Type<Valuable.Boolean> BOOLEAN = new Type<>(boolean.class, OfBoolean::view);
+
+    /**
+     * The type of the char variable views.
+     */
+    public static final Type<Valuable.Char> CHAR = new Type<>(char.class, OfChar::view);
+
+    /**
+     * The type of the byte variable views.
+     */
+    public static final Type<Valuable.Byte> BYTE = new Type<>(byte.class, OfByte::view);
+
+    /**
+     * The type of the short variable views.
+     */
+    public static final Type<Valuable.Short> SHORT = new Type<>(short.class, OfShort::view);
+
+    /**
+     * The type of the int variable views.
+     */
+    public static final Type<Valuable.Int> INT = new Type<>(int.class, OfInt::view);
+
+    /**
+     * The type of the long variable views.
+     */
+    public static final Type<Valuable.Long> LONG = new Type<>(long.class, OfLong::view);
+
+    /**
+     * The type of the float variable views.
+     */
+    public static final Type<Valuable.Float> FLOAT = new Type<>(float.class, OfFloat::view);
+
+    /**
+     * The type of the double variable views.
+     */
+    public static final Type<Valuable.Double> DOUBLE = new Type<>(double.class, OfDouble::view);
+
+    /**
+     * Construct the object.
+     */
+    private View() {}
+
+    /**
+     * The object reference variable views, the final subclasses of which serve each pair of the coordinates
+     * and semantics by a single access path.
+     *
+     * @param <V> the type of the value
+     */
+    private abstract static class Of<V> implements Valuable<V> {
+
+        /**
+         * The variable handle.
+         */
+        final VarHandle handle;
+
+        /**
+         * The object, array or buffer holding the variable.
+         */
+        final Object target;
+
+        /**
+         * Construct the object with the given variable handle and object, array or buffer holding the variable.
+         *
+         * @param handle the given variable handle
+         * @param target the given object, array or buffer holding the variable
+         */
+        private Of(VarHandle handle, Object target) {
+            this.handle = handle; this.target = target;
+        }
+
+        /**
+         * Return the view over the variable at the given coordinates accessed by the given handle.
+         *
+         * @param handle the given variable handle
+         * @param target the given object, array or buffer holding the variable
+         * @param index the given index of the variable in the array or buffer, or {@link #FIELD} for a field
+         * @param vol the given flag of the volatile semantics
+         * @param <V> the type of the value
+         * @return the view over the variable
+         */
+        static <V> Of<V> view(VarHandle handle, Object target, int index, boolean vol) {
+            return index == FIELD ? vol ? new VolatileField<>(handle, target) : new Field<>(handle, target)
+                    : vol ? new VolatileElement<>(handle, target, index) : new Element<>(handle, target, index);
+        }
+
+        /**
+         * The plain field object reference view.
+         *
+         * @param <V> the type of the value
+         */
+        private static final class Field<V> extends Of<V> {
+
+            /**
+             * Construct the object with the given variable handle and object holding the field.
+             *
+             * @param handle the given variable handle
+             * @param target the given object holding the field
+             */
+            private Field(VarHandle handle, Object target) {
+                super(handle, target);
+            }
+
+            /**
+             * {@inheritDoc}
+             *
+             * @return {@inheritDoc}
+             */
+            @Override
+            @SuppressWarnings("unchecked")
+            public V get() {
+                return (V) handle.get(target);
+            }
+
+            /**
+             * {@inheritDoc}
+             *
+             * @param val {@inheritDoc}
+             */
+            @Override
+            public void put(V val) {
+                handle.set(target, val);
+            }
+
+            /**
+             * {@inheritDoc}
+             *
+             * @param val {@inheritDoc}
+             * @return {@inheritDoc}
+             */
+            @Override
+            public V set(V val) {
+                V previous = get(); put(val); return previous;
+            }
+
+            /**
+             * {@inheritDoc}
+             *
+             * @param state {@inheritDoc}
+             * @param val {@inheritDoc}
+             * @return {@inheritDoc}
+             */
+            @Override
+            public boolean let(V state, V val) {
+                if (!Objects.equals(get(), state))
+                    return false;
+                put(val); return true;
+            }
+        }
+
+        /**
+         * The plain array element or buffer slot object reference view.
+         *
+         * @param <V> the type of the value
+         */
+        private static final class Element<V> extends Of<V> {
+
+            /**
+             * The index of the variable in the array or buffer.
+             */
+            private final int index;
+
+            /**
+             * Construct the object with the given variable handle, array or buffer and index of the variable.
+             *
+             * @param handle the given variable handle
+             * @param target the given array or buffer holding the variable
+             * @param index the given index of the variable in the array or buffer
+             */
+            private Element(VarHandle handle, Object target, int index) {
+                super(handle, target); this.index = index;
+            }
+
+            /**
+             * {@inheritDoc}
+             *
+             * @return {@inheritDoc}
+             */
+            @Override
+            @SuppressWarnings("unchecked")
+            public V get() {
+                return (V) handle.get(target, index);
+            }
+
+            /**
+             * {@inheritDoc}
+             *
+             * @param val {@inheritDoc}
+             */
+            @Override
+            public void put(V val) {
+                handle.set(target, index, val);
+            }
+
+            /**
+             * {@inheritDoc}
+             *
+             * @param val {@inheritDoc}
+             * @return {@inheritDoc}
+             */
+            @Override
+            public V set(V val) {
+                V previous = get(); put(val); return previous;
+            }
+
+            /**
+             * {@inheritDoc}
+             *
+             * @param state {@inheritDoc}
+             * @param val {@inheritDoc}
+             * @return {@inheritDoc}
+             */
+            @Override
+            public boolean let(V state, V val) {
+                if (!Objects.equals(get(), state))
+                    return false;
+                put(val); return true;
+            }
+        }
+
+        /**
+         * The volatile field object reference view.
+         *
+         * @param <V> the type of the value
+         */
+        private static final class VolatileField<V> extends Of<V> {
+
+            /**
+             * Construct the object with the given variable handle and object holding the field.
+             *
+             * @param handle the given variable handle
+             * @param target the given object holding the field
+             */
+            private VolatileField(VarHandle handle, Object target) {
+                super(handle, target);
+            }
+
+            /**
+             * {@inheritDoc}
+             *
+             * @return {@inheritDoc}
+             */
+            @Override
+            @SuppressWarnings("unchecked")
+            public V get() {
+                return (V) handle.getVolatile(target);
+            }
+
+            /**
+             * {@inheritDoc}
+             *
+             * @param val {@inheritDoc}
+             */
+            @Override
+            public void put(V val) {
+                handle.setVolatile(target, val);
+            }
+
+            /**
+             * Atomically get the previous value and set the new value.
+             *
+             * @param val {@inheritDoc}
+             * @return {@inheritDoc}
+             */
+            @Override
+            @SuppressWarnings("unchecked")
+            public V set(V val) {
+                return (V) handle.getAndSet(target, val);
+            }
+
+            /**
+             * Atomically set the given value if the current value {@code == state}.
+             *
+             * @param state {@inheritDoc}
+             * @param val {@inheritDoc}
+             * @return {@inheritDoc}
+             */
+            @Override
+            public boolean let(V state, V val) {
+                return handle.compareAndSet(target, state, val);
+            }
+        }
+
+        /**
+         * The volatile array element or buffer slot object reference view.
+         *
+         * @param <V> the type of the value
+         */
+        private static final class VolatileElement<V> extends Of<V> {
+
+            /**
+             * The index of the variable in the array or buffer.
+             */
+            private final int index;
+
+            /**
+             * Construct the object with the given variable handle, array or buffer and index of the variable.
+             *
+             * @param handle the given variable handle
+             * @param target the given array or buffer holding the variable
+             * @param index the given index of the variable in the array or buffer
+             */
+            private VolatileElement(VarHandle handle, Object target, int index) {
+                super(handle, target); this.index = index;
+            }
+
+            /**
+             * {@inheritDoc}
+             *
+             * @return {@inheritDoc}
+             */
+            @Override
+            @SuppressWarnings("unchecked")
+            public V get() {
+                return (V) handle.getVolatile(target, index);
+            }
+
+            /**
+             * {@inheritDoc}
+             *
+             * @param val {@inheritDoc}
+             */
+            @Override
+            public void put(V val) {
+                handle.setVolatile(target, index, val);
+            }
+
+            /**
+             * Atomically get the previous value and set the new value.
+             *
+             * @param val {@inheritDoc}
+             * @return {@inheritDoc}
+             */
+            @Override
+            @SuppressWarnings("unchecked")
+            public V set(V val) {
+                return (V) handle.getAndSet(target, index, val);
+            }
+
+            /**
+             * Atomically set the given value if the current value {@code == state}.
+             *
+             * @param state {@inheritDoc}
+             * @param val {@inheritDoc}
+             * @return {@inheritDoc}
+             */
+            @Override
+            public boolean let(V state, V val) {
+                return handle.compareAndSet(target, index, state, val);
+            }
+        }
+    }
+
+    /**
+     * The boolean variable views, the final subclasses of which serve each pair of the coordinates
+     * and semantics by a single access path.
+     */
+    private abstract static class OfBoolean implements Valuable.Boolean {
+
+        /**
+         * The variable handle.
+         */
+        final VarHandle handle;
+
+        /**
+         * The object, array or buffer holding the variable.
+         */
+        final Object target;
+
+        /**
+         * Construct the object with the given variable handle and object, array or buffer holding the variable.
+         *
+         * @param handle the given variable handle
+         * @param target the given object, array or buffer holding the variable
+         */
+        private OfBoolean(VarHandle handle, Object target) {
+            this.handle = handle; this.target = target;
+        }
+
+        /**
+         * Return the view over the variable at the given coordinates accessed by the given handle.
+         *
+         * @param handle the given variable handle
+         * @param target the given object, array or buffer holding the variable
+         * @param index the given index of the variable in the array or buffer, or {@link #FIELD} for a field
+         * @param vol the given flag of the volatile semantics
+         * @return the view over the variable
+         */
+        static OfBoolean view(VarHandle handle, Object target, int index, boolean vol) {
+            return index == FIELD ? vol ? new VolatileField(handle, target) : new Field(handle, target)
+                    : vol ? new VolatileElement(handle, target, index) : new Element(handle, target, index);
+        }
+
+        /**
+         * The plain field boolean view.
+         */
+        private static final class Field extends OfBoolean {
+
+            /**
+             * Construct the object with the given variable handle and object holding the field.
+             *
+             * @param handle the given variable handle
+             * @param target the given object holding the field
+             */
+            private Field(VarHandle handle, Object target) {
+                super(handle, target);
+            }
+
+            /**
+             * {@inheritDoc}
+             *
+             * @return {@inheritDoc}
+             */
+            @Override
+            public boolean get() {
+                return (boolean) handle.get(target);
+            }
+
+            /**
+             * {@inheritDoc}
+             *
+             * @param flg {@inheritDoc}
+             */
+            @Override
+            public void put(boolean flg) {
+                handle.set(target, flg);
+            }
+
+            /**
+             * {@inheritDoc}
+             *
+             * @param flg {@inheritDoc}
+             * @return {@inheritDoc}
+             */
+            @Override
+            public boolean set(boolean flg) {
+                boolean previous = get(); put(flg); return previous;
+            }
+
+            /**
+             * {@inheritDoc}
+             *
+             * @param state {@inheritDoc}
+             * @param flg {@inheritDoc}
+             * @return {@inheritDoc}
+             */
+            @Override
+            public boolean let(boolean state, boolean flg) {
+                if (get() != state)
+                    return false;
+                put(flg); return true;
+            }
+        }
+
+        /**
+         * The plain array element or buffer slot boolean view.
+         */
+        private static final class Element extends OfBoolean {
+
+            /**
+             * The index of the variable in the array or buffer.
+             */
+            private final int index;
+
+            /**
+             * Construct the object with the given variable handle, array or buffer and index of the variable.
+             *
+             * @param handle the given variable handle
+             * @param target the given array or buffer holding the variable
+             * @param index the given index of the variable in the array or buffer
+             */
+            private Element(VarHandle handle, Object target, int index) {
+                super(handle, target); this.index = index;
+            }
+
+            /**
+             * {@inheritDoc}
+             *
+             * @return {@inheritDoc}
+             */
+            @Override
+            public boolean get() {
+                return (boolean) handle.get(target, index);
+            }
+
+            /**
+             * {@inheritDoc}
+             *
+             * @param flg {@inheritDoc}
+             */
+            @Override
+            public void put(boolean flg) {
+                handle.set(target, index, flg);
+            }
+
+            /**
+             * {@inheritDoc}
+             *
+             * @param flg {@inheritDoc}
+             * @return {@inheritDoc}
+             */
+            @Override
+            public boolean set(boolean flg) {
+                boolean previous = get(); put(flg); return previous;
+            }
+
+            /**
+             * {@inheritDoc}
+             *
+             * @param state {@inheritDoc}
+             * @param flg {@inheritDoc}
+             * @return {@inheritDoc}
+             */
+            @Override
+            public boolean let(boolean state, boolean flg) {
+                if (get() != state)
+                    return false;
+                put(flg); return true;
+            }
+        }
+
+        /**
+         * The volatile field boolean view.
+         */
+        private static final class VolatileField extends OfBoolean {
+
+            /**
+             * Construct the object with the given variable handle and object holding the field.
+             *
+             * @param handle the given variable handle
+             * @param target the given object holding the field
+             */
+            private VolatileField(VarHandle handle, Object target) {
+                super(handle, target);
+            }
+
+            /**
+             * {@inheritDoc}
+             *
+             * @return {@inheritDoc}
+             */
+            @Override
+            public boolean get() {
+                return (boolean) handle.getVolatile(target);
+            }
+
+            /**
+             * {@inheritDoc}
+             *
+             * @param flg {@inheritDoc}
+             */
+            @Override
+            public void put(boolean flg) {
+                handle.setVolatile(target, flg);
+            }
+
+            /**
+             * Atomically get the previous value and set the new value.
+             *
+             * @param flg {@inheritDoc}
+             * @return {@inheritDoc}
+             */
+            @Override
+            public boolean set(boolean flg) {
+                return (boolean) handle.getAndSet(target, flg);
+            }
+
+            /**
+             * Atomically set the given value if the current value {@code == state}.
+             *
+             * @param state {@inheritDoc}
+             * @param flg {@inheritDoc}
+             * @return {@inheritDoc}
+             */
+            @Override
+            public boolean let(boolean state, boolean flg) {
+                return handle.compareAndSet(target, state, flg);
+            }
+        }
+
+        /**
+         * The volatile array element or buffer slot boolean view.
+         */
+        private static final class VolatileElement extends OfBoolean {
+
+            /**
+             * The index of the variable in the array or buffer.
+             */
+            private final int index;
+
+            /**
+             * Construct the object with the given variable handle, array or buffer and index of the variable.
+             *
+             * @param handle the given variable handle
+             * @param target the given array or buffer holding the variable
+             * @param index the given index of the variable in the array or buffer
+             */
+            private VolatileElement(VarHandle handle, Object target, int index) {
+                super(handle, target); this.index = index;
+            }
+
+            /**
+             * {@inheritDoc}
+             *
+             * @return {@inheritDoc}
+             */
+            @Override
+            public boolean get() {
+                return (boolean) handle.getVolatile(target, index);
+            }
+
+            /**
+             * {@inheritDoc}
+             *
+             * @param flg {@inheritDoc}
+             */
+            @Override
+            public void put(boolean flg) {
+                handle.setVolatile(target, index, flg);
+            }
+
+            /**
+             * Atomically get the previous value and set the new value.
+             *
+             * @param flg {@inheritDoc}
+             * @return {@inheritDoc}
+             */
+            @Override
+            public boolean set(boolean flg) {
+                return (boolean) handle.getAndSet(target, index, flg);
+            }
+
+            /**
+             * Atomically set the given value if the current value {@code == state}.
+             *
+             * @param state {@inheritDoc}
+             * @param flg {@inheritDoc}
+             * @return {@inheritDoc}
+             */
+            @Override
+            public boolean let(boolean state, boolean flg) {
+                return handle.compareAndSet(target, index, state, flg);
+            }
+        }
+    }
+
+    /**
+     * The char variable views, the final subclasses of which serve each pair of the coordinates
+     * and semantics by a single access path.
+     */
+    private abstract static class OfChar implements Valuable.Char {
+
+        /**
+         * The variable handle.
+         */
+        final VarHandle handle;
+
+        /**
+         * The object, array or buffer holding the variable.
+         */
+        final Object target;
+
+        /**
+         * Construct the object with the given variable handle and object, array or buffer holding the variable.
+         *
+         * @param handle the given variable handle
+         * @param target the given object, array or buffer holding the variable
+         */
+        private OfChar(VarHandle handle, Object target) {
+            this.handle = handle; this.target = target;
+        }
+
+        /**
+         * Return the view over the variable at the given coordinates accessed by the given handle.
+         *
+         * @param handle the given variable handle
+         * @param target the given object, array or buffer holding the variable
+         * @param index the given index of the variable in the array or buffer, or {@link #FIELD} for a field
+         * @param vol the given flag of the volatile semantics
+         * @return the view over the variable
+         */
+        static OfChar view(VarHandle handle, Object target, int index, boolean vol) {
+            return index == FIELD ? vol ? new VolatileField(handle, target) : new Field(handle, target)
+                    : vol ? new VolatileElement(handle, target, index) : new Element(handle, target, index);
+        }
+
+        /**
+         * The plain field char view.
+         */
+        private static final class Field extends OfChar {
+
+            /**
+             * Construct the object with the given variable handle and object holding the field.
+             *
+             * @param handle the given variable handle
+             * @param target the given object holding the field
+             */
+            private Field(VarHandle handle, Object target) {
+                super(handle, target);
+            }
+
+            /**
+             * {@inheritDoc}
+             *
+             * @return {@inheritDoc}
+             */
+            @Override
+            public char get() {
+                return (char) handle.get(target);
+            }
+
+            /**
+             * {@inheritDoc}
+             *
+             * @param chr {@inheritDoc}
+             */
+            @Override
+            public void put(char chr) {
+                handle.set(target, chr);
+            }
+
+            /**
+             * {@inheritDoc}
+             *
+             * @param chr {@inheritDoc}
+             * @return {@inheritDoc}
+             */
+            @Override
+            public char set(char chr) {
+                char previous = get(); put(chr); return previous;
+            }
+
+            /**
+             * {@inheritDoc}
+             *
+             * @param state {@inheritDoc}
+             * @param chr {@inheritDoc}
+             * @return {@inheritDoc}
+             */
+            @Override
+            public boolean let(char state, char chr) {
+                if (get() != state)
+                    return false;
+                put(chr); return true;
+            }
+        }
+
+        /**
+         * The plain array element or buffer slot char view.
+         */
+        private static final class Element extends OfChar {
+
+            /**
+             * The index of the variable in the array or buffer.
+             */
+            private final int index;
+
+            /**
+             * Construct the object with the given variable handle, array or buffer and index of the variable.
+             *
+             * @param handle the given variable handle
+             * @param target the given array or buffer holding the variable
+             * @param index the given index of the variable in the array or buffer
+             */
+            private Element(VarHandle handle, Object target, int index) {
+                super(handle, target); this.index = index;
+            }
+
+            /**
+             * {@inheritDoc}
+             *
+             * @return {@inheritDoc}
+             */
+            @Override
+            public char get() {
+                return (char) handle.get(target, index);
+            }
+
+            /**
+             * {@inheritDoc}
+             *
+             * @param chr {@inheritDoc}
+             */
+            @Override
+            public void put(char chr) {
+                handle.set(target, index, chr);
+            }
+
+            /**
+             * {@inheritDoc}
+             *
+             * @param chr {@inheritDoc}
+             * @return {@inheritDoc}
+             */
+            @Override
+            public char set(char chr) {
+                char previous = get(); put(chr); return previous;
+            }
+
+            /**
+             * {@inheritDoc}
+             *
+             * @param state {@inheritDoc}
+             * @param chr {@inheritDoc}
+             * @return {@inheritDoc}
+             */
+            @Override
+            public boolean let(char state, char chr) {
+                if (get() != state)
+                    return false;
+                put(chr); return true;
+            }
+        }
+
+        /**
+         * The volatile field char view.
+         */
+        private static final class VolatileField extends OfChar {
+
+            /**
+             * Construct the object with the given variable handle and object holding the field.
+             *
+             * @param handle the given variable handle
+             * @param target the given object holding the field
+             */
+            private VolatileField(VarHandle handle, Object target) {
+                super(handle, target);
+            }
+
+            /**
+             * {@inheritDoc}
+             *
+             * @return {@inheritDoc}
+             */
+            @Override
+            public char get() {
+                return (char) handle.getVolatile(target);
+            }
+
+            /**
+             * {@inheritDoc}
+             *
+             * @param chr {@inheritDoc}
+             */
+            @Override
+            public void put(char chr) {
+                handle.setVolatile(target, chr);
+            }
+
+            /**
+             * Atomically get the previous value and set the new value.
+             *
+             * @param chr {@inheritDoc}
+             * @return {@inheritDoc}
+             */
+            @Override
+            public char set(char chr) {
+                return (char) handle.getAndSet(target, chr);
+            }
+
+            /**
+             * Atomically set the given value if the current value {@code == state}.
+             *
+             * @param state {@inheritDoc}
+             * @param chr {@inheritDoc}
+             * @return {@inheritDoc}
+             */
+            @Override
+            public boolean let(char state, char chr) {
+                return handle.compareAndSet(target, state, chr);
+            }
+        }
+
+        /**
+         * The volatile array element or buffer slot char view.
+         */
+        private static final class VolatileElement extends OfChar {
+
+            /**
+             * The index of the variable in the array or buffer.
+             */
+            private final int index;
+
+            /**
+             * Construct the object with the given variable handle, array or buffer and index of the variable.
+             *
+             * @param handle the given variable handle
+             * @param target the given array or buffer holding the variable
+             * @param index the given index of the variable in the array or buffer
+             */
+            private VolatileElement(VarHandle handle, Object target, int index) {
+                super(handle, target); this.index = index;
+            }
+
+            /**
+             * {@inheritDoc}
+             *
+             * @return {@inheritDoc}
+             */
+            @Override
+            public char get() {
+                return (char) handle.getVolatile(target, index);
+            }
+
+            /**
+             * {@inheritDoc}
+             *
+             * @param chr {@inheritDoc}
+             */
+            @Override
+            public void put(char chr) {
+                handle.setVolatile(target, index, chr);
+            }
+
+            /**
+             * Atomically get the previous value and set the new value.
+             *
+             * @param chr {@inheritDoc}
+             * @return {@inheritDoc}
+             */
+            @Override
+            public char set(char chr) {
+                return (char) handle.getAndSet(target, index, chr);
+            }
+
+            /**
+             * Atomically set the given value if the current value {@code == state}.
+             *
+             * @param state {@inheritDoc}
+             * @param chr {@inheritDoc}
+             * @return {@inheritDoc}
+             */
+            @Override
+            public boolean let(char state, char chr) {
+                return handle.compareAndSet(target, index, state, chr);
+            }
+        }
+    }
+
+    /**
+     * The byte variable views, the final subclasses of which serve each pair of the coordinates
+     * and semantics by a single access path.
+     */
+    private abstract static class OfByte implements Valuable.Byte {
+
+        /**
+         * The variable handle.
+         */
+        final VarHandle handle;
+
+        /**
+         * The object, array or buffer holding the variable.
+         */
+        final Object target;
+
+        /**
+         * Construct the object with the given variable handle and object, array or buffer holding the variable.
+         *
+         * @param handle the given variable handle
+         * @param target the given object, array or buffer holding the variable
+         */
+        private OfByte(VarHandle handle, Object target) {
+            this.handle = handle; this.target = target;
+        }
+
+        /**
+         * Return the view over the variable at the given coordinates accessed by the given handle.
+         *
+         * @param handle the given variable handle
+         * @param target the given object, array or buffer holding the variable
+         * @param index the given index of the variable in the array or buffer, or {@link #FIELD} for a field
+         * @param vol the given flag of the volatile semantics
+         * @return the view over the variable
+         */
+        static OfByte view(VarHandle handle, Object target, int index, boolean vol) {
+            return index == FIELD ? vol ? new VolatileField(handle, target) : new Field(handle, target)
+                    : vol ? new VolatileElement(handle, target, index) : new Element(handle, target, index);
+        }
+
+        /**
+         * The plain field byte view.
+         */
+        private static final class Field extends OfByte {
+
+            /**
+             * Construct the object with the given variable handle and object holding the field.
+             *
+             * @param handle the given variable handle
+             * @param target the given object holding the field
+             */
+            private Field(VarHandle handle, Object target) {
+                super(handle, target);
+            }
+
+            /**
+             * {@inheritDoc}
+             *
+             * @return {@inheritDoc}
+             */
+            @Override
+            public byte get() {
+                return (byte) handle.get(target);
+            }
+
+            /**
+             * {@inheritDoc}
+             *
+             * @param num {@inheritDoc}
+             */
+            @Override
+            public void put(byte num) {
+                handle.set(target, num);
+            }
+
+            /**
+             * {@inheritDoc}
+             *
+             * @param num {@inheritDoc}
+             * @return {@inheritDoc}
+             */
+            @Override
+            public byte set(byte num) {
+                byte previous = get(); put(num); return previous;
+            }
+
+            /**
+             * {@inheritDoc}
+             *
+             * @param state {@inheritDoc}
+             * @param num {@inheritDoc}
+             * @return {@inheritDoc}
+             */
+            @Override
+            public boolean let(byte state, byte num) {
+                if (get() != state)
+                    return false;
+                put(num); return true;
+            }
+
+            /**
+             * {@inheritDoc}
+             *
+             * @return {@inheritDoc}
+             */
+            @Override
+            public byte incr() {
+                return add((byte) 1);
+            }
+
+            /**
+             * {@inheritDoc}
+             *
+             * @return {@inheritDoc}
+             */
+            @Override
+            public byte decr() {
+                return add((byte) -1);
+            }
+
+            /**
+             * Add the given delta and return the resulting value.
+             *
+             * @param delta the given delta
+             * @return the resulting value
+             */
+            private byte add(byte delta) {
+                byte num = (byte) (get() + delta); put(num); return num;
+            }
+        }
+
+        /**
+         * The plain array element or buffer slot byte view.
+         */
+        private static final class Element extends OfByte {
+
+            /**
+             * The index of the variable in the array or buffer.
+             */
+            private final int index;
+
+            /**
+             * Construct the object with the given variable handle, array or buffer and index of the variable.
+             *
+             * @param handle the given variable handle
+             * @param target the given array or buffer holding the variable
+             * @param index the given index of the variable in the array or buffer
+             */
+            private Element(VarHandle handle, Object target, int index) {
+                super(handle, target); this.index = index;
+            }
+
+            /**
+             * {@inheritDoc}
+             *
+             * @return {@inheritDoc}
+             */
+            @Override
+            public byte get() {
+                return (byte) handle.get(target, index);
+            }
+
+            /**
+             * {@inheritDoc}
+             *
+             * @param num {@inheritDoc}
+             */
+            @Override
+            public void put(byte num) {
+                handle.set(target, index, num);
+            }
+
+            /**
+             * {@inheritDoc}
+             *
+             * @param num {@inheritDoc}
+             * @return {@inheritDoc}
+             */
+            @Override
+            public byte set(byte num) {
+                byte previous = get(); put(num); return previous;
+            }
+
+            /**
+             * {@inheritDoc}
+             *
+             * @param state {@inheritDoc}
+             * @param num {@inheritDoc}
+             * @return {@inheritDoc}
+             */
+            @Override
+            public boolean let(byte state, byte num) {
+                if (get() != state)
+                    return false;
+                put(num); return true;
+            }
+
+            /**
+             * {@inheritDoc}
+             *
+             * @return {@inheritDoc}
+             */
+            @Override
+            public byte incr() {
+                return add((byte) 1);
+            }
+
+            /**
+             * {@inheritDoc}
+             *
+             * @return {@inheritDoc}
+             */
+            @Override
+            public byte decr() {
+                return add((byte) -1);
+            }
+
+            /**
+             * Add the given delta and return the resulting value.
+             *
+             * @param delta the given delta
+             * @return the resulting value
+             */
+            private byte add(byte delta) {
+                byte num = (byte) (get() + delta); put(num); return num;
+            }
+        }
+
+        /**
+         * The volatile field byte view.
+         */
+        private static final class VolatileField extends OfByte {
+
+            /**
+             * Construct the object with the given variable handle and object holding the field.
+             *
+             * @param handle the given variable handle
+             * @param target the given object holding the field
+             */
+            private VolatileField(VarHandle handle, Object target) {
+                super(handle, target);
+            }
+
+            /**
+             * {@inheritDoc}
+             *
+             * @return {@inheritDoc}
+             */
+            @Override
+            public byte get() {
+                return (byte) handle.getVolatile(target);
+            }
+
+            /**
+             * {@inheritDoc}
+             *
+             * @param num {@inheritDoc}
+             */
+            @Override
+            public void put(byte num) {
+                handle.setVolatile(target, num);
+            }
+
+            /**
+             * Atomically get the previous value and set the new value.
+             *
+             * @param num {@inheritDoc}
+             * @return {@inheritDoc}
+             */
+            @Override
+            public byte set(byte num) {
+                return (byte) handle.getAndSet(target, num);
+            }
+
+            /**
+             * Atomically set the given value if the current value {@code == state}.
+             *
+             * @param state {@inheritDoc}
+             * @param num {@inheritDoc}
+             * @return {@inheritDoc}
+             */
+            @Override
+            public boolean let(byte state, byte num) {
+                return handle.compareAndSet(target, state, num);
+            }
+
+            /**
+             * Atomically increment value and return.
+             *
+             * @return {@inheritDoc}
+             */
+            @Override
+            public byte incr() {
+                return add((byte) 1);
+            }
+
+            /**
+             * Atomically decrement value and return.
+             *
+             * @return {@inheritDoc}
+             */
+            @Override
+            public byte decr() {
+                return add((byte) -1);
+            }
+
+            /**
+             * Atomically add the given delta and return the resulting value.
+             *
+             * @param delta the given delta
+             * @return the resulting value
+             */
+            private byte add(byte delta) {
+                return (byte) ((byte) handle.getAndAdd(target, delta) + delta);
+            }
+        }
+
+        /**
+         * The volatile array element or buffer slot byte view.
+         */
+        private static final class VolatileElement extends OfByte {
+
+            /**
+             * The index of the variable in the array or buffer.
+             */
+            private final int index;
+
+            /**
+             * Construct the object with the given variable handle, array or buffer and index of the variable.
+             *
+             * @param handle the given variable handle
+             * @param target the given array or buffer holding the variable
+             * @param index the given index of the variable in the array or buffer
+             */
+            private VolatileElement(VarHandle handle, Object target, int index) {
+                super(handle, target); this.index = index;
+            }
+
+            /**
+             * {@inheritDoc}
+             *
+             * @return {@inheritDoc}
+             */
+            @Override
+            public byte get() {
+                return (byte) handle.getVolatile(target, index);
+            }
+
+            /**
+             * {@inheritDoc}
+             *
+             * @param num {@inheritDoc}
+             */
+            @Override
+            public void put(byte num) {
+                handle.setVolatile(target, index, num);
+            }
+
+            /**
+             * Atomically get the previous value and set the new value.
+             *
+             * @param num {@inheritDoc}
+             * @return {@inheritDoc}
+             */
+            @Override
+            public byte set(byte num) {
+                return (byte) handle.getAndSet(target, index, num);
+            }
+
+            /**
+             * Atomically set the given value if the current value {@code == state}.
+             *
+             * @param state {@inheritDoc}
+             * @param num {@inheritDoc}
+             * @return {@inheritDoc}
+             */
+            @Override
+            public boolean let(byte state, byte num) {
+                return handle.compareAndSet(target, index, state, num);
+            }
+
+            /**
+             * Atomically increment value and return.
+             *
+             * @return {@inheritDoc}
+             */
+            @Override
+            public byte incr() {
+                return add((byte) 1);
+            }
+
+            /**
+             * Atomically decrement value and return.
+             *
+             * @return {@inheritDoc}
+             */
+            @Override
+            public byte decr() {
+                return add((byte) -1);
+            }
+
+            /**
+             * Atomically add the given delta and return the resulting value.
+             *
+             * @param delta the given delta
+             * @return the resulting value
+             */
+            private byte add(byte delta) {
+                return (byte) ((byte) handle.getAndAdd(target, index, delta) + delta);
+            }
+        }
+    }
+
+    /**
+     * The short variable views, the final subclasses of which serve each pair of the coordinates
+     * and semantics by a single access path.
+     */
+    private abstract static class OfShort implements Valuable.Short {
+
+        /**
+         * The variable handle.
+         */
+        final VarHandle handle;
+
+        /**
+         * The object, array or buffer holding the variable.
+         */
+        final Object target;
+
+        /**
+         * Construct the object with the given variable handle and object, array or buffer holding the variable.
+         *
+         * @param handle the given variable handle
+         * @param target the given object, array or buffer holding the variable
+         */
+        private OfShort(VarHandle handle, Object target) {
+            this.handle = handle; this.target = target;
+        }
+
+        /**
+         * Return the view over the variable at the given coordinates accessed by the given handle.
+         *
+         * @param handle the given variable handle
+         * @param target the given object, array or buffer holding the variable
+         * @param index the given index of the variable in the array or buffer, or {@link #FIELD} for a field
+         * @param vol the given flag of the volatile semantics
+         * @return the view over the variable
+         */
+        static OfShort view(VarHandle handle, Object target, int index, boolean vol) {
+            return index == FIELD ? vol ? new VolatileField(handle, target) : new Field(handle, target)
+                    : vol ? new VolatileElement(handle, target, index) : new Element(handle, target, index);
+        }
+
+        /**
+         * The plain field short view.
+         */
+        private static final class Field extends OfShort {
+
+            /**
+             * Construct the object with the given variable handle and object holding the field.
+             *
+             * @param handle the given variable handle
+             * @param target the given object holding the field
+             */
+            private Field(VarHandle handle, Object target) {
+                super(handle, target);
+            }
+
+            /**
+             * {@inheritDoc}
+             *
+             * @return {@inheritDoc}
+             */
+            @Override
+            public short get() {
+                return (short) handle.get(target);
+            }
+
+            /**
+             * {@inheritDoc}
+             *
+             * @param num {@inheritDoc}
+             */
+            @Override
+            public void put(short num) {
+                handle.set(target, num);
+            }
+
+            /**
+             * {@inheritDoc}
+             *
+             * @param num {@inheritDoc}
+             * @return {@inheritDoc}
+             */
+            @Override
+            public short set(short num) {
+                short previous = get(); put(num); return previous;
+            }
+
+            /**
+             * {@inheritDoc}
+             *
+             * @param state {@inheritDoc}
+             * @param num {@inheritDoc}
+             * @return {@inheritDoc}
+             */
+            @Override
+            public boolean let(short state, short num) {
+                if (get() != state)
+                    return false;
+                put(num); return true;
+            }
+
+            /**
+             * {@inheritDoc}
+             *
+             * @return {@inheritDoc}
+             */
+            @Override
+            public short incr() {
+                return add((short) 1);
+            }
+
+            /**
+             * {@inheritDoc}
+             *
+             * @return {@inheritDoc}
+             */
+            @Override
+            public short decr() {
+                return add((short) -1);
+            }
+
+            /**
+             * Add the given delta and return the resulting value.
+             *
+             * @param delta the given delta
+             * @return the resulting value
+             */
+            private short add(short delta) {
+                short num = (short) (get() + delta); put(num); return num;
+            }
+        }
+
+        /**
+         * The plain array element or buffer slot short view.
+         */
+        private static final class Element extends OfShort {
+
+            /**
+             * The index of the variable in the array or buffer.
+             */
+            private final int index;
+
+            /**
+             * Construct the object with the given variable handle, array or buffer and index of the variable.
+             *
+             * @param handle the given variable handle
+             * @param target the given array or buffer holding the variable
+             * @param index the given index of the variable in the array or buffer
+             */
+            private Element(VarHandle handle, Object target, int index) {
+                super(handle, target); this.index = index;
+            }
+
+            /**
+             * {@inheritDoc}
+             *
+             * @return {@inheritDoc}
+             */
+            @Override
+            public short get() {
+                return (short) handle.get(target, index);
+            }
+
+            /**
+             * {@inheritDoc}
+             *
+             * @param num {@inheritDoc}
+             */
+            @Override
+            public void put(short num) {
+                handle.set(target, index, num);
+            }
+
+            /**
+             * {@inheritDoc}
+             *
+             * @param num {@inheritDoc}
+             * @return {@inheritDoc}
+             */
+            @Override
+            public short set(short num) {
+                short previous = get(); put(num); return previous;
+            }
+
+            /**
+             * {@inheritDoc}
+             *
+             * @param state {@inheritDoc}
+             * @param num {@inheritDoc}
+             * @return {@inheritDoc}
+             */
+            @Override
+            public boolean let(short state, short num) {
+                if (get() != state)
+                    return false;
+                put(num); return true;
+            }
+
+            /**
+             * {@inheritDoc}
+             *
+             * @return {@inheritDoc}
+             */
+            @Override
+            public short incr() {
+                return add((short) 1);
+            }
+
+            /**
+             * {@inheritDoc}
+             *
+             * @return {@inheritDoc}
+             */
+            @Override
+            public short decr() {
+                return add((short) -1);
+            }
+
+            /**
+             * Add the given delta and return the resulting value.
+             *
+             * @param delta the given delta
+             * @return the resulting value
+             */
+            private short add(short delta) {
+                short num = (short) (get() + delta); put(num); return num;
+            }
+        }
+
+        /**
+         * The volatile field short view.
+         */
+        private static final class VolatileField extends OfShort {
+
+            /**
+             * Construct the object with the given variable handle and object holding the field.
+             *
+             * @param handle the given variable handle
+             * @param target the given object holding the field
+             */
+            private VolatileField(VarHandle handle, Object target) {
+                super(handle, target);
+            }
+
+            /**
+             * {@inheritDoc}
+             *
+             * @return {@inheritDoc}
+             */
+            @Override
+            public short get() {
+                return (short) handle.getVolatile(target);
+            }
+
+            /**
+             * {@inheritDoc}
+             *
+             * @param num {@inheritDoc}
+             */
+            @Override
+            public void put(short num) {
+                handle.setVolatile(target, num);
+            }
+
+            /**
+             * Atomically get the previous value and set the new value.
+             *
+             * @param num {@inheritDoc}
+             * @return {@inheritDoc}
+             */
+            @Override
+            public short set(short num) {
+                return (short) handle.getAndSet(target, num);
+            }
+
+            /**
+             * Atomically set the given value if the current value {@code == state}.
+             *
+             * @param state {@inheritDoc}
+             * @param num {@inheritDoc}
+             * @return {@inheritDoc}
+             */
+            @Override
+            public boolean let(short state, short num) {
+                return handle.compareAndSet(target, state, num);
+            }
+
+            /**
+             * Atomically increment value and return.
+             *
+             * @return {@inheritDoc}
+             */
+            @Override
+            public short incr() {
+                return add((short) 1);
+            }
+
+            /**
+             * Atomically decrement value and return.
+             *
+             * @return {@inheritDoc}
+             */
+            @Override
+            public short decr() {
+                return add((short) -1);
+            }
+
+            /**
+             * Atomically add the given delta and return the resulting value.
+             *
+             * @param delta the given delta
+             * @return the resulting value
+             */
+            private short add(short delta) {
+                return (short) ((short) handle.getAndAdd(target, delta) + delta);
+            }
+        }
+
+        /**
+         * The volatile array element or buffer slot short view.
+         */
+        private static final class VolatileElement extends OfShort {
+
+            /**
+             * The index of the variable in the array or buffer.
+             */
+            private final int index;
+
+            /**
+             * Construct the object with the given variable handle, array or buffer and index of the variable.
+             *
+             * @param handle the given variable handle
+             * @param target the given array or buffer holding the variable
+             * @param index the given index of the variable in the array or buffer
+             */
+            private VolatileElement(VarHandle handle, Object target, int index) {
+                super(handle, target); this.index = index;
+            }
+
+            /**
+             * {@inheritDoc}
+             *
+             * @return {@inheritDoc}
+             */
+            @Override
+            public short get() {
+                return (short) handle.getVolatile(target, index);
+            }
+
+            /**
+             * {@inheritDoc}
+             *
+             * @param num {@inheritDoc}
+             */
+            @Override
+            public void put(short num) {
+                handle.setVolatile(target, index, num);
+            }
+
+            /**
+             * Atomically get the previous value and set the new value.
+             *
+             * @param num {@inheritDoc}
+             * @return {@inheritDoc}
+             */
+            @Override
+            public short set(short num) {
+                return (short) handle.getAndSet(target, index, num);
+            }
+
+            /**
+             * Atomically set the given value if the current value {@code == state}.
+             *
+             * @param state {@inheritDoc}
+             * @param num {@inheritDoc}
+             * @return {@inheritDoc}
+             */
+            @Override
+            public boolean let(short state, short num) {
+                return handle.compareAndSet(target, index, state, num);
+            }
+
+            /**
+             * Atomically increment value and return.
+             *
+             * @return {@inheritDoc}
+             */
+            @Override
+            public short incr() {
+                return add((short) 1);
+            }
+
+            /**
+             * Atomically decrement value and return.
+             *
+             * @return {@inheritDoc}
+             */
+            @Override
+            public short decr() {
+                return add((short) -1);
+            }
+
+            /**
+             * Atomically add the given delta and return the resulting value.
+             *
+             * @param delta the given delta
+             * @return the resulting value
+             */
+            private short add(short delta) {
+                return (short) ((short) handle.getAndAdd(target, index, delta) + delta);
+            }
+        }
+    }
+
+    /**
+     * The int variable views, the final subclasses of which serve each pair of the coordinates
+     * and semantics by a single access path.
+     */
+    private abstract static class OfInt implements Valuable.Int {
+
+        /**
+         * The variable handle.
+         */
+        final VarHandle handle;
+
+        /**
+         * The object, array or buffer holding the variable.
+         */
+        final Object target;
+
+        /**
+         * Construct the object with the given variable handle and object, array or buffer holding the variable.
+         *
+         * @param handle the given variable handle
+         * @param target the given object, array or buffer holding the variable
+         */
+        private OfInt(VarHandle handle, Object target) {
+            this.handle = handle; this.target = target;
+        }
+
+        /**
+         * Return the view over the variable at the given coordinates accessed by the given handle.
+         *
+         * @param handle the given variable handle
+         * @param target the given object, array or buffer holding the variable
+         * @param index the given index of the variable in the array or buffer, or {@link #FIELD} for a field
+         * @param vol the given flag of the volatile semantics
+         * @return the view over the variable
+         */
+        static OfInt view(VarHandle handle, Object target, int index, boolean vol) {
+            return index == FIELD ? vol ? new VolatileField(handle, target) : new Field(handle, target)
+                    : vol ? new VolatileElement(handle, target, index) : new Element(handle, target, index);
+        }
+
+        /**
+         * The plain field int view.
+         */
+        private static final class Field extends OfInt {
+
+            /**
+             * Construct the object with the given variable handle and object holding the field.
+             *
+             * @param handle the given variable handle
+             * @param target the given object holding the field
+             */
+            private Field(VarHandle handle, Object target) {
+                super(handle, target);
+            }
+
+            /**
+             * {@inheritDoc}
+             *
+             * @return {@inheritDoc}
+             */
+            @Override
+            public int get() {
+                return (int) handle.get(target);
+            }
+
+            /**
+             * {@inheritDoc}
+             *
+             * @param num {@inheritDoc}
+             */
+            @Override
+            public void put(int num) {
+                handle.set(target, num);
+            }
+
+            /**
+             * {@inheritDoc}
+             *
+             * @param num {@inheritDoc}
+             * @return {@inheritDoc}
+             */
+            @Override
+            public int set(int num) {
+                int previous = get(); put(num); return previous;
+            }
+
+            /**
+             * {@inheritDoc}
+             *
+             * @param state {@inheritDoc}
+             * @param num {@inheritDoc}
+             * @return {@inheritDoc}
+             */
+            @Override
+            public boolean let(int state, int num) {
+                if (get() != state)
+                    return false;
+                put(num); return true;
+            }
+
+            /**
+             * {@inheritDoc}
+             *
+             * @return {@inheritDoc}
+             */
+            @Override
+            public int incr() {
+                return add(1);
+            }
+
+            /**
+             * {@inheritDoc}
+             *
+             * @return {@inheritDoc}
+             */
+            @Override
+            public int decr() {
+                return add(-1);
+            }
+
+            /**
+             * Add the given delta and return the resulting value.
+             *
+             * @param delta the given delta
+             * @return the resulting value
+             */
+            private int add(int delta) {
+                int num = get() + delta; put(num); return num;
+            }
+        }
+
+        /**
+         * The plain array element or buffer slot int view.
+         */
+        private static final class Element extends OfInt {
+
+            /**
+             * The index of the variable in the array or buffer.
+             */
+            private final int index;
+
+            /**
+             * Construct the object with the given variable handle, array or buffer and index of the variable.
+             *
+             * @param handle the given variable handle
+             * @param target the given array or buffer holding the variable
+             * @param index the given index of the variable in the array or buffer
+             */
+            private Element(VarHandle handle, Object target, int index) {
+                super(handle, target); this.index = index;
+            }
+
+            /**
+             * {@inheritDoc}
+             *
+             * @return {@inheritDoc}
+             */
+            @Override
+            public int get() {
+                return (int) handle.get(target, index);
+            }
+
+            /**
+             * {@inheritDoc}
+             *
+             * @param num {@inheritDoc}
+             */
+            @Override
+            public void put(int num) {
+                handle.set(target, index, num);
+            }
+
+            /**
+             * {@inheritDoc}
+             *
+             * @param num {@inheritDoc}
+             * @return {@inheritDoc}
+             */
+            @Override
+            public int set(int num) {
+                int previous = get(); put(num); return previous;
+            }
+
+            /**
+             * {@inheritDoc}
+             *
+             * @param state {@inheritDoc}
+             * @param num {@inheritDoc}
+             * @return {@inheritDoc}
+             */
+            @Override
+            public boolean let(int state, int num) {
+                if (get() != state)
+                    return false;
+                put(num); return true;
+            }
+
+            /**
+             * {@inheritDoc}
+             *
+             * @return {@inheritDoc}
+             */
+            @Override
+            public int incr() {
+                return add(1);
+            }
+
+            /**
+             * {@inheritDoc}
+             *
+             * @return {@inheritDoc}
+             */
+            @Override
+            public int decr() {
+                return add(-1);
+            }
+
+            /**
+             * Add the given delta and return the resulting value.
+             *
+             * @param delta the given delta
+             * @return the resulting value
+             */
+            private int add(int delta) {
+                int num = get() + delta; put(num); return num;
+            }
+        }
+
+        /**
+         * The volatile field int view.
+         */
+        private static final class VolatileField extends OfInt {
+
+            /**
+             * Construct the object with the given variable handle and object holding the field.
+             *
+             * @param handle the given variable handle
+             * @param target the given object holding the field
+             */
+            private VolatileField(VarHandle handle, Object target) {
+                super(handle, target);
+            }
+
+            /**
+             * {@inheritDoc}
+             *
+             * @return {@inheritDoc}
+             */
+            @Override
+            public int get() {
+                return (int) handle.getVolatile(target);
+            }
+
+            /**
+             * {@inheritDoc}
+             *
+             * @param num {@inheritDoc}
+             */
+            @Override
+            public void put(int num) {
+                handle.setVolatile(target, num);
+            }
+
+            /**
+             * Atomically get the previous value and set the new value.
+             *
+             * @param num {@inheritDoc}
+             * @return {@inheritDoc}
+             */
+            @Override
+            public int set(int num) {
+                return (int) handle.getAndSet(target, num);
+            }
+
+            /**
+             * Atomically set the given value if the current value {@code == state}.
+             *
+             * @param state {@inheritDoc}
+             * @param num {@inheritDoc}
+             * @return {@inheritDoc}
+             */
+            @Override
+            public boolean let(int state, int num) {
+                return handle.compareAndSet(target, state, num);
+            }
+
+            /**
+             * Atomically increment value and return.
+             *
+             * @return {@inheritDoc}
+             */
+            @Override
+            public int incr() {
+                return add(1);
+            }
+
+            /**
+             * Atomically decrement value and return.
+             *
+             * @return {@inheritDoc}
+             */
+            @Override
+            public int decr() {
+                return add(-1);
+            }
+
+            /**
+             * Atomically add the given delta and return the resulting value.
+             *
+             * @param delta the given delta
+             * @return the resulting value
+             */
+            private int add(int delta) {
+                return (int) handle.getAndAdd(target, delta) + delta;
+            }
+        }
+
+        /**
+         * The volatile array element or buffer slot int view.
+         */
+        private static final class VolatileElement extends OfInt {
+
+            /**
+             * The index of the variable in the array or buffer.
+             */
+            private final int index;
+
+            /**
+             * Construct the object with the given variable handle, array or buffer and index of the variable.
+             *
+             * @param handle the given variable handle
+             * @param target the given array or buffer holding the variable
+             * @param index the given index of the variable in the array or buffer
+             */
+            private VolatileElement(VarHandle handle, Object target, int index) {
+                super(handle, target); this.index = index;
+            }
+
+            /**
+             * {@inheritDoc}
+             *
+             * @return {@inheritDoc}
+             */
+            @Override
+            public int get() {
+                return (int) handle.getVolatile(target, index);
+            }
+
+            /**
+             * {@inheritDoc}
+             *
+             * @param num {@inheritDoc}
+             */
+            @Override
+            public void put(int num) {
+                handle.setVolatile(target, index, num);
+            }
+
+            /**
+             * Atomically get the previous value and set the new value.
+             *
+             * @param num {@inheritDoc}
+             * @return {@inheritDoc}
+             */
+            @Override
+            public int set(int num) {
+                return (int) handle.getAndSet(target, index, num);
+            }
+
+            /**
+             * Atomically set the given value if the current value {@code == state}.
+             *
+             * @param state {@inheritDoc}
+             * @param num {@inheritDoc}
+             * @return {@inheritDoc}
+             */
+            @Override
+            public boolean let(int state, int num) {
+                return handle.compareAndSet(target, index, state, num);
+            }
+
+            /**
+             * Atomically increment value and return.
+             *
+             * @return {@inheritDoc}
+             */
+            @Override
+            public int incr() {
+                return add(1);
+            }
+
+            /**
+             * Atomically decrement value and return.
+             *
+             * @return {@inheritDoc}
+             */
+            @Override
+            public int decr() {
+                return add(-1);
+            }
+
+            /**
+             * Atomically add the given delta and return the resulting value.
+             *
+             * @param delta the given delta
+             * @return the resulting value
+             */
+            private int add(int delta) {
+                return (int) handle.getAndAdd(target, index, delta) + delta;
+            }
+        }
+    }
+
+    /**
+     * The long variable views, the final subclasses of which serve each pair of the coordinates
+     * and semantics by a single access path.
+     */
+    private abstract static class OfLong implements Valuable.Long {
+
+        /**
+         * The variable handle.
+         */
+        final VarHandle handle;
+
+        /**
+         * The object, array or buffer holding the variable.
+         */
+        final Object target;
+
+        /**
+         * Construct the object with the given variable handle and object, array or buffer holding the variable.
+         *
+         * @param handle the given variable handle
+         * @param target the given object, array or buffer holding the variable
+         */
+        private OfLong(VarHandle handle, Object target) {
+            this.handle = handle; this.target = target;
+        }
+
+        /**
+         * Return the view over the variable at the given coordinates accessed by the given handle.
+         *
+         * @param handle the given variable handle
+         * @param target the given object, array or buffer holding the variable
+         * @param index the given index of the variable in the array or buffer, or {@link #FIELD} for a field
+         * @param vol the given flag of the volatile semantics
+         * @return the view over the variable
+         */
+        static OfLong view(VarHandle handle, Object target, int index, boolean vol) {
+            return index == FIELD ? vol ? new VolatileField(handle, target) : new Field(handle, target)
+                    : vol ? new VolatileElement(handle, target, index) : new Element(handle, target, index);
+        }
+
+        /**
+         * The plain field long view.
+         */
+        private static final class Field extends OfLong {
+
+            /**
+             * Construct the object with the given variable handle and object holding the field.
+             *
+             * @param handle the given variable handle
+             * @param target the given object holding the field
+             */
+            private Field(VarHandle handle, Object target) {
+                super(handle, target);
+            }
+
+            /**
+             * {@inheritDoc}
+             *
+             * @return {@inheritDoc}
+             */
+            @Override
+            public long get() {
+                return (long) handle.get(target);
+            }
+
+            /**
+             * {@inheritDoc}
+             *
+             * @param num {@inheritDoc}
+             */
+            @Override
+            public void put(long num) {
+                handle.set(target, num);
+            }
+
+            /**
+             * {@inheritDoc}
+             *
+             * @param num {@inheritDoc}
+             * @return {@inheritDoc}
+             */
+            @Override
+            public long set(long num) {
+                long previous = get(); put(num); return previous;
+            }
+
+            /**
+             * {@inheritDoc}
+             *
+             * @param state {@inheritDoc}
+             * @param num {@inheritDoc}
+             * @return {@inheritDoc}
+             */
+            @Override
+            public boolean let(long state, long num) {
+                if (get() != state)
+                    return false;
+                put(num); return true;
+            }
+
+            /**
+             * {@inheritDoc}
+             *
+             * @return {@inheritDoc}
+             */
+            @Override
+            public long incr() {
+                return add(1L);
+            }
+
+            /**
+             * {@inheritDoc}
+             *
+             * @return {@inheritDoc}
+             */
+            @Override
+            public long decr() {
+                return add(-1L);
+            }
+
+            /**
+             * Add the given delta and return the resulting value.
+             *
+             * @param delta the given delta
+             * @return the resulting value
+             */
+            private long add(long delta) {
+                long num = get() + delta; put(num); return num;
+            }
+        }
+
+        /**
+         * The plain array element or buffer slot long view.
+         */
+        private static final class Element extends OfLong {
+
+            /**
+             * The index of the variable in the array or buffer.
+             */
+            private final int index;
+
+            /**
+             * Construct the object with the given variable handle, array or buffer and index of the variable.
+             *
+             * @param handle the given variable handle
+             * @param target the given array or buffer holding the variable
+             * @param index the given index of the variable in the array or buffer
+             */
+            private Element(VarHandle handle, Object target, int index) {
+                super(handle, target); this.index = index;
+            }
+
+            /**
+             * {@inheritDoc}
+             *
+             * @return {@inheritDoc}
+             */
+            @Override
+            public long get() {
+                return (long) handle.get(target, index);
+            }
+
+            /**
+             * {@inheritDoc}
+             *
+             * @param num {@inheritDoc}
+             */
+            @Override
+            public void put(long num) {
+                handle.set(target, index, num);
+            }
+
+            /**
+             * {@inheritDoc}
+             *
+             * @param num {@inheritDoc}
+             * @return {@inheritDoc}
+             */
+            @Override
+            public long set(long num) {
+                long previous = get(); put(num); return previous;
+            }
+
+            /**
+             * {@inheritDoc}
+             *
+             * @param state {@inheritDoc}
+             * @param num {@inheritDoc}
+             * @return {@inheritDoc}
+             */
+            @Override
+            public boolean let(long state, long num) {
+                if (get() != state)
+                    return false;
+                put(num); return true;
+            }
+
+            /**
+             * {@inheritDoc}
+             *
+             * @return {@inheritDoc}
+             */
+            @Override
+            public long incr() {
+                return add(1L);
+            }
+
+            /**
+             * {@inheritDoc}
+             *
+             * @return {@inheritDoc}
+             */
+            @Override
+            public long decr() {
+                return add(-1L);
+            }
+
+            /**
+             * Add the given delta and return the resulting value.
+             *
+             * @param delta the given delta
+             * @return the resulting value
+             */
+            private long add(long delta) {
+                long num = get() + delta; put(num); return num;
+            }
+        }
+
+        /**
+         * The volatile field long view.
+         */
+        private static final class VolatileField extends OfLong {
+
+            /**
+             * Construct the object with the given variable handle and object holding the field.
+             *
+             * @param handle the given variable handle
+             * @param target the given object holding the field
+             */
+            private VolatileField(VarHandle handle, Object target) {
+                super(handle, target);
+            }
+
+            /**
+             * {@inheritDoc}
+             *
+             * @return {@inheritDoc}
+             */
+            @Override
+            public long get() {
+                return (long) handle.getVolatile(target);
+            }
+
+            /**
+             * {@inheritDoc}
+             *
+             * @param num {@inheritDoc}
+             */
+            @Override
+            public void put(long num) {
+                handle.setVolatile(target, num);
+            }
+
+            /**
+             * Atomically get the previous value and set the new value.
+             *
+             * @param num {@inheritDoc}
+             * @return {@inheritDoc}
+             */
+            @Override
+            public long set(long num) {
+                return (long) handle.getAndSet(target, num);
+            }
+
+            /**
+             * Atomically set the given value if the current value {@code == state}.
+             *
+             * @param state {@inheritDoc}
+             * @param num {@inheritDoc}
+             * @return {@inheritDoc}
+             */
+            @Override
+            public boolean let(long state, long num) {
+                return handle.compareAndSet(target, state, num);
+            }
+
+            /**
+             * Atomically increment value and return.
+             *
+             * @return {@inheritDoc}
+             */
+            @Override
+            public long incr() {
+                return add(1L);
+            }
+
+            /**
+             * Atomically decrement value and return.
+             *
+             * @return {@inheritDoc}
+             */
+            @Override
+            public long decr() {
+                return add(-1L);
+            }
+
+            /**
+             * Atomically add the given delta and return the resulting value.
+             *
+             * @param delta the given delta
+             * @return the resulting value
+             */
+            private long add(long delta) {
+                return (long) handle.getAndAdd(target, delta) + delta;
+            }
+        }
+
+        /**
+         * The volatile array element or buffer slot long view.
+         */
+        private static final class VolatileElement extends OfLong {
+
+            /**
+             * The index of the variable in the array or buffer.
+             */
+            private final int index;
+
+            /**
+             * Construct the object with the given variable handle, array or buffer and index of the variable.
+             *
+             * @param handle the given variable handle
+             * @param target the given array or buffer holding the variable
+             * @param index the given index of the variable in the array or buffer
+             */
+            private VolatileElement(VarHandle handle, Object target, int index) {
+                super(handle, target); this.index = index;
+            }
+
+            /**
+             * {@inheritDoc}
+             *
+             * @return {@inheritDoc}
+             */
+            @Override
+            public long get() {
+                return (long) handle.getVolatile(target, index);
+            }
+
+            /**
+             * {@inheritDoc}
+             *
+             * @param num {@inheritDoc}
+             */
+            @Override
+            public void put(long num) {
+                handle.setVolatile(target, index, num);
+            }
+
+            /**
+             * Atomically get the previous value and set the new value.
+             *
+             * @param num {@inheritDoc}
+             * @return {@inheritDoc}
+             */
+            @Override
+            public long set(long num) {
+                return (long) handle.getAndSet(target, index, num);
+            }
+
+            /**
+             * Atomically set the given value if the current value {@code == state}.
+             *
+             * @param state {@inheritDoc}
+             * @param num {@inheritDoc}
+             * @return {@inheritDoc}
+             */
+            @Override
+            public boolean let(long state, long num) {
+                return handle.compareAndSet(target, index, state, num);
+            }
+
+            /**
+             * Atomically increment value and return.
+             *
+             * @return {@inheritDoc}
+             */
+            @Override
+            public long incr() {
+                return add(1L);
+            }
+
+            /**
+             * Atomically decrement value and return.
+             *
+             * @return {@inheritDoc}
+             */
+            @Override
+            public long decr() {
+                return add(-1L);
+            }
+
+            /**
+             * Atomically add the given delta and return the resulting value.
+             *
+             * @param delta the given delta
+             * @return the resulting value
+             */
+            private long add(long delta) {
+                return (long) handle.getAndAdd(target, index, delta) + delta;
+            }
+        }
+    }
+
+    /**
+     * The float variable views, the final subclasses of which serve each pair of the coordinates
+     * and semantics by a single access path.
+     */
+    private abstract static class OfFloat implements Valuable.Float {
+
+        /**
+         * The variable handle.
+         */
+        final VarHandle handle;
+
+        /**
+         * The object, array or buffer holding the variable.
+         */
+        final Object target;
+
+        /**
+         * Construct the object with the given variable handle and object, array or buffer holding the variable.
+         *
+         * @param handle the given variable handle
+         * @param target the given object, array or buffer holding the variable
+         */
+        private OfFloat(VarHandle handle, Object target) {
+            this.handle = handle; this.target = target;
+        }
+
+        /**
+         * Return the view over the variable at the given coordinates accessed by the given handle.
+         *
+         * @param handle the given variable handle
+         * @param target the given object, array or buffer holding the variable
+         * @param index the given index of the variable in the array or buffer, or {@link #FIELD} for a field
+         * @param vol the given flag of the volatile semantics
+         * @return the view over the variable
+         */
+        static OfFloat view(VarHandle handle, Object target, int index, boolean vol) {
+            return index == FIELD ? vol ? new VolatileField(handle, target) : new Field(handle, target)
+                    : vol ? new VolatileElement(handle, target, index) : new Element(handle, target, index);
+        }
+
+        /**
+         * The plain field float view.
+         */
+        private static final class Field extends OfFloat {
+
+            /**
+             * Construct the object with the given variable handle and object holding the field.
+             *
+             * @param handle the given variable handle
+             * @param target the given object holding the field
+             */
+            private Field(VarHandle handle, Object target) {
+                super(handle, target);
+            }
+
+            /**
+             * {@inheritDoc}
+             *
+             * @return {@inheritDoc}
+             */
+            @Override
+            public float get() {
+                return (float) handle.get(target);
+            }
+
+            /**
+             * {@inheritDoc}
+             *
+             * @param num {@inheritDoc}
+             */
+            @Override
+            public void put(float num) {
+                handle.set(target, num);
+            }
+
+            /**
+             * {@inheritDoc}
+             *
+             * @param num {@inheritDoc}
+             * @return {@inheritDoc}
+             */
+            @Override
+            public float set(float num) {
+                float previous = get(); put(num); return previous;
+            }
+
+            /**
+             * {@inheritDoc}
+             *
+             * @param state {@inheritDoc}
+             * @param num {@inheritDoc}
+             * @return {@inheritDoc}
+             */
+            @Override
+            public boolean let(float state, float num) {
+                if (get() != state)
+                    return false;
+                put(num); return true;
+            }
+        }
+
+        /**
+         * The plain array element or buffer slot float view.
+         */
+        private static final class Element extends OfFloat {
+
+            /**
+             * The index of the variable in the array or buffer.
+             */
+            private final int index;
+
+            /**
+             * Construct the object with the given variable handle, array or buffer and index of the variable.
+             *
+             * @param handle the given variable handle
+             * @param target the given array or buffer holding the variable
+             * @param index the given index of the variable in the array or buffer
+             */
+            private Element(VarHandle handle, Object target, int index) {
+                super(handle, target); this.index = index;
+            }
+
+            /**
+             * {@inheritDoc}
+             *
+             * @return {@inheritDoc}
+             */
+            @Override
+            public float get() {
+                return (float) handle.get(target, index);
+            }
+
+            /**
+             * {@inheritDoc}
+             *
+             * @param num {@inheritDoc}
+             */
+            @Override
+            public void put(float num) {
+                handle.set(target, index, num);
+            }
+
+            /**
+             * {@inheritDoc}
+             *
+             * @param num {@inheritDoc}
+             * @return {@inheritDoc}
+             */
+            @Override
+            public float set(float num) {
+                float previous = get(); put(num); return previous;
+            }
+
+            /**
+             * {@inheritDoc}
+             *
+             * @param state {@inheritDoc}
+             * @param num {@inheritDoc}
+             * @return {@inheritDoc}
+             */
+            @Override
+            public boolean let(float state, float num) {
+                if (get() != state)
+                    return false;
+                put(num); return true;
+            }
+        }
+
+        /**
+         * The volatile field float view.
+         */
+        private static final class VolatileField extends OfFloat {
+
+            /**
+             * Construct the object with the given variable handle and object holding the field.
+             *
+             * @param handle the given variable handle
+             * @param target the given object holding the field
+             */
+            private VolatileField(VarHandle handle, Object target) {
+                super(handle, target);
+            }
+
+            /**
+             * {@inheritDoc}
+             *
+             * @return {@inheritDoc}
+             */
+            @Override
+            public float get() {
+                return (float) handle.getVolatile(target);
+            }
+
+            /**
+             * {@inheritDoc}
+             *
+             * @param num {@inheritDoc}
+             */
+            @Override
+            public void put(float num) {
+                handle.setVolatile(target, num);
+            }
+
+            /**
+             * Atomically get the previous value and set the new value.
+             *
+             * @param num {@inheritDoc}
+             * @return {@inheritDoc}
+             */
+            @Override
+            public float set(float num) {
+                return (float) handle.getAndSet(target, num);
+            }
+
+            /**
+             * Atomically set the given value if the current value {@code == state}.
+             *
+             * @param state {@inheritDoc}
+             * @param num {@inheritDoc}
+             * @return {@inheritDoc}
+             */
+            @Override
+            public boolean let(float state, float num) {
+                return handle.compareAndSet(target, state, num);
+            }
+        }
+
+        /**
+         * The volatile array element or buffer slot float view.
+         */
+        private static final class VolatileElement extends OfFloat {
+
+            /**
+             * The index of the variable in the array or buffer.
+             */
+            private final int index;
+
+            /**
+             * Construct the object with the given variable handle, array or buffer and index of the variable.
+             *
+             * @param handle the given variable handle
+             * @param target the given array or buffer holding the variable
+             * @param index the given index of the variable in the array or buffer
+             */
+            private VolatileElement(VarHandle handle, Object target, int index) {
+                super(handle, target); this.index = index;
+            }
+
+            /**
+             * {@inheritDoc}
+             *
+             * @return {@inheritDoc}
+             */
+            @Override
+            public float get() {
+                return (float) handle.getVolatile(target, index);
+            }
+
+            /**
+             * {@inheritDoc}
+             *
+             * @param num {@inheritDoc}
+             */
+            @Override
+            public void put(float num) {
+                handle.setVolatile(target, index, num);
+            }
+
+            /**
+             * Atomically get the previous value and set the new value.
+             *
+             * @param num {@inheritDoc}
+             * @return {@inheritDoc}
+             */
+            @Override
+            public float set(float num) {
+                return (float) handle.getAndSet(target, index, num);
+            }
+
+            /**
+             * Atomically set the given value if the current value {@code == state}.
+             *
+             * @param state {@inheritDoc}
+             * @param num {@inheritDoc}
+             * @return {@inheritDoc}
+             */
+            @Override
+            public boolean let(float state, float num) {
+                return handle.compareAndSet(target, index, state, num);
+            }
+        }
+    }
+
+    /**
+     * The double variable views, the final subclasses of which serve each pair of the coordinates
+     * and semantics by a single access path.
+     */
+    private abstract static class OfDouble implements Valuable.Double {
+
+        /**
+         * The variable handle.
+         */
+        final VarHandle handle;
+
+        /**
+         * The object, array or buffer holding the variable.
+         */
+        final Object target;
+
+        /**
+         * Construct the object with the given variable handle and object, array or buffer holding the variable.
+         *
+         * @param handle the given variable handle
+         * @param target the given object, array or buffer holding the variable
+         */
+        private OfDouble(VarHandle handle, Object target) {
+            this.handle = handle; this.target = target;
+        }
+
+        /**
+         * Return the view over the variable at the given coordinates accessed by the given handle.
+         *
+         * @param handle the given variable handle
+         * @param target the given object, array or buffer holding the variable
+         * @param index the given index of the variable in the array or buffer, or {@link #FIELD} for a field
+         * @param vol the given flag of the volatile semantics
+         * @return the view over the variable
+         */
+        static OfDouble view(VarHandle handle, Object target, int index, boolean vol) {
+            return index == FIELD ? vol ? new VolatileField(handle, target) : new Field(handle, target)
+                    : vol ? new VolatileElement(handle, target, index) : new Element(handle, target, index);
+        }
+
+        /**
+         * The plain field double view.
+         */
+        private static final class Field extends OfDouble {
+
+            /**
+             * Construct the object with the given variable handle and object holding the field.
+             *
+             * @param handle the given variable handle
+             * @param target the given object holding the field
+             */
+            private Field(VarHandle handle, Object target) {
+                super(handle, target);
+            }
+
+            /**
+             * {@inheritDoc}
+             *
+             * @return {@inheritDoc}
+             */
+            @Override
+            public double get() {
+                return (double) handle.get(target);
+            }
+
+            /**
+             * {@inheritDoc}
+             *
+             * @param num {@inheritDoc}
+             */
+            @Override
+            public void put(double num) {
+                handle.set(target, num);
+            }
+
+            /**
+             * {@inheritDoc}
+             *
+             * @param num {@inheritDoc}
+             * @return {@inheritDoc}
+             */
+            @Override
+            public double set(double num) {
+                double previous = get(); put(num); return previous;
+            }
+
+            /**
+             * {@inheritDoc}
+             *
+             * @param state {@inheritDoc}
+             * @param num {@inheritDoc}
+             * @return {@inheritDoc}
+             */
+            @Override
+            public boolean let(double state, double num) {
+                if (get() != state)
+                    return false;
+                put(num); return true;
+            }
+        }
+
+        /**
+         * The plain array element or buffer slot double view.
+         */
+        private static final class Element extends OfDouble {
+
+            /**
+             * The index of the variable in the array or buffer.
+             */
+            private final int index;
+
+            /**
+             * Construct the object with the given variable handle, array or buffer and index of the variable.
+             *
+             * @param handle the given variable handle
+             * @param target the given array or buffer holding the variable
+             * @param index the given index of the variable in the array or buffer
+             */
+            private Element(VarHandle handle, Object target, int index) {
+                super(handle, target); this.index = index;
+            }
+
+            /**
+             * {@inheritDoc}
+             *
+             * @return {@inheritDoc}
+             */
+            @Override
+            public double get() {
+                return (double) handle.get(target, index);
+            }
+
+            /**
+             * {@inheritDoc}
+             *
+             * @param num {@inheritDoc}
+             */
+            @Override
+            public void put(double num) {
+                handle.set(target, index, num);
+            }
+
+            /**
+             * {@inheritDoc}
+             *
+             * @param num {@inheritDoc}
+             * @return {@inheritDoc}
+             */
+            @Override
+            public double set(double num) {
+                double previous = get(); put(num); return previous;
+            }
+
+            /**
+             * {@inheritDoc}
+             *
+             * @param state {@inheritDoc}
+             * @param num {@inheritDoc}
+             * @return {@inheritDoc}
+             */
+            @Override
+            public boolean let(double state, double num) {
+                if (get() != state)
+                    return false;
+                put(num); return true;
+            }
+        }
+
+        /**
+         * The volatile field double view.
+         */
+        private static final class VolatileField extends OfDouble {
+
+            /**
+             * Construct the object with the given variable handle and object holding the field.
+             *
+             * @param handle the given variable handle
+             * @param target the given object holding the field
+             */
+            private VolatileField(VarHandle handle, Object target) {
+                super(handle, target);
+            }
+
+            /**
+             * {@inheritDoc}
+             *
+             * @return {@inheritDoc}
+             */
+            @Override
+            public double get() {
+                return (double) handle.getVolatile(target);
+            }
+
+            /**
+             * {@inheritDoc}
+             *
+             * @param num {@inheritDoc}
+             */
+            @Override
+            public void put(double num) {
+                handle.setVolatile(target, num);
+            }
+
+            /**
+             * Atomically get the previous value and set the new value.
+             *
+             * @param num {@inheritDoc}
+             * @return {@inheritDoc}
+             */
+            @Override
+            public double set(double num) {
+                return (double) handle.getAndSet(target, num);
+            }
+
+            /**
+             * Atomically set the given value if the current value {@code == state}.
+             *
+             * @param state {@inheritDoc}
+             * @param num {@inheritDoc}
+             * @return {@inheritDoc}
+             */
+            @Override
+            public boolean let(double state, double num) {
+                return handle.compareAndSet(target, state, num);
+            }
+        }
+
+        /**
+         * The volatile array element or buffer slot double view.
+         */
+        private static final class VolatileElement extends OfDouble {
+
+            /**
+             * The index of the variable in the array or buffer.
+             */
+            private final int index;
+
+            /**
+             * Construct the object with the given variable handle, array or buffer and index of the variable.
+             *
+             * @param handle the given variable handle
+             * @param target the given array or buffer holding the variable
+             * @param index the given index of the variable in the array or buffer
+             */
+            private VolatileElement(VarHandle handle, Object target, int index) {
+                super(handle, target); this.index = index;
+            }
+
+            /**
+             * {@inheritDoc}
+             *
+             * @return {@inheritDoc}
+             */
+            @Override
+            public double get() {
+                return (double) handle.getVolatile(target, index);
+            }
+
+            /**
+             * {@inheritDoc}
+             *
+             * @param num {@inheritDoc}
+             */
+            @Override
+            public void put(double num) {
+                handle.setVolatile(target, index, num);
+            }
+
+            /**
+             * Atomically get the previous value and set the new value.
+             *
+             * @param num {@inheritDoc}
+             * @return {@inheritDoc}
+             */
+            @Override
+            public double set(double num) {
+                return (double) handle.getAndSet(target, index, num);
+            }
+
+            /**
+             * Atomically set the given value if the current value {@code == state}.
+             *
+             * @param state {@inheritDoc}
+             * @param num {@inheritDoc}
+             * @return {@inheritDoc}
+             */
+            @Override
+            public boolean let(double state, double num) {
+                return handle.compareAndSet(target, index, state, num);
+            }
+        }
+    }
+
+    /**
+     * The type of the views, requested from the factories by the variable type of the handle, e.g. {@link #INT}
+     * for an {@code int} variable, or {@link #reference()} for an object reference one.
+     *
+     * @param <H> the type of the views
+     */
+    public static final class Type<H> {
+
+        /**
+         * The variable type, or {@code Object.class} for any object reference one.
+         */
+        private final Class<?> varType;
+
+        /**
+         * The factory of the views.
+         */
+        private final Factory<H> factory;
+
+        /**
+         * Construct the object with the given variable type and factory of the views.
+         *
+         * @param varType the given variable type, or {@code Object.class} for any object reference one
+         * @param factory the given factory of the views
+         */
+        private Type(Class<?> varType, Factory<H> factory) {
+            this.varType = varType; this.factory = factory;
+        }
+
+        /**
+         * Return the view over the variable at the given coordinates accessed by the given handle,
+         * checking the handle to be the one of the variable type at the coordinates.
+         *
+         * @param handle the given variable handle
+         * @param target the given object, array or buffer holding the variable
+         * @param index the given index of the variable in the array or buffer, or {@link #FIELD} for a field
+         * @param vol the given flag of the volatile semantics
+         * @return the view over the variable
+         */
+        private H view(VarHandle handle, Object target, int index, boolean vol) {
+            List<Class<?>> coordinates = handle.coordinateTypes();
+            if (index == FIELD ? coordinates.size() != 1 : coordinates.size() != 2 || coordinates.get(1) != int.class)
+                throw new IllegalArgumentException((index == FIELD ? "Not an instance field handle "
+                        : "Not an array element or buffer view handle ") + handle);
+            coordinates.get(0).cast(Objects.requireNonNull(target));
+            Class<?> type = handle.varType();
+            if (varType == Object.class ? type.isPrimitive() : type != varType)
+                throw new IllegalArgumentException("Not a handle of " + (varType == Object.class
+                        ? "an object reference" : varType.getName()) + " variable " + handle);
+            return factory.view(handle, target, index, vol);
+        }
+    }
+
+    /**
+     * The factory of the views.
+     *
+     * @param <H> the type of the views
+     */
+    @FunctionalInterface
+    private interface Factory<H> {
+
+        /**
+         * Return the view over the variable at the given coordinates accessed by the given handle.
+         *
+         * @param handle the given variable handle
+         * @param target the given object, array or buffer holding the variable
+         * @param index the given index of the variable in the array or buffer, or {@link #FIELD} for a field
+         * @param vol the given flag of the volatile semantics
+         * @return the view over the variable
+         */
+        H view(VarHandle handle, Object target, int index, boolean vol);
+    }
+
+
+    /**
+     * Return the type of the object reference variable views. The value type is not checked against
+     * the variable type of the handle on creating a view, but by the handle on writing a value.
+     *
+     * @param <V> the type of the value
+     * @return the type of the object reference variable views
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public static <V> Type<Valuable<V>> reference() {
+        return (Type) REFERENCE;
+    }
+
+    /**
+     * Return the plain view of the given type over the field held by the given object and accessed
+     * by the given handle.
+     *
+     * @param handle the given field handle
+     * @param target the given object holding the field
+     * @param type the given type of the view, matching the variable type of the handle
+     * @param <H> the type of the view
+     * @return the plain view over the field
+     * @throws IllegalArgumentException if the handle is not an instance field one, or of another variable type
+     * @throws ClassCastException if the object is not of the handle coordinate type
+     */
+    public static <H> H var(VarHandle handle, Object target, Type<H> type) {
+        return type.view(handle, target, FIELD, false);
+    }
+
+    /**
+     * Return the volatile view of the given type over the field held by the given object and accessed
+     * by the given handle.
+     *
+     * @param handle the given field handle
+     * @param target the given object holding the field
+     * @param type the given type of the view, matching the variable type of the handle
+     * @param <H> the type of the view
+     * @return the volatile view over the field
+     * @throws IllegalArgumentException if the handle is not an instance field one, or of another variable type
+     * @throws ClassCastException if the object is not of the handle coordinate type
+     */
+    public static <H> H vol(VarHandle handle, Object target, Type<H> type) {
+        return type.view(handle, target, FIELD, true);
+    }
+
+    /**
+     * Return the plain view of the given type over the array element or buffer slot of the given index
+     * accessed by the given handle.
+     *
+     * @param handle the given array element or buffer view handle
+     * @param target the given array or buffer
+     * @param index the given index of the element or slot, in bytes for a buffer
+     * @param type the given type of the view, matching the variable type of the handle
+     * @param <H> the type of the view
+     * @return the plain view over the array element or buffer slot
+     * @throws IllegalArgumentException if the handle is not an array element or buffer view one,
+     *         or of another variable type
+     * @throws IndexOutOfBoundsException if the index is negative
+     * @throws ClassCastException if the array or buffer is not of the handle coordinate type
+     */
+    public static <H> H var(VarHandle handle, Object target, int index, Type<H> type) {
+        if (index < 0)
+            throw new IndexOutOfBoundsException("Index " + index + " is negative");
+        return type.view(handle, target, index, false);
+    }
+
+    /**
+     * Return the volatile view of the given type over the array element or buffer slot of the given index
+     * accessed by the given handle.
+     *
+     * @param handle the given array element or buffer view handle
+     * @param target the given array or buffer
+     * @param index the given index of the element or slot, in bytes for a buffer
+     * @param type the given type of the view, matching the variable type of the handle
+     * @param <H> the type of the view
+     * @return the volatile view over the array element or buffer slot
+     * @throws IllegalArgumentException if the handle is not an array element or buffer view one,
+     *         or of another variable type
+     * @throws IndexOutOfBoundsException if the index is negative
+     * @throws ClassCastException if the array or buffer is not of the handle coordinate type
+     */
+    public static <H> H vol(VarHandle handle, Object target, int index, Type<H> type) {
+        if (index < 0)
+            throw new IndexOutOfBoundsException("Index " + index + " is negative");
+        return type.view(handle, target, index, true);
+    }
+
+    /**
+     * Return the plain view over the object reference array element of the given index.
+     *
+     * @param array the given array
+     * @param index the given index of the element
+     * @param <V> the type of the elements
+     * @return the plain view over the array element
+     * @throws IndexOutOfBoundsException if the index is out of the array bounds
+     */
+    public static <V> Valuable<V> var(V[] array, int index) {
+        return new Of.Element<>(OBJECTS, array, Objects.checkIndex(index, array.length));
+    }
+
+    /**
+     * Return the plain view over the boolean array element of the given index.
+     *
+     * @param array the given array
+     * @param index the given index of the element
+     * @return the plain view over the array element
+     * @throws IndexOutOfBoundsException if the index is out of the array bounds
+     */
+    public static Valuable.Boolean var(boolean[] array, int index) {
+        return new OfBoolean.Element(BOOLEANS, array, Objects.checkIndex(index, array.length));
+    }
+
+    /**
+     * Return the plain view over the char array element of the given index.
+     *
+     * @param array the given array
+     * @param index the given index of the element
+     * @return the plain view over the array element
+     * @throws IndexOutOfBoundsException if the index is out of the array bounds
+     */
+    public static Valuable.Char var(char[] array, int index) {
+        return new OfChar.Element(CHARS, array, Objects.checkIndex(index, array.length));
+    }
+
+    /**
+     * Return the plain view over the byte array element of the given index.
+     *
+     * @param array the given array
+     * @param index the given index of the element
+     * @return the plain view over the array element
+     * @throws IndexOutOfBoundsException if the index is out of the array bounds
+     */
+    public static Valuable.Byte var(byte[] array, int index) {
+        return new OfByte.Element(BYTES, array, Objects.checkIndex(index, array.length));
+    }
+
+    /**
+     * Return the plain view over the short array element of the given index.
+     *
+     * @param array the given array
+     * @param index the given index of the element
+     * @return the plain view over the array element
+     * @throws IndexOutOfBoundsException if the index is out of the array bounds
+     */
+    public static Valuable.Short var(short[] array, int index) {
+        return new OfShort.Element(SHORTS, array, Objects.checkIndex(index, array.length));
+    }
+
+    /**
+     * Return the plain view over the int array element of the given index.
+     *
+     * @param array the given array
+     * @param index the given index of the element
+     * @return the plain view over the array element
+     * @throws IndexOutOfBoundsException if the index is out of the array bounds
+     */
+    public static Valuable.Int var(int[] array, int index) {
+        return new OfInt.Element(INTS, array, Objects.checkIndex(index, array.length));
+    }
+
+    /**
+     * Return the plain view over the long array element of the given index.
+     *
+     * @param array the given array
+     * @param index the given index of the element
+     * @return the plain view over the array element
+     * @throws IndexOutOfBoundsException if the index is out of the array bounds
+     */
+    public static Valuable.Long var(long[] array, int index) {
+        return new OfLong.Element(LONGS, array, Objects.checkIndex(index, array.length));
+    }
+
+    /**
+     * Return the plain view over the float array element of the given index.
+     *
+     * @param array the given array
+     * @param index the given index of the element
+     * @return the plain view over the array element
+     * @throws IndexOutOfBoundsException if the index is out of the array bounds
+     */
+    public static Valuable.Float var(float[] array, int index) {
+        return new OfFloat.Element(FLOATS, array, Objects.checkIndex(index, array.length));
+    }
+
+    /**
+     * Return the plain view over the double array element of the given index.
+     *
+     * @param array the given array
+     * @param index the given index of the element
+     * @return the plain view over the array element
+     * @throws IndexOutOfBoundsException if the index is out of the array bounds
+     */
+    public static Valuable.Double var(double[] array, int index) {
+        return new OfDouble.Element(DOUBLES, array, Objects.checkIndex(index, array.length));
+    }
+
+    /**
+     * Return the volatile view over the object reference array element of the given index.
+     *
+     * @param array the given array
+     * @param index the given index of the element
+     * @param <V> the type of the elements
+     * @return the volatile view over the array element
+     * @throws IndexOutOfBoundsException if the index is out of the array bounds
+     */
+    public static <V> Valuable<V> vol(V[] array, int index) {
+        return new Of.VolatileElement<>(OBJECTS, array, Objects.checkIndex(index, array.length));
+    }
+
+    /**
+     * Return the volatile view over the boolean array element of the given index.
+     *
+     * @param array the given array
+     * @param index the given index of the element
+     * @return the volatile view over the array element
+     * @throws IndexOutOfBoundsException if the index is out of the array bounds
+     */
+    public static Valuable.Boolean vol(boolean[] array, int index) {
+        return new OfBoolean.VolatileElement(BOOLEANS, array, Objects.checkIndex(index, array.length));
+    }
+
+    /**
+     * Return the volatile view over the char array element of the given index.
+     *
+     * @param array the given array
+     * @param index the given index of the element
+     * @return the volatile view over the array element
+     * @throws IndexOutOfBoundsException if the index is out of the array bounds
+     */
+    public static Valuable.Char vol(char[] array, int index) {
+        return new OfChar.VolatileElement(CHARS, array, Objects.checkIndex(index, array.length));
+    }
+
+    /**
+     * Return the volatile view over the byte array element of the given index.
+     *
+     * @param array the given array
+     * @param index the given index of the element
+     * @return the volatile view over the array element
+     * @throws IndexOutOfBoundsException if the index is out of the array bounds
+     */
+    public static Valuable.Byte vol(byte[] array, int index) {
+        return new OfByte.VolatileElement(BYTES, array, Objects.checkIndex(index, array.length));
+    }
+
+    /**
+     * Return the volatile view over the short array element of the given index.
+     *
+     * @param array the given array
+     * @param index the given index of the element
+     * @return the volatile view over the array element
+     * @throws IndexOutOfBoundsException if the index is out of the array bounds
+     */
+    public static Valuable.Short vol(short[] array, int index) {
+        return new OfShort.VolatileElement(SHORTS, array, Objects.checkIndex(index, array.length));
+    }
+
+    /**
+     * Return the volatile view over the int array element of the given index.
+     *
+     * @param array the given array
+     * @param index the given index of the element
+     * @return the volatile view over the array element
+     * @throws IndexOutOfBoundsException if the index is out of the array bounds
+     */
+    public static Valuable.Int vol(int[] array, int index) {
+        return new OfInt.VolatileElement(INTS, array, Objects.checkIndex(index, array.length));
+    }
+
+    /**
+     * Return the volatile view over the long array element of the given index.
+     *
+     * @param array the given array
+     * @param index the given index of the element
+     * @return the volatile view over the array element
+     * @throws IndexOutOfBoundsException if the index is out of the array bounds
+     */
+    public static Valuable.Long vol(long[] array, int index) {
+        return new OfLong.VolatileElement(LONGS, array, Objects.checkIndex(index, array.length));
+    }
+
+    /**
+     * Return the volatile view over the float array element of the given index.
+     *
+     * @param array the given array
+     * @param index the given index of the element
+     * @return the volatile view over the array element
+     * @throws IndexOutOfBoundsException if the index is out of the array bounds
+     */
+    public static Valuable.Float vol(float[] array, int index) {
+        return new OfFloat.VolatileElement(FLOATS, array, Objects.checkIndex(index, array.length));
+    }
+
+    /**
+     * Return the volatile view over the double array element of the given index.
+     *
+     * @param array the given array
+     * @param index the given index of the element
+     * @return the volatile view over the array element
+     * @throws IndexOutOfBoundsException if the index is out of the array bounds
+     */
+    public static Valuable.Double vol(double[] array, int index) {
+        return new OfDouble.VolatileElement(DOUBLES, array, Objects.checkIndex(index, array.length));
+    }
+
+}
@@ -2,6 +2,14 @@ package org.moodminds.valuable;
 
 import java.io.Serializable;
 import java.lang.invoke.VarHandle;
+import java.util.function.BinaryOperator;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntUnaryOperator;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongUnaryOperator;
+import java.util.function.UnaryOperator;
 
 import static java.lang.invoke.MethodHandles.lookup;
 
@@ -27,14 +35,14 @@ public class Volatile<V> implements Valuable<V>, Serializable {
     /**
      * Construct the object.
      */
-    private Volatile() {}
+    Volatile() {}
 
     /**
      * Construct the object with the given initial value.
      *
      * @param val the given initial value
      */
-    private Volatile(V val) {
+    Volatile(V val) {
         this.val = val;
     }
 
@@ -82,6 +90,63 @@ public class Volatile<V> implements Valuable<V>, Serializable {
         return VAL.compareAndSet(this, state, val);
     }
 
+    /**
+     * Atomically update the value by the given function and return the resulting value,
+     * pausing between the contended attempts by the {@link Backoff#DEFAULT} strategy.
+     *
+     * @param function the given side-effect-free update function
+     * @return the resulting value
+     */
+    public V update(UnaryOperator<V> function) {
+        return update(function, Backoff.DEFAULT);
+    }
+
+    /**
+     * Atomically update the value by the given function and return the resulting value,
+     * pausing between the contended attempts by the given strategy.
+     *
+     * @param function the given side-effect-free update function
+     * @param backoff the given pausing strategy
+     * @return the resulting value
+     */
+    public V update(UnaryOperator<V> function, Backoff backoff) {
+        for (int attempt = 0; ; backoff.pause(++attempt)) {
+            V current = val, updated = function.apply(current);
+            if (VAL.compareAndSet(this, current, updated))
+                return updated;
+        }
+    }
+
+    /**
+     * Atomically update the value by applying the given function to it and the given argument
+     * and return the resulting value, pausing between the contended attempts
+     * by the {@link Backoff#DEFAULT} strategy.
+     *
+     * @param x the given argument
+     * @param function the given side-effect-free accumulating function
+     * @return the resulting value
+     */
+    public V accumulate(V x, BinaryOperator<V> function) {
+        return accumulate(x, function, Backoff.DEFAULT);
+    }
+
+    /**
+     * Atomically update the value by applying the given function to it and the given argument
+     * and return the resulting value, pausing between the contended attempts by the given strategy.
+     *
+     * @param x the given argument
+     * @param function the given side-effect-free accumulating function
+     * @param backoff the given pausing strategy
+     * @return the resulting value
+     */
+    public V accumulate(V x, BinaryOperator<V> function, Backoff backoff) {
+        for (int attempt = 0; ; backoff.pause(++attempt)) {
+            V current = val, updated = function.apply(current, x);
+            if (VAL.compareAndSet(this, current, updated))
+                return updated;
+        }
+    }
+
     /**
      * A boolean value holder.
      */
@@ -152,6 +217,88 @@ public class Volatile<V> implements Valuable<V>, Serializable {
         public boolean let(boolean state, boolean flg) {
             return FLG.compareAndSet(this, state, flg);
         }
+
+        /**
+         * Atomically set the value to the bitwise OR of the current and the given values
+         * and return the resulting value.
+         *
+         * @param flg {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public boolean or(boolean flg) {
+            return (boolean) FLG.getAndBitwiseOr(this, flg) | flg;
+        }
+
+        /**
+         * Atomically set the value to the bitwise OR of the current and the given values
+         * and return the previous value.
+         *
+         * @param flg {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public boolean getAndOr(boolean flg) {
+            return (boolean) FLG.getAndBitwiseOr(this, flg);
+        }
+
+        /**
+         * Atomically set the value to the bitwise AND of the current and the given values
+         * and return the resulting value.
+         *
+         * @param flg {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public boolean and(boolean flg) {
+            return (boolean) FLG.getAndBitwiseAnd(this, flg) & flg;
+        }
+
+        /**
+         * Atomically set the value to the bitwise AND of the current and the given values
+         * and return the previous value.
+         *
+         * @param flg {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public boolean getAndAnd(boolean flg) {
+            return (boolean) FLG.getAndBitwiseAnd(this, flg);
+        }
+
+        /**
+         * Atomically set the value to the bitwise XOR of the current and the given values
+         * and return the resulting value.
+         *
+         * @param flg {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public boolean xor(boolean flg) {
+            return (boolean) FLG.getAndBitwiseXor(this, flg) ^ flg;
+        }
+
+        /**
+         * Atomically set the value to the bitwise XOR of the current and the given values
+         * and return the previous value.
+         *
+         * @param flg {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public boolean getAndXor(boolean flg) {
+            return (boolean) FLG.getAndBitwiseXor(this, flg);
+        }
+
+        /**
+         * Atomically invert the value and return the resulting value.
+         *
+         * @return {@inheritDoc}
+         */
+        @Override
+        public boolean toggle() {
+            return !(boolean) FLG.getAndBitwiseXor(this, true);
+        }
     }
 
     /**
@@ -224,6 +371,137 @@ public class Volatile<V> implements Valuable<V>, Serializable {
         public boolean let(char state, char chr) {
             return CHR.compareAndSet(this, state, chr);
         }
+
+        /**
+         * Atomically set the value to the bitwise OR of the current and the given values
+         * and return the resulting value.
+         *
+         * @param chr {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public char or(char chr) {
+            return (char) ((char) CHR.getAndBitwiseOr(this, chr) | chr);
+        }
+
+        /**
+         * Atomically set the value to the bitwise OR of the current and the given values
+         * and return the previous value.
+         *
+         * @param chr {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public char getAndOr(char chr) {
+            return (char) CHR.getAndBitwiseOr(this, chr);
+        }
+
+        /**
+         * Atomically set the value to the bitwise AND of the current and the given values
+         * and return the resulting value.
+         *
+         * @param chr {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public char and(char chr) {
+            return (char) ((char) CHR.getAndBitwiseAnd(this, chr) & chr);
+        }
+
+        /**
+         * Atomically set the value to the bitwise AND of the current and the given values
+         * and return the previous value.
+         *
+         * @param chr {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public char getAndAnd(char chr) {
+            return (char) CHR.getAndBitwiseAnd(this, chr);
+        }
+
+        /**
+         * Atomically set the value to the bitwise XOR of the current and the given values
+         * and return the resulting value.
+         *
+         * @param chr {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public char xor(char chr) {
+            return (char) ((char) CHR.getAndBitwiseXor(this, chr) ^ chr);
+        }
+
+        /**
+         * Atomically set the value to the bitwise XOR of the current and the given values
+         * and return the previous value.
+         *
+         * @param chr {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public char getAndXor(char chr) {
+            return (char) CHR.getAndBitwiseXor(this, chr);
+        }
+
+        /**
+         * Atomically update the value by the given function, its result narrowed to a char as by a cast,
+         * and return the resulting value, pausing between the contended attempts
+         * by the {@link Backoff#DEFAULT} strategy.
+         *
+         * @param function the given side-effect-free update function
+         * @return the resulting value
+         */
+        public char update(IntUnaryOperator function) {
+            return update(function, Backoff.DEFAULT);
+        }
+
+        /**
+         * Atomically update the value by the given function, its result narrowed to a char as by a cast,
+         * and return the resulting value, pausing between the contended attempts by the given strategy.
+         *
+         * @param function the given side-effect-free update function
+         * @param backoff the given pausing strategy
+         * @return the resulting value
+         */
+        public char update(IntUnaryOperator function, Backoff backoff) {
+            for (int attempt = 0; ; backoff.pause(++attempt)) {
+                char current = chr, updated = (char) function.applyAsInt(current);
+                if (CHR.compareAndSet(this, current, updated))
+                    return updated;
+            }
+        }
+
+        /**
+         * Atomically update the value by applying the given function to it and the given argument,
+         * its result narrowed to a char as by a cast, and return the resulting value, pausing between
+         * the contended attempts by the {@link Backoff#DEFAULT} strategy.
+         *
+         * @param x the given argument
+         * @param function the given side-effect-free accumulating function
+         * @return the resulting value
+         */
+        public char accumulate(char x, IntBinaryOperator function) {
+            return accumulate(x, function, Backoff.DEFAULT);
+        }
+
+        /**
+         * Atomically update the value by applying the given function to it and the given argument,
+         * its result narrowed to a char as by a cast, and return the resulting value, pausing between
+         * the contended attempts by the given strategy.
+         *
+         * @param x the given argument
+         * @param function the given side-effect-free accumulating function
+         * @param backoff the given pausing strategy
+         * @return the resulting value
+         */
+        public char accumulate(char x, IntBinaryOperator function, Backoff backoff) {
+            for (int attempt = 0; ; backoff.pause(++attempt)) {
+                char current = chr, updated = (char) function.applyAsInt(current, x);
+                if (CHR.compareAndSet(this, current, updated))
+                    return updated;
+            }
+        }
     }
 
     /**
@@ -275,7 +553,7 @@ public class Volatile<V> implements Valuable<V>, Serializable {
         }
 
         /**
-         * Atomically set the given value and return previous value.
+         * Atomically get the previous value and set the new value.
          *
          * @param num {@inheritDoc}
          * @return {@inheritDoc}
@@ -286,8 +564,9 @@ public class Volatile<V> implements Valuable<V>, Serializable {
         }
 
         /**
-         * Atomically get the previous value and set the new value.
+         * Atomically set the given value if the current value {@code == state}.
          *
+         * @param state {@inheritDoc}
          * @param num {@inheritDoc}
          * @return {@inheritDoc}
          */
@@ -315,125 +594,226 @@ public class Volatile<V> implements Valuable<V>, Serializable {
         public byte decr() {
             return (byte) ((byte) NUM.getAndAdd(this, (byte) -1) - 1);
         }
-    }
-
-    /**
-     * A short value holder.
-     */
-    public static class Short implements Valuable.Short, Serializable {
-
-        private static final long serialVersionUID = 5833644974555983841L;
 
-        private static final VarHandle NUM;
+        /**
+         * Atomically set the value to the maximum of the current and the given values and return the resulting value,
+         * without any write if the current value is already not less.
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public byte max(byte num) {
+            for (byte current = this.num; ; current = this.num) {
+                if (current >= num)
+                    return current;
+                if (NUM.weakCompareAndSet(this, current, num))
+                    return num;
+            }
+        }
 
-        static {
-            try { NUM = lookup().findVarHandle(Short.class, "num", short.class); }
-            catch (ReflectiveOperationException e) { throw new ExceptionInInitializerError(e); }
+        /**
+         * Atomically set the value to the maximum of the current and the given values and return the previous value,
+         * without any write if the current value is already not less.
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public byte getAndMax(byte num) {
+            for (byte current = this.num; ; current = this.num)
+                if (current >= num || NUM.weakCompareAndSet(this, current, num))
+                    return current;
         }
 
         /**
-         * The value-holding field.
+         * Atomically set the value to the minimum of the current and the given values and return the resulting value,
+         * without any write if the current value is already not greater.
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
          */
-        public volatile short num;
+        @Override
+        public byte min(byte num) {
+            for (byte current = this.num; ; current = this.num) {
+                if (current <= num)
+                    return current;
+                if (NUM.weakCompareAndSet(this, current, num))
+                    return num;
+            }
+        }
 
         /**
-         * Construct the object with the given initial value.
+         * Atomically set the value to the minimum of the current and the given values and return the previous value,
+         * without any write if the current value is already not greater.
          *
-         * @param num the given initial value
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
          */
-        private Short(short num) {
-            this.num = num;
+        @Override
+        public byte getAndMin(byte num) {
+            for (byte current = this.num; ; current = this.num)
+                if (current <= num || NUM.weakCompareAndSet(this, current, num))
+                    return current;
         }
 
         /**
-         * {@inheritDoc}
+         * Atomically set the value to the bitwise OR of the current and the given values
+         * and return the resulting value.
          *
+         * @param num {@inheritDoc}
          * @return {@inheritDoc}
          */
         @Override
-        public short get() {
-            return num;
+        public byte or(byte num) {
+            return (byte) ((byte) NUM.getAndBitwiseOr(this, num) | num);
         }
 
         /**
-         * {@inheritDoc}
+         * Atomically set the value to the bitwise OR of the current and the given values
+         * and return the previous value.
          *
          * @param num {@inheritDoc}
+         * @return {@inheritDoc}
          */
         @Override
-        public void put(short num) {
-            this.num = num;
+        public byte getAndOr(byte num) {
+            return (byte) NUM.getAndBitwiseOr(this, num);
         }
 
         /**
-         * Atomically get the previous value and set the new value.
+         * Atomically set the value to the bitwise AND of the current and the given values
+         * and return the resulting value.
          *
          * @param num {@inheritDoc}
          * @return {@inheritDoc}
          */
         @Override
-        public short set(short num) {
-            return (short) NUM.getAndSet(this, num);
+        public byte and(byte num) {
+            return (byte) ((byte) NUM.getAndBitwiseAnd(this, num) & num);
         }
 
         /**
-         * Atomically set the given value if the current value {@code == state}.
+         * Atomically set the value to the bitwise AND of the current and the given values
+         * and return the previous value.
          *
-         * @param state {@inheritDoc}
          * @param num {@inheritDoc}
          * @return {@inheritDoc}
          */
         @Override
-        public boolean let(short state, short num) {
-            return NUM.compareAndSet(this, state, num);
+        public byte getAndAnd(byte num) {
+            return (byte) NUM.getAndBitwiseAnd(this, num);
         }
 
         /**
-         * Atomically increment value and return.
+         * Atomically set the value to the bitwise XOR of the current and the given values
+         * and return the resulting value.
          *
+         * @param num {@inheritDoc}
          * @return {@inheritDoc}
          */
         @Override
-        public short incr() {
-            return (short) ((short) NUM.getAndAdd(this, (short) 1) + 1);
+        public byte xor(byte num) {
+            return (byte) ((byte) NUM.getAndBitwiseXor(this, num) ^ num);
         }
 
         /**
-         * Atomically decrement value and return.
+         * Atomically set the value to the bitwise XOR of the current and the given values
+         * and return the previous value.
          *
+         * @param num {@inheritDoc}
          * @return {@inheritDoc}
          */
         @Override
-        public short decr() {
-            return (short) ((short) NUM.getAndAdd(this, (short) -1) - 1);
+        public byte getAndXor(byte num) {
+            return (byte) NUM.getAndBitwiseXor(this, num);
+        }
+
+        /**
+         * Atomically update the value by the given function, its result narrowed to a byte as by a cast,
+         * and return the resulting value, pausing between the contended attempts
+         * by the {@link Backoff#DEFAULT} strategy.
+         *
+         * @param function the given side-effect-free update function
+         * @return the resulting value
+         */
+        public byte update(IntUnaryOperator function) {
+            return update(function, Backoff.DEFAULT);
+        }
+
+        /**
+         * Atomically update the value by the given function, its result narrowed to a byte as by a cast,
+         * and return the resulting value, pausing between the contended attempts by the given strategy.
+         *
+         * @param function the given side-effect-free update function
+         * @param backoff the given pausing strategy
+         * @return the resulting value
+         */
+        public byte update(IntUnaryOperator function, Backoff backoff) {
+            for (int attempt = 0; ; backoff.pause(++attempt)) {
+                byte current = num, updated = (byte) function.applyAsInt(current);
+                if (NUM.compareAndSet(this, current, updated))
+                    return updated;
+            }
+        }
+
+        /**
+         * Atomically update the value by applying the given function to it and the given argument,
+         * its result narrowed to a byte as by a cast, and return the resulting value, pausing between
+         * the contended attempts by the {@link Backoff#DEFAULT} strategy.
+         *
+         * @param x the given argument
+         * @param function the given side-effect-free accumulating function
+         * @return the resulting value
+         */
+        public byte accumulate(byte x, IntBinaryOperator function) {
+            return accumulate(x, function, Backoff.DEFAULT);
+        }
+
+        /**
+         * Atomically update the value by applying the given function to it and the given argument,
+         * its result narrowed to a byte as by a cast, and return the resulting value, pausing between
+         * the contended attempts by the given strategy.
+         *
+         * @param x the given argument
+         * @param function the given side-effect-free accumulating function
+         * @param backoff the given pausing strategy
+         * @return the resulting value
+         */
+        public byte accumulate(byte x, IntBinaryOperator function, Backoff backoff) {
+            for (int attempt = 0; ; backoff.pause(++attempt)) {
+                byte current = num, updated = (byte) function.applyAsInt(current, x);
+                if (NUM.compareAndSet(this, current, updated))
+                    return updated;
+            }
         }
     }
 
     /**
-     * An int value holder.
+     * A short value holder.
      */
-    public static class Int implements Valuable.Int, Serializable {
+    public static class Short implements Valuable.Short, Serializable {
 
-        private static final long serialVersionUID = -8941060148306291215L;
+        private static final long serialVersionUID = 5833644974555983841L;
 
         private static final VarHandle NUM;
 
         static {
-            try { NUM = lookup().findVarHandle(Int.class, "num", int.class); }
+            try { NUM = lookup().findVarHandle(Short.class, "num", short.class); }
             catch (ReflectiveOperationException e) { throw new ExceptionInInitializerError(e); }
         }
 
         /**
          * The value-holding field.
          */
-        public volatile int num;
+        public volatile short num;
 
         /**
          * Construct the object with the given initial value.
          *
          * @param num the given initial value
          */
-        private Int(int num) {
+        private Short(short num) {
             this.num = num;
         }
 
@@ -443,7 +823,7 @@ public class Volatile<V> implements Valuable<V>, Serializable {
          * @return {@inheritDoc}
          */
         @Override
-        public int get() {
+        public short get() {
             return num;
         }
 
@@ -453,7 +833,7 @@ public class Volatile<V> implements Valuable<V>, Serializable {
          * @param num {@inheritDoc}
          */
         @Override
-        public void put(int num) {
+        public void put(short num) {
             this.num = num;
         }
 
@@ -464,8 +844,8 @@ public class Volatile<V> implements Valuable<V>, Serializable {
          * @return {@inheritDoc}
          */
         @Override
-        public int set(int num) {
-            return (int) NUM.getAndSet(this, num);
+        public short set(short num) {
+            return (short) NUM.getAndSet(this, num);
         }
 
         /**
@@ -476,7 +856,7 @@ public class Volatile<V> implements Valuable<V>, Serializable {
          * @return {@inheritDoc}
          */
         @Override
-        public boolean let(int state, int num) {
+        public boolean let(short state, short num) {
             return NUM.compareAndSet(this, state, num);
         }
 
@@ -486,8 +866,293 @@ public class Volatile<V> implements Valuable<V>, Serializable {
          * @return {@inheritDoc}
          */
         @Override
-        public int incr() {
-            return (int) NUM.getAndAdd(this, 1) + 1;
+        public short incr() {
+            return (short) ((short) NUM.getAndAdd(this, (short) 1) + 1);
+        }
+
+        /**
+         * Atomically decrement value and return.
+         *
+         * @return {@inheritDoc}
+         */
+        @Override
+        public short decr() {
+            return (short) ((short) NUM.getAndAdd(this, (short) -1) - 1);
+        }
+
+        /**
+         * Atomically set the value to the maximum of the current and the given values and return the resulting value,
+         * without any write if the current value is already not less.
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public short max(short num) {
+            for (short current = this.num; ; current = this.num) {
+                if (current >= num)
+                    return current;
+                if (NUM.weakCompareAndSet(this, current, num))
+                    return num;
+            }
+        }
+
+        /**
+         * Atomically set the value to the maximum of the current and the given values and return the previous value,
+         * without any write if the current value is already not less.
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public short getAndMax(short num) {
+            for (short current = this.num; ; current = this.num)
+                if (current >= num || NUM.weakCompareAndSet(this, current, num))
+                    return current;
+        }
+
+        /**
+         * Atomically set the value to the minimum of the current and the given values and return the resulting value,
+         * without any write if the current value is already not greater.
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public short min(short num) {
+            for (short current = this.num; ; current = this.num) {
+                if (current <= num)
+                    return current;
+                if (NUM.weakCompareAndSet(this, current, num))
+                    return num;
+            }
+        }
+
+        /**
+         * Atomically set the value to the minimum of the current and the given values and return the previous value,
+         * without any write if the current value is already not greater.
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public short getAndMin(short num) {
+            for (short current = this.num; ; current = this.num)
+                if (current <= num || NUM.weakCompareAndSet(this, current, num))
+                    return current;
+        }
+
+        /**
+         * Atomically set the value to the bitwise OR of the current and the given values
+         * and return the resulting value.
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public short or(short num) {
+            return (short) ((short) NUM.getAndBitwiseOr(this, num) | num);
+        }
+
+        /**
+         * Atomically set the value to the bitwise OR of the current and the given values
+         * and return the previous value.
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public short getAndOr(short num) {
+            return (short) NUM.getAndBitwiseOr(this, num);
+        }
+
+        /**
+         * Atomically set the value to the bitwise AND of the current and the given values
+         * and return the resulting value.
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public short and(short num) {
+            return (short) ((short) NUM.getAndBitwiseAnd(this, num) & num);
+        }
+
+        /**
+         * Atomically set the value to the bitwise AND of the current and the given values
+         * and return the previous value.
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public short getAndAnd(short num) {
+            return (short) NUM.getAndBitwiseAnd(this, num);
+        }
+
+        /**
+         * Atomically set the value to the bitwise XOR of the current and the given values
+         * and return the resulting value.
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public short xor(short num) {
+            return (short) ((short) NUM.getAndBitwiseXor(this, num) ^ num);
+        }
+
+        /**
+         * Atomically set the value to the bitwise XOR of the current and the given values
+         * and return the previous value.
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public short getAndXor(short num) {
+            return (short) NUM.getAndBitwiseXor(this, num);
+        }
+
+        /**
+         * Atomically update the value by the given function, its result narrowed to a short as by a cast,
+         * and return the resulting value, pausing between the contended attempts
+         * by the {@link Backoff#DEFAULT} strategy.
+         *
+         * @param function the given side-effect-free update function
+         * @return the resulting value
+         */
+        public short update(IntUnaryOperator function) {
+            return update(function, Backoff.DEFAULT);
+        }
+
+        /**
+         * Atomically update the value by the given function, its result narrowed to a short as by a cast,
+         * and return the resulting value, pausing between the contended attempts by the given strategy.
+         *
+         * @param function the given side-effect-free update function
+         * @param backoff the given pausing strategy
+         * @return the resulting value
+         */
+        public short update(IntUnaryOperator function, Backoff backoff) {
+            for (int attempt = 0; ; backoff.pause(++attempt)) {
+                short current = num, updated = (short) function.applyAsInt(current);
+                if (NUM.compareAndSet(this, current, updated))
+                    return updated;
+            }
+        }
+
+        /**
+         * Atomically update the value by applying the given function to it and the given argument,
+         * its result narrowed to a short as by a cast, and return the resulting value, pausing between
+         * the contended attempts by the {@link Backoff#DEFAULT} strategy.
+         *
+         * @param x the given argument
+         * @param function the given side-effect-free accumulating function
+         * @return the resulting value
+         */
+        public short accumulate(short x, IntBinaryOperator function) {
+            return accumulate(x, function, Backoff.DEFAULT);
+        }
+
+        /**
+         * Atomically update the value by applying the given function to it and the given argument,
+         * its result narrowed to a short as by a cast, and return the resulting value, pausing between
+         * the contended attempts by the given strategy.
+         *
+         * @param x the given argument
+         * @param function the given side-effect-free accumulating function
+         * @param backoff the given pausing strategy
+         * @return the resulting value
+         */
+        public short accumulate(short x, IntBinaryOperator function, Backoff backoff) {
+            for (int attempt = 0; ; backoff.pause(++attempt)) {
+                short current = num, updated = (short) function.applyAsInt(current, x);
+                if (NUM.compareAndSet(this, current, updated))
+                    return updated;
+            }
+        }
+    }
+
+    /**
+     * An int value holder.
+     */
+    public static class Int implements Valuable.Int, Serializable {
+
+        private static final long serialVersionUID = -8941060148306291215L;
+
+        private static final VarHandle NUM;
+
+        static {
+            try { NUM = lookup().findVarHandle(Int.class, "num", int.class); }
+            catch (ReflectiveOperationException e) { throw new ExceptionInInitializerError(e); }
+        }
+
+        /**
+         * The value-holding field.
+         */
+        public volatile int num;
+
+        /**
+         * Construct the object with the given initial value.
+         *
+         * @param num the given initial value
+         */
+        Int(int num) {
+            this.num = num;
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @return {@inheritDoc}
+         */
+        @Override
+        public int get() {
+            return num;
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param num {@inheritDoc}
+         */
+        @Override
+        public void put(int num) {
+            this.num = num;
+        }
+
+        /**
+         * Atomically get the previous value and set the new value.
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public int set(int num) {
+            return (int) NUM.getAndSet(this, num);
+        }
+
+        /**
+         * Atomically set the given value if the current value {@code == state}.
+         *
+         * @param state {@inheritDoc}
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public boolean let(int state, int num) {
+            return NUM.compareAndSet(this, state, num);
+        }
+
+        /**
+         * Atomically increment value and return.
+         *
+         * @return {@inheritDoc}
+         */
+        @Override
+        public int incr() {
+            return (int) NUM.getAndAdd(this, 1) + 1;
         }
 
         /**
@@ -499,6 +1164,197 @@ public class Volatile<V> implements Valuable<V>, Serializable {
         public int decr() {
             return (int) NUM.getAndAdd(this, -1) - 1;
         }
+
+        /**
+         * Atomically set the value to the maximum of the current and the given values and return the resulting value,
+         * without any write if the current value is already not less.
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public int max(int num) {
+            for (int current = this.num; ; current = this.num) {
+                if (current >= num)
+                    return current;
+                if (NUM.weakCompareAndSet(this, current, num))
+                    return num;
+            }
+        }
+
+        /**
+         * Atomically set the value to the maximum of the current and the given values and return the previous value,
+         * without any write if the current value is already not less.
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public int getAndMax(int num) {
+            for (int current = this.num; ; current = this.num)
+                if (current >= num || NUM.weakCompareAndSet(this, current, num))
+                    return current;
+        }
+
+        /**
+         * Atomically set the value to the minimum of the current and the given values and return the resulting value,
+         * without any write if the current value is already not greater.
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public int min(int num) {
+            for (int current = this.num; ; current = this.num) {
+                if (current <= num)
+                    return current;
+                if (NUM.weakCompareAndSet(this, current, num))
+                    return num;
+            }
+        }
+
+        /**
+         * Atomically set the value to the minimum of the current and the given values and return the previous value,
+         * without any write if the current value is already not greater.
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public int getAndMin(int num) {
+            for (int current = this.num; ; current = this.num)
+                if (current <= num || NUM.weakCompareAndSet(this, current, num))
+                    return current;
+        }
+
+        /**
+         * Atomically set the value to the bitwise OR of the current and the given values
+         * and return the resulting value.
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public int or(int num) {
+            return (int) NUM.getAndBitwiseOr(this, num) | num;
+        }
+
+        /**
+         * Atomically set the value to the bitwise OR of the current and the given values
+         * and return the previous value.
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public int getAndOr(int num) {
+            return (int) NUM.getAndBitwiseOr(this, num);
+        }
+
+        /**
+         * Atomically set the value to the bitwise AND of the current and the given values
+         * and return the resulting value.
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public int and(int num) {
+            return (int) NUM.getAndBitwiseAnd(this, num) & num;
+        }
+
+        /**
+         * Atomically set the value to the bitwise AND of the current and the given values
+         * and return the previous value.
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public int getAndAnd(int num) {
+            return (int) NUM.getAndBitwiseAnd(this, num);
+        }
+
+        /**
+         * Atomically set the value to the bitwise XOR of the current and the given values
+         * and return the resulting value.
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public int xor(int num) {
+            return (int) NUM.getAndBitwiseXor(this, num) ^ num;
+        }
+
+        /**
+         * Atomically set the value to the bitwise XOR of the current and the given values
+         * and return the previous value.
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public int getAndXor(int num) {
+            return (int) NUM.getAndBitwiseXor(this, num);
+        }
+
+        /**
+         * Atomically update the value by the given function and return the resulting value,
+         * pausing between the contended attempts by the {@link Backoff#DEFAULT} strategy.
+         *
+         * @param function the given side-effect-free update function
+         * @return the resulting value
+         */
+        public int update(IntUnaryOperator function) {
+            return update(function, Backoff.DEFAULT);
+        }
+
+        /**
+         * Atomically update the value by the given function and return the resulting value,
+         * pausing between the contended attempts by the given strategy.
+         *
+         * @param function the given side-effect-free update function
+         * @param backoff the given pausing strategy
+         * @return the resulting value
+         */
+        public int update(IntUnaryOperator function, Backoff backoff) {
+            for (int attempt = 0; ; backoff.pause(++attempt)) {
+                int current = num, updated = function.applyAsInt(current);
+                if (NUM.compareAndSet(this, current, updated))
+                    return updated;
+            }
+        }
+
+        /**
+         * Atomically update the value by applying the given function to it and the given argument
+         * and return the resulting value, pausing between the contended attempts
+         * by the {@link Backoff#DEFAULT} strategy.
+         *
+         * @param x the given argument
+         * @param function the given side-effect-free accumulating function
+         * @return the resulting value
+         */
+        public int accumulate(int x, IntBinaryOperator function) {
+            return accumulate(x, function, Backoff.DEFAULT);
+        }
+
+        /**
+         * Atomically update the value by applying the given function to it and the given argument
+         * and return the resulting value, pausing between the contended attempts by the given strategy.
+         *
+         * @param x the given argument
+         * @param function the given side-effect-free accumulating function
+         * @param backoff the given pausing strategy
+         * @return the resulting value
+         */
+        public int accumulate(int x, IntBinaryOperator function, Backoff backoff) {
+            for (int attempt = 0; ; backoff.pause(++attempt)) {
+                int current = num, updated = function.applyAsInt(current, x);
+                if (NUM.compareAndSet(this, current, updated))
+                    return updated;
+            }
+        }
     }
 
     /**
@@ -525,7 +1381,7 @@ public class Volatile<V> implements Valuable<V>, Serializable {
          *
          * @param num the given initial value
          */
-        private Long(long num) {
+        Long(long num) {
             this.num = num;
         }
 
@@ -591,6 +1447,197 @@ public class Volatile<V> implements Valuable<V>, Serializable {
         public long decr() {
             return (long) NUM.getAndAdd(this, -1L) - 1L;
         }
+
+        /**
+         * Atomically set the value to the maximum of the current and the given values and return the resulting value,
+         * without any write if the current value is already not less.
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public long max(long num) {
+            for (long current = this.num; ; current = this.num) {
+                if (current >= num)
+                    return current;
+                if (NUM.weakCompareAndSet(this, current, num))
+                    return num;
+            }
+        }
+
+        /**
+         * Atomically set the value to the maximum of the current and the given values and return the previous value,
+         * without any write if the current value is already not less.
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public long getAndMax(long num) {
+            for (long current = this.num; ; current = this.num)
+                if (current >= num || NUM.weakCompareAndSet(this, current, num))
+                    return current;
+        }
+
+        /**
+         * Atomically set the value to the minimum of the current and the given values and return the resulting value,
+         * without any write if the current value is already not greater.
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public long min(long num) {
+            for (long current = this.num; ; current = this.num) {
+                if (current <= num)
+                    return current;
+                if (NUM.weakCompareAndSet(this, current, num))
+                    return num;
+            }
+        }
+
+        /**
+         * Atomically set the value to the minimum of the current and the given values and return the previous value,
+         * without any write if the current value is already not greater.
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public long getAndMin(long num) {
+            for (long current = this.num; ; current = this.num)
+                if (current <= num || NUM.weakCompareAndSet(this, current, num))
+                    return current;
+        }
+
+        /**
+         * Atomically set the value to the bitwise OR of the current and the given values
+         * and return the resulting value.
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public long or(long num) {
+            return (long) NUM.getAndBitwiseOr(this, num) | num;
+        }
+
+        /**
+         * Atomically set the value to the bitwise OR of the current and the given values
+         * and return the previous value.
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public long getAndOr(long num) {
+            return (long) NUM.getAndBitwiseOr(this, num);
+        }
+
+        /**
+         * Atomically set the value to the bitwise AND of the current and the given values
+         * and return the resulting value.
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public long and(long num) {
+            return (long) NUM.getAndBitwiseAnd(this, num) & num;
+        }
+
+        /**
+         * Atomically set the value to the bitwise AND of the current and the given values
+         * and return the previous value.
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public long getAndAnd(long num) {
+            return (long) NUM.getAndBitwiseAnd(this, num);
+        }
+
+        /**
+         * Atomically set the value to the bitwise XOR of the current and the given values
+         * and return the resulting value.
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public long xor(long num) {
+            return (long) NUM.getAndBitwiseXor(this, num) ^ num;
+        }
+
+        /**
+         * Atomically set the value to the bitwise XOR of the current and the given values
+         * and return the previous value.
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public long getAndXor(long num) {
+            return (long) NUM.getAndBitwiseXor(this, num);
+        }
+
+        /**
+         * Atomically update the value by the given function and return the resulting value,
+         * pausing between the contended attempts by the {@link Backoff#DEFAULT} strategy.
+         *
+         * @param function the given side-effect-free update function
+         * @return the resulting value
+         */
+        public long update(LongUnaryOperator function) {
+            return update(function, Backoff.DEFAULT);
+        }
+
+        /**
+         * Atomically update the value by the given function and return the resulting value,
+         * pausing between the contended attempts by the given strategy.
+         *
+         * @param function the given side-effect-free update function
+         * @param backoff the given pausing strategy
+         * @return the resulting value
+         */
+        public long update(LongUnaryOperator function, Backoff backoff) {
+            for (int attempt = 0; ; backoff.pause(++attempt)) {
+                long current = num, updated = function.applyAsLong(current);
+                if (NUM.compareAndSet(this, current, updated))
+                    return updated;
+            }
+        }
+
+        /**
+         * Atomically update the value by applying the given function to it and the given argument
+         * and return the resulting value, pausing between the contended attempts
+         * by the {@link Backoff#DEFAULT} strategy.
+         *
+         * @param x the given argument
+         * @param function the given side-effect-free accumulating function
+         * @return the resulting value
+         */
+        public long accumulate(long x, LongBinaryOperator function) {
+            return accumulate(x, function, Backoff.DEFAULT);
+        }
+
+        /**
+         * Atomically update the value by applying the given function to it and the given argument
+         * and return the resulting value, pausing between the contended attempts by the given strategy.
+         *
+         * @param x the given argument
+         * @param function the given side-effect-free accumulating function
+         * @param backoff the given pausing strategy
+         * @return the resulting value
+         */
+        public long accumulate(long x, LongBinaryOperator function, Backoff backoff) {
+            for (int attempt = 0; ; backoff.pause(++attempt)) {
+                long current = num, updated = function.applyAsLong(current, x);
+                if (NUM.compareAndSet(this, current, updated))
+                    return updated;
+            }
+        }
     }
 
     /**
@@ -663,6 +1710,129 @@ public class Volatile<V> implements Valuable<V>, Serializable {
         public boolean let(float state, float num) {
             return NUM.compareAndSet(this, state, num);
         }
+
+        /**
+         * Atomically set the value to the maximum of the current and the given values and return the resulting value,
+         * without any write if the current value is already not less.
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public float max(float num) {
+            for (float current = this.num; ; current = this.num) {
+                float max = Math.max(current, num);
+                if (java.lang.Float.compare(max, current) == 0 || NUM.weakCompareAndSet(this, current, max))
+                    return max;
+            }
+        }
+
+        /**
+         * Atomically set the value to the maximum of the current and the given values and return the previous value,
+         * without any write if the current value is already not less.
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public float getAndMax(float num) {
+            for (float current = this.num; ; current = this.num) {
+                float max = Math.max(current, num);
+                if (java.lang.Float.compare(max, current) == 0 || NUM.weakCompareAndSet(this, current, max))
+                    return current;
+            }
+        }
+
+        /**
+         * Atomically set the value to the minimum of the current and the given values and return the resulting value,
+         * without any write if the current value is already not greater.
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public float min(float num) {
+            for (float current = this.num; ; current = this.num) {
+                float min = Math.min(current, num);
+                if (java.lang.Float.compare(min, current) == 0 || NUM.weakCompareAndSet(this, current, min))
+                    return min;
+            }
+        }
+
+        /**
+         * Atomically set the value to the minimum of the current and the given values and return the previous value,
+         * without any write if the current value is already not greater.
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public float getAndMin(float num) {
+            for (float current = this.num; ; current = this.num) {
+                float min = Math.min(current, num);
+                if (java.lang.Float.compare(min, current) == 0 || NUM.weakCompareAndSet(this, current, min))
+                    return current;
+            }
+        }
+
+        /**
+         * Atomically update the value by the given function, its result narrowed to a float as by a cast,
+         * and return the resulting value, pausing between the contended attempts
+         * by the {@link Backoff#DEFAULT} strategy.
+         *
+         * @param function the given side-effect-free update function
+         * @return the resulting value
+         */
+        public float update(DoubleUnaryOperator function) {
+            return update(function, Backoff.DEFAULT);
+        }
+
+        /**
+         * Atomically update the value by the given function, its result narrowed to a float as by a cast,
+         * and return the resulting value, pausing between the contended attempts by the given strategy.
+         *
+         * @param function the given side-effect-free update function
+         * @param backoff the given pausing strategy
+         * @return the resulting value
+         */
+        public float update(DoubleUnaryOperator function, Backoff backoff) {
+            for (int attempt = 0; ; backoff.pause(++attempt)) {
+                float current = num, updated = (float) function.applyAsDouble(current);
+                if (NUM.compareAndSet(this, current, updated))
+                    return updated;
+            }
+        }
+
+        /**
+         * Atomically update the value by applying the given function to it and the given argument,
+         * its result narrowed to a float as by a cast, and return the resulting value, pausing between
+         * the contended attempts by the {@link Backoff#DEFAULT} strategy.
+         *
+         * @param x the given argument
+         * @param function the given side-effect-free accumulating function
+         * @return the resulting value
+         */
+        public float accumulate(float x, DoubleBinaryOperator function) {
+            return accumulate(x, function, Backoff.DEFAULT);
+        }
+
+        /**
+         * Atomically update the value by applying the given function to it and the given argument,
+         * its result narrowed to a float as by a cast, and return the resulting value, pausing between
+         * the contended attempts by the given strategy.
+         *
+         * @param x the given argument
+         * @param function the given side-effect-free accumulating function
+         * @param backoff the given pausing strategy
+         * @return the resulting value
+         */
+        public float accumulate(float x, DoubleBinaryOperator function, Backoff backoff) {
+            for (int attempt = 0; ; backoff.pause(++attempt)) {
+                float current = num, updated = (float) function.applyAsDouble(current, x);
+                if (NUM.compareAndSet(this, current, updated))
+                    return updated;
+            }
+        }
     }
 
     /**
@@ -735,6 +1905,127 @@ public class Volatile<V> implements Valuable<V>, Serializable {
         public boolean let(double state, double num) {
             return NUM.compareAndSet(this, state, num);
         }
+
+        /**
+         * Atomically set the value to the maximum of the current and the given values and return the resulting value,
+         * without any write if the current value is already not less.
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public double max(double num) {
+            for (double current = this.num; ; current = this.num) {
+                double max = Math.max(current, num);
+                if (java.lang.Double.compare(max, current) == 0 || NUM.weakCompareAndSet(this, current, max))
+                    return max;
+            }
+        }
+
+        /**
+         * Atomically set the value to the maximum of the current and the given values and return the previous value,
+         * without any write if the current value is already not less.
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public double getAndMax(double num) {
+            for (double current = this.num; ; current = this.num) {
+                double max = Math.max(current, num);
+                if (java.lang.Double.compare(max, current) == 0 || NUM.weakCompareAndSet(this, current, max))
+                    return current;
+            }
+        }
+
+        /**
+         * Atomically set the value to the minimum of the current and the given values and return the resulting value,
+         * without any write if the current value is already not greater.
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public double min(double num) {
+            for (double current = this.num; ; current = this.num) {
+                double min = Math.min(current, num);
+                if (java.lang.Double.compare(min, current) == 0 || NUM.weakCompareAndSet(this, current, min))
+                    return min;
+            }
+        }
+
+        /**
+         * Atomically set the value to the minimum of the current and the given values and return the previous value,
+         * without any write if the current value is already not greater.
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public double getAndMin(double num) {
+            for (double current = this.num; ; current = this.num) {
+                double min = Math.min(current, num);
+                if (java.lang.Double.compare(min, current) == 0 || NUM.weakCompareAndSet(this, current, min))
+                    return current;
+            }
+        }
+
+        /**
+         * Atomically update the value by the given function and return the resulting value,
+         * pausing between the contended attempts by the {@link Backoff#DEFAULT} strategy.
+         *
+         * @param function the given side-effect-free update function
+         * @return the resulting value
+         */
+        public double update(DoubleUnaryOperator function) {
+            return update(function, Backoff.DEFAULT);
+        }
+
+        /**
+         * Atomically update the value by the given function and return the resulting value,
+         * pausing between the contended attempts by the given strategy.
+         *
+         * @param function the given side-effect-free update function
+         * @param backoff the given pausing strategy
+         * @return the resulting value
+         */
+        public double update(DoubleUnaryOperator function, Backoff backoff) {
+            for (int attempt = 0; ; backoff.pause(++attempt)) {
+                double current = num, updated = function.applyAsDouble(current);
+                if (NUM.compareAndSet(this, current, updated))
+                    return updated;
+            }
+        }
+
+        /**
+         * Atomically update the value by applying the given function to it and the given argument
+         * and return the resulting value, pausing between the contended attempts
+         * by the {@link Backoff#DEFAULT} strategy.
+         *
+         * @param x the given argument
+         * @param function the given side-effect-free accumulating function
+         * @return the resulting value
+         */
+        public double accumulate(double x, DoubleBinaryOperator function) {
+            return accumulate(x, function, Backoff.DEFAULT);
+        }
+
+        /**
+         * Atomically update the value by applying the given function to it and the given argument
+         * and return the resulting value, pausing between the contended attempts by the given strategy.
+         *
+         * @param x the given argument
+         * @param function the given side-effect-free accumulating function
+         * @param backoff the given pausing strategy
+         * @return the resulting value
+         */
+        public double accumulate(double x, DoubleBinaryOperator function, Backoff backoff) {
+            for (int attempt = 0; ; backoff.pause(++attempt)) {
+                double current = num, updated = function.applyAsDouble(current, x);
+                if (NUM.compareAndSet(this, current, updated))
+                    return updated;
+            }
+        }
     }
 
 
@@ -0,0 +1,874 @@
+package org.moodminds.valuable;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BinaryOperator;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongPredicate;
+import java.util.function.LongUnaryOperator;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+import static org.moodminds.valuable.Volatile.vol;
+
+/**
+ * Watched {@link Volatile}, completing the futures of the values awaited by the predicates, e.g. of a state
+ * to be reached:
+ * <pre>{@code
+ * Watched.Int state = Watched.watched(STARTING);
+ *
+ * state.onValue(s -> s == READY).thenRun(this::serve);   // awaiting
+ * state.put(READY);                                      // completes the future
+ * }</pre>
+ * Each write by the methods of the holder, but the direct writes to the value-holding field, is followed
+ * by testing the written value against the predicates of the pending watchers in the writer thread, while
+ * the matching futures are completed by the executor, {@link ForkJoinPool#commonPool()} by default, so that
+ * their dependent actions do not run in the writer thread. An executor running the completions inline,
+ * e.g. {@code Runnable::run}, saves the hand-off at the cost of running them in the writer thread.
+ * <p>
+ * With no watchers pending, a write costs an extra volatile read of the watchers stack. The plain
+ * {@link Volatile} holders do not pay even that, the watching being confined to this opt-in subclass.
+ * A serialized holder is deserialized as a plain {@link Volatile} one, its watchers dropped.
+ */
+public class Watched<V> extends Volatile<V> {
+
+    private static final long serialVersionUID = 6127398462031187453L;
+
+    /**
+     * The watchers of the value.
+     */
+    private final transient Watchers watchers;
+
+    /**
+     * Construct the object with the given initial value and executor of the future completions.
+     *
+     * @param val the given initial value
+     * @param executor the given executor of the future completions
+     */
+    Watched(V val, Executor executor) {
+        super(val);
+        this.watchers = new Watchers(executor);
+    }
+
+    /**
+     * Return the future completed by the executor with the first value written or held matching
+     * the given predicate, checked now and on every write of the value by the methods of this holder,
+     * but the direct writes to {@link #val}. An exception thrown by the predicate completes the future
+     * exceptionally.
+     *
+     * @param predicate the given side-effect-free predicate
+     * @return the future completed with the first matching value
+     */
+    public CompletableFuture<V> onValue(Predicate<? super V> predicate) {
+        return watchers.watch(predicate, this::get);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param val {@inheritDoc}
+     */
+    @Override
+    public void put(V val) {
+        super.put(val); watchers.signal(val);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param val {@inheritDoc}
+     * @return {@inheritDoc}
+     */
+    @Override
+    public V set(V val) {
+        V previous = super.set(val);
+        watchers.signal(val); return previous;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param state {@inheritDoc}
+     * @param val {@inheritDoc}
+     * @return {@inheritDoc}
+     */
+    @Override
+    public boolean let(V state, V val) {
+        if (!super.let(state, val))
+            return false;
+        watchers.signal(val); return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param function {@inheritDoc}
+     * @param backoff {@inheritDoc}
+     * @return {@inheritDoc}
+     */
+    @Override
+    public V update(UnaryOperator<V> function, Backoff backoff) {
+        return watchers.signal(super.update(function, backoff));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param x {@inheritDoc}
+     * @param function {@inheritDoc}
+     * @param backoff {@inheritDoc}
+     * @return {@inheritDoc}
+     */
+    @Override
+    public V accumulate(V x, BinaryOperator<V> function, Backoff backoff) {
+        return watchers.signal(super.accumulate(x, function, backoff));
+    }
+
+    /**
+     * Replace the object being serialized with its unwatched copy.
+     *
+     * @return the unwatched copy of the object
+     */
+    private Object writeReplace() {
+        return new Volatile<>(val);
+    }
+
+
+    /**
+     * A watched int value holder.
+     */
+    public static class Int extends Volatile.Int {
+
+        private static final long serialVersionUID = -3862940551837016497L;
+
+        /**
+         * The watchers of the value.
+         */
+        private final transient Watchers watchers;
+
+        /**
+         * Construct the object with the given initial value and executor of the future completions.
+         *
+         * @param num the given initial value
+         * @param executor the given executor of the future completions
+         */
+        Int(int num, Executor executor) {
+            super(num);
+            this.watchers = new Watchers(executor);
+        }
+
+        /**
+         * Return the future completed by the executor with the first value written or held matching
+         * the given predicate, checked now and on every write of the value by the methods of this holder,
+         * but the direct writes to {@link #num}. An exception thrown by the predicate completes the future
+         * exceptionally.
+         *
+         * @param predicate the given side-effect-free predicate
+         * @return the future completed with the first matching value
+         */
+        public CompletableFuture<Integer> onValue(IntPredicate predicate) {
+            return watchers.watch(predicate::test, this::get);
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param num {@inheritDoc}
+         */
+        @Override
+        public void put(int num) {
+            super.put(num); watchers.signal(num);
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public int set(int num) {
+            int previous = super.set(num);
+            watchers.signal(num); return previous;
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param state {@inheritDoc}
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public boolean let(int state, int num) {
+            if (!super.let(state, num))
+                return false;
+            watchers.signal(num); return true;
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @return {@inheritDoc}
+         */
+        @Override
+        public int incr() {
+            return watchers.signal(super.incr());
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @return {@inheritDoc}
+         */
+        @Override
+        public int decr() {
+            return watchers.signal(super.decr());
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public int max(int num) {
+            return watchers.signal(super.max(num));
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public int getAndMax(int num) {
+            int previous = super.getAndMax(num);
+            watchers.signal(Math.max(previous, num)); return previous;
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public int min(int num) {
+            return watchers.signal(super.min(num));
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public int getAndMin(int num) {
+            int previous = super.getAndMin(num);
+            watchers.signal(Math.min(previous, num)); return previous;
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public int or(int num) {
+            return watchers.signal(super.or(num));
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public int getAndOr(int num) {
+            int previous = super.getAndOr(num);
+            watchers.signal(previous | num); return previous;
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public int and(int num) {
+            return watchers.signal(super.and(num));
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public int getAndAnd(int num) {
+            int previous = super.getAndAnd(num);
+            watchers.signal(previous & num); return previous;
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public int xor(int num) {
+            return watchers.signal(super.xor(num));
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public int getAndXor(int num) {
+            int previous = super.getAndXor(num);
+            watchers.signal(previous ^ num); return previous;
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param function {@inheritDoc}
+         * @param backoff {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public int update(IntUnaryOperator function, Backoff backoff) {
+            return watchers.signal(super.update(function, backoff));
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param x {@inheritDoc}
+         * @param function {@inheritDoc}
+         * @param backoff {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public int accumulate(int x, IntBinaryOperator function, Backoff backoff) {
+            return watchers.signal(super.accumulate(x, function, backoff));
+        }
+
+        /**
+         * Replace the object being serialized with its unwatched copy.
+         *
+         * @return the unwatched copy of the object
+         */
+        private Object writeReplace() {
+            return new Volatile.Int(num);
+        }
+    }
+
+
+    /**
+     * A watched long value holder.
+     */
+    public static class Long extends Volatile.Long {
+
+        private static final long serialVersionUID = 4458251830375093172L;
+
+        /**
+         * The watchers of the value.
+         */
+        private final transient Watchers watchers;
+
+        /**
+         * Construct the object with the given initial value and executor of the future completions.
+         *
+         * @param num the given initial value
+         * @param executor the given executor of the future completions
+         */
+        Long(long num, Executor executor) {
+            super(num);
+            this.watchers = new Watchers(executor);
+        }
+
+        /**
+         * Return the future completed by the executor with the first value written or held matching
+         * the given predicate, checked now and on every write of the value by the methods of this holder,
+         * but the direct writes to {@link #num}. An exception thrown by the predicate completes the future
+         * exceptionally.
+         *
+         * @param predicate the given side-effect-free predicate
+         * @return the future completed with the first matching value
+         */
+        public CompletableFuture<java.lang.Long> onValue(LongPredicate predicate) {
+            return watchers.watch(predicate::test, this::get);
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param num {@inheritDoc}
+         */
+        @Override
+        public void put(long num) {
+            super.put(num); watchers.signal(num);
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public long set(long num) {
+            long previous = super.set(num);
+            watchers.signal(num); return previous;
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param state {@inheritDoc}
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public boolean let(long state, long num) {
+            if (!super.let(state, num))
+                return false;
+            watchers.signal(num); return true;
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @return {@inheritDoc}
+         */
+        @Override
+        public long incr() {
+            return watchers.signal(super.incr());
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @return {@inheritDoc}
+         */
+        @Override
+        public long decr() {
+            return watchers.signal(super.decr());
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public long max(long num) {
+            return watchers.signal(super.max(num));
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public long getAndMax(long num) {
+            long previous = super.getAndMax(num);
+            watchers.signal(Math.max(previous, num)); return previous;
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public long min(long num) {
+            return watchers.signal(super.min(num));
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public long getAndMin(long num) {
+            long previous = super.getAndMin(num);
+            watchers.signal(Math.min(previous, num)); return previous;
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public long or(long num) {
+            return watchers.signal(super.or(num));
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public long getAndOr(long num) {
+            long previous = super.getAndOr(num);
+            watchers.signal(previous | num); return previous;
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public long and(long num) {
+            return watchers.signal(super.and(num));
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public long getAndAnd(long num) {
+            long previous = super.getAndAnd(num);
+            watchers.signal(previous & num); return previous;
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public long xor(long num) {
+            return watchers.signal(super.xor(num));
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param num {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public long getAndXor(long num) {
+            long previous = super.getAndXor(num);
+            watchers.signal(previous ^ num); return previous;
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param function {@inheritDoc}
+         * @param backoff {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public long update(LongUnaryOperator function, Backoff backoff) {
+            return watchers.signal(super.update(function, backoff));
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param x {@inheritDoc}
+         * @param function {@inheritDoc}
+         * @param backoff {@inheritDoc}
+         * @return {@inheritDoc}
+         */
+        @Override
+        public long accumulate(long x, LongBinaryOperator function, Backoff backoff) {
+            return watchers.signal(super.accumulate(x, function, backoff));
+        }
+
+        /**
+         * Replace the object being serialized with its unwatched copy.
+         *
+         * @return the unwatched copy of the object
+         */
+        private Object writeReplace() {
+            return new Volatile.Long(num);
+        }
+    }
+
+
+    /**
+     * The stack of the watchers of a holder's value.
+     */
+    private static final class Watchers {
+
+        /**
+         * The executor of the future completions.
+         */
+        private final Executor executor;
+
+        /**
+         * The stack of the pending watchers.
+         */
+        private final Volatile<Watcher> stack = vol();
+
+        /**
+         * Construct the object with the given executor of the future completions.
+         *
+         * @param executor the given executor of the future completions
+         */
+        Watchers(Executor executor) {
+            this.executor = executor;
+        }
+
+        /**
+         * Push the watcher of the given predicate, check it against the current value and return its future.
+         *
+         * @param predicate the given predicate
+         * @param current the given supplier of the current value
+         * @param <T> the type of the value
+         * @return the future of the watcher
+         */
+        @SuppressWarnings("unchecked")
+        <T> CompletableFuture<T> watch(Predicate<? super T> predicate, Supplier<? extends T> current) {
+            Watcher watcher = new Watcher((Predicate<Object>) predicate);
+            do watcher.next = stack.get();
+            while (!stack.let(watcher.next, watcher));
+            check(current.get());
+            return (CompletableFuture<T>) watcher.future;
+        }
+
+        /**
+         * Check the pending watchers, if any, against the given written value and return it.
+         *
+         * @param val the given written value
+         * @param <T> the type of the value
+         * @return the given written value
+         */
+        <T> T signal(T val) {
+            if (stack.get() != null)
+                check(val);
+            return val;
+        }
+
+        /**
+         * Check the pending watchers, if any, against the given written int value and return it.
+         *
+         * @param num the given written value
+         * @return the given written value
+         */
+        int signal(int num) {
+            if (stack.get() != null)
+                check(num);
+            return num;
+        }
+
+        /**
+         * Check the pending watchers, if any, against the given written long value and return it.
+         *
+         * @param num the given written value
+         * @return the given written value
+         */
+        long signal(long num) {
+            if (stack.get() != null)
+                check(num);
+            return num;
+        }
+
+        /**
+         * Test the pending watchers against the given value, unlinking the matched and the cancelled ones.
+         * The unlinking only ever bypasses such watchers, so the concurrent checks never lose a pending one.
+         *
+         * @param val the given value
+         */
+        private void check(Object val) {
+            for (Watcher previous = null, watcher = stack.get(), next; watcher != null; watcher = next) {
+                next = watcher.next;
+                if (!watcher.done())
+                    watcher.test(val, executor);
+                if (!watcher.done()) previous = watcher;
+                else if (previous != null) previous.next = next;
+                else if (!stack.let(watcher, next)) previous = watcher;
+            }
+        }
+    }
+
+    /**
+     * A value watcher stack node.
+     */
+    private static final class Watcher {
+
+        /**
+         * The predicate of the awaited value.
+         */
+        private final Predicate<Object> predicate;
+
+        /**
+         * The future of the awaited value.
+         */
+        private final CompletableFuture<Object> future = new CompletableFuture<>();
+
+        /**
+         * The flag of the awaited value matched, claiming the completion of the future.
+         */
+        private final Volatile.Boolean matched = vol(false);
+
+        /**
+         * The next node, bypassing the done ones as they are unlinked.
+         */
+        private volatile Watcher next;
+
+        /**
+         * Construct the object with the given predicate of the awaited value.
+         *
+         * @param predicate the given predicate
+         */
+        Watcher(Predicate<Object> predicate) {
+            this.predicate = predicate;
+        }
+
+        /**
+         * Return whether the awaited value is matched or the future is completed otherwise, e.g. cancelled.
+         *
+         * @return whether the watcher is done
+         */
+        boolean done() {
+            return matched.get() || future.isDone();
+        }
+
+        /**
+         * Test the given value, completing the future by the given executor if matched first.
+         *
+         * @param val the given value
+         * @param executor the given executor of the completion
+         */
+        void test(Object val, Executor executor) {
+            Throwable failure = null;
+            try {
+                if (!predicate.test(val))
+                    return;
+            } catch (RuntimeException | Error e) {
+                failure = e;
+            }
+            if (!matched.let(false, true))
+                return;
+            Throwable thrown = failure;
+            try {
+                executor.execute(() -> {
+                    if (thrown == null) future.complete(val); else future.completeExceptionally(thrown);
+                });
+            } catch (RuntimeException e) {
+                future.completeExceptionally(e);
+            }
+        }
+    }
+
+
+    /**
+     * Return the empty watched object reference value holder, completing the futures
+     * by the {@link ForkJoinPool#commonPool()}.
+     *
+     * @param <V> the type of the value
+     * @return the empty watched object reference value holder
+     */
+    public static <V> Watched<V> watched() {
+        return new Watched<>(null, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Return the watched object reference value holder by the given value, completing the futures
+     * by the {@link ForkJoinPool#commonPool()}.
+     *
+     * @param value the given initial value
+     * @param <V> the type of the value
+     * @return the watched object reference value holder by the given value
+     */
+    public static <V> Watched<V> watched(V value) {
+        return new Watched<>(value, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Return the watched object reference value holder by the given value, completing the futures
+     * by the given executor.
+     *
+     * @param value the given initial value
+     * @param executor the given executor of the future completions
+     * @param <V> the type of the value
+     * @return the watched object reference value holder by the given value
+     */
+    public static <V> Watched<V> watched(V value, Executor executor) {
+        return new Watched<>(value, executor);
+    }
+
+    /**
+     * Return the watched int value holder by the given value, completing the futures
+     * by the {@link ForkJoinPool#commonPool()}.
+     *
+     * @param value the given initial value
+     * @return the watched int value holder by the given value
+     */
+    public static Int watched(int value) {
+        return new Int(value, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Return the watched int value holder by the given value, completing the futures by the given executor.
+     *
+     * @param value the given initial value
+     * @param executor the given executor of the future completions
+     * @return the watched int value holder by the given value
+     */
+    public static Int watched(int value, Executor executor) {
+        return new Int(value, executor);
+    }
+
+    /**
+     * Return the watched long value holder by the given value, completing the futures
+     * by the {@link ForkJoinPool#commonPool()}.
+     *
+     * @param value the given initial value
+     * @return the watched long value holder by the given value
+     */
+    public static Long watched(long value) {
+        return new Long(value, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Return the watched long value holder by the given value, completing the futures by the given executor.
+     *
+     * @param value the given initial value
+     * @param executor the given executor of the future completions
+     * @return the watched long value holder by the given value
+     */
+    public static Long watched(long value, Executor executor) {
+        return new Long(value, executor);
+    }
+}
@@ -0,0 +1,166 @@
+package org.moodminds.valuable;
+
+import java.lang.invoke.VarHandle;
+
+import static java.lang.invoke.MethodHandles.arrayElementVarHandle;
+
+/**
+ * Striped long maximum or minimum watermark, intended for the very hot peaks (queue depth, lowest latency etc.)
+ * recorded by many threads at once. Each thread records into one of several cache-line-padded stripes,
+ * the watermark value is folded over all of them on read.
+ * <p>
+ * Same as {@link Volatile.Long#max(long)} and {@link Volatile.Long#min(long)}, recording exits without
+ * any write if the stripe value already dominates the given one.
+ */
+public final class Watermark {
+
+    private static final VarHandle CELLS = arrayElementVarHandle(long[].class);
+
+    /**
+     * The distance in longs between the stripe cells, spanning two cache lines to defeat adjacent-line prefetch.
+     */
+    private static final int PAD = 16;
+
+    /**
+     * The stripe cells, each {@link #PAD}-th element starting from the {@link #PAD}-th one.
+     */
+    private final long[] cells;
+
+    /**
+     * The stripe index mask.
+     */
+    private final int mask;
+
+    /**
+     * The flag of tracking the maximum rather than the minimum.
+     */
+    private final boolean max;
+
+    /**
+     * The initial and reset value.
+     */
+    private final long initial;
+
+    /**
+     * Construct the object with the given stripe count, tracking mode and initial value.
+     *
+     * @param stripes the given stripe count, a power of two
+     * @param max the given flag of tracking the maximum rather than the minimum
+     * @param initial the given initial value
+     */
+    private Watermark(int stripes, boolean max, long initial) {
+        this.cells = new long[(stripes + 1) * PAD];
+        this.mask = stripes - 1;
+        this.max = max;
+        this.initial = initial;
+        for (int i = 0; i < stripes; i++)
+            cells[(i + 1) * PAD] = initial;
+    }
+
+    /**
+     * Record the given value into the current thread's stripe.
+     *
+     * @param num the given value
+     */
+    public void record(long num) {
+        int i = cell();
+        for (long current = (long) CELLS.getVolatile(cells, i); ; current = (long) CELLS.getVolatile(cells, i))
+            if ((max ? current >= num : current <= num) || CELLS.weakCompareAndSet(cells, i, current, num))
+                return;
+    }
+
+    /**
+     * Return the watermark folded over all the stripes.
+     *
+     * @return the watermark folded over all the stripes
+     */
+    public long get() {
+        long num = initial;
+        for (int i = PAD; i < cells.length; i += PAD)
+            num = fold(num, (long) CELLS.getVolatile(cells, i));
+        return num;
+    }
+
+    /**
+     * Reset the stripes to the initial value and return the watermark folded over their previous values,
+     * intended for the interval peaks sampling. Each recorded value is accounted in exactly one interval.
+     *
+     * @return the watermark folded over the previous values of the stripes
+     */
+    public long getAndReset() {
+        long num = initial;
+        for (int i = PAD; i < cells.length; i += PAD)
+            num = fold(num, (long) CELLS.getAndSet(cells, i, initial));
+        return num;
+    }
+
+    /**
+     * Return the dominating of the given values.
+     *
+     * @param num1 the given first value
+     * @param num2 the given second value
+     * @return the dominating of the given values
+     */
+    private long fold(long num1, long num2) {
+        return max ? Math.max(num1, num2) : Math.min(num1, num2);
+    }
+
+    /**
+     * Return the index of the current thread's stripe cell.
+     *
+     * @return the index of the current thread's stripe cell
+     */
+    private int cell() {
+        long hash = Thread.currentThread().getId() * 0x9E3779B97F4A7C15L;
+        return (((int) (hash >>> 32) & mask) + 1) * PAD;
+    }
+
+
+    /**
+     * Return the striped maximum watermark starting from {@link Long#MIN_VALUE}.
+     *
+     * @return the striped maximum watermark
+     */
+    public static Watermark max() {
+        return max(Long.MIN_VALUE);
+    }
+
+    /**
+     * Return the striped maximum watermark by the given initial value.
+     *
+     * @param initial the given initial value
+     * @return the striped maximum watermark by the given initial value
+     */
+    public static Watermark max(long initial) {
+        return new Watermark(stripes(), true, initial);
+    }
+
+    /**
+     * Return the striped minimum watermark starting from {@link Long#MAX_VALUE}.
+     *
+     * @return the striped minimum watermark
+     */
+    public static Watermark min() {
+        return min(Long.MAX_VALUE);
+    }
+
+    /**
+     * Return the striped minimum watermark by the given initial value.
+     *
+     * @param initial the given initial value
+     * @return the striped minimum watermark by the given initial value
+     */
+    public static Watermark min(long initial) {
+        return new Watermark(stripes(), false, initial);
+    }
+
+    /**
+     * Return the stripe count: the least power of two not less than the available processors count.
+     *
+     * @return the stripe count
+     */
+    private static int stripes() {
+        int processors = Runtime.getRuntime().availableProcessors();
+        return processors <= 1 ? 1 : Integer.highestOneBit(processors - 1) << 1;
+    }
+}
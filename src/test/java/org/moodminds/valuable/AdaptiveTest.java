@@ -0,0 +1,57 @@
+package org.moodminds.valuable;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.moodminds.valuable.Adaptive.adaptive;
+
+class AdaptiveTest {
+
+    @Test
+    void confinedToOwner() {
+        Adaptive.Int holder = adaptive(1);
+
+        assertEquals(2, holder.incr());
+        assertEquals(2, holder.set(5));
+        assertTrue(holder.let(5, 7));
+        assertFalse(holder.let(5, 9));
+        assertEquals(7, holder.get());
+        assertFalse(holder.inflated());
+    }
+
+    @Test
+    void foreignAccessBeforeInflationFails() throws InterruptedException {
+        Adaptive<String> holder = adaptive("a");
+
+        assertInstanceOf(IllegalStateException.class, foreign(() -> holder.put("b")));
+        assertInstanceOf(IllegalStateException.class, foreign(holder::inflate));
+        assertFalse(holder.inflated());
+        assertEquals("a", holder.get());
+    }
+
+    @Test
+    void foreignAccessAfterInflation() throws InterruptedException {
+        Adaptive.Long holder = adaptive(1L);
+        holder.incr();
+        holder.inflate();
+
+        assertNull(foreign(() -> { holder.incr(); holder.inflate(); }));
+        assertTrue(holder.inflated());
+        assertEquals(4L, holder.incr());
+    }
+
+    private static Throwable foreign(Runnable action) throws InterruptedException {
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Thread thread = new Thread(() -> {
+            try { action.run(); } catch (Throwable e) { failure.set(e); }
+        });
+        thread.start(); thread.join();
+        return failure.get();
+    }
+}
@@ -0,0 +1,46 @@
+package org.moodminds.valuable;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ArenaTest {
+
+    @Test
+    void holdersAreReusedAcrossScopes() {
+        Variable.Int first;
+        try (Arena arena = Arena.open()) {
+            first = arena.var(1);
+            assertEquals(1, first.num);
+        }
+        try (Arena arena = Arena.open()) {
+            Variable.Int second = arena.var(2);
+            assertSame(first, second);
+            assertEquals(2, second.num);
+        }
+    }
+
+    @Test
+    void otherThreadCannotHandOut() throws InterruptedException {
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        try (Arena arena = Arena.open()) {
+            Thread other = new Thread(() -> {
+                try { arena.var(0L); } catch (Throwable e) { failure.set(e); }
+            });
+            other.start(); other.join();
+        }
+        assertInstanceOf(IllegalStateException.class, failure.get());
+    }
+
+    @Test
+    void closedArenaCannotHandOut() {
+        Arena arena = Arena.open();
+        arena.close();
+        assertThrows(IllegalStateException.class, () -> arena.var('a'));
+    }
+}
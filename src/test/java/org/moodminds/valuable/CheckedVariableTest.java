@@ -0,0 +1,105 @@
+package org.moodminds.valuable;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CheckedVariableTest {
+
+    private final Logger logger = Logger.getLogger(CheckedVariable.class.getName());
+
+    private final List<LogRecord> records = new CopyOnWriteArrayList<>();
+
+    private final Handler handler = new Handler() {
+        @Override public void publish(LogRecord record) { records.add(record); }
+        @Override public void flush() {}
+        @Override public void close() {}
+    };
+
+    @BeforeEach
+    void capture() {
+        logger.addHandler(handler); logger.setUseParentHandlers(false);
+    }
+
+    @AfterEach
+    void release() {
+        logger.removeHandler(handler); logger.setUseParentHandlers(true);
+    }
+
+    @Test
+    void ownerAccessIsNotReported() {
+        CheckedVariable.Int holder = new CheckedVariable.Int(1);
+        holder.incr(); holder.max(5); holder.put(holder.get() + 1);
+
+        assertEquals(6, holder.get());
+        assertTrue(records.isEmpty());
+    }
+
+    @Test
+    void crossThreadAccessIsReportedOnce() throws InterruptedException {
+        CheckedVariable<String> holder = new CheckedVariable<>("a");
+        foreign("accessor", () -> holder.put("b"));
+        foreign("another", holder::get);
+        holder.set("c");
+
+        assertEquals(1, records.size());
+        LogRecord record = records.get(0);
+        assertEquals(Level.WARNING, record.getLevel());
+        assertTrue(record.getMessage().contains("\"" + Thread.currentThread().getName() + "\""));
+        assertTrue(record.getMessage().contains("\"accessor\""));
+        assertInstanceOf(IllegalStateException.class, record.getThrown());
+        assertTrue(record.getThrown().getCause().getMessage().startsWith("Created by thread"));
+    }
+
+    @Test
+    void everyPrimitiveHolderIsChecked() throws InterruptedException {
+        Object[] holders = {new CheckedVariable.Boolean(true), new CheckedVariable.Char('a'),
+                new CheckedVariable.Byte((byte) 1), new CheckedVariable.Short((short) 1), new CheckedVariable.Int(1),
+                new CheckedVariable.Long(1L), new CheckedVariable.Float(1.0f), new CheckedVariable.Double(1.0)};
+        foreign("accessor", () -> {
+            ((Valuable.Boolean) holders[0]).let(true, false);
+            ((Valuable.Char) holders[1]).set('b');
+            ((Valuable.Byte) holders[2]).incr();
+            ((Valuable.Short) holders[3]).decr();
+            ((Valuable.Int) holders[4]).getAndMin(0);
+            ((Valuable.Long) holders[5]).getAndMax(2L);
+            ((Valuable.Float) holders[6]).min(0.5f);
+            ((Valuable.Double) holders[7]).get();
+        });
+
+        assertEquals(holders.length, records.size());
+    }
+
+    @Test
+    void deserializedAsUnchecked() throws Exception {
+        CheckedVariable.Long holder = new CheckedVariable.Long(42L);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) { out.writeObject(holder); }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            Object copy = in.readObject();
+            assertSame(Variable.Long.class, copy.getClass());
+            assertEquals(42L, ((Variable.Long) copy).get());
+        }
+    }
+
+    private static void foreign(String name, Runnable action) throws InterruptedException {
+        Thread thread = new Thread(action, name);
+        thread.start(); thread.join();
+    }
+}
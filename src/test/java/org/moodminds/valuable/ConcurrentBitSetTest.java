@@ -0,0 +1,121 @@
+package org.moodminds.valuable;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.moodminds.valuable.ConcurrentBitSet.bits;
+
+class ConcurrentBitSetTest {
+
+    @Test
+    void bitsAcrossWords() {
+        ConcurrentBitSet bits = bits(130);
+        bits.set(0); bits.set(63); bits.set(64); bits.set(129);
+
+        assertTrue(bits.get(63) && bits.get(64) && bits.get(129));
+        assertFalse(bits.get(1) || bits.get(65) || bits.get(128));
+        assertEquals(4, bits.cardinality());
+        assertEquals(63, bits.nextSetBit(1));
+        assertEquals(64, bits.nextSetBit(64));
+        assertEquals(129, bits.nextSetBit(65));
+        assertEquals(-1, bits.nextSetBit(130));
+        assertEquals(1, bits.nextClearBit(0));
+        assertEquals(65, bits.nextClearBit(63));
+
+        assertTrue(bits.testAndClear(64));
+        assertFalse(bits.testAndClear(64));
+        assertFalse(bits.testAndSet(65));
+        assertTrue(bits.testAndSet(65));
+        bits.clear(129);
+        assertEquals(-1, bits.nextSetBit(66));
+    }
+
+    @Test
+    void nextClearBitStopsAtSize() {
+        ConcurrentBitSet bits = bits(70);
+        for (int bit = 0; bit < 70; bit++)
+            bits.set(bit);
+
+        assertEquals(70, bits.cardinality());
+        assertEquals(-1, bits.nextClearBit(0));
+        assertEquals(-1, bits.nextClearBit(69));
+        assertEquals(-1, bits(0).nextSetBit(0));
+    }
+
+    @Test
+    void outOfBoundsFails() {
+        ConcurrentBitSet bits = bits(64);
+
+        assertThrows(IndexOutOfBoundsException.class, () -> bits.get(64));
+        assertThrows(IndexOutOfBoundsException.class, () -> bits.set(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> bits.testAndClear(64));
+        assertThrows(IndexOutOfBoundsException.class, () -> bits.nextSetBit(-1));
+        assertThrows(IllegalArgumentException.class, () -> bits(-1));
+    }
+
+    @Test
+    void concurrentSetsAndClearsOfSharedWords() throws InterruptedException {
+        ConcurrentBitSet bits = bits(1 << 12);
+        run(4, t -> {
+            for (int bit = t; bit < bits.size(); bit += 4)
+                bits.set(bit);
+        });
+        assertEquals(bits.size(), bits.cardinality());
+
+        run(4, t -> {
+            for (int bit = t; bit < bits.size(); bit += 4)
+                if (t % 2 == 0) bits.clear(bit);
+        });
+        assertEquals(bits.size() / 2, bits.cardinality());
+        for (int bit = bits.nextSetBit(0); bit >= 0; bit = bits.nextSetBit(bit + 1))
+            assertEquals(1, bit % 2);
+    }
+
+    @Test
+    void testAndSetClaimsEachBitOnce() throws InterruptedException {
+        ConcurrentBitSet bits = bits(1 << 12);
+        AtomicInteger claimed = new AtomicInteger();
+        run(4, t -> {
+            for (int bit = 0; bit < bits.size(); bit++)
+                if (!bits.testAndSet(bit)) claimed.incrementAndGet();
+        });
+
+        assertEquals(bits.size(), claimed.get());
+        assertEquals(-1, bits.nextClearBit(0));
+    }
+
+    @Test
+    void scanWhileSetting() throws InterruptedException {
+        ConcurrentBitSet bits = bits(1 << 14);
+        Thread writer = new Thread(() -> {
+            for (int bit = bits.size() - 1; bit >= 0; bit -= 3)
+                bits.set(bit);
+        });
+        writer.start();
+        while (writer.isAlive())
+            for (int bit = bits.nextSetBit(0); bit >= 0; bit = bits.nextSetBit(bit + 1))
+                assertEquals((bits.size() - 1) % 3, bit % 3);
+        writer.join();
+
+        assertEquals((bits.size() + 2) / 3, bits.cardinality());
+    }
+
+    private static void run(int count, IntConsumer action) throws InterruptedException {
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < count; t++) {
+            int index = t;
+            threads.add(new Thread(() -> action.accept(index)));
+        }
+        threads.forEach(Thread::start);
+        for (Thread thread : threads)
+            thread.join();
+    }
+}
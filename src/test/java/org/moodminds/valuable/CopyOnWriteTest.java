@@ -0,0 +1,65 @@
+package org.moodminds.valuable;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.moodminds.valuable.CopyOnWrite.copyOnWrite;
+
+class CopyOnWriteTest {
+
+    private static final String FAULTY = "faulty";
+
+    @Test
+    void failedFreezeFailsTheWriter() {
+        CopyOnWrite<List<String>> list = faultyList();
+
+        assertThrows(IllegalStateException.class, () -> list.write(l -> l.add(FAULTY)));
+        list.write(l -> l.add("a"));
+        assertEquals(List.of("a"), list.get());
+    }
+
+    @Test
+    void failedFreezeFailsTheWholeBatch() throws InterruptedException {
+        CopyOnWrite<List<String>> list = faultyList();
+        AtomicInteger succeeded = new AtomicInteger(), failed = new AtomicInteger();
+
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            int id = t;
+            threads.add(new Thread(() -> {
+                for (int i = 0; i < 2_000; i++) {
+                    String value = i % 100 == 0 ? FAULTY : id + ":" + i;
+                    try {
+                        list.write(l -> l.add(value)); succeeded.incrementAndGet();
+                    } catch (IllegalStateException e) {
+                        failed.incrementAndGet();
+                    }
+                }
+            }));
+        }
+        threads.forEach(Thread::start);
+        for (Thread thread : threads) {
+            thread.join(30_000);
+            assertFalse(thread.isAlive(), "writer stuck");
+        }
+
+        assertFalse(list.get().contains(FAULTY));
+        assertEquals(succeeded.get(), list.get().size());
+        assertEquals(4 * 2_000, succeeded.get() + failed.get());
+    }
+
+    private static CopyOnWrite<List<String>> faultyList() {
+        return copyOnWrite(Collections.<String>emptyList(), ArrayList::new, l -> {
+            if (l.contains(FAULTY))
+                throw new IllegalStateException("Faulty element");
+            return Collections.unmodifiableList(l);
+        });
+    }
+}
@@ -0,0 +1,113 @@
+package org.moodminds.valuable;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.moodminds.valuable.DoubleBuffer.doubleBuffer;
+
+class DoubleBufferTest {
+
+    @Test
+    void buffersAlternate() {
+        List<Integer> first = new ArrayList<>(), second = new ArrayList<>();
+        DoubleBuffer<List<Integer>> buffers = doubleBuffer(first, second);
+
+        assertSame(first, buffers.back());
+        assertNull(buffers.poll());
+        buffers.back().add(1);
+        assertTrue(buffers.publish());
+        assertSame(second, buffers.back());
+
+        buffers.back().add(2);
+        assertFalse(buffers.publish());
+        assertSame(first, buffers.poll());
+        assertFalse(buffers.publish());
+        buffers.release();
+
+        assertTrue(buffers.publish());
+        assertSame(first, buffers.back());
+        assertEquals(List.of(2), buffers.poll());
+        buffers.release();
+        assertNull(buffers.poll());
+    }
+
+    @Test
+    void takeWaitsForPublish() throws InterruptedException {
+        DoubleBuffer<int[]> buffers = doubleBuffer(new int[1], new int[1]);
+        AtomicReference<int[]> taken = new AtomicReference<>();
+        Thread consumer = new Thread(() -> {
+            try { taken.set(buffers.take()); } catch (InterruptedException ignored) { }
+        });
+        consumer.start();
+        consumer.join(50);
+        assertTrue(consumer.isAlive());
+
+        int[] back = buffers.back();
+        back[0] = 42;
+        assertTrue(buffers.publish());
+        consumer.join();
+        assertSame(back, taken.get());
+        assertEquals(42, taken.get()[0]);
+    }
+
+    @Test
+    void takeIsInterruptible() throws InterruptedException {
+        DoubleBuffer<int[]> buffers = doubleBuffer(new int[1], new int[1]);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Thread consumer = new Thread(() -> {
+            try { buffers.take(Backoff.YIELD); } catch (Throwable e) { failure.set(e); }
+        });
+        consumer.start();
+        consumer.interrupt(); consumer.join();
+        assertInstanceOf(InterruptedException.class, failure.get());
+    }
+
+    @Test
+    void misuseFails() {
+        DoubleBuffer<int[]> buffers = doubleBuffer(new int[1], new int[1]);
+
+        assertThrows(IllegalStateException.class, buffers::release);
+        buffers.publish();
+        buffers.poll();
+        assertThrows(IllegalStateException.class, buffers::poll);
+        assertThrows(IllegalStateException.class, () -> buffers.take(Backoff.NONE));
+        buffers.release();
+        assertThrows(IllegalStateException.class, buffers::release);
+    }
+
+    @Test
+    void handsOffInOrder() throws InterruptedException {
+        DoubleBuffer<List<Integer>> buffers = doubleBuffer(new ArrayList<>(), new ArrayList<>());
+        List<Integer> received = new ArrayList<>();
+        Thread consumer = new Thread(() -> {
+            try {
+                while (received.size() < 1_000) {
+                    received.addAll(buffers.take(Backoff.YIELD)); buffers.release();
+                }
+            } catch (InterruptedException ignored) { }
+        });
+        consumer.start();
+        for (int i = 0; i < 1_000; i++) {
+            buffers.back().add(i);
+            if (buffers.publish())
+                buffers.back().clear();
+        }
+        while (!buffers.publish())
+            Thread.yield();
+        consumer.join();
+
+        assertEquals(1_000, received.size());
+        for (int i = 0; i < 1_000; i++)
+            assertEquals(i, received.get(i));
+    }
+}
@@ -0,0 +1,53 @@
+package org.moodminds.valuable;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.moodminds.valuable.Exporter.exporter;
+import static org.moodminds.valuable.Registry.registry;
+import static org.moodminds.valuable.Volatile.vol;
+
+class ExporterTest {
+
+    @Test
+    void getServesTheScrape() throws IOException {
+        Registry registry = registry();
+        Volatile.Long counter = registry.counter("requests_total", vol(0L), "method", "GET");
+
+        try (Exporter exporter = exporter(registry, 0)) {
+            counter.incr();
+            HttpURLConnection connection = connect(exporter, "GET");
+            assertEquals(200, connection.getResponseCode());
+            assertEquals("text/plain; version=0.0.4; charset=utf-8", connection.getContentType());
+            try (InputStream in = connection.getInputStream()) {
+                assertEquals("# TYPE requests_total counter\nrequests_total{method=\"GET\"} 1\n",
+                        new String(in.readAllBytes(), UTF_8));
+            }
+        }
+    }
+
+    @Test
+    void otherMethodsAreNotAllowed() throws IOException {
+        try (Exporter exporter = exporter(registry(), 0)) {
+            for (String method : new String[] {"POST", "PUT", "DELETE", "HEAD"}) {
+                HttpURLConnection connection = connect(exporter, method);
+                assertEquals(405, connection.getResponseCode(), method);
+                assertEquals("GET", connection.getHeaderField("Allow"), method);
+                connection.disconnect();
+            }
+        }
+    }
+
+    private static HttpURLConnection connect(Exporter exporter, String method) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection)
+                new URL("http://127.0.0.1:" + exporter.port() + "/metrics").openConnection();
+        connection.setRequestMethod(method);
+        return connection;
+    }
+}
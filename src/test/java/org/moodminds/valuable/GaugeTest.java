@@ -0,0 +1,111 @@
+package org.moodminds.valuable;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.concurrent.TimeUnit.DAYS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.moodminds.valuable.Gauge.gauge;
+
+class GaugeTest {
+
+    @Test
+    void latestWriteWins() throws InterruptedException {
+        Gauge.PerThread gauge = gauge(1L, 0L, NANOSECONDS);
+        assertEquals(1L, gauge.get());
+
+        gauge.put(2L);
+        Thread writer = new Thread(() -> gauge.put(3L));
+        writer.start(); writer.join();
+        assertEquals(3L, gauge.get());
+
+        gauge.put(4L);
+        assertEquals(4L, gauge.get());
+    }
+
+    @Test
+    void staleReadsServedByLastFold() {
+        Gauge.PerThread gauge = gauge(1L, 1L, DAYS);
+
+        assertEquals(1L, gauge.get());
+        gauge.put(2L);
+        assertEquals(1L, gauge.get());
+        assertEquals(3L, gauge.incr());
+        assertEquals(3L, gauge.get());
+    }
+
+    @Test
+    void updatesFoldTheCells() {
+        Gauge.PerThread gauge = gauge(0L, 0L, NANOSECONDS);
+
+        gauge.put(5L);
+        assertEquals(5L, gauge.set(7L));
+        assertFalse(gauge.let(5L, 9L));
+        assertTrue(gauge.let(7L, 9L));
+        assertEquals(8L, gauge.decr());
+        gauge.put(1L);
+        assertEquals(1L, gauge.get());
+    }
+
+    @Test
+    void updatesAreAtomic() throws InterruptedException {
+        Gauge.PerThread gauge = gauge(0L, 0L, NANOSECONDS);
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; t++)
+            threads.add(new Thread(() -> {
+                for (int i = 0; i < 10_000; i++)
+                    gauge.incr();
+            }));
+        threads.forEach(Thread::start);
+        for (Thread thread : threads)
+            thread.join();
+
+        assertEquals(40_000L, gauge.get());
+    }
+
+    @Test
+    void terminatedWritersAreDropped() throws Exception {
+        Gauge.PerThread gauge = gauge(0L, 0L, NANOSECONDS);
+        for (int t = 0; t < 100; t++) {
+            Thread writer = new Thread(() -> gauge.put(1L));
+            writer.start(); writer.join();
+            gauge.incr();
+        }
+
+        assertEquals(2L, gauge.get());
+        Field cells = Gauge.PerThread.class.getDeclaredField("cells");
+        cells.setAccessible(true);
+        assertTrue(((Object[]) ((Volatile<?>) cells.get(gauge)).get()).length <= 2);
+    }
+
+    @Test
+    void negativeStalenessFails() {
+        assertThrows(IllegalArgumentException.class, () -> gauge(0L, -1L, NANOSECONDS));
+    }
+
+    @Test
+    void serializesAsGauge() throws Exception {
+        Gauge.PerThread gauge = gauge(0L, 0L, NANOSECONDS);
+        gauge.put(42L);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) { out.writeObject(gauge); }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            Object copy = in.readObject();
+            assertInstanceOf(Gauge.class, copy);
+            assertEquals(42L, ((Gauge) copy).get());
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package org.moodminds.valuable;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.moodminds.valuable.Histogram.histogram;
+
+class HistogramTest {
+
+    @Test
+    void smallValuesAreExact() {
+        for (long value = 0; value < 8; value++) {
+            Histogram histogram = histogram(2);
+            histogram.record(value);
+            Histogram.Snapshot snapshot = histogram.snapshot();
+            assertEquals(value, snapshot.min());
+            assertEquals(value, snapshot.max());
+        }
+    }
+
+    @Test
+    void bucketBoundariesBoundTheRelativeError() {
+        for (int precision : new int[] {1, 5, 10})
+            for (int bit = 0; bit < 63; bit++)
+                for (long value : new long[] {(1L << bit) - 1, 1L << bit, (1L << bit) + 1}) {
+                    Histogram histogram = histogram(precision);
+                    histogram.record(value);
+                    Histogram.Snapshot snapshot = histogram.snapshot();
+                    long lowest = snapshot.min(), highest = snapshot.max();
+                    assertTrue(lowest <= value && value <= highest, value + " in [" + lowest + ", " + highest + "]");
+                    assertTrue(highest - lowest <= lowest >>> precision, value + " of precision " + precision);
+                }
+    }
+
+    @Test
+    void adjacentBucketsDoNotOverlap() {
+        Histogram histogram = histogram(2);
+        histogram.record(8L); histogram.record(9L);
+        assertEquals(8L, histogram.snapshot().min());
+        assertEquals(9L, histogram.snapshot().max());
+
+        histogram.record(10L);
+        assertEquals(11L, histogram.snapshot().max());
+        assertEquals(9L, histogram.snapshot().percentile(50.0));
+    }
+
+    @Test
+    void percentiles() {
+        Histogram histogram = histogram(7);
+        for (long value = 1; value <= 100; value++)
+            histogram.record(value);
+        Histogram.Snapshot snapshot = histogram.snapshot();
+
+        assertEquals(100L, snapshot.count());
+        assertEquals(1L, snapshot.percentile(0.0));
+        assertEquals(1L, snapshot.percentile(1.0));
+        assertEquals(50L, snapshot.percentile(50.0));
+        assertEquals(99L, snapshot.percentile(99.0));
+        assertEquals(100L, snapshot.percentile(99.5));
+        assertEquals(100L, snapshot.percentile(100.0));
+        assertEquals(50.5, snapshot.mean());
+    }
+
+    @Test
+    void extremeValuesDoNotOverflow() {
+        Histogram histogram = histogram(5);
+        histogram.record(Long.MAX_VALUE); histogram.record(0L, 3L);
+        Histogram.Snapshot snapshot = histogram.snapshot();
+
+        assertEquals(4L, snapshot.count());
+        assertEquals(Long.MAX_VALUE, snapshot.max());
+        assertEquals(Long.MAX_VALUE, snapshot.percentile(100.0));
+        assertEquals(0L, snapshot.percentile(75.0));
+        assertTrue(snapshot.mean() > Long.MAX_VALUE / 5.0);
+        assertTrue(snapshot.mean() < Long.MAX_VALUE / 4.0);
+    }
+
+    @Test
+    void emptySnapshot() {
+        Histogram.Snapshot snapshot = histogram().snapshot();
+
+        assertEquals(0L, snapshot.count());
+        assertEquals(0L, snapshot.min());
+        assertEquals(0L, snapshot.max());
+        assertEquals(0L, snapshot.percentile(50.0));
+        assertEquals(0.0, snapshot.mean());
+    }
+
+    @Test
+    void resetAndMerge() {
+        Histogram histogram = histogram();
+        histogram.record(10L, 2L);
+        Histogram.Snapshot first = histogram.getAndReset();
+        assertEquals(0L, histogram.snapshot().count());
+        histogram.record(1_000L);
+        Histogram.Snapshot merged = first.merge(histogram.getAndReset());
+
+        assertEquals(2L, first.count());
+        assertEquals(3L, merged.count());
+        assertEquals(10L, merged.min());
+        assertEquals(1_007L, merged.percentile(100.0));
+        assertThrows(IllegalArgumentException.class, () -> first.merge(histogram(6).snapshot()));
+    }
+
+    @Test
+    void concurrentRecordsAreCounted() throws InterruptedException {
+        Histogram histogram = histogram();
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; t++)
+            threads.add(new Thread(() -> {
+                for (long value = 0; value < 10_000; value++)
+                    histogram.record(value);
+            }));
+        threads.forEach(Thread::start);
+        for (Thread thread : threads)
+            thread.join();
+
+        assertEquals(40_000L, histogram.snapshot().count());
+    }
+
+    @Test
+    void invalidArgumentsFail() {
+        assertThrows(IllegalArgumentException.class, () -> histogram().record(-1L));
+        assertThrows(IllegalArgumentException.class, () -> histogram().snapshot().percentile(100.5));
+        assertThrows(IllegalArgumentException.class, () -> histogram().snapshot().percentile(Double.NaN));
+        assertThrows(IllegalArgumentException.class, () -> histogram(0));
+        assertThrows(IllegalArgumentException.class, () -> histogram(17));
+    }
+}
@@ -0,0 +1,85 @@
+package org.moodminds.valuable;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.moodminds.valuable.Mailbox.mailbox;
+
+class MailboxTest {
+
+    @Test
+    void handsOffEveryMessage() throws InterruptedException {
+        Mailbox<Long> mailbox = mailbox();
+        AtomicLong sum = new AtomicLong();
+
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 2; t++) {
+            threads.add(new Thread(() -> {
+                try {
+                    for (long i = 1; i <= 10_000; i++) mailbox.put(i);
+                } catch (InterruptedException e) { throw new AssertionError(e); }
+            }));
+            threads.add(new Thread(() -> {
+                try {
+                    for (int i = 0; i < 10_000; i++) sum.addAndGet(mailbox.take());
+                } catch (InterruptedException e) { throw new AssertionError(e); }
+            }));
+        }
+        threads.forEach(Thread::start);
+        for (Thread thread : threads)
+            thread.join();
+
+        assertEquals(2 * 10_000L * 10_001L / 2, sum.get());
+        assertNull(mailbox.poll());
+    }
+
+    @Test
+    void timedOutWaitersAreUnlinked() throws Exception {
+        Mailbox<String> mailbox = mailbox();
+
+        for (int i = 0; i < 1_000; i++)
+            assertNull(mailbox.poll(1, MICROSECONDS));
+        assertEquals(0, waiters(mailbox, "takers"));
+
+        assertTrue(mailbox.offer("a"));
+        for (int i = 0; i < 1_000; i++)
+            assertFalse(mailbox.offer("b", 1, MICROSECONDS));
+        assertEquals(0, waiters(mailbox, "putters"));
+    }
+
+    @Test
+    void interruptedWaitersAreUnlinked() throws Exception {
+        Mailbox<String> mailbox = mailbox();
+
+        Thread thread = new Thread(() -> assertThrows(InterruptedException.class, mailbox::take));
+        thread.start();
+        while (waiters(mailbox, "takers") == 0)
+            Thread.sleep(1);
+        thread.interrupt(); thread.join();
+
+        assertEquals(0, waiters(mailbox, "takers"));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static int waiters(Mailbox<?> mailbox, String stack) throws ReflectiveOperationException {
+        Field field = Mailbox.class.getDeclaredField(stack); field.setAccessible(true);
+        Field next = null; int count = 0;
+        for (Object waiter = ((Volatile<Object>) field.get(mailbox)).get(); waiter != null; count++) {
+            if (next == null) {
+                next = waiter.getClass().getDeclaredField("next"); next.setAccessible(true);
+            }
+            waiter = next.get(waiter);
+        }
+        return count;
+    }
+}
@@ -0,0 +1,118 @@
+package org.moodminds.valuable;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.moodminds.valuable.Volatile.vol;
+
+class MinMaxTest {
+
+    @Test
+    void bytes() {
+        for (Valuable.Byte h : List.of(vol((byte) 5), Variable.var((byte) 5), new CheckedVariable.Byte((byte) 5),
+                View.var(new byte[] {5}, 0), View.vol(new byte[] {5}, 0))) {
+            assertEquals(5, h.max((byte) 3)); assertEquals(7, h.max((byte) 7));
+            assertEquals(7, h.getAndMax((byte) 9)); assertEquals(9, h.getAndMax((byte) 1)); assertEquals(9, h.get());
+            assertEquals(9, h.min((byte) 12)); assertEquals(2, h.min((byte) 2));
+            assertEquals(2, h.getAndMin((byte) -1)); assertEquals(-1, h.getAndMin((byte) 4)); assertEquals(-1, h.get());
+        }
+    }
+
+    @Test
+    void shorts() {
+        for (Valuable.Short h : List.of(vol((short) 5), Variable.var((short) 5), new CheckedVariable.Short((short) 5),
+                View.var(new short[] {5}, 0), View.vol(new short[] {5}, 0))) {
+            assertEquals(5, h.max((short) 3)); assertEquals(7, h.max((short) 7));
+            assertEquals(7, h.getAndMax((short) 9)); assertEquals(9, h.getAndMax((short) 1)); assertEquals(9, h.get());
+            assertEquals(9, h.min((short) 12)); assertEquals(2, h.min((short) 2));
+            assertEquals(2, h.getAndMin((short) -1)); assertEquals(-1, h.getAndMin((short) 4));
+            assertEquals(-1, h.get());
+        }
+    }
+
+    @Test
+    void ints() {
+        for (Valuable.Int h : List.of(vol(5), Variable.var(5), new CheckedVariable.Int(5), Watched.watched(5),
+                Adaptive.adaptive(5), View.var(new int[] {5}, 0), View.vol(new int[] {5}, 0))) {
+            assertEquals(5, h.max(3)); assertEquals(7, h.max(7));
+            assertEquals(7, h.getAndMax(9)); assertEquals(9, h.getAndMax(1)); assertEquals(9, h.get());
+            assertEquals(9, h.min(12)); assertEquals(2, h.min(2));
+            assertEquals(2, h.getAndMin(-1)); assertEquals(-1, h.getAndMin(4)); assertEquals(-1, h.get());
+            assertEquals(Integer.MIN_VALUE, h.min(Integer.MIN_VALUE));
+            assertEquals(Integer.MAX_VALUE, h.max(Integer.MAX_VALUE));
+        }
+    }
+
+    @Test
+    void longs() {
+        for (Valuable.Long h : List.of(vol(5L), Variable.var(5L), new CheckedVariable.Long(5L), Watched.watched(5L),
+                Adaptive.adaptive(5L), Gauge.gauge(5L), Gauge.gauge(5L, 0L, NANOSECONDS), Sequence.sequence(5L),
+                View.var(new long[] {5}, 0), View.vol(new long[] {5}, 0))) {
+            assertEquals(5L, h.max(3L)); assertEquals(7L, h.max(7L));
+            assertEquals(7L, h.getAndMax(9L)); assertEquals(9L, h.getAndMax(1L)); assertEquals(9L, h.get());
+            assertEquals(9L, h.min(12L)); assertEquals(2L, h.min(2L));
+            assertEquals(2L, h.getAndMin(-1L)); assertEquals(-1L, h.getAndMin(4L)); assertEquals(-1L, h.get());
+            assertEquals(Long.MIN_VALUE, h.min(Long.MIN_VALUE));
+            assertEquals(Long.MAX_VALUE, h.max(Long.MAX_VALUE));
+        }
+    }
+
+    @Test
+    void floats() {
+        for (int i = 0; ; i++) {
+            List<Valuable.Float> holders = floats(0.0f);
+            if (i == holders.size())
+                break;
+            Valuable.Float h = holders.get(i);
+            assertEquals(-0.0f, h.min(-0.0f)); assertEquals(-0.0f, h.get());
+            assertEquals(-0.0f, h.getAndMax(0.0f)); assertEquals(0.0f, h.get());
+            assertEquals(0.0f, h.max(-1.5f)); assertEquals(2.5f, h.max(2.5f));
+            assertEquals(2.5f, h.getAndMin(-3.5f)); assertEquals(-3.5f, h.getAndMin(1.0f));
+            assertEquals(-3.5f, h.get());
+            assertEquals(Float.NaN, h.max(Float.NaN)); assertEquals(Float.NaN, h.getAndMin(1.0f));
+            assertEquals(Float.NaN, h.get());
+
+            h = floats(1.0f).get(i);
+            assertEquals(Float.NEGATIVE_INFINITY, h.min(Float.NEGATIVE_INFINITY));
+            assertEquals(Float.NEGATIVE_INFINITY, h.getAndMin(Float.NaN)); assertEquals(Float.NaN, h.get());
+        }
+    }
+
+    @Test
+    void doubles() {
+        for (int i = 0; ; i++) {
+            List<Valuable.Double> holders = doubles(0.0);
+            if (i == holders.size())
+                break;
+            Valuable.Double h = holders.get(i);
+            assertEquals(-0.0, h.min(-0.0)); assertEquals(-0.0, h.get());
+            assertEquals(-0.0, h.getAndMax(0.0)); assertEquals(0.0, h.get());
+            assertEquals(0.0, h.max(-1.5)); assertEquals(2.5, h.max(2.5));
+            assertEquals(2.5, h.getAndMin(-3.5)); assertEquals(-3.5, h.getAndMin(1.0)); assertEquals(-3.5, h.get());
+            assertEquals(Double.NaN, h.max(Double.NaN)); assertEquals(Double.NaN, h.getAndMin(1.0));
+            assertEquals(Double.NaN, h.get());
+
+            h = doubles(1.0).get(i);
+            assertEquals(Double.NEGATIVE_INFINITY, h.min(Double.NEGATIVE_INFINITY));
+            assertEquals(Double.NEGATIVE_INFINITY, h.getAndMin(Double.NaN)); assertEquals(Double.NaN, h.get());
+        }
+    }
+
+    private static List<Valuable.Float> floats(float value) {
+        List<Valuable.Float> holders = new ArrayList<>();
+        holders.add(vol(value)); holders.add(Variable.var(value)); holders.add(new CheckedVariable.Float(value));
+        holders.add(View.var(new float[] {value}, 0)); holders.add(View.vol(new float[] {value}, 0));
+        return holders;
+    }
+
+    private static List<Valuable.Double> doubles(double value) {
+        List<Valuable.Double> holders = new ArrayList<>();
+        holders.add(vol(value)); holders.add(Variable.var(value)); holders.add(new CheckedVariable.Double(value));
+        holders.add(View.var(new double[] {value}, 0)); holders.add(View.vol(new double[] {value}, 0));
+        return holders;
+    }
+}
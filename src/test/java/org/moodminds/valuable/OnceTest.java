@@ -0,0 +1,190 @@
+package org.moodminds.valuable;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.moodminds.valuable.Once.once;
+
+class OnceTest {
+
+    @Test
+    void runsOnceUnderContention() throws InterruptedException {
+        Once once = once();
+        AtomicInteger runs = new AtomicInteger();
+        AtomicBoolean completed = new AtomicBoolean();
+        AtomicInteger seenCompleted = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 8; t++)
+            threads.add(new Thread(() -> {
+                try { start.await(); } catch (InterruptedException e) { return; }
+                once.run(() -> { runs.incrementAndGet(); Thread.yield(); completed.set(true); });
+                if (completed.get()) seenCompleted.incrementAndGet();
+            }));
+        threads.forEach(Thread::start);
+        start.countDown();
+        for (Thread thread : threads)
+            thread.join();
+
+        assertEquals(1, runs.get());
+        assertEquals(8, seenCompleted.get());
+        assertTrue(once.isDone());
+    }
+
+    @Test
+    void waitingCallersReturnOnCompletion() throws InterruptedException {
+        Once once = once();
+        CountDownLatch running = new CountDownLatch(1), release = new CountDownLatch(1);
+        Thread runner = new Thread(() -> once.run(() -> {
+            running.countDown();
+            try { release.await(); } catch (InterruptedException e) { throw new IllegalStateException(e); }
+        }));
+        runner.start(); running.await();
+
+        AtomicBoolean ran = new AtomicBoolean();
+        Thread waiter = new Thread(() -> once.run(() -> ran.set(true)));
+        waiter.start();
+        waiter.join(100);
+        assertTrue(waiter.isAlive());
+        assertFalse(once.isDone());
+        assertFalse(once.tryRun(() -> ran.set(true)));
+
+        release.countDown();
+        waiter.join(); runner.join();
+        assertFalse(ran.get());
+        assertTrue(once.isDone());
+    }
+
+    @Test
+    void failureIsRethrownToAllCallers() throws InterruptedException {
+        for (Throwable failure : new Throwable[] {
+                new IllegalStateException(), new AssertionError(), new IOException()}) {
+            Once once = once();
+            AtomicReference<Throwable> waited = new AtomicReference<>();
+            CountDownLatch running = new CountDownLatch(1), release = new CountDownLatch(1);
+            Thread runner = new Thread(() -> {
+                try {
+                    once.run(() -> {
+                        running.countDown();
+                        try { release.await(); } catch (InterruptedException ignored) { }
+                        OnceTest.<RuntimeException>sneaky(failure);
+                    });
+                } catch (Throwable ignored) { }
+            });
+            runner.start(); running.await();
+            Thread waiter = new Thread(() -> {
+                try { once.await(); } catch (Throwable e) { waited.set(e); }
+            });
+            waiter.start();
+            release.countDown();
+            runner.join(); waiter.join();
+
+            assertSame(failure, waited.get());
+            assertSame(failure, caught(() -> once.run(() -> { })));
+            assertSame(failure, caught(() -> once.run(() -> { })));
+            assertTrue(once.isDone());
+        }
+    }
+
+    @Test
+    void tryRunRunsOnlyFirst() {
+        Once once = once();
+        AtomicInteger runs = new AtomicInteger();
+
+        assertTrue(once.tryRun(runs::incrementAndGet));
+        assertFalse(once.tryRun(runs::incrementAndGet));
+        assertEquals(1, runs.get());
+
+        Once failing = once();
+        IllegalStateException failure = new IllegalStateException();
+        assertSame(failure, assertThrows(IllegalStateException.class, () -> failing.tryRun(() -> { throw failure; })));
+        assertFalse(failing.tryRun(runs::incrementAndGet));
+    }
+
+    @Test
+    void awaitIsInterruptible() throws InterruptedException {
+        Once once = once();
+        CountDownLatch running = new CountDownLatch(1), release = new CountDownLatch(1);
+        Thread runner = new Thread(() -> once.run(() -> {
+            running.countDown();
+            try { release.await(); } catch (InterruptedException e) { throw new IllegalStateException(e); }
+        }));
+        runner.start(); running.await();
+
+        AtomicReference<Throwable> awaited = new AtomicReference<>();
+        Thread waiter = new Thread(() -> {
+            try { once.await(); } catch (Throwable e) { awaited.set(e); }
+        });
+        waiter.start();
+        waiter.join(100);
+        waiter.interrupt(); waiter.join();
+        assertInstanceOf(InterruptedException.class, awaited.get());
+
+        release.countDown(); runner.join();
+    }
+
+    @Test
+    void runWaitsThroughInterruption() throws InterruptedException {
+        Once once = once();
+        CountDownLatch running = new CountDownLatch(1), release = new CountDownLatch(1);
+        Thread runner = new Thread(() -> once.run(() -> {
+            running.countDown();
+            try { release.await(); } catch (InterruptedException e) { throw new IllegalStateException(e); }
+        }));
+        runner.start(); running.await();
+
+        AtomicBoolean interrupted = new AtomicBoolean(), done = new AtomicBoolean();
+        Thread waiter = new Thread(() -> {
+            once.run(() -> { });
+            done.set(once.isDone()); interrupted.set(Thread.currentThread().isInterrupted());
+        });
+        waiter.start();
+        waiter.join(100);
+        waiter.interrupt();
+        waiter.join(100);
+        assertTrue(waiter.isAlive());
+
+        release.countDown();
+        waiter.join(); runner.join();
+        assertTrue(done.get());
+        assertTrue(interrupted.get());
+    }
+
+    @Test
+    void completedGatePassesThrough() throws InterruptedException {
+        Once once = once();
+        assertFalse(once.isDone());
+        once.run(() -> { });
+        assertTrue(once.isDone());
+
+        AtomicBoolean ran = new AtomicBoolean();
+        once.run(() -> ran.set(true));
+        once.await();
+        Thread.currentThread().interrupt();
+        once.await();
+        assertTrue(Thread.interrupted());
+        assertFalse(ran.get());
+    }
+
+    private static Throwable caught(Runnable action) {
+        try { action.run(); return null; } catch (Throwable e) { return e; }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T extends Throwable> void sneaky(Throwable failure) throws T {
+        throw (T) failure;
+    }
+}
@@ -0,0 +1,43 @@
+package org.moodminds.valuable;
+
+import org.junit.jupiter.api.Test;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.moodminds.valuable.RateLimiter.limiter;
+
+class RateLimiterTest {
+
+    @Test
+    void tokenPeriodIsRoundedUp() {
+        long[] now = {0L};
+        RateLimiter limiter = limiter(1, 3, 10, NANOSECONDS, () -> now[0]);
+
+        assertTrue(limiter.tryAcquire());
+        now[0] = 3L;
+        assertFalse(limiter.tryAcquire());
+        now[0] = 4L;
+        assertTrue(limiter.tryAcquire());
+    }
+
+    @Test
+    void rateDoesNotExceedConfigured() {
+        long[] now = {0L};
+        RateLimiter limiter = limiter(1, 7, 1, SECONDS, () -> now[0]);
+
+        int acquired = 0;
+        for (now[0] = 0L; now[0] <= SECONDS.toNanos(1); now[0] += 1_000L)
+            if (limiter.tryAcquire())
+                acquired++;
+        assertEquals(7, acquired);
+    }
+
+    @Test
+    void subNanosecondPeriodFails() {
+        assertThrows(IllegalArgumentException.class, () -> limiter(1, 11, 10, NANOSECONDS));
+    }
+}
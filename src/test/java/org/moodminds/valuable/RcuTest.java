@@ -0,0 +1,86 @@
+package org.moodminds.valuable;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RcuTest {
+
+    @Test
+    void synchronizeReclaimsReplacedValues() {
+        List<String> reclaimed = new ArrayList<>();
+        Rcu<String> rcu = Rcu.rcu("a", reclaimed::add);
+
+        assertEquals("a", rcu.enter());
+        rcu.put("b");
+        assertTrue(reclaimed.isEmpty());
+        rcu.exit();
+
+        rcu.synchronize();
+        assertEquals(List.of("a"), reclaimed);
+        assertEquals("b", rcu.read(value -> value));
+    }
+
+    @Test
+    void readSectionsNest() {
+        List<String> reclaimed = new ArrayList<>();
+        Rcu<String> rcu = Rcu.rcu("a", reclaimed::add);
+
+        rcu.enter(); rcu.enter();
+        rcu.put("b");
+        rcu.exit(); rcu.reclaim();
+        assertTrue(reclaimed.isEmpty());
+        rcu.exit(); rcu.reclaim();
+        assertEquals(List.of("a"), reclaimed);
+    }
+
+    @Test
+    void misuseThrows() {
+        Rcu<String> rcu = Rcu.rcu("a", value -> {});
+
+        assertThrows(IllegalStateException.class, rcu::exit);
+        rcu.enter();
+        assertThrows(IllegalStateException.class, rcu::synchronize);
+        rcu.exit();
+    }
+
+    @Test
+    void valuesAreNotReclaimedWhileRead() throws InterruptedException {
+        Rcu<int[]> rcu = Rcu.rcu(new int[] {0}, value -> value[0] = -1);
+        AtomicLong reads = new AtomicLong(), stale = new AtomicLong();
+        long deadline = System.nanoTime() + SECONDS.toNanos(2);
+
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            threads.add(new Thread(() -> {
+                while (System.nanoTime() < deadline) {
+                    int[] value = rcu.enter();
+                    int first = value[0];
+                    Thread.yield();
+                    if (first < 0 || value[0] < 0)
+                        stale.incrementAndGet();
+                    rcu.exit(); reads.incrementAndGet();
+                }
+            }));
+            threads.add(new Thread(() -> {
+                for (int n = 1; System.nanoTime() < deadline; n++) {
+                    rcu.put(new int[] {n});
+                    if (n % 64 == 0) Thread.yield();
+                }
+            }));
+        }
+        threads.forEach(Thread::start);
+        for (Thread thread : threads)
+            thread.join();
+
+        assertTrue(reads.get() > 0);
+        assertEquals(0, stale.get(), "values reclaimed while read");
+    }
+}
@@ -0,0 +1,107 @@
+package org.moodminds.valuable;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.moodminds.valuable.RefCounted.refCounted;
+
+class RefCountedTest {
+
+    @Test
+    void lastReleaseDeallocates() {
+        Object resource = new Object();
+        List<Object> deallocated = new ArrayList<>();
+        RefCounted<Object> ref = refCounted(resource, deallocated::add);
+
+        assertEquals(1, ref.count());
+        assertSame(ref, ref.retain());
+        assertTrue(ref.tryRetain());
+        assertEquals(3, ref.count());
+        assertFalse(ref.release());
+        assertFalse(ref.release());
+        assertSame(resource, ref.get());
+        assertTrue(deallocated.isEmpty());
+
+        assertTrue(ref.release());
+        assertEquals(List.of(resource), deallocated);
+        assertEquals(0, ref.count());
+    }
+
+    @Test
+    void releasedIsNeverResurrected() {
+        AtomicInteger deallocations = new AtomicInteger();
+        RefCounted<String> ref = refCounted("resource", resource -> deallocations.incrementAndGet());
+        ref.release();
+
+        assertFalse(ref.tryRetain());
+        assertThrows(IllegalStateException.class, ref::retain);
+        assertThrows(IllegalStateException.class, ref::get);
+        assertThrows(IllegalStateException.class, ref::release);
+        assertThrows(IllegalStateException.class, ref::release);
+        assertEquals(0, ref.count());
+        assertFalse(ref.tryRetain());
+        assertEquals(1, deallocations.get());
+    }
+
+    @Test
+    void concurrentReleasesDeallocateOnce() throws InterruptedException {
+        for (int round = 0; round < 100; round++) {
+            AtomicInteger deallocations = new AtomicInteger();
+            RefCounted<Object> ref = refCounted(new Object(), resource -> deallocations.incrementAndGet());
+            List<Thread> threads = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                ref.retain();
+                threads.add(new Thread(() -> {
+                    for (int i = 0; i < 100; i++) { ref.retain(); ref.get(); ref.release(); }
+                    ref.release();
+                }));
+            }
+            threads.forEach(Thread::start);
+            ref.release();
+            for (Thread thread : threads)
+                thread.join();
+
+            assertEquals(1, deallocations.get());
+            assertEquals(0, ref.count());
+        }
+    }
+
+    @Test
+    void retainRacingLastReleaseNeverSeesDeallocated() throws InterruptedException {
+        for (int round = 0; round < 100; round++) {
+            AtomicBoolean deallocated = new AtomicBoolean();
+            AtomicInteger deallocations = new AtomicInteger(), violations = new AtomicInteger();
+            RefCounted<Object> ref = refCounted(new Object(), resource -> {
+                deallocations.incrementAndGet(); deallocated.set(true);
+            });
+            CountDownLatch start = new CountDownLatch(1);
+            List<Thread> threads = new ArrayList<>();
+            for (int t = 0; t < 4; t++)
+                threads.add(new Thread(() -> {
+                    try { start.await(); } catch (InterruptedException e) { return; }
+                    while (ref.tryRetain()) {
+                        if (deallocated.get()) violations.incrementAndGet();
+                        ref.get(); ref.release();
+                    }
+                }));
+            threads.forEach(Thread::start);
+            start.countDown();
+            ref.release();
+            for (Thread thread : threads)
+                thread.join();
+
+            assertEquals(0, violations.get());
+            assertEquals(1, deallocations.get());
+        }
+    }
+}
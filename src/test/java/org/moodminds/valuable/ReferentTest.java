@@ -0,0 +1,44 @@
+package org.moodminds.valuable;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.moodminds.valuable.Referent.weak;
+import static org.moodminds.valuable.Referent.weakLoaded;
+
+class ReferentTest {
+
+    @Test
+    void clearedValueIsReloaded() throws InterruptedException {
+        AtomicInteger loads = new AtomicInteger();
+        Referent<Object> holder = weakLoaded(() -> new int[] {loads.incrementAndGet()});
+
+        assertEquals(1, ((int[]) holder.get())[0]);
+        for (int clearance = 2; clearance <= 3; clearance++) {
+            int value = ((int[]) holder.get())[0];
+            for (int i = 0; i < 100 && value < clearance; i++) {
+                System.gc(); Thread.sleep(10);
+                value = ((int[]) holder.get())[0];
+            }
+            assertEquals(clearance, value, "cleared value not reloaded exactly once");
+            assertEquals(clearance, loads.get());
+        }
+    }
+
+    @Test
+    void clearedValueReadsNull() throws InterruptedException {
+        Referent<Object> holder = weak(new Object());
+
+        for (int i = 0; i < 100 && holder.get() != null; i++) {
+            System.gc(); Thread.sleep(10);
+        }
+        assertNull(holder.get());
+        assertNull(holder.set("a"));
+        assertTrue(holder.let("a", "b"));
+        assertEquals("b", holder.get());
+    }
+}
@@ -0,0 +1,111 @@
+package org.moodminds.valuable;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.moodminds.valuable.Registry.registry;
+import static org.moodminds.valuable.Volatile.vol;
+
+class RegistryTest {
+
+    @Test
+    void familiesGroupTheirMetrics() throws IOException {
+        Registry registry = registry();
+        registry.counter("requests_total", vol(1L), "method", "GET");
+        registry.gauge("connections", vol(2));
+        registry.counter("requests_total", vol(3), "method", "POST");
+
+        assertEquals("# TYPE requests_total counter\n"
+                + "requests_total{method=\"GET\"} 1\n"
+                + "requests_total{method=\"POST\"} 3\n"
+                + "# TYPE connections gauge\n"
+                + "connections 2\n", scrape(registry));
+    }
+
+    @Test
+    void labelValuesAreEscaped() throws IOException {
+        Registry registry = registry();
+        registry.gauge("paths", vol(-5L), "path", "a\\b\"c\nd", "kind", "");
+
+        assertEquals("# TYPE paths gauge\n"
+                + "paths{path=\"a\\\\b\\\"c\\nd\",kind=\"\"} -5\n", scrape(registry));
+    }
+
+    @Test
+    void doublesRoundTrip() throws IOException {
+        double[] values = {0.1, -2.5, 1.0 / 3, Double.MAX_VALUE, -Double.MAX_VALUE, Double.MIN_VALUE,
+                Double.MIN_NORMAL, 1e15, 123456789012345.6, 9007199254740993.0, 1e-300, Math.PI};
+        for (double value : values) {
+            Registry registry = registry();
+            registry.gauge("value", vol(value));
+            String sample = scrape(registry).split("\n")[1];
+            assertEquals(value, Double.parseDouble(sample.substring("value ".length())), sample);
+        }
+    }
+
+    @Test
+    void specialDoublesAreNamed() throws IOException {
+        Registry registry = registry();
+        registry.gauge("special", vol(Double.NaN), "v", "nan");
+        registry.gauge("special", vol(Double.POSITIVE_INFINITY), "v", "plus");
+        registry.gauge("special", vol(Double.NEGATIVE_INFINITY), "v", "minus");
+        registry.gauge("special", vol(-0.0), "v", "zero");
+        registry.gauge("special", vol(42.0), "v", "integral");
+
+        assertEquals("# TYPE special gauge\n"
+                + "special{v=\"nan\"} NaN\n"
+                + "special{v=\"plus\"} +Inf\n"
+                + "special{v=\"minus\"} -Inf\n"
+                + "special{v=\"zero\"} 0\n"
+                + "special{v=\"integral\"} 42\n", scrape(registry));
+    }
+
+    @Test
+    void extremeLongsAreExact() throws IOException {
+        Registry registry = registry();
+        registry.gauge("extreme", vol(Long.MIN_VALUE), "v", "min");
+        registry.gauge("extreme", vol(Long.MAX_VALUE), "v", "max");
+
+        assertEquals("# TYPE extreme gauge\n"
+                + "extreme{v=\"min\"} -9223372036854775808\n"
+                + "extreme{v=\"max\"} 9223372036854775807\n", scrape(registry));
+    }
+
+    @Test
+    void scrapeReadsCurrentValues() throws IOException {
+        Registry registry = registry();
+        Volatile.Long counter = registry.counter("events_total", vol(0L));
+        counter.incr();
+        assertEquals("# TYPE events_total counter\nevents_total 1\n", scrape(registry));
+
+        assertTrue(registry.unregister(counter));
+        assertFalse(registry.unregister(counter));
+        assertEquals("", scrape(registry));
+    }
+
+    @Test
+    void invalidRegistrationsFail() {
+        Registry registry = registry();
+        registry.counter("total", vol(0L), "a", "1");
+
+        assertThrows(IllegalArgumentException.class, () -> registry.counter("total", vol(0L), "a", "1"));
+        assertThrows(IllegalArgumentException.class, () -> registry.gauge("total", vol(0L), "a", "2"));
+        assertThrows(IllegalArgumentException.class, () -> registry.gauge("0total", vol(0L)));
+        assertThrows(IllegalArgumentException.class, () -> registry.gauge("valid", vol(0L), "__name", "x"));
+        assertThrows(IllegalArgumentException.class, () -> registry.gauge("valid", vol(0L), "a:b", "x"));
+        assertThrows(IllegalArgumentException.class, () -> registry.gauge("valid", vol(0L), "odd"));
+    }
+
+    private static String scrape(Registry registry) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        registry.scrape(out);
+        return out.toString(UTF_8);
+    }
+}
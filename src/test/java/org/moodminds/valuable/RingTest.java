@@ -0,0 +1,129 @@
+package org.moodminds.valuable;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.moodminds.valuable.Ring.ring;
+
+class RingTest {
+
+    @Test
+    void readersHandleEventsInOrder() throws InterruptedException {
+        Ring<long[]> ring = ring(4, () -> new long[1], Backoff.YIELD);
+        Ring.Reader<long[]> first = ring.reader(), second = ring.reader();
+
+        for (long value = 0; value < 3; value++) {
+            long sequence = ring.next();
+            ring.get(sequence)[0] = value; ring.publish(sequence);
+        }
+
+        List<Long> firsts = new ArrayList<>(), seconds = new ArrayList<>();
+        assertEquals(3, first.take(event -> firsts.add(event[0])));
+        assertEquals(3, second.poll(event -> seconds.add(event[0])));
+        assertEquals(List.of(0L, 1L, 2L), firsts);
+        assertEquals(firsts, seconds);
+        assertEquals(0, first.poll(event -> firsts.add(event[0])));
+        assertEquals(2L, first.sequence());
+    }
+
+    @Test
+    void unpublishedSlotStopsTheBatch() {
+        Ring<long[]> ring = ring(4, () -> new long[1], Backoff.YIELD);
+        Ring.Reader<long[]> reader = ring.reader();
+
+        long high = ring.next(3);
+        ring.publish(high - 2); ring.publish(high);
+        assertEquals(1, reader.poll(event -> { }));
+        ring.publish(high - 1);
+        assertEquals(2, reader.poll(event -> { }));
+    }
+
+    @Test
+    void sequencesWrapAroundTheSlots() {
+        Ring<long[]> ring = ring(4, () -> new long[1], Backoff.YIELD);
+        Ring.Reader<long[]> reader = ring.reader();
+        List<Long> values = new ArrayList<>();
+
+        for (long value = 0; value < 10; value++) {
+            long sequence = ring.next();
+            ring.get(sequence)[0] = value; ring.publish(sequence);
+            reader.poll(event -> values.add(event[0]));
+        }
+        assertEquals(10, values.size());
+        for (int i = 0; i < 10; i++)
+            assertEquals(i, values.get(i));
+        assertEquals(9L, reader.sequence());
+    }
+
+    @Test
+    void fullRingGatesTheProducer() throws InterruptedException {
+        Ring<long[]> ring = ring(2, () -> new long[1], Backoff.YIELD);
+        Ring.Reader<long[]> reader = ring.reader();
+        ring.publish(0L, ring.next(2));
+
+        AtomicBoolean claimed = new AtomicBoolean();
+        Thread producer = new Thread(() -> { ring.publish(ring.next()); claimed.set(true); });
+        producer.start();
+        producer.join(100);
+        assertFalse(claimed.get());
+
+        assertEquals(2, reader.poll(event -> { }));
+        producer.join();
+        assertTrue(claimed.get());
+        assertEquals(1, reader.poll(event -> { }));
+    }
+
+    @Test
+    void tryNextFailsOnFullRing() {
+        Ring<long[]> ring = ring(4, () -> new long[1], Backoff.YIELD);
+        Ring.Reader<long[]> reader = ring.reader();
+
+        assertEquals(2L, ring.tryNext(3));
+        assertEquals(-1L, ring.tryNext(2));
+        assertEquals(3L, ring.tryNext(1));
+        assertEquals(-1L, ring.tryNext(1));
+
+        ring.publish(0L, 3L);
+        assertEquals(4, reader.poll(event -> { }));
+        assertEquals(7L, ring.tryNext(4));
+    }
+
+    @Test
+    void closedReaderNoLongerGates() {
+        Ring<long[]> ring = ring(2, () -> new long[1], Backoff.YIELD);
+        Ring.Reader<long[]> reader = ring.reader();
+        ring.publish(0L, ring.next(2));
+        assertEquals(-1L, ring.tryNext(1));
+
+        reader.close();
+        assertEquals(2L, ring.tryNext(1));
+    }
+
+    @Test
+    void lateReaderStartsAfterTheCursor() {
+        Ring<long[]> ring = ring(4, () -> new long[1], Backoff.YIELD);
+        ring.publish(0L, ring.next(3));
+
+        Ring.Reader<long[]> reader = ring.reader();
+        assertEquals(2L, reader.sequence());
+        assertEquals(0, reader.poll(event -> { }));
+        ring.publish(ring.next());
+        assertEquals(1, reader.poll(event -> { }));
+    }
+
+    @Test
+    void invalidClaimsFail() {
+        Ring<long[]> ring = ring(4, () -> new long[1], Backoff.YIELD);
+
+        assertThrows(IllegalArgumentException.class, () -> ring.next(0));
+        assertThrows(IllegalArgumentException.class, () -> ring.tryNext(5));
+        assertThrows(IllegalArgumentException.class, () -> ring(3, () -> new long[1], Backoff.YIELD));
+    }
+}
@@ -0,0 +1,112 @@
+package org.moodminds.valuable;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static java.util.stream.Collectors.toList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.moodminds.valuable.ValuableCollectors.counting;
+import static org.moodminds.valuable.ValuableCollectors.folding;
+import static org.moodminds.valuable.ValuableCollectors.foldingLong;
+import static org.moodminds.valuable.ValuableCollectors.maximizing;
+import static org.moodminds.valuable.ValuableCollectors.maximizingDouble;
+import static org.moodminds.valuable.ValuableCollectors.maximizingInt;
+import static org.moodminds.valuable.ValuableCollectors.maximizingLong;
+import static org.moodminds.valuable.ValuableCollectors.minimizing;
+import static org.moodminds.valuable.ValuableCollectors.minimizingDouble;
+import static org.moodminds.valuable.ValuableCollectors.minimizingInt;
+import static org.moodminds.valuable.ValuableCollectors.minimizingLong;
+import static org.moodminds.valuable.ValuableCollectors.summingDouble;
+import static org.moodminds.valuable.ValuableCollectors.summingInt;
+import static org.moodminds.valuable.ValuableCollectors.summingLong;
+
+class ValuableCollectorsTest {
+
+    private static final List<Integer> VALUES = IntStream.range(0, 10_000)
+            .map(i -> (i * 7919) % 10_007 - 5_000).boxed().collect(toList());
+
+    @Test
+    void sequentialResults() {
+        assertEquals(10_000L, VALUES.stream().collect(counting()).get());
+        assertEquals(VALUES.stream().mapToInt(v -> v).sum(), VALUES.stream().collect(summingInt(v -> v)).get());
+        assertEquals(VALUES.stream().mapToLong(v -> v * 1_000_000L).sum(),
+                VALUES.stream().collect(summingLong(v -> v * 1_000_000L)).get());
+        assertEquals(VALUES.stream().mapToDouble(v -> v / 4.0).sum(),
+                VALUES.stream().collect(summingDouble(v -> v / 4.0)).get());
+        assertEquals(-5_000, VALUES.stream().collect(minimizingInt(v -> v)).get());
+        assertEquals(5_006L, VALUES.stream().collect(maximizingLong(v -> v)).get());
+        assertEquals(-1_250.0, VALUES.stream().collect(minimizingDouble(v -> v / 4.0)).get());
+        assertEquals(-5_000, VALUES.stream().collect(minimizing(Comparator.<Integer>naturalOrder())).get());
+        assertEquals(5_006, VALUES.stream().collect(maximizing(Comparator.<Integer>naturalOrder())).get());
+    }
+
+    @Test
+    void parallelResultsMatchSequential() {
+        assertParallel(counting(), Valuable.Long::get);
+        assertParallel(summingInt(v -> v), Valuable.Int::get);
+        assertParallel(summingLong(v -> v), Valuable.Long::get);
+        assertParallel(summingDouble(v -> v / 8.0), Valuable.Double::get);
+        assertParallel(minimizingInt(v -> v), Valuable.Int::get);
+        assertParallel(maximizingInt(v -> v), Valuable.Int::get);
+        assertParallel(minimizingLong(v -> v), Valuable.Long::get);
+        assertParallel(maximizingLong(v -> v), Valuable.Long::get);
+        assertParallel(minimizingDouble(v -> v), Valuable.Double::get);
+        assertParallel(maximizingDouble(v -> v), Valuable.Double::get);
+        assertParallel(minimizing(Comparator.<Integer>naturalOrder()), Valuable::get);
+        assertParallel(maximizing(Comparator.<Integer>naturalOrder()), Valuable::get);
+        assertParallel(foldingLong(1L, v -> v | 1, (l1, l2) -> l1 * l2 % 1_000_003L), Valuable.Long::get);
+    }
+
+    @Test
+    void foldingCombinesInEncounterOrder() {
+        Collector<Integer, ?, Valuable<String>> concatenating = folding("", (s, v) -> s + v, String::concat);
+        String expected = IntStream.range(0, 1_000).mapToObj(Integer::toString).reduce("", String::concat);
+
+        assertEquals(expected, IntStream.range(0, 1_000).boxed().parallel().collect(concatenating).get());
+    }
+
+    @Test
+    void emptyStreamsResultInIdentities() {
+        assertEquals(0L, Stream.<Integer>empty().collect(counting()).get());
+        assertEquals(Integer.MAX_VALUE, Stream.<Integer>empty().collect(minimizingInt(v -> v)).get());
+        assertEquals(Long.MIN_VALUE, Stream.<Integer>empty().collect(maximizingLong(v -> v)).get());
+        assertEquals(Double.POSITIVE_INFINITY, Stream.<Integer>empty().collect(minimizingDouble(v -> v)).get());
+        assertEquals(Double.NEGATIVE_INFINITY, Stream.<Integer>empty().collect(maximizingDouble(v -> v)).get());
+        assertNull(Stream.<Integer>empty().parallel().collect(minimizing(Comparator.<Integer>naturalOrder())).get());
+    }
+
+    @Test
+    void choosingCombinesEmptyContainers() {
+        assertEquals(3, combine(maximizing(Comparator.<Integer>naturalOrder()), List.of(), List.of(3)));
+        assertEquals(3, combine(maximizing(Comparator.<Integer>naturalOrder()), List.of(3), List.of()));
+        assertEquals(1, combine(minimizing(Comparator.<Integer>naturalOrder()), List.of(3, 1), List.of(2)));
+        assertNull(combine(minimizing(Comparator.<Integer>naturalOrder()), List.of(), List.of()));
+    }
+
+    private static <R> void assertParallel(Collector<Integer, ?, R> collector, Function<R, Object> value) {
+        assertEquals(value.apply(VALUES.stream().collect(collector)),
+                value.apply(VALUES.parallelStream().collect(collector)));
+    }
+
+    private static <T, A, R extends Valuable<T>> T combine(Collector<T, A, R> collector, List<T> first,
+                                                           List<T> second) {
+        Supplier<A> supplier = collector.supplier();
+        BiConsumer<A, T> accumulator = collector.accumulator();
+        BinaryOperator<A> combiner = collector.combiner();
+        Function<A, R> finisher = collector.finisher();
+        A container1 = supplier.get(), container2 = supplier.get();
+        first.forEach(t -> accumulator.accept(container1, t));
+        second.forEach(t -> accumulator.accept(container2, t));
+        return finisher.apply(combiner.apply(container1, container2)).get();
+    }
+}
@@ -0,0 +1,122 @@
+package org.moodminds.valuable;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.lang.reflect.Modifier;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.HashSet;
+import java.util.List;
+
+import static java.lang.invoke.MethodHandles.byteBufferViewVarHandle;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ViewTest {
+
+    private static final VarHandle COUNT, NAME;
+
+    static {
+        try {
+            COUNT = MethodHandles.lookup().findVarHandle(Stats.class, "count", int.class);
+            NAME = MethodHandles.lookup().findVarHandle(Stats.class, "name", String.class);
+        } catch (ReflectiveOperationException e) { throw new ExceptionInInitializerError(e); }
+    }
+
+    private static final VarHandle INTS = MethodHandles.arrayElementVarHandle(int[].class);
+
+    private static final VarHandle SLOT = byteBufferViewVarHandle(long[].class, ByteOrder.nativeOrder());
+
+    @Test
+    void fieldView() {
+        Stats stats = new Stats();
+        Valuable.Int count = View.vol(COUNT, stats, View.INT);
+        Valuable<String> name = View.var(NAME, stats, View.reference());
+
+        assertEquals(1, count.incr());
+        assertEquals(1, count.set(5));
+        assertTrue(count.let(5, 7));
+        assertEquals(7, stats.count);
+
+        name.put("a");
+        assertEquals("a", stats.name);
+        assertTrue(name.let("a", "b"));
+        assertEquals("b", name.get());
+    }
+
+    @Test
+    void elementView() {
+        long[] longs = new long[4];
+        Valuable.Long element = View.vol(MethodHandles.arrayElementVarHandle(long[].class), longs, 2, View.LONG);
+        Valuable.Double plain = View.var(new double[] {1.5}, 0);
+
+        assertEquals(-1L, element.decr());
+        assertEquals(-1L, longs[2]);
+        assertEquals(1.5, plain.get());
+    }
+
+    @Test
+    void bufferSlotView() {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(32);
+        Valuable.Long slot = View.vol(SLOT, buffer, 16, View.LONG);
+
+        slot.put(41L);
+        assertEquals(42L, slot.incr());
+        assertEquals(42L, buffer.order(ByteOrder.nativeOrder()).getLong(16));
+    }
+
+    @Test
+    void mismatchedTypeFails() {
+        Stats stats = new Stats();
+
+        assertThrows(IllegalArgumentException.class, () -> View.vol(COUNT, stats, View.LONG));
+        assertThrows(IllegalArgumentException.class, () -> View.vol(COUNT, stats, View.reference()));
+        assertThrows(IllegalArgumentException.class, () -> View.vol(NAME, stats, View.INT));
+        assertThrows(IllegalArgumentException.class, () -> View.vol(COUNT, stats, 0, View.INT));
+        assertThrows(IllegalArgumentException.class, () -> View.vol(SLOT, ByteBuffer.allocate(8), View.LONG));
+        assertThrows(ClassCastException.class, () -> View.vol(COUNT, "stats", View.INT));
+    }
+
+    @Test
+    void negativeIndexFails() {
+        assertThrows(IndexOutOfBoundsException.class, () -> View.vol(SLOT, ByteBuffer.allocate(8), -1, View.LONG));
+        assertThrows(IndexOutOfBoundsException.class, () -> View.var(new int[1], -1));
+        assertFalse(View.var(new boolean[1], 0).get());
+    }
+
+    @Test
+    void everyKindOfViewIsItsOwnClass() {
+        Stats stats = new Stats();
+        int[] ints = new int[1];
+        List<Class<?>> classes = List.of(View.var(COUNT, stats, View.INT).getClass(),
+                View.vol(COUNT, stats, View.INT).getClass(), View.var(ints, 0).getClass(),
+                View.vol(ints, 0).getClass());
+
+        assertEquals(4, new HashSet<>(classes).size());
+        for (Class<?> type : classes)
+            assertTrue(Modifier.isFinal(type.getModifiers()));
+        assertEquals(classes.get(2), View.var(INTS, ints, 0, View.INT).getClass());
+    }
+
+    @Test
+    void narrowViewsWrap() {
+        Valuable.Byte plain = View.var(new byte[] {Byte.MAX_VALUE}, 0);
+        Valuable.Short atomic = View.vol(new short[] {Short.MIN_VALUE}, 0);
+
+        assertEquals(Byte.MIN_VALUE, plain.incr());
+        assertEquals(Short.MAX_VALUE, atomic.decr());
+        assertEquals(Byte.MIN_VALUE, plain.set((byte) 3));
+        assertFalse(atomic.let((short) 0, (short) 1));
+        assertTrue(atomic.let(Short.MAX_VALUE, (short) 1));
+        assertEquals(1, atomic.get());
+    }
+
+    static class Stats {
+        int count;
+        String name;
+    }
+}
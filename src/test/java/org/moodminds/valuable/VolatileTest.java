@@ -0,0 +1,85 @@
+package org.moodminds.valuable;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.moodminds.valuable.Volatile.vol;
+
+class VolatileTest {
+
+    @Test
+    void narrowUpdates() {
+        Volatile.Byte b = vol((byte) 127);
+        Volatile.Short s = vol((short) 0);
+        Volatile.Char c = vol('a');
+        Volatile.Float f = vol(1.5f);
+
+        assertEquals((byte) -128, b.update(n -> n + 1));
+        assertEquals((byte) 0, b.accumulate((byte) -128, (n, x) -> n - x, Backoff.NONE));
+        assertEquals((short) -1, s.update(n -> n - 1, Backoff.SPIN));
+        assertEquals((short) 32767, s.accumulate((short) 0x8000, (n, x) -> n + x));
+        assertEquals('b', c.update(n -> n + 1));
+        assertEquals('B', c.accumulate(' ', (n, x) -> n - x));
+        assertEquals(3.0f, f.update(n -> n * 2));
+        assertEquals(0.5f, f.accumulate(2.5f, (n, x) -> n - x, Backoff.YIELD));
+    }
+
+    @Test
+    void concurrentAccumulateIsAtomic() throws InterruptedException {
+        Volatile.Short counter = vol((short) 0);
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; t++)
+            threads.add(new Thread(() -> {
+                for (int i = 0; i < 1_000; i++)
+                    counter.accumulate((short) 3, (n, x) -> n + x);
+            }));
+        threads.forEach(Thread::start);
+        for (Thread thread : threads)
+            thread.join();
+
+        assertEquals((short) 12_000, counter.get());
+    }
+
+    @Test
+    void packedUpdates() {
+        Packed packed = Packed.packed(0L);
+
+        assertEquals(5L, packed.update(word -> word + 5L, Backoff.NONE));
+        assertEquals(0L, packed.set(Packed.HIGH, 7L));
+        assertEquals(8L, packed.add(Packed.HIGH, 1L));
+        assertEquals(5, packed.low());
+    }
+
+    @Test
+    void bitsWithinWidth() {
+        Volatile.Int i = vol(0);
+        Volatile.Long l = vol(0L);
+
+        assertFalse(i.setBit(31));
+        assertTrue(i.testBit(31));
+        assertTrue(i.clearBit(31));
+        assertFalse(l.setBit(63));
+        assertEquals(Long.MIN_VALUE, l.get());
+    }
+
+    @Test
+    void bitsOutOfWidthFail() {
+        Volatile.Int i = vol(0);
+        Volatile.Long l = vol(0L);
+
+        assertThrows(IndexOutOfBoundsException.class, () -> i.setBit(32));
+        assertThrows(IndexOutOfBoundsException.class, () -> i.clearBit(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> i.testBit(33));
+        assertThrows(IndexOutOfBoundsException.class, () -> l.setBit(64));
+        assertThrows(IndexOutOfBoundsException.class, () -> l.clearBit(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> l.testBit(65));
+        assertEquals(0, i.get());
+        assertEquals(0L, l.get());
+    }
+}
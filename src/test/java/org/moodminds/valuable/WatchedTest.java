@@ -0,0 +1,102 @@
+package org.moodminds.valuable;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.moodminds.valuable.Watched.watched;
+
+class WatchedTest {
+
+    @Test
+    void completesOnMatchingWrite() throws Exception {
+        Watched.Int holder = watched(0);
+        CompletableFuture<Integer> future = holder.onValue(n -> n >= 3);
+
+        holder.incr(); holder.incr();
+        assertFalse(future.isDone());
+        holder.incr();
+        assertEquals(3, future.get(5, SECONDS));
+    }
+
+    @Test
+    void completesOnHeldValue() throws Exception {
+        Watched<String> holder = watched("ready");
+
+        assertEquals("ready", holder.onValue("ready"::equals).get(5, SECONDS));
+    }
+
+    @Test
+    void completesByTheExecutor() throws Exception {
+        Watched.Long holder = watched(0L);
+        Thread writer = Thread.currentThread();
+
+        CompletableFuture<Thread> async = holder.onValue(n -> n == 1L).thenApply(n -> Thread.currentThread());
+        holder.put(1L);
+        assertNotSame(writer, async.get(5, SECONDS));
+
+        Watched.Long inline = watched(0L, Runnable::run);
+        CompletableFuture<Thread> sync = inline.onValue(n -> n == 1L).thenApply(n -> Thread.currentThread());
+        inline.put(1L);
+        assertSame(writer, sync.getNow(null));
+    }
+
+    @Test
+    void failingPredicateCompletesExceptionally() {
+        Watched<String> holder = watched("a", Runnable::run);
+        CompletableFuture<String> future = holder.onValue(s -> s.charAt(1) == 'b');
+
+        ExecutionException e = assertThrows(ExecutionException.class, future::get);
+        assertTrue(e.getCause() instanceof StringIndexOutOfBoundsException);
+    }
+
+    @Test
+    void completesOnceUnderConcurrentWrites() throws Exception {
+        Watched.Int holder = watched(0, Runnable::run);
+        List<CompletableFuture<Integer>> futures = new ArrayList<>();
+        for (int i = 1; i <= 1_000; i++) {
+            int threshold = i;
+            futures.add(holder.onValue(n -> n >= threshold));
+        }
+
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; t++)
+            threads.add(new Thread(() -> { for (int i = 0; i < 500; i++) holder.incr(); }));
+        threads.forEach(Thread::start);
+        for (Thread thread : threads)
+            thread.join();
+
+        for (int i = 1; i <= 1_000; i++)
+            assertTrue(futures.get(i - 1).get(5, SECONDS) >= i);
+        assertEquals(2_000, holder.get());
+    }
+
+    @Test
+    void serializesUnwatched() throws Exception {
+        Watched.Int holder = watched(7);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(holder);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            Object copy = in.readObject();
+            assertSame(Volatile.Int.class, copy.getClass());
+            assertEquals(7, ((Volatile.Int) copy).get());
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package org.moodminds.valuable;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class WatermarkTest {
+
+    @Test
+    void maximumRecorded() {
+        Watermark watermark = Watermark.max();
+        assertEquals(Long.MIN_VALUE, watermark.get());
+
+        watermark.record(3L); watermark.record(-7L); watermark.record(5L); watermark.record(4L);
+        assertEquals(5L, watermark.get());
+    }
+
+    @Test
+    void minimumRecorded() {
+        Watermark watermark = Watermark.min(100L);
+        watermark.record(300L);
+        assertEquals(100L, watermark.get());
+
+        watermark.record(3L); watermark.record(-7L); watermark.record(5L);
+        assertEquals(-7L, watermark.get());
+    }
+
+    @Test
+    void resetStartsNextInterval() {
+        Watermark watermark = Watermark.max(0L);
+        watermark.record(8L);
+
+        assertEquals(8L, watermark.getAndReset());
+        assertEquals(0L, watermark.get());
+        assertEquals(0L, watermark.getAndReset());
+        watermark.record(2L);
+        assertEquals(2L, watermark.getAndReset());
+    }
+
+    @Test
+    void stripesFoldedAcrossThreads() throws InterruptedException {
+        Watermark max = Watermark.max(), min = Watermark.min();
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            long offset = t * 1_000L;
+            threads.add(new Thread(() -> {
+                for (long i = 0; i < 1_000L; i++) {
+                    max.record(offset + i); min.record(offset + i);
+                }
+            }));
+        }
+        threads.forEach(Thread::start);
+        for (Thread thread : threads)
+            thread.join();
+
+        assertEquals(7_999L, max.get());
+        assertEquals(0L, min.get());
+    }
+}